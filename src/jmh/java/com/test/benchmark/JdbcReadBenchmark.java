@@ -0,0 +1,102 @@
+package com.test.benchmark;
+
+import com.test.jdbc.fake.FakeDriver;
+import com.test.model.User;
+import com.test.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side cost of the UserRepository queries: JdbcTemplate versus raw JDBC
+ *  
+ * Both variants run the same SELECT on one connection of the {@link FakeDriver} (no network,
+ * zero latency, synthesized rows) and map every row with {@link UserRepository.UserRowMapper},
+ * so the difference is JdbcTemplate's own overhead (connection handling, statement setter,
+ * exception translation setup) and the per-row difference is the row mapper. The fake driver's
+ * SQL handling is part of every measured call, so compare the variants rather than reading
+ * absolute numbers as driver cost. rows=1 is findById, larger values are findAll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcReadBenchmark {
+    
+    private static final String URL = "jdbc:fake://bench.cluster-fake.local:3306/bench?clusterId=jdbc-read-bench"
+        + "&readers=0&readLatency=fixed:0&writeLatency=fixed:0&connectLatency=fixed:0&replicaLag=fixed:0";
+    private static final String SQL = "SELECT id, name, created_at FROM test_table WHERE id >= ? LIMIT ?";
+    
+    @Param({"1", "100"})
+    public int rows;
+    
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private final UserRepository.UserRowMapper rowMapper = new UserRepository.UserRowMapper();
+    
+    @Setup
+    public void setUp() throws SQLException {
+        // One connection, never closed by the variants, so neither pays for connecting
+        dataSource = new SingleConnectionDataSource(URL, "bench", "", true);
+        dataSource.setDriverClassName(FakeDriver.class.getName());
+        try (Connection conn = dataSource.getConnection();
+             Statement statement = conn.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS test_table (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "name VARCHAR(255) NOT NULL, created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP) ENGINE=InnoDB");
+            // The fake synthesizes rows 1..highest id, so inserting enough ids is all the data needed
+            for (int i = 0; i < rows; i++) {
+                statement.executeUpdate("INSERT INTO test_table (name) VALUES ('user')");
+            }
+        }
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+    
+    @Benchmark
+    public List<User> jdbcTemplate() {
+        return jdbcTemplate.query(SQL, rowMapper, 1L, rows);
+    }
+    
+    @Benchmark
+    public List<User> rawJdbc() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SQL)) {
+            ps.setLong(1, 1L);
+            ps.setInt(2, rows);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<User> users = new ArrayList<>();
+                int rowNum = 0;
+                while (rs.next()) {
+                    users.add(rowMapper.mapRow(rs, rowNum++));
+                }
+                return users;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.test.benchmark;
+
+import com.test.load.PayloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building one write payload
+ * 
+ * {@link PayloadGenerator} (per content mode and size) against the String-based payload it
+ * replaced (concatenated label, padded, encoded per row). Thread-confined like a load
+ * thread's generator; run with -prof gc to see the allocation difference.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadBenchmark {
+    
+    private static final int THREAD_ID = 42;
+    
+    @Param({"64", "1024"})
+    public int size;
+    
+    @Param({"label", "random", "fixed"})
+    public String content;
+    
+    private PayloadGenerator generator;
+    private long sequence;
+    
+    @Setup
+    public void setUp() {
+        generator = new PayloadGenerator(size, PayloadGenerator.Content.parse(content), 1, THREAD_ID);
+    }
+    
+    @Benchmark
+    public byte[] generator() {
+        return generator.next(THREAD_ID, sequence++);
+    }
+    
+    @Benchmark
+    public byte[] stringConcat() {
+        StringBuilder label = new StringBuilder(size).append("Thread-").append(THREAD_ID)
+            .append(" Write #").append(sequence++).append(' ');
+        while (label.length() < size) {
+            label.append('.');
+        }
+        label.setLength(size);
+        return label.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,85 @@
+package com.test.benchmark;
+
+import com.test.jdbc.SqlErrorClassifier;
+import com.test.jdbc.SqlErrorOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.jdbc.plugin.failover.FailoverSuccessSQLException;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of classifying a load-thread SQLException, per lookup path
+ * 
+ * One exception per path of {@link SqlErrorClassifier}: wrapper exception type, JDBC 4
+ * subclass, vendor code (1290 read-only), full SQLState (08S02), SQLState class (08S01),
+ * a read-only error wrapped in a generic SQLException (cause walk) and an unknown error
+ * (every table misses). record() adds the striped counter under 64-thread contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlErrorClassifierBenchmark {
+    
+    @Param({"wrapperType", "jdbcSubclass", "vendorCode", "sqlState", "sqlStateClass", "wrapped", "unknown"})
+    public String error;
+    
+    private SQLException exception;
+    private final SqlErrorClassifier classifier = new SqlErrorClassifier();
+    
+    @Setup
+    public void setUp() {
+        switch (error) {
+            case "wrapperType":
+                exception = new FailoverSuccessSQLException("The active SQL connection has changed");
+                break;
+            case "jdbcSubclass":
+                exception = new SQLNonTransientConnectionException("Connection refused");
+                break;
+            case "vendorCode":
+                exception = new SQLException("The MySQL server is running with the --read-only option", "HY000", 1290);
+                break;
+            case "sqlState":
+                exception = new SQLException("The active SQL connection has changed", "08S02");
+                break;
+            case "sqlStateClass":
+                exception = new SQLException("Communications link failure", "08S01");
+                break;
+            case "wrapped":
+                exception = new SQLException("Batch failed",
+                    new SQLException("The MySQL server is running with the --read-only option", "HY000", 1290));
+                break;
+            case "unknown":
+                exception = new SQLException("Unknown column 'x' in 'field list'", "42S22", 1054);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown error: " + error);
+        }
+    }
+    
+    @Benchmark
+    public SqlErrorOutcome classify() {
+        return SqlErrorClassifier.classify(exception);
+    }
+    
+    @Benchmark
+    @Threads(64)
+    public SqlErrorOutcome record_064threads() {
+        return classifier.record(exception);
+    }
+}
@@ -0,0 +1,96 @@
+package com.test.benchmark;
+
+import com.test.metrics.OperationStats;
+import org.HdrHistogram.Recorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation cost of recording load-test statistics under contention
+ * 
+ * Compares the previous layout (shared AtomicLong fields + one shared recorder) with
+ * {@link OperationStats} (LongAdder cells + striped HDR recorders) at 1, 64 and 512
+ * recording threads. Each invocation records one successful operation the same way a
+ * load thread does after a read or write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsCounterBenchmark {
+    
+    private static final long LATENCY_NANOS = 1_250_000;
+    private static final long SCHEDULE_LAG_NANOS = 15_000;
+    
+    // Previous layout: one shared cache line per counter
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong successful = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong totalScheduleLag = new AtomicLong();
+    private final AtomicLong maxScheduleLag = new AtomicLong();
+    private final Recorder sharedRecorder = new Recorder(TimeUnit.HOURS.toMicros(1), 3);
+    
+    private final OperationStats stats = new OperationStats(10_000);
+    
+    private void recordShared() {
+        total.incrementAndGet();
+        successful.incrementAndGet();
+        totalLatency.addAndGet(LATENCY_NANOS / 1_000_000);
+        totalScheduleLag.addAndGet(SCHEDULE_LAG_NANOS);
+        maxScheduleLag.accumulateAndGet(SCHEDULE_LAG_NANOS, Math::max);
+        sharedRecorder.recordValue(LATENCY_NANOS / 1_000);
+    }
+    
+    private void recordStriped() {
+        stats.record(true, LATENCY_NANOS, SCHEDULE_LAG_NANOS);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public void sharedAtomics_001threads() {
+        recordShared();
+    }
+    
+    @Benchmark
+    @Threads(64)
+    public void sharedAtomics_064threads() {
+        recordShared();
+    }
+    
+    @Benchmark
+    @Threads(512)
+    public void sharedAtomics_512threads() {
+        recordShared();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public void operationStats_001threads() {
+        recordStriped();
+    }
+    
+    @Benchmark
+    @Threads(64)
+    public void operationStats_064threads() {
+        recordStriped();
+    }
+    
+    @Benchmark
+    @Threads(512)
+    public void operationStats_512threads() {
+        recordStriped();
+    }
+}
@@ -1,17 +1,39 @@
 package com.test.controller;
 
+import com.test.jdbc.PoolMonitor;
+import com.test.jdbc.ReplicaLagProbe;
+import com.test.jdbc.WriteVerifier;
+import com.test.load.ExecutorMode;
+import com.test.load.ConnectionHolding;
+import com.test.load.SaturationSearch;
+import com.test.load.WorkloadSpec;
+import com.test.metrics.AllocationMeter;
+import com.test.metrics.LatencySnapshot;
+import com.test.metrics.OutageReport;
+import com.test.metrics.OutageWindow;
+import com.test.metrics.RecoveryTracker;
+import com.test.metrics.TimeSeriesBuffer;
+import com.test.metrics.TimeSeriesPoint;
 import com.test.service.BlueGreenTestService;
+import com.test.service.ReplicaLagService;
+import com.test.service.StatusStreamService;
+import com.test.service.TestRunRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Blue/Green Switchover Test Controller
- * 
+ *  
  * Provides REST API to control and monitor Blue/Green switchover tests
  */
 @RestController
@@ -20,10 +42,24 @@ public class BlueGreenTestController {
     
     private static final Logger log = LoggerFactory.getLogger(BlueGreenTestController.class);
     
-    private final BlueGreenTestService testService;
+    private static final int MAX_PLATFORM_THREADS = 100;
+    private static final int MAX_VIRTUAL_THREADS = 50000;
+    // Most recent outage timeline entries returned by /status (the final report logs all)
+    private static final int MAX_TIMELINE_ENTRIES = 50;
+    // Points returned by /timeseries; larger ranges are downsampled further
+    private static final int MAX_TIMESERIES_POINTS = 3600;
     
-    public BlueGreenTestController(BlueGreenTestService testService) {
-        this.testService = testService;
+    private final TestRunRegistry runs;
+    private final StatusStreamService statusStream;
+    private final PoolMonitor poolMonitor;
+    private final ReplicaLagService replicaLag;
+    
+    public BlueGreenTestController(TestRunRegistry runs, StatusStreamService statusStream, PoolMonitor poolMonitor,
+                                   ReplicaLagService replicaLag) {
+        this.runs = runs;
+        this.statusStream = statusStream;
+        this.poolMonitor = poolMonitor;
+        this.replicaLag = replicaLag;
     }
     
     /**
@@ -31,10 +67,17 @@ public class BlueGreenTestController {
      * 
      * @param request Request body containing test parameters
      *                - numThreads: Number of threads (default: 20)
-     *                - readsPerSecond: Reads per second per thread (default: 500)
-     *                - writesPerSecond: Writes per second per thread (default: 10)
+     *                - readsPerSecond: Reads per second per thread, may be fractional (default: 500)
+     *                - writesPerSecond: Writes per second per thread, may be fractional (default: 10)
      *                - durationSeconds: Test duration in seconds (default: 3600, 0 = continuous mode)
      *                - enableWrites: Enable write operations (default: true)
+     *                - executorMode: "platform" or "virtual" (default: platform, virtual requires JDK 21+)
+     *                - workload: Declarative operation mix (replaces readsPerSecond/writesPerSecond/enableWrites,
+     *                  see {@link WorkloadSpec})
+     *                - runId: Named test run to start (default: "default"), see {@link TestRunRegistry}
+     *                - connectionStrategy: hold_for_test (default), borrow_per_operation or
+     *                  borrow_per_n_operations, see {@link ConnectionHolding}
+     *                - operationsPerBorrow: N for borrow_per_n_operations
      * @return Test ID and configuration info
      */
     @PostMapping("/start")
@@ -43,28 +86,47 @@ public class BlueGreenTestController {
         
         // Parse parameters with defaults
         int numThreads = 20;
-        int readsPerSecond = 500;
-        int writesPerSecond = 10;
+        double readsPerSecond = 500;
+        double writesPerSecond = 10;
         int durationSeconds = 3600;
         boolean enableWrites = true;
+        ExecutorMode executorMode;
+        ConnectionHolding holding;
+        String runId;
         
-        if (request != null) {
-            numThreads = (int) request.getOrDefault("numThreads", numThreads);
-            readsPerSecond = (int) request.getOrDefault("readsPerSecond", readsPerSecond);
-            writesPerSecond = (int) request.getOrDefault("writesPerSecond", writesPerSecond);
-            durationSeconds = (int) request.getOrDefault("durationSeconds", durationSeconds);
-            enableWrites = (boolean) request.getOrDefault("enableWrites", enableWrites);
+        try {
+            executorMode = ExecutorMode.fromString(stringField(request, "executorMode"));
+            holding = connectionHolding(request);
+            runId = stringField(request, "runId");
+            numThreads = intField(request, "numThreads", numThreads);
+            readsPerSecond = numberField(request, "readsPerSecond", readsPerSecond);
+            writesPerSecond = numberField(request, "writesPerSecond", writesPerSecond);
+            durationSeconds = intField(request, "durationSeconds", durationSeconds);
+            enableWrites = booleanField(request, "enableWrites", enableWrites);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
         
         // Validate parameters
-        if (numThreads < 1 || numThreads > 100) {
+        boolean workload = request != null && request.get("workload") != null;
+        int connectionsPerClient = enableWrites && !workload ? 2 : 1;
+        int maxThreads = maxThreads(executorMode, holding, connectionsPerClient);
+        if (numThreads < 1 || numThreads > maxThreads) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", threadLimitError("numThreads", maxThreads, executorMode, holding, connectionsPerClient)
+            ));
+        }
+        if (workload) {
+            return startWorkload(runId, request.get("workload"), numThreads, durationSeconds, executorMode, holding);
+        }
+        if (!(readsPerSecond > 0) || readsPerSecond > 100000) {
             return ResponseEntity.badRequest().body(Map.of(
-                "error", "numThreads must be between 1 and 100"
+                "error", "readsPerSecond must be greater than 0 and at most 100000"
             ));
         }
-        if (readsPerSecond < 1 || readsPerSecond > 10000) {
+        if (enableWrites && (!(writesPerSecond > 0) || writesPerSecond > 100000)) {
             return ResponseEntity.badRequest().body(Map.of(
-                "error", "readsPerSecond must be between 1 and 10000"
+                "error", "writesPerSecond must be greater than 0 and at most 100000"
             ));
         }
         if (durationSeconds < 0 || durationSeconds > 86400) {
@@ -74,7 +136,10 @@ public class BlueGreenTestController {
         }
         
         try {
-            String testId = testService.startTest(numThreads, readsPerSecond, writesPerSecond, durationSeconds, enableWrites);
+            // Registered only once the request is valid - a rejected one must not take a run slot
+            BlueGreenTestService testService = runs.getOrCreate(runId);
+            String testId = testService.startTest(numThreads, readsPerSecond, writesPerSecond, durationSeconds,
+                enableWrites, executorMode, holding);
             
             boolean isContinuous = (durationSeconds == 0);
             
@@ -83,6 +148,8 @@ public class BlueGreenTestController {
             config.put("readsPerSecond", readsPerSecond);
             config.put("totalReadsPerSecond", numThreads * readsPerSecond);
             config.put("enableWrites", enableWrites);
+            config.put("executorMode", executorMode.name().toLowerCase());
+            config.put("connectionStrategy", holding.label());
             if (enableWrites) {
                 config.put("writesPerSecond", writesPerSecond);
                 config.put("totalWritesPerSecond", numThreads * writesPerSecond);
@@ -98,6 +165,7 @@ public class BlueGreenTestController {
             Map<String, Object> response = new HashMap<>();
             response.put("status", "started");
             response.put("testId", testId);
+            response.put("runId", testService.getRunId());
             response.put("configuration", config);
             response.put("message", isContinuous 
                 ? "Blue/Green switchover test started in CONTINUOUS mode"
@@ -106,6 +174,8 @@ public class BlueGreenTestController {
             log.info("✅ Test started: {} ({})", testId, isContinuous ? "CONTINUOUS" : "TIMED");
             return ResponseEntity.ok(response);
             
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (IllegalStateException e) {
             log.warn("⚠️  Test already running");
             return ResponseEntity.status(409).body(Map.of(
@@ -121,20 +191,235 @@ public class BlueGreenTestController {
     }
     
     /**
-     * Stop the currently running test
+     * Start a declarative workload test (the "workload" object of /start)
+     */
+    @SuppressWarnings("unchecked")
+    private ResponseEntity<Map<String, Object>> startWorkload(String runId, Object rawSpec,
+                                                              int numThreads, int durationSeconds,
+                                                              ExecutorMode executorMode, ConnectionHolding holding) {
+        if (durationSeconds < 0 || durationSeconds > 86400) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "durationSeconds must be between 0 (continuous) and 86400 (24 hours)"
+            ));
+        }
+        WorkloadSpec spec;
+        try {
+            if (!(rawSpec instanceof Map)) {
+                throw new IllegalArgumentException("workload must be a JSON object");
+            }
+            spec = WorkloadSpec.fromMap((Map<String, Object>) rawSpec);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        
+        try {
+            BlueGreenTestService testService = runs.getOrCreate(runId);
+            String testId = testService.startWorkloadTest(numThreads, durationSeconds, executorMode, spec, holding);
+            boolean isContinuous = (durationSeconds == 0);
+            
+            List<Map<String, Object>> operations = new ArrayList<>();
+            for (WorkloadSpec.Operation operation : spec.getOperations()) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("operation", operation.label());
+                item.put("ratePerSecond", round3(operation.getRatePerSecond()));
+                item.put("totalRatePerSecond", round3(numThreads * operation.getRatePerSecond()));
+                operations.add(item);
+            }
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("workload", spec.getName());
+            config.put("numThreads", numThreads);
+            config.put("executorMode", executorMode.name().toLowerCase());
+            config.put("connectionStrategy", holding.label());
+            config.put("operationsPerSecond", round3(spec.getOperationsPerSecond()));
+            config.put("totalOperationsPerSecond", round3(numThreads * spec.getOperationsPerSecond()));
+            config.put("operations", operations);
+            config.put("mode", isContinuous ? "continuous" : "timed");
+            config.put("durationSeconds", isContinuous ? "∞ (until manually stopped)" : durationSeconds);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "started");
+            response.put("testId", testId);
+            response.put("runId", testService.getRunId());
+            response.put("configuration", config);
+            response.put("message", "Workload '" + spec.getName() + "' started");
+            
+            log.info("✅ Workload test started: {} ({})", testId, isContinuous ? "CONTINUOUS" : "TIMED");
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.warn("⚠️  Test already running");
+            return ResponseEntity.status(409).body(Map.of(
+                "error", e.getMessage(),
+                "status", "already_running"
+            ));
+        } catch (Exception e) {
+            log.error("❌ Failed to start workload test", e);
+            return ResponseEntity.status(500).body(Map.of(
+                "error", "Failed to start test: " + e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * Start a saturation search - offered load grows step by step until p99 latency, error rate or
+     * throughput misses the target; the test ends at the knee and reports the maximum sustainable
+     * throughput for this cluster, pool size and plugin set
+     * 
+     * @param request Request body
+     *                - numThreads, executorMode, runId, connectionStrategy, operationsPerBorrow: as for /start
+     *                - workload: Operation mix to offer (default: metadata reads); only relative rates matter
+     *                - startRate: Total ops/sec of the first step (default: 100)
+     *                - maxRate: Upper bound of the offered rate (default: 100000)
+     *                - growthFactor: Rate multiplier between passing steps (default: 1.5)
+     *                - stepSeconds: Measured duration per step (default: 30)
+     *                - settleSeconds: Wait after each rate change before measuring (default: 5)
+     *                - sloP99Ms: Highest acceptable p99 latency (default: 50)
+     *                - maxErrorRate: Highest acceptable fraction of failures (default: 0.01)
+     *                - refineSteps: Bisection steps around the knee (default: 3)
+     */
+    @PostMapping("/start-saturation")
+    @SuppressWarnings("unchecked")
+    public ResponseEntity<Map<String, Object>> startSaturation(@RequestBody(required = false) Map<String, Object> request) {
+        log.info("POST /api/bluegreen/start-saturation");
+        if (request == null) {
+            request = new HashMap<>();
+        }
+        
+        ExecutorMode executorMode;
+        ConnectionHolding holding;
+        String runId;
+        WorkloadSpec spec;
+        SaturationSearch search;
+        int numThreads;
+        try {
+            numThreads = intField(request, "numThreads", 20);
+            executorMode = ExecutorMode.fromString(stringField(request, "executorMode"));
+            holding = connectionHolding(request);
+            int maxThreads = maxThreads(executorMode, holding, 1);
+            if (numThreads < 1 || numThreads > maxThreads) {
+                throw new IllegalArgumentException(threadLimitError("numThreads", maxThreads, executorMode, holding, 1));
+            }
+            Object rawSpec = request.get("workload");
+            Map<String, Object> specMap;
+            if (rawSpec == null) {
+                specMap = new LinkedHashMap<>();
+                specMap.put("name", "metadata_read");
+                specMap.put("operations", List.of(Map.of("type", "metadata_read")));
+            } else if (rawSpec instanceof Map) {
+                specMap = new LinkedHashMap<>((Map<String, Object>) rawSpec);
+            } else {
+                throw new IllegalArgumentException("workload must be a JSON object");
+            }
+            // Only the relative rates matter - the search sets the total
+            specMap.putIfAbsent("operationsPerSecond", 1);
+            spec = WorkloadSpec.fromMap(specMap);
+            
+            double maxRate = numberField(request, "maxRate", 100000);
+            int stepSeconds = intField(request, "stepSeconds", 30);
+            int settleSeconds = intField(request, "settleSeconds", 5);
+            int refineSteps = intField(request, "refineSteps", 3);
+            double growthFactor = numberField(request, "growthFactor", 1.5);
+            if (maxRate > numThreads * WorkloadSpec.MAX_OPERATIONS_PER_SECOND) {
+                throw new IllegalArgumentException("maxRate must be at most "
+                    + (long) WorkloadSpec.MAX_OPERATIONS_PER_SECOND + " per thread");
+            }
+            if (stepSeconds < 5 || stepSeconds > 600) {
+                throw new IllegalArgumentException("stepSeconds must be between 5 and 600");
+            }
+            if (settleSeconds < 0 || settleSeconds > 300) {
+                throw new IllegalArgumentException("settleSeconds must be between 0 and 300");
+            }
+            if (refineSteps < 0 || refineSteps > 10) {
+                throw new IllegalArgumentException("refineSteps must be between 0 and 10");
+            }
+            if (growthFactor > 10) {
+                throw new IllegalArgumentException("growthFactor must be at most 10");
+            }
+            search = new SaturationSearch(
+                numberField(request, "startRate", 100),
+                maxRate,
+                growthFactor,
+                stepSeconds,
+                settleSeconds,
+                numberField(request, "sloP99Ms", 50),
+                numberField(request, "maxErrorRate", 0.01),
+                refineSteps);
+            runId = stringField(request, "runId");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        
+        try {
+            BlueGreenTestService testService = runs.getOrCreate(runId);
+            String testId = testService.startSaturationTest(numThreads, executorMode, spec, search, holding);
+            
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("workload", spec.getName());
+            config.put("numThreads", numThreads);
+            config.put("executorMode", executorMode.name().toLowerCase());
+            config.put("connectionStrategy", holding.label());
+            config.put("startRate", search.getStartRate());
+            config.put("maxRate", search.getMaxRate());
+            config.put("growthFactor", search.getGrowthFactor());
+            config.put("stepSeconds", search.getStepSeconds());
+            config.put("settleSeconds", search.getSettleSeconds());
+            config.put("sloP99Ms", search.getSloP99Ms());
+            config.put("maxErrorRate", search.getMaxErrorRate());
+            config.put("refineSteps", search.getRefineSteps());
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "started");
+            response.put("testId", testId);
+            response.put("runId", testService.getRunId());
+            response.put("configuration", config);
+            response.put("message", "Saturation search started - follow progress in /status (statistics.saturation)");
+            
+            log.info("✅ Saturation search started: {}", testId);
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of(
+                "error", e.getMessage(),
+                "status", "already_running"
+            ));
+        } catch (Exception e) {
+            log.error("❌ Failed to start saturation search", e);
+            return ResponseEntity.status(500).body(Map.of(
+                "error", "Failed to start test: " + e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * Stop all running tests (the default run when none is running)
      */
     @PostMapping("/stop")
     public ResponseEntity<Map<String, Object>> stopTest() {
         log.info("POST /api/bluegreen/stop");
         
         try {
-            testService.stopTest();
+            List<String> stopped = new ArrayList<>();
+            for (BlueGreenTestService run : runs.list()) {
+                if (run.isRunning()) {
+                    run.stopTest();
+                    stopped.add(run.getRunId());
+                }
+            }
+            if (stopped.isEmpty()) {
+                runs.getDefault().stopTest();
+                stopped.add(TestRunRegistry.DEFAULT_RUN_ID);
+            }
             
             Map<String, Object> response = new HashMap<>();
             response.put("status", "stopped");
+            response.put("runs", stopped);
             response.put("message", "Test stopped successfully");
             
-            log.info("✅ Test stopped");
+            log.info("✅ Test stopped: {}", stopped);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -146,16 +431,116 @@ public class BlueGreenTestController {
     }
     
     /**
-     * Get current test status
+     * Stop one test run
+     */
+    @PostMapping("/stop/{runId}")
+    public ResponseEntity<Map<String, Object>> stopRun(@PathVariable String runId) {
+        log.info("POST /api/bluegreen/stop/{}", runId);
+        
+        BlueGreenTestService run = runs.get(runId);
+        if (run == null) {
+            return unknownRun(runId);
+        }
+        try {
+            run.stopTest();
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "stopped");
+            response.put("runId", runId);
+            response.put("message", "Test run stopped successfully");
+            
+            log.info("✅ Test run stopped: {}", runId);
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("❌ Failed to stop test run {}", runId, e);
+            return ResponseEntity.status(500).body(Map.of(
+                "error", "Failed to stop test: " + e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * Get current test status (default run)
      */
     @GetMapping("/status")
     public ResponseEntity<Map<String, Object>> getStatus() {
         log.debug("GET /api/bluegreen/status");
+        return statusResponse(runs.getDefault());
+    }
+    
+    /**
+     * Get the status of one test run
+     */
+    @GetMapping("/status/{runId}")
+    public ResponseEntity<Map<String, Object>> getRunStatus(@PathVariable String runId) {
+        log.debug("GET /api/bluegreen/status/{}", runId);
+        BlueGreenTestService run = runs.get(runId);
+        return run != null ? statusResponse(run) : unknownRun(runId);
+    }
+    
+    /**
+     * List all test runs with a short summary each
+     */
+    @GetMapping("/runs")
+    public ResponseEntity<Map<String, Object>> listRuns() {
+        log.debug("GET /api/bluegreen/runs");
+        
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (BlueGreenTestService run : runs.list()) {
+            BlueGreenTestService.TestStatus status = run.getStatus();
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("runId", run.getRunId());
+            item.put("running", status.isRunning());
+            item.put("mode", status.isContinuous() ? "continuous" : "timed");
+            item.put("runningTime", formatDuration(status.getRunningTimeSeconds()));
+            item.put("totalReads", status.getTotalReads());
+            item.put("totalWrites", status.getTotalWrites());
+            item.put("readP99Ms", round3(status.getReadLatency().getP99Ms()));
+            item.put("writeP99Ms", round3(status.getWriteLatency().getP99Ms()));
+            item.put("endpoint", status.getLastEndpoint());
+            items.add(item);
+        }
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("maxRuns", runs.getMaxRuns());
+        response.put("runs", items);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Discard a stopped test run and its statistics
+     */
+    @DeleteMapping("/runs/{runId}")
+    public ResponseEntity<Map<String, Object>> removeRun(@PathVariable String runId) {
+        log.info("DELETE /api/bluegreen/runs/{}", runId);
         
+        try {
+            if (!runs.remove(runId)) {
+                return unknownRun(runId);
+            }
+            statusStream.close(runId);
+            return ResponseEntity.ok(Map.of("status", "removed", "runId", runId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of(
+                "error", e.getMessage(),
+                "status", "running"
+            ));
+        }
+    }
+    
+    private ResponseEntity<Map<String, Object>> unknownRun(String runId) {
+        return ResponseEntity.status(404).body(Map.of("error", "Unknown test run: " + runId));
+    }
+    
+    private ResponseEntity<Map<String, Object>> statusResponse(BlueGreenTestService testService) {
         try {
             BlueGreenTestService.TestStatus status = testService.getStatus();
             
             Map<String, Object> response = new HashMap<>();
+            response.put("runId", testService.getRunId());
             response.put("running", status.isRunning());
             response.put("mode", status.isContinuous() ? "continuous" : "timed");
             
@@ -164,18 +549,167 @@ public class BlueGreenTestController {
             stats.put("successfulReads", status.getSuccessfulReads());
             stats.put("failedReads", status.getFailedReads());
             stats.put("readSuccessRate", String.format("%.2f%%", status.getReadSuccessRate()));
-            stats.put("avgReadLatency", status.getAvgReadLatency() + "ms");
+            stats.put("avgReadLatency", String.format("%.3fms", status.getAvgReadLatency()));
+            stats.put("readLatency", latencyMap(status.getReadLatency()));
+            stats.put("readLatencyWindow", latencyMap(status.getReadLatencyWindow()));
+            stats.put("avgReadScheduleLag", String.format("%.2fms", status.getAvgReadScheduleLagMs()));
+            stats.put("maxReadScheduleLag", String.format("%.2fms", status.getMaxReadScheduleLagMs()));
             
             if (status.isWritesEnabled()) {
                 stats.put("totalWrites", status.getTotalWrites());
                 stats.put("successfulWrites", status.getSuccessfulWrites());
                 stats.put("failedWrites", status.getFailedWrites());
                 stats.put("writeSuccessRate", String.format("%.2f%%", status.getWriteSuccessRate()));
-                stats.put("avgWriteLatency", status.getAvgWriteLatency() + "ms");
+                stats.put("avgWriteLatency", String.format("%.3fms", status.getAvgWriteLatency()));
+                stats.put("writeLatency", latencyMap(status.getWriteLatency()));
+                stats.put("writeLatencyWindow", latencyMap(status.getWriteLatencyWindow()));
+                stats.put("avgWriteScheduleLag", String.format("%.2fms", status.getAvgWriteScheduleLagMs()));
+                stats.put("maxWriteScheduleLag", String.format("%.2fms", status.getMaxWriteScheduleLagMs()));
                 stats.put("readOnlyErrors", status.getReadOnlyErrors());
+                if (status.getWriteBatchSize() > 1) {
+                    Map<String, Object> batch = new LinkedHashMap<>();
+                    batch.put("batchSize", status.getWriteBatchSize());
+                    batch.put("totalBatches", status.getTotalBatches());
+                    batch.put("failedBatches", status.getFailedBatches());
+                    batch.put("rowsSucceeded", status.getBatchRowsSucceeded());
+                    batch.put("rowsFailed", status.getBatchRowsFailed());
+                    batch.put("rowsPerSecond", String.format("%.1f", status.getBatchRowsPerSecond()));
+                    batch.put("batchLatency", latencyMap(status.getBatchLatency()));
+                    batch.put("batchLatencyWindow", latencyMap(status.getBatchLatencyWindow()));
+                    stats.put("batchWrites", batch);
+                }
+                if (status.getStatementsPrepared() > 0) {
+                    Map<String, Object> statements = new LinkedHashMap<>();
+                    statements.put("reuse", status.isReuseStatements());
+                    statements.put("serverSide", status.isServerPreparedStatements());
+                    statements.put("prepared", status.getStatementsPrepared());
+                    statements.put("cacheRebuilds", status.getStatementCacheRebuilds());
+                    stats.put("preparedStatements", statements);
+                }
+                BlueGreenTestService.PipelineStatus pipeline = status.getPipeline();
+                if (pipeline != null) {
+                    Map<String, Object> pipelineStats = new LinkedHashMap<>();
+                    pipelineStats.put("committers", pipeline.getCommitters());
+                    pipelineStats.put("maxRowsPerCommit", pipeline.getMaxRowsPerCommit());
+                    pipelineStats.put("queueCapacity", pipeline.getQueueCapacity());
+                    pipelineStats.put("queueDepth", pipeline.getQueueDepth());
+                    pipelineStats.put("maxQueueDepth", pipeline.getMaxQueueDepth());
+                    pipelineStats.put("rejectedWrites", pipeline.getRejectedWrites());
+                    pipelineStats.put("totalCommits", pipeline.getTotalCommits());
+                    pipelineStats.put("failedCommits", pipeline.getFailedCommits());
+                    pipelineStats.put("rowsCommitted", pipeline.getRowsCommitted());
+                    pipelineStats.put("rowsFailed", pipeline.getRowsFailed());
+                    pipelineStats.put("avgRowsPerCommit", String.format("%.1f", pipeline.getAvgRowsPerCommit()));
+                    pipelineStats.put("commitLatency", latencyMap(pipeline.getCommitLatency()));
+                    pipelineStats.put("commitLatencyWindow", latencyMap(pipeline.getCommitLatencyWindow()));
+                    stats.put("pipeline", pipelineStats);
+                }
+            }
+            
+            BlueGreenTestService.WorkloadStatus workload = status.getWorkload();
+            if (workload != null) {
+                Map<String, Object> workloadStats = new LinkedHashMap<>();
+                workloadStats.put("name", workload.getName());
+                workloadStats.put("threads", workload.getThreads());
+                workloadStats.put("operationsPerSecond", round3(workload.getOperationsPerSecond()));
+                List<Map<String, Object>> operations = new ArrayList<>();
+                for (BlueGreenTestService.WorkloadStatus.Operation operation : workload.getOperations()) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("type", operation.getType());
+                    if (operation.getTable() != null) {
+                        item.put("table", operation.getTable());
+                    }
+                    item.put("ratePerSecond", round3(operation.getRatePerSecond()));
+                    item.put("successful", operation.getSuccessful());
+                    item.put("failed", operation.getFailed());
+                    item.put("latency", latencyMap(operation.getLatency()));
+                    item.put("latencyWindow", latencyMap(operation.getLatencyWindow()));
+                    operations.add(item);
+                }
+                workloadStats.put("operations", operations);
+                stats.put("workload", workloadStats);
+            }
+            
+            BlueGreenTestService.SaturationStatus saturation = status.getSaturation();
+            if (saturation != null) {
+                Map<String, Object> saturationStats = new LinkedHashMap<>();
+                saturationStats.put("state", saturation.getState());
+                if (saturation.getOfferedRate() > 0) {
+                    saturationStats.put("offeredRate", round3(saturation.getOfferedRate()));
+                }
+                saturationStats.put("maxSustainableRate", round3(saturation.getMaxSustainableRate()));
+                saturationStats.put("kneeRate", saturation.getKneeRate() != null ? round3(saturation.getKneeRate()) : null);
+                saturationStats.put("sloP99Ms", saturation.getSloP99Ms());
+                saturationStats.put("maxErrorRate", saturation.getMaxErrorRate());
+                saturationStats.put("threads", saturation.getThreads());
+                saturationStats.put("poolSize", saturation.getPoolSize());
+                saturationStats.put("wrapperPlugins", saturation.getWrapperPlugins());
+                List<Map<String, Object>> steps = new ArrayList<>();
+                for (SaturationSearch.Step step : saturation.getSteps()) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("step", step.getIndex());
+                    item.put("phase", step.getPhase());
+                    item.put("offeredRate", round3(step.getOfferedRate()));
+                    item.put("achievedRate", round3(step.getAchievedRate()));
+                    item.put("operations", step.getOperations());
+                    item.put("failed", step.getFailed());
+                    item.put("errorRate", round3(step.getErrorRate()));
+                    item.put("p99Ms", round3(step.getP99Ms()));
+                    item.put("passed", step.isPassed());
+                    if (step.getFailure() != null) {
+                        item.put("failure", step.getFailure());
+                    }
+                    steps.add(item);
+                }
+                saturationStats.put("steps", steps);
+                stats.put("saturation", saturationStats);
+            }
+            
+            BlueGreenTestService.ConnectionHoldingStatus holding = status.getConnectionHolding();
+            Map<String, Object> holdingStats = new LinkedHashMap<>();
+            holdingStats.put("strategy", holding.getStrategy());
+            holdingStats.put("operationsPerBorrow", holding.getOperationsPerBorrow());
+            holdingStats.put("borrows", holding.getBorrows());
+            holdingStats.put("failedBorrows", holding.getFailedBorrows());
+            holdingStats.put("reconnects", holding.getReconnects());
+            holdingStats.put("acquireFirst", latencyMap(holding.getAcquireFirst()));
+            holdingStats.put("acquireReconnect", latencyMap(holding.getAcquireReconnect()));
+            holdingStats.put("acquireSteady", latencyMap(holding.getAcquireSteady()));
+            holdingStats.put("release", latencyMap(holding.getRelease()));
+            stats.put("connectionHolding", holdingStats);
+            stats.put("reconnects", reconnectMap(status.getReconnects()));
+            if (status.getWriteVerification() != null) {
+                stats.put("writeVerification", writeVerificationMap(status.getWriteVerification()));
             }
             
             stats.put("failoverCount", status.getFailoverCount());
+            stats.put("outages", outageMap(status.getOutages()));
+            stats.put("errorOutcomes", status.getErrorOutcomes());
+            Map<String, Object> endpointTracking = new LinkedHashMap<>();
+            endpointTracking.put("sampleIntervalMs", status.getEndpointTracking().getSampleIntervalMs());
+            endpointTracking.put("lookups", status.getEndpointTracking().getLookups());
+            endpointTracking.put("resolutions", status.getEndpointTracking().getResolutions());
+            endpointTracking.put("resolvedOnConnectionChange", status.getEndpointTracking().getResolvedOnChange());
+            endpointTracking.put("resolvedAfterError", status.getEndpointTracking().getResolvedOnInvalidate());
+            endpointTracking.put("resolvedBySampling", status.getEndpointTracking().getResolvedOnSample());
+            endpointTracking.put("resolveFailures", status.getEndpointTracking().getResolveFailures());
+            stats.put("endpointTracking", endpointTracking);
+            Map<String, Object> allocation = new LinkedHashMap<>();
+            allocation.put("supported", AllocationMeter.isSupported());
+            allocation.put("payloadSize", status.getPayloadSize());
+            allocation.put("payloadContent", status.getPayloadContent());
+            allocation.put("reads", allocationMap(status.getReadAllocation()));
+            allocation.put("writes", allocationMap(status.getWriteAllocation()));
+            stats.put("allocation", allocation);
+            stats.put("executorMode", status.getExecutorMode().toLowerCase());
+            if (status.getPinning() != null) {
+                stats.put("virtualThreadPinning", Map.of(
+                    "pinnedEvents", status.getPinning().getPinnedEvents(),
+                    "totalPinnedMs", String.format("%.1f", status.getPinning().getTotalPinnedMs()),
+                    "maxPinnedMs", String.format("%.1f", status.getPinning().getMaxPinnedMs()),
+                    "topPinningFrames", status.getPinning().getTopPinningFrames()
+                ));
+            }
             stats.put("runningTimeSeconds", status.getRunningTimeSeconds());
             stats.put("runningTime", formatDuration(status.getRunningTimeSeconds()));
             response.put("statistics", stats);
@@ -183,6 +717,11 @@ public class BlueGreenTestController {
             response.put("connection", Map.of(
                 "lastEndpoint", status.getLastEndpoint()
             ));
+            response.put("pool", poolMap(poolMonitor.snapshot()));
+            ReplicaLagProbe.Snapshot lag = replicaLag.snapshot();
+            if (lag != null && lag.isRunning()) {
+                response.put("replicaLag", replicaLagMap(lag, false));
+            }
             
             return ResponseEntity.ok(response);
             
@@ -194,6 +733,267 @@ public class BlueGreenTestController {
         }
     }
     
+    /**
+     * Connection pool shared by all runs and the User API (counts since application start)
+     */
+    private Map<String, Object> poolMap(PoolMonitor.Snapshot pool) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("instrumented", poolMonitor.isAttached());
+        map.put("started", pool.isStarted());
+        map.put("poolName", pool.getPoolName());
+        map.put("maximumPoolSize", pool.getMaximumPoolSize());
+        map.put("connectionTimeoutMs", pool.getConnectionTimeoutMs());
+        map.put("active", pool.getActive());
+        map.put("idle", pool.getIdle());
+        map.put("pending", pool.getPending());
+        map.put("total", pool.getTotal());
+        map.put("peakPending", pool.getPeakPending());
+        map.put("exhausted", pool.isExhausted());
+        map.put("exhaustionEpisodes", pool.getExhaustionEpisodes());
+        map.put("exhaustedMs", pool.getExhaustedMillis());
+        map.put("acquisitionTimeouts", pool.getTimeouts());
+        map.put("acquisitionLatency", latencyMap(pool.getAcquisition()));
+        map.put("acquisitionLatencyWindow", latencyMap(pool.getRecentAcquisition()));
+        map.put("usage", latencyMap(pool.getUsage()));
+        map.put("connectionCreation", latencyMap(pool.getCreation()));
+        return map;
+    }
+    
+    /**
+     * Latency percentiles in milliseconds
+     */
+    private Map<String, Object> latencyMap(LatencySnapshot latency) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", latency.getCount());
+        map.put("meanMs", round3(latency.getMeanMs()));
+        map.put("p50Ms", round3(latency.getP50Ms()));
+        map.put("p90Ms", round3(latency.getP90Ms()));
+        map.put("p99Ms", round3(latency.getP99Ms()));
+        map.put("p999Ms", round3(latency.getP999Ms()));
+        map.put("maxMs", round3(latency.getMaxMs()));
+        map.put("windowStart", latency.getStartTimeMillis());
+        map.put("windowEnd", latency.getEndTimeMillis());
+        return map;
+    }
+    
+    /**
+     * Heap bytes allocated per operation (load thread total, sampled)
+     */
+    private Map<String, Object> allocationMap(AllocationMeter.Snapshot allocation) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("measuredOperations", allocation.getMeasuredOperations());
+        map.put("bytesPerOperation", Math.round(allocation.getBytesPerOperation()));
+        return map;
+    }
+    
+    /**
+     * Client outage windows: blackout distribution, cluster-wide timeline, longest windows
+     */
+    private Map<String, Object> outageMap(OutageReport report) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("recoveredWindows", report.getRecoveredWindows());
+        map.put("unrecoveredWindows", report.getUnrecoveredWindows());
+        map.put("openOutages", report.getOpenOutages());
+        map.put("longestOpenMs", report.getLongestOpenMillis());
+        map.put("blackout", latencyMap(report.getBlackout()));
+        
+        List<OutageReport.TimelineEntry> entries = report.getTimeline();
+        List<Map<String, Object>> timeline = new ArrayList<>();
+        int from = Math.max(0, entries.size() - MAX_TIMELINE_ENTRIES);
+        for (OutageReport.TimelineEntry entry : entries.subList(from, entries.size())) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("start", entry.getStartMillis());
+            item.put("end", entry.getEndMillis());
+            item.put("durationMs", entry.getDurationMillis());
+            item.put("threads", entry.getThreads());
+            item.put("windows", entry.getWindows());
+            item.put("endpointsBefore", entry.getEndpointsBefore());
+            item.put("endpointsAfter", entry.getEndpointsAfter());
+            item.put("ongoing", entry.isOngoing());
+            timeline.add(item);
+        }
+        map.put("timeline", timeline);
+        
+        List<Map<String, Object>> longest = new ArrayList<>();
+        for (OutageWindow window : report.getLongestWindows()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("thread", window.getThread());
+            item.put("start", window.getStartMillis());
+            item.put("end", window.getRecoveredMillis());
+            item.put("blackoutMs", window.getBlackoutMillis());
+            item.put("failedOperations", window.getFailedOperations());
+            item.put("endpointBefore", window.getEndpointBefore());
+            item.put("endpointAfter", window.getEndpointAfter());
+            item.put("recovered", window.isRecovered());
+            longest.add(item);
+        }
+        map.put("longestWindows", longest);
+        return map;
+    }
+    
+    /**
+     * Connection strategy from connectionStrategy/operationsPerBorrow of a request body
+     */
+    private static ConnectionHolding connectionHolding(Map<String, Object> request) {
+        if (request == null) {
+            return ConnectionHolding.HOLD_FOR_TEST;
+        }
+        Object strategy = request.get("connectionStrategy");
+        Object operations = request.get("operationsPerBorrow");
+        if ((strategy != null && !(strategy instanceof String)) || (operations != null && !(operations instanceof Integer))) {
+            throw new IllegalArgumentException("connectionStrategy must be a string and operationsPerBorrow an integer");
+        }
+        return ConnectionHolding.fromString((String) strategy, (Integer) operations);
+    }
+    
+    /**
+     * Optional string field of a request body (null when absent)
+     * 
+     * @throws IllegalArgumentException If the value is not a JSON string
+     */
+    private static String stringField(Map<String, Object> request, String name) {
+        Object value = request != null ? request.get(name) : null;
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException(name + " must be a string");
+        }
+        return (String) value;
+    }
+    
+    private static int intField(Map<String, Object> request, String name, int defaultValue) {
+        Object value = request != null ? request.get(name) : null;
+        if (value != null && !(value instanceof Integer)) {
+            throw new IllegalArgumentException(name + " must be an integer");
+        }
+        return value != null ? (Integer) value : defaultValue;
+    }
+    
+    private static double numberField(Map<String, Object> request, String name, double defaultValue) {
+        Object value = request != null ? request.get(name) : null;
+        if (value != null && !(value instanceof Number)) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+        return value != null ? ((Number) value).doubleValue() : defaultValue;
+    }
+    
+    private static boolean booleanField(Map<String, Object> request, String name, boolean defaultValue) {
+        Object value = request != null ? request.get(name) : null;
+        if (value != null && !(value instanceof Boolean)) {
+            throw new IllegalArgumentException(name + " must be true or false");
+        }
+        return value != null ? (Boolean) value : defaultValue;
+    }
+    
+    private Map<String, Object> reconnectMap(BlueGreenTestService.ReconnectStatus reconnects) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("backoff", reconnects.getBackoff());
+        if (!"fixed".equals(reconnects.getBackoff())) {
+            map.put("initialDelayMs", reconnects.getInitialDelayMs());
+            map.put("maxDelayMs", reconnects.getMaxDelayMs());
+            map.put("attemptsPerSecond", reconnects.getAttemptsPerSecond());
+            map.put("burst", reconnects.getBurst());
+        }
+        map.put("attempts", reconnects.getAttempts());
+        map.put("failedAttempts", reconnects.getFailedAttempts());
+        map.put("throttled", reconnects.getThrottled());
+        map.put("throttledMs", reconnects.getThrottledMs());
+        RecoveryTracker.Snapshot recovery = reconnects.getRecovery();
+        Map<String, Object> recoveryMap = new LinkedHashMap<>();
+        recoveryMap.put("episodes", recovery.getEpisodes());
+        recoveryMap.put("meanMs", round3(recovery.getMeanMillis()));
+        recoveryMap.put("maxMs", recovery.getMaxMillis());
+        recoveryMap.put("reconnectingNow", recovery.getReconnecting());
+        recoveryMap.put("ongoingMs", recovery.getOngoingMillis());
+        RecoveryTracker.Episode last = recovery.getLast();
+        if (last != null) {
+            Map<String, Object> lastMap = new LinkedHashMap<>();
+            lastMap.put("start", last.getStartMillis());
+            lastMap.put("durationMs", last.getDurationMillis());
+            lastMap.put("reconnects", last.getThreads());
+            lastMap.put("peakConcurrent", last.getPeakThreads());
+            lastMap.put("gaveUp", last.getGaveUp());
+            recoveryMap.put("last", lastMap);
+        }
+        map.put("timeToFullRecovery", recoveryMap);
+        return map;
+    }
+    
+    private Map<String, Object> writeVerificationMap(BlueGreenTestService.WriteVerificationStatus verification) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("streamId", verification.getStreamId());
+        map.put("table", verification.getTable());
+        map.put("acknowledged", verification.getAcknowledged());
+        map.put("inDoubt", verification.getInDoubt());
+        map.put("failed", verification.getFailed());
+        map.put("ledgerBytes", verification.getLedgerBytes());
+        map.put("verifying", verification.isVerifying());
+        map.put("passes", verification.getPasses());
+        WriteVerifier.Result last = verification.getLastResult();
+        if (last != null) {
+            Map<String, Object> lastMap = new LinkedHashMap<>();
+            lastMap.put("trigger", last.getTrigger());
+            lastMap.put("start", last.getStartMillis());
+            lastMap.put("durationMs", last.getDurationMillis());
+            lastMap.put("clean", last.isClean());
+            lastMap.put("writers", last.getWriters());
+            lastMap.put("checked", last.getChecked());
+            lastMap.put("verifiedEarlier", last.getVerifiedEarlier());
+            lastMap.put("lost", last.getLost());
+            lastMap.put("duplicated", last.getDuplicatedSequences());
+            lastMap.put("duplicateRows", last.getDuplicateRows());
+            lastMap.put("inDoubt", last.getInDoubt());
+            lastMap.put("inDoubtCommitted", last.getInDoubtCommitted());
+            lastMap.put("failedButCommitted", last.getUnacknowledgedCommitted());
+            lastMap.put("queries", last.getQueries());
+            lastMap.put("examples", last.getExamples());
+            if (last.getError() != null) {
+                lastMap.put("error", last.getError());
+            }
+            map.put("lastPass", lastMap);
+        }
+        return map;
+    }
+    
+    private static double round3(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+    
+    /**
+     * Maximum simulated clients for the executor mode and connection strategy
+     * 
+     * With hold_for_test every client keeps one pooled connection, so clients beyond the pool
+     * size would only wait for a connection and time out.
+     * 
+     * @param holding connection strategy of the clients (null = clients hold no connection)
+     */
+    /**
+     * Most clients a run may start
+     * 
+     * With hold_for_test every client keeps {@code connectionsPerClient} pooled connections for the
+     * whole run (a read and a write connection on /start with writes), so more clients than the
+     * pool can serve would block in getConnection() until the pool's connection timeout.
+     */
+    private int maxThreads(ExecutorMode mode, ConnectionHolding holding, int connectionsPerClient) {
+        int max = mode == ExecutorMode.VIRTUAL ? MAX_VIRTUAL_THREADS : MAX_PLATFORM_THREADS;
+        int poolSize = poolMonitor.getMaximumPoolSize();
+        if (holding != null && holding.isHoldForTest() && poolSize > 0) {
+            max = Math.min(max, poolSize / connectionsPerClient);
+        }
+        return max;
+    }
+    
+    private String threadLimitError(String parameter, int maxThreads, ExecutorMode mode, ConnectionHolding holding,
+                                    int connectionsPerClient) {
+        String error = parameter + " must be between 1 and " + maxThreads + " in " + mode + " mode";
+        int poolSize = poolMonitor.getMaximumPoolSize();
+        if (holding.isHoldForTest() && poolSize > 0 && maxThreads == poolSize / connectionsPerClient) {
+            error += " with hold_for_test (" + (connectionsPerClient == 1 ? "one pooled connection"
+                : connectionsPerClient + " pooled connections, one for reads and one for writes,")
+                + " per client from a pool of " + poolSize + " that other runs share; use connectionStrategy="
+                + "borrow_per_operation or borrow_per_n_operations for more clients)";
+        }
+        return error;
+    }
+    
     /**
      * Format duration in seconds to human-readable format
      */
@@ -243,12 +1043,19 @@ public class BlueGreenTestController {
         log.info("POST /api/bluegreen/start-continuous");
         
         // Parse parameters with defaults
-        int numThreads = 20;
-        int readsPerSecond = 500;
+        Object numThreads = 20;
+        Object readsPerSecond = 500;
+        
+        Object runId = null;
+        Object connectionStrategy = null;
+        Object operationsPerBorrow = null;
         
         if (request != null) {
-            numThreads = (int) request.getOrDefault("numThreads", numThreads);
-            readsPerSecond = (int) request.getOrDefault("readsPerSecond", readsPerSecond);
+            numThreads = request.getOrDefault("numThreads", numThreads);
+            readsPerSecond = request.getOrDefault("readsPerSecond", readsPerSecond);
+            runId = request.get("runId");
+            connectionStrategy = request.get("connectionStrategy");
+            operationsPerBorrow = request.get("operationsPerBorrow");
         }
         
         // Set duration to 0 for continuous mode
@@ -256,6 +1063,9 @@ public class BlueGreenTestController {
         params.put("numThreads", numThreads);
         params.put("readsPerSecond", readsPerSecond);
         params.put("durationSeconds", 0);
+        params.put("runId", runId);
+        params.put("connectionStrategy", connectionStrategy);
+        params.put("operationsPerBorrow", operationsPerBorrow);
         
         return startTest(params);
     }
@@ -265,19 +1075,41 @@ public class BlueGreenTestController {
      * 
      * @param numConnections Number of connections (default: 10)
      * @param writeIntervalMs Write interval in milliseconds (default: 100, i.e., 10 writes/sec)
+     * @param executorMode "platform" or "virtual" (default: platform, virtual requires JDK 21+)
+     * @param batchSize Rows per JDBC batch (default: 1 = single-row INSERT)
+     * @param reuseStatements Prepare the INSERT once per connection (default: true)
+     * @param runId Named test run to start (default: the default run)
+     * @param connectionStrategy hold_for_test (default), borrow_per_operation or borrow_per_n_operations
+     * @param operationsPerBorrow N for borrow_per_n_operations (a batch counts as one operation)
      */
     @PostMapping("/start-write")
     public ResponseEntity<Map<String, Object>> startWriteTest(
             @RequestParam(defaultValue = "10") int numConnections,
-            @RequestParam(defaultValue = "100") int writeIntervalMs) {
+            @RequestParam(defaultValue = "100") int writeIntervalMs,
+            @RequestParam(defaultValue = "platform") String executorMode,
+            @RequestParam(defaultValue = "1") int batchSize,
+            @RequestParam(defaultValue = "true") boolean reuseStatements,
+            @RequestParam(required = false) String runId,
+            @RequestParam(required = false) String connectionStrategy,
+            @RequestParam(required = false) Integer operationsPerBorrow) {
         
-        log.info("POST /api/bluegreen/start-write?numConnections={}&writeIntervalMs={}", 
-            numConnections, writeIntervalMs);
+        log.info("POST /api/bluegreen/start-write?numConnections={}&writeIntervalMs={}&executorMode={}&batchSize={}&reuseStatements={}&runId={}", 
+            numConnections, writeIntervalMs, executorMode, batchSize, reuseStatements, runId);
+        
+        ExecutorMode mode;
+        ConnectionHolding holding;
+        try {
+            mode = ExecutorMode.fromString(executorMode);
+            holding = ConnectionHolding.fromString(connectionStrategy, operationsPerBorrow);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
         
         // Validate parameters
-        if (numConnections < 1 || numConnections > 100) {
+        int maxThreads = maxThreads(mode, holding, 1);
+        if (numConnections < 1 || numConnections > maxThreads) {
             return ResponseEntity.badRequest().body(Map.of(
-                "error", "numConnections must be between 1 and 100"
+                "error", threadLimitError("numConnections", maxThreads, mode, holding, 1)
             ));
         }
         if (writeIntervalMs < 0 || writeIntervalMs > 10000) {
@@ -285,24 +1117,40 @@ public class BlueGreenTestController {
                 "error", "writeIntervalMs must be between 0 and 10000"
             ));
         }
+        if (batchSize < 1 || batchSize > 10000) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "batchSize must be between 1 and 10000"
+            ));
+        }
         
         try {
-            String testId = testService.startWriteOnlyTest(numConnections, writeIntervalMs);
+            BlueGreenTestService testService = runs.getOrCreate(runId);
+            String testId = testService.startWriteOnlyTest(numConnections, writeIntervalMs, mode, batchSize,
+                reuseStatements, holding);
             
             Map<String, Object> response = new HashMap<>();
             response.put("status", "started");
             response.put("testId", testId);
+            response.put("runId", testService.getRunId());
             response.put("configuration", Map.of(
                 "numConnections", numConnections,
                 "writeIntervalMs", writeIntervalMs,
                 "writesPerSecondPerThread", writeIntervalMs > 0 ? 1000 / writeIntervalMs : "max",
-                "mode", "persistent_connection_write"
+                "mode", batchSize > 1 ? "persistent_connection_batch_write" : "persistent_connection_write",
+                "executorMode", mode.name().toLowerCase(),
+                "batchSize", batchSize,
+                "reuseStatements", reuseStatements,
+                "connectionStrategy", holding.label()
             ));
-            response.put("message", "Continuous write test started - each thread holds one connection");
+            response.put("message", holding.isHoldForTest()
+                ? "Continuous write test started - each thread holds one connection"
+                : "Continuous write test started - threads borrow connections (" + holding.label() + ")");
             
             log.info("✅ Write test started: {}", testId);
             return ResponseEntity.ok(response);
             
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(409).body(Map.of(
                 "error", e.getMessage(),
@@ -316,6 +1164,339 @@ public class BlueGreenTestController {
         }
     }
     
+    /**
+     * Start group-commit write pipeline test - producers enqueue writes, committers coalesce
+     * them into multi-row INSERTs
+     * 
+     * @param numProducers Number of producer threads (default: 50)
+     * @param writeIntervalMs Interval between a producer's writes in milliseconds (default: 100)
+     * @param committers Number of committer threads, one connection each (default: 2)
+     * @param maxRowsPerCommit Maximum rows per INSERT (default: 100)
+     * @param queueCapacity Write queue bound (default: 10000)
+     * @param executorMode "platform" or "virtual" (default: platform, virtual requires JDK 21+)
+     * @param runId Named test run to start (default: the default run)
+     */
+    @PostMapping("/start-pipeline")
+    public ResponseEntity<Map<String, Object>> startPipelineTest(
+            @RequestParam(defaultValue = "50") int numProducers,
+            @RequestParam(defaultValue = "100") int writeIntervalMs,
+            @RequestParam(defaultValue = "2") int committers,
+            @RequestParam(defaultValue = "100") int maxRowsPerCommit,
+            @RequestParam(defaultValue = "10000") int queueCapacity,
+            @RequestParam(defaultValue = "platform") String executorMode,
+            @RequestParam(required = false) String runId) {
+        
+        log.info("POST /api/bluegreen/start-pipeline?numProducers={}&writeIntervalMs={}&committers={}&maxRowsPerCommit={}&queueCapacity={}&executorMode={}&runId={}", 
+            numProducers, writeIntervalMs, committers, maxRowsPerCommit, queueCapacity, executorMode, runId);
+        
+        ExecutorMode mode;
+        try {
+            mode = ExecutorMode.fromString(executorMode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        
+        // Validate parameters
+        int maxThreads = maxThreads(mode, null, 1);
+        if (numProducers < 1 || numProducers > maxThreads) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "numProducers must be between 1 and " + maxThreads + " in " + mode + " mode"
+            ));
+        }
+        if (writeIntervalMs < 0 || writeIntervalMs > 10000) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "writeIntervalMs must be between 0 and 10000"
+            ));
+        }
+        if (committers < 1 || committers > 32) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "committers must be between 1 and 32"
+            ));
+        }
+        if (maxRowsPerCommit < 1 || maxRowsPerCommit > 1000) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "maxRowsPerCommit must be between 1 and 1000"
+            ));
+        }
+        if (queueCapacity < 1 || queueCapacity > 1000000) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "queueCapacity must be between 1 and 1000000"
+            ));
+        }
+        
+        try {
+            BlueGreenTestService testService = runs.getOrCreate(runId);
+            String testId = testService.startPipelineWriteTest(numProducers, writeIntervalMs, committers,
+                maxRowsPerCommit, queueCapacity, mode);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "started");
+            response.put("testId", testId);
+            response.put("runId", testService.getRunId());
+            response.put("configuration", Map.of(
+                "numProducers", numProducers,
+                "writeIntervalMs", writeIntervalMs,
+                "committers", committers,
+                "maxRowsPerCommit", maxRowsPerCommit,
+                "queueCapacity", queueCapacity,
+                "mode", "group_commit_pipeline",
+                "executorMode", mode.name().toLowerCase()
+            ));
+            response.put("message", "Group-commit pipeline test started - committers coalesce writes into multi-row INSERTs");
+            
+            log.info("✅ Pipeline test started: {}", testId);
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of(
+                "error", e.getMessage(),
+                "status", "already_running"
+            ));
+        } catch (Exception e) {
+            log.error("❌ Failed to start pipeline test", e);
+            return ResponseEntity.status(500).body(Map.of(
+                "error", "Failed to start test: " + e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * Server-Sent Events stream of status deltas (event "status", one per app.status-stream.interval-ms)
+     * 
+     * Each event carries the reads/writes, failures per error class and p99/max latency of the
+     * interval, open outages and the active endpoint. Returns 404 for an unknown run and 503 when
+     * the subscriber limit is reached.
+     * 
+     * @param runId Test run (default: the default run)
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStatus(@RequestParam(required = false) String runId) {
+        log.debug("GET /api/bluegreen/status/stream?runId={}", runId);
+        BlueGreenTestService testService = runId != null ? runs.get(runId) : runs.getDefault();
+        if (testService == null) {
+            return ResponseEntity.status(404).build();
+        }
+        SseEmitter emitter = statusStream.subscribe(testService);
+        if (emitter == null) {
+            log.warn("⚠️  Status stream subscriber rejected - limit reached ({} active)", statusStream.getSubscriberCount());
+            return ResponseEntity.status(503).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+    
+    /**
+     * Per-second history (reads, writes, errors by class, latency, active endpoint, connection pool)
+     * 
+     * @param from        Range start, epoch milliseconds (default: now - lastSeconds)
+     * @param to          Range end, epoch milliseconds (default: now)
+     * @param lastSeconds Range length when from is not given (default: 300)
+     * @param step        Seconds merged into one point (default: 1 = full resolution)
+     * @param runId       Test run (default: the default run)
+     */
+    @GetMapping("/timeseries")
+    public ResponseEntity<Map<String, Object>> getTimeSeries(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(defaultValue = "300") long lastSeconds,
+            @RequestParam(defaultValue = "1") int step,
+            @RequestParam(required = false) String runId) {
+        log.debug("GET /api/bluegreen/timeseries?from={}&to={}&lastSeconds={}&step={}&runId={}", from, to, lastSeconds,
+            step, runId);
+        
+        BlueGreenTestService testService = runId != null ? runs.get(runId) : runs.getDefault();
+        if (testService == null) {
+            return unknownRun(runId);
+        }
+        
+        if (lastSeconds < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "lastSeconds must be >= 1"));
+        }
+        if (step < 1 || step > 86400) {
+            return ResponseEntity.badRequest().body(Map.of("error", "step must be between 1 and 86400"));
+        }
+        long toSecond = (to != null ? to : System.currentTimeMillis()) / 1000;
+        long fromSecond = from != null ? from / 1000 : toSecond - lastSeconds + 1;
+        if (fromSecond > toSecond) {
+            return ResponseEntity.badRequest().body(Map.of("error", "from must not be after to"));
+        }
+        
+        TimeSeriesBuffer buffer = testService.getTimeSeries();
+        List<TimeSeriesPoint> points = buffer != null
+            ? buffer.query(fromSecond, toSecond, step, MAX_TIMESERIES_POINTS) : new ArrayList<>();
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("runId", testService.getRunId());
+        response.put("from", fromSecond * 1000);
+        response.put("to", toSecond * 1000 + 999);
+        response.put("step", points.isEmpty() ? step : points.get(0).getSeconds());
+        response.put("capacitySeconds", buffer != null ? buffer.getCapacity() : 0);
+        response.put("retainedSeconds", buffer != null ? buffer.getSize() : 0);
+        response.put("oldest", buffer != null && buffer.getSize() > 0 ? buffer.getOldestSecond() * 1000 : null);
+        List<Map<String, Object>> series = new ArrayList<>(points.size());
+        for (TimeSeriesPoint point : points) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("time", point.getStartEpochSecond() * 1000);
+            entry.put("seconds", point.getSeconds());
+            entry.put("readsSucceeded", point.getReadsSucceeded());
+            entry.put("readsFailed", point.getReadsFailed());
+            entry.put("writesSucceeded", point.getWritesSucceeded());
+            entry.put("writesFailed", point.getWritesFailed());
+            entry.put("errors", point.getErrors());
+            entry.put("readP50MeanMs", round3(point.getReadP50MeanMs()));
+            entry.put("readP99MaxMs", round3(point.getReadP99MaxMs()));
+            entry.put("readMaxMs", round3(point.getReadMaxMs()));
+            entry.put("writeP50MeanMs", round3(point.getWriteP50MeanMs()));
+            entry.put("writeP99MaxMs", round3(point.getWriteP99MaxMs()));
+            entry.put("writeMaxMs", round3(point.getWriteMaxMs()));
+            entry.put("endpoint", point.getEndpoint());
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("active", point.getPoolActive());
+            pool.put("idle", point.getPoolIdle());
+            pool.put("pending", point.getPoolPending());
+            pool.put("acquired", point.getPoolAcquired());
+            pool.put("timeouts", point.getPoolTimeouts());
+            pool.put("acquireP99MaxMs", round3(point.getPoolAcquireP99MaxMs()));
+            pool.put("acquireMaxMs", round3(point.getPoolAcquireMaxMs()));
+            entry.put("pool", pool);
+            entry.put("reconnectAttempts", point.getReconnectAttempts());
+            entry.put("reconnecting", point.getReconnecting());
+            series.add(entry);
+        }
+        response.put("points", series);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Start the replica lag probe: heartbeat writes through the cluster endpoint, polled on readers
+     * 
+     * @param readers Comma-separated reader hosts (reader endpoint or instance endpoints; default:
+     *                REPLICA_LAG_READERS, else the reader endpoint of the cluster endpoint)
+     * @param heartbeatIntervalMs Heartbeat interval (default: REPLICA_LAG_HEARTBEAT_INTERVAL_MS, 10)
+     * @param pollIntervalMs Poll interval per reader (default: REPLICA_LAG_POLL_INTERVAL_MS, 20)
+     */
+    @PostMapping("/replica-lag/start")
+    public ResponseEntity<Map<String, Object>> startReplicaLag(
+            @RequestParam(required = false) String readers,
+            @RequestParam(required = false) Long heartbeatIntervalMs,
+            @RequestParam(required = false) Long pollIntervalMs) {
+        log.info("POST /api/bluegreen/replica-lag/start?readers={}&heartbeatIntervalMs={}&pollIntervalMs={}",
+            readers, heartbeatIntervalMs, pollIntervalMs);
+        List<String> hosts = null;
+        if (readers != null) {
+            hosts = new ArrayList<>();
+            for (String host : readers.split(",")) {
+                if (!host.isBlank()) {
+                    hosts.add(host.trim());
+                }
+            }
+        }
+        try {
+            ReplicaLagProbe.Snapshot snapshot = replicaLag.start(hosts, heartbeatIntervalMs, pollIntervalMs);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", "started");
+            response.put("replicaLag", replicaLagMap(snapshot, false));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of(
+                "error", e.getMessage(),
+                "status", "already_running"
+            ));
+        }
+    }
+    
+    /**
+     * Stop the replica lag probe (its report is logged)
+     */
+    @PostMapping("/replica-lag/stop")
+    public ResponseEntity<Map<String, Object>> stopReplicaLag() {
+        log.info("POST /api/bluegreen/replica-lag/stop");
+        ReplicaLagProbe.Snapshot snapshot = replicaLag.stop();
+        if (snapshot == null) {
+            return ResponseEntity.ok(Map.of("status", "not_running"));
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "stopped");
+        response.put("replicaLag", replicaLagMap(snapshot, false));
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Replica lag per reader instance, with the per-second peak lag timeline
+     */
+    @GetMapping("/replica-lag")
+    public ResponseEntity<Map<String, Object>> getReplicaLag() {
+        log.debug("GET /api/bluegreen/replica-lag");
+        ReplicaLagProbe.Snapshot snapshot = replicaLag.snapshot();
+        if (snapshot == null) {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("running", false);
+            response.put("defaultReaders", replicaLag.defaultReaders());
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok(replicaLagMap(snapshot, true));
+    }
+    
+    private Map<String, Object> replicaLagMap(ReplicaLagProbe.Snapshot snapshot, boolean timeline) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("running", snapshot.isRunning());
+        map.put("probeId", snapshot.getProbeId());
+        map.put("table", snapshot.getTable());
+        map.put("start", snapshot.getStartMillis());
+        if (snapshot.getStopMillis() > 0) {
+            map.put("stop", snapshot.getStopMillis());
+        }
+        map.put("heartbeatIntervalMs", snapshot.getHeartbeatIntervalMs());
+        map.put("pollIntervalMs", snapshot.getPollIntervalMs());
+        map.put("writerInstance", snapshot.getWriterInstance());
+        map.put("heartbeats", snapshot.getHeartbeats());
+        map.put("heartbeatFailures", snapshot.getHeartbeatFailures());
+        map.put("heartbeatLatency", latencyMap(snapshot.getHeartbeatLatency()));
+        List<Map<String, Object>> readerList = new ArrayList<>();
+        for (ReplicaLagProbe.ReaderSnapshot reader : snapshot.getReaders()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("host", reader.getHost());
+            item.put("instance", reader.getInstance());
+            item.put("polls", reader.getPolls());
+            item.put("connects", reader.getConnects());
+            item.put("errors", reader.getErrors());
+            if (reader.getLastError() != null) {
+                item.put("lastError", reader.getLastError());
+            }
+            readerList.add(item);
+        }
+        map.put("readers", readerList);
+        List<Map<String, Object>> instanceList = new ArrayList<>();
+        for (ReplicaLagProbe.InstanceSnapshot instance : snapshot.getInstances()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("instance", instance.getInstance());
+            item.put("readerHost", instance.getReaderHost());
+            item.put("lastLagMs", round3(instance.getLastLagMs()));
+            item.put("maxLagMs", round3(instance.getMaxLagMs()));
+            item.put("maxAt", instance.getMaxAtMillis());
+            item.put("lastSeen", instance.getLastSeenMillis());
+            item.put("lag", latencyMap(instance.getLag()));
+            item.put("lagWindow", latencyMap(instance.getRecentLag()));
+            instanceList.add(item);
+        }
+        map.put("instances", instanceList);
+        if (timeline) {
+            List<Map<String, Object>> points = new ArrayList<>();
+            for (ReplicaLagProbe.TimelinePoint point : snapshot.getTimeline()) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("time", point.getSecond() * 1000);
+                item.put("maxLagMs", round3(point.getMaxLagMs()));
+                item.put("samples", point.getSamples());
+                points.add(item);
+            }
+            map.put("timeline", points);
+        }
+        return map;
+    }
+    
     /**
      * Get test help information
      */
@@ -325,30 +1506,59 @@ public class BlueGreenTestController {
         
         help.put("description", "Blue/Green Switchover Test API - Tests AWS JDBC Wrapper behavior during Blue/Green switchover");
         
-        help.put("endpoints", Map.of(
-            "POST /api/bluegreen/start", "Start test (customizable parameters)",
-            "POST /api/bluegreen/start-continuous", "Start continuous test (runs indefinitely)",
-            "POST /api/bluegreen/stop", "Stop test",
-            "GET /api/bluegreen/status", "Get test status",
-            "POST /api/bluegreen/quick-start", "Quick start (default parameters)",
-            "POST /api/bluegreen/quick-test", "Quick test (5 threads, 60 seconds)",
-            "GET /api/bluegreen/help", "Get help information"
+        help.put("endpoints", Map.ofEntries(
+            Map.entry("POST /api/bluegreen/start", "Start test (customizable parameters)"),
+            Map.entry("POST /api/bluegreen/start-continuous", "Start continuous test (runs indefinitely)"),
+            Map.entry("POST /api/bluegreen/start-pipeline", "Start group-commit write pipeline test (multi-row INSERTs)"),
+            Map.entry("POST /api/bluegreen/start-saturation", "Ramp offered load until p99/error SLO is missed, report max sustainable throughput"),
+            Map.entry("POST /api/bluegreen/stop", "Stop all running tests"),
+            Map.entry("POST /api/bluegreen/stop/{runId}", "Stop one test run"),
+            Map.entry("GET /api/bluegreen/status", "Get test status (default run)"),
+            Map.entry("GET /api/bluegreen/status/{runId}", "Get the status of one test run"),
+            Map.entry("GET /api/bluegreen/runs", "List test runs"),
+            Map.entry("DELETE /api/bluegreen/runs/{runId}", "Discard a stopped test run"),
+            Map.entry("GET /api/bluegreen/status/stream", "Server-Sent Events: status deltas every STATUS_STREAM_INTERVAL_MS (?runId=)"),
+            Map.entry("GET /api/bluegreen/timeseries", "Per-second history (?lastSeconds=300 or ?from=&to= epoch ms, &step=seconds, &runId=)"),
+            Map.entry("POST /api/bluegreen/replica-lag/start", "Start the replica lag probe (?readers=host,host&heartbeatIntervalMs=&pollIntervalMs=)"),
+            Map.entry("POST /api/bluegreen/replica-lag/stop", "Stop the replica lag probe and log its report"),
+            Map.entry("GET /api/bluegreen/replica-lag", "Replica lag per reader instance and per-second peak lag"),
+            Map.entry("POST /api/bluegreen/quick-start", "Quick start (default parameters)"),
+            Map.entry("POST /api/bluegreen/quick-test", "Quick test (5 threads, 60 seconds)"),
+            Map.entry("GET /api/bluegreen/help", "Get help information")
         ));
         
         help.put("parameters", Map.of(
-            "numThreads", "Number of threads (1-100, default: 20)",
-            "readsPerSecond", "Reads per second per thread (1-10000, default: 500)",
-            "durationSeconds", "Test duration in seconds (0=continuous mode, 10-86400, default: 3600)"
+            "numThreads", "Number of threads (1-100 platform, 1-50000 virtual, default: 20)",
+            "executorMode", "platform (default) or virtual (one virtual thread per client, JDK 21+)",
+            "readsPerSecond", "Reads per second per thread, fractional allowed (0-100000, default: 500)",
+            "writesPerSecond", "Writes per second per thread, fractional allowed (0-100000, default: 10)",
+            "durationSeconds", "Test duration in seconds (0=continuous mode, 10-86400, default: 3600)",
+            "workload", "Operation mix: {name, operationsPerSecond, operations: [{type, weight|ratePerSecond, table, rows}]}"
+                + " - types point_select, range_scan, insert, update, delete, metadata_read, transaction;"
+                + " tables write_test (default), test_table",
+            "runId", "Named test run (1-64 of [A-Za-z0-9_.-], default: default) - runs execute side by side",
+            "connectionStrategy", "hold_for_test (default), borrow_per_operation or borrow_per_n_operations"
+                + " - how long a load thread keeps its pooled connection",
+            "operationsPerBorrow", "Operations per borrowed connection for borrow_per_n_operations (1-1000000)"
         ));
         
-        help.put("examples", Map.of(
-            "start_default", "curl -X POST http://localhost:8080/api/bluegreen/start",
-            "start_custom", "curl -X POST http://localhost:8080/api/bluegreen/start -H 'Content-Type: application/json' -d '{\"numThreads\":10,\"readsPerSecond\":200,\"durationSeconds\":1800}'",
-            "start_continuous", "curl -X POST http://localhost:8080/api/bluegreen/start-continuous",
-            "start_continuous_custom", "curl -X POST http://localhost:8080/api/bluegreen/start-continuous -H 'Content-Type: application/json' -d '{\"numThreads\":10,\"readsPerSecond\":200}'",
-            "quick_test", "curl -X POST http://localhost:8080/api/bluegreen/quick-test",
-            "status", "curl http://localhost:8080/api/bluegreen/status",
-            "stop", "curl -X POST http://localhost:8080/api/bluegreen/stop"
+        help.put("examples", Map.ofEntries(
+            Map.entry("start_default", "curl -X POST http://localhost:8080/api/bluegreen/start"),
+            Map.entry("start_custom", "curl -X POST http://localhost:8080/api/bluegreen/start -H 'Content-Type: application/json' -d '{\"numThreads\":10,\"readsPerSecond\":200,\"durationSeconds\":1800}'"),
+            Map.entry("start_continuous", "curl -X POST http://localhost:8080/api/bluegreen/start-continuous"),
+            Map.entry("start_continuous_custom", "curl -X POST http://localhost:8080/api/bluegreen/start-continuous -H 'Content-Type: application/json' -d '{\"numThreads\":10,\"readsPerSecond\":200}'"),
+            Map.entry("quick_test", "curl -X POST http://localhost:8080/api/bluegreen/quick-test"),
+            Map.entry("start_workload", "curl -X POST http://localhost:8080/api/bluegreen/start -H 'Content-Type: application/json' -d '{\"numThreads\":10,\"workload\":{\"operationsPerSecond\":100,\"operations\":[{\"type\":\"point_select\",\"weight\":80},{\"type\":\"insert\",\"weight\":15},{\"type\":\"transaction\",\"weight\":5}]}}'"),
+            Map.entry("start_saturation", "curl -X POST http://localhost:8080/api/bluegreen/start-saturation -H 'Content-Type: application/json' -d '{\"numThreads\":20,\"startRate\":200,\"sloP99Ms\":20,\"stepSeconds\":20}'"),
+            Map.entry("start_borrowing", "curl -X POST http://localhost:8080/api/bluegreen/start -H 'Content-Type: application/json' -d '{\"numThreads\":20,\"connectionStrategy\":\"borrow_per_n_operations\",\"operationsPerBorrow\":50}'"),
+            Map.entry("start_named_run", "curl -X POST http://localhost:8080/api/bluegreen/start -H 'Content-Type: application/json' -d '{\"runId\":\"writers\",\"numThreads\":20,\"readsPerSecond\":1,\"writesPerSecond\":50}'"),
+            Map.entry("status", "curl http://localhost:8080/api/bluegreen/status"),
+            Map.entry("status_run", "curl http://localhost:8080/api/bluegreen/status/writers"),
+            Map.entry("status_stream", "curl -N http://localhost:8080/api/bluegreen/status/stream"),
+            Map.entry("timeseries", "curl 'http://localhost:8080/api/bluegreen/timeseries?lastSeconds=600&step=5'"),
+            Map.entry("replica_lag", "curl -X POST 'http://localhost:8080/api/bluegreen/replica-lag/start?heartbeatIntervalMs=10'"),
+            Map.entry("stop", "curl -X POST http://localhost:8080/api/bluegreen/stop"),
+            Map.entry("stop_run", "curl -X POST http://localhost:8080/api/bluegreen/stop/writers")
         ));
         
         help.put("testScenario", Map.of(
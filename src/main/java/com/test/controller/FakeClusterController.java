@@ -0,0 +1,57 @@
+package com.test.controller;
+
+import com.test.jdbc.fake.FakeCluster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fake cluster REST Controller (profile "fake")
+ * State and script control of the simulated clusters of the fake JDBC driver
+ */
+@RestController
+@RequestMapping("/api/fake")
+@Profile("fake")
+public class FakeClusterController {
+    
+    private static final Logger log = LoggerFactory.getLogger(FakeClusterController.class);
+    
+    /**
+     * Instances, roles, script progress and injected failures of every fake cluster
+     */
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getClusters() {
+        List<Map<String, Object>> clusters = new ArrayList<>();
+        for (FakeCluster cluster : FakeCluster.clusters()) {
+            clusters.add(cluster.describe());
+        }
+        return ResponseEntity.ok(clusters);
+    }
+    
+    /**
+     * Restart the timeline of a cluster now, with a new script (omitted = replay the current one)
+     */
+    @PostMapping("/script")
+    public ResponseEntity<Map<String, Object>> rearm(
+            @RequestParam(required = false) String script,
+            @RequestParam(defaultValue = "fake") String cluster) {
+        log.info("POST /api/fake/script?cluster={}&script={}", cluster, script);
+        for (FakeCluster fake : FakeCluster.clusters()) {
+            if (fake.getName().equals(cluster)) {
+                try {
+                    fake.rearm(script);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+                }
+                return ResponseEntity.ok(fake.describe());
+            }
+        }
+        return ResponseEntity.status(404).body(Map.of("error", "No fake cluster '" + cluster + "'"));
+    }
+}
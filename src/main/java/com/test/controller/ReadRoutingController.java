@@ -0,0 +1,92 @@
+package com.test.controller;
+
+import com.test.jdbc.ReadRouter;
+import com.test.jdbc.ReadRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read routing REST Controller
+ * Statistics and reader selection of the UserService read routing
+ */
+@RestController
+@RequestMapping("/api/read-routing")
+public class ReadRoutingController {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReadRoutingController.class);
+    
+    private final ReadRouting readRouting;
+    
+    public ReadRoutingController(ReadRouting readRouting) {
+        this.readRouting = readRouting;
+    }
+    
+    /**
+     * Read routing statistics: reads, errors, throughput and latency per reader and the writer
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getReadRouting() {
+        return ResponseEntity.ok(readRoutingMap(readRouting.snapshot()));
+    }
+    
+    /**
+     * Route reads to the first N reader hosts only (0 = writer only); resets the statistics
+     */
+    @PostMapping("/readers")
+    public ResponseEntity<Map<String, Object>> setActiveReaders(@RequestParam int active) {
+        log.info("POST /api/read-routing/readers?active={}", active);
+        try {
+            readRouting.setActiveReaders(active);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        return ResponseEntity.ok(readRoutingMap(readRouting.snapshot()));
+    }
+    
+    /**
+     * Reset the read routing statistics (start a new measurement)
+     */
+    @PostMapping("/reset")
+    public ResponseEntity<Map<String, Object>> resetReadRouting() {
+        log.info("POST /api/read-routing/reset");
+        readRouting.reset();
+        return ResponseEntity.ok(readRoutingMap(readRouting.snapshot()));
+    }
+    
+    private Map<String, Object> readRoutingMap(ReadRouter.Snapshot snapshot) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("enabled", readRouting.isEnabled());
+        map.put("activeReaders", snapshot.getActiveReaders());
+        map.put("readerCount", snapshot.getReaderCount());
+        map.put("since", snapshot.getSinceMillis());
+        map.put("readsPerSecond", Math.round(snapshot.getReadsPerSecond() * 10) / 10.0);
+        map.put("writerFallbacks", snapshot.getFallbacks());
+        map.put("writer", targetMap(snapshot.getWriter()));
+        List<Map<String, Object>> readers = new ArrayList<>();
+        for (ReadRouter.TargetSnapshot reader : snapshot.getReaders()) {
+            readers.add(targetMap(reader));
+        }
+        map.put("readers", readers);
+        return map;
+    }
+    
+    private static Map<String, Object> targetMap(ReadRouter.TargetSnapshot target) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", target.getName());
+        map.put("active", target.isActive());
+        map.put("down", target.isDown());
+        map.put("reads", target.getReads());
+        map.put("errors", target.getErrors());
+        map.put("readsPerSecond", Math.round(target.getReadsPerSecond() * 10) / 10.0);
+        map.put("latency", target.getLatency());
+        map.put("recentLatency", target.getRecentLatency());
+        return map;
+    }
+}
@@ -0,0 +1,166 @@
+package com.test.jdbc;
+
+import com.test.load.ConnectionHolding;
+import com.test.metrics.OperationStats;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The pooled connection of one load thread, borrowed and returned per {@link ConnectionHolding}
+ * 
+ * Every borrow (getConnection()) and return (close()) is timed into the run's {@link Stats}.
+ * Acquisitions are split by what the lease knows about them: the thread's first borrow, a
+ * borrow that replaces a connection dropped after an error, and a steady-state borrow after a
+ * normal return. Whether Hikari validated the connection is not visible from here, so the
+ * buckets make no claim about it.
+ * 
+ * Not thread-safe - owned by one load thread.
+ */
+public final class ConnectionLease implements AutoCloseable {
+    
+    private final DataSource dataSource;
+    private final ConnectionHolding holding;
+    private final Stats stats;
+    private Connection connection;
+    private int operations;
+    private OperationStats nextAcquire;  // Bucket of the next borrow
+    
+    public ConnectionLease(DataSource dataSource, ConnectionHolding holding, Stats stats) {
+        this.dataSource = dataSource;
+        this.holding = holding;
+        this.stats = stats;
+        this.nextAcquire = stats.acquireFirst;
+    }
+    
+    /**
+     * The held connection, borrowing one from the pool if none is held
+     */
+    public Connection borrow() throws SQLException {
+        if (connection != null) {
+            return connection;
+        }
+        OperationStats acquire = nextAcquire;
+        long start = System.nanoTime();
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            acquire.record(false, System.nanoTime() - start, 0);
+            throw e;
+        }
+        acquire.record(true, System.nanoTime() - start, 0);
+        nextAcquire = stats.acquireSteady;
+        operations = 0;
+        return connection;
+    }
+    
+    /**
+     * Held connection, or null
+     */
+    public Connection current() {
+        return connection;
+    }
+    
+    /**
+     * Drop the held connection after a failure (closed untimed - the pool evicts broken connections)
+     * 
+     * The following borrows count as reconnect acquisitions until one succeeds.
+     */
+    public void discard() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // Ignore - connection may already be closed
+            }
+            connection = null;
+            stats.reconnects.increment();
+        }
+        nextAcquire = stats.acquireReconnect;
+    }
+    
+    /**
+     * One operation finished: return the connection once the strategy's operations are done
+     */
+    public void operationDone() {
+        if (connection != null && !holding.isHoldForTest() && ++operations >= holding.getOperationsPerBorrow()) {
+            giveBack();
+        }
+    }
+    
+    /**
+     * Whether connections are returned between operations (a missing connection is then normal)
+     */
+    public boolean isBorrowing() {
+        return !holding.isHoldForTest();
+    }
+    
+    /**
+     * Return the held connection (end of the test)
+     */
+    @Override
+    public void close() {
+        if (connection != null) {
+            giveBack();
+        }
+    }
+    
+    private void giveBack() {
+        long start = System.nanoTime();
+        boolean closed = true;
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            closed = false;  // Pool evicts it; nothing else to do
+        }
+        stats.release.record(closed, System.nanoTime() - start, 0);
+        connection = null;
+    }
+    
+    /**
+     * Borrow/return overhead of all load threads of a run
+     */
+    public static final class Stats {
+        private final OperationStats acquireFirst;
+        private final OperationStats acquireReconnect;
+        private final OperationStats acquireSteady;
+        private final OperationStats release;
+        private final LongAdder reconnects = new LongAdder();
+        
+        public Stats(long latencyWindowMillis) {
+            this.acquireFirst = new OperationStats(latencyWindowMillis);
+            this.acquireReconnect = new OperationStats(latencyWindowMillis);
+            this.acquireSteady = new OperationStats(latencyWindowMillis);
+            this.release = new OperationStats(latencyWindowMillis);
+        }
+        
+        public void reset() {
+            acquireFirst.reset();
+            acquireReconnect.reset();
+            acquireSteady.reset();
+            release.reset();
+            reconnects.reset();
+        }
+        
+        /** First borrow of each load thread (until one succeeds) */
+        public OperationStats getAcquireFirst() { return acquireFirst; }
+        /** Borrows replacing a connection dropped after an error (until one succeeds) */
+        public OperationStats getAcquireReconnect() { return acquireReconnect; }
+        /** Borrows after a normal return to the pool (borrowing strategies) */
+        public OperationStats getAcquireSteady() { return acquireSteady; }
+        /** Returns to the pool (Hikari resets connection state through the wrapper) */
+        public OperationStats getRelease() { return release; }
+        /** Connections dropped after a failure and replaced */
+        public long getReconnects() { return reconnects.sum(); }
+        
+        public long getBorrows() {
+            return acquireFirst.getTotal() + acquireReconnect.getTotal() + acquireSteady.getTotal();
+        }
+        
+        public long getFailedBorrows() {
+            return acquireFirst.getFailed() + acquireReconnect.getFailed() + acquireSteady.getFailed();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.test.jdbc;
+
+import software.amazon.jdbc.wrapper.ConnectionWrapper;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event-driven endpoint identity (host:port [WRITER|READER]) of load-thread connections
+ * 
+ * Resolving the endpoint costs a SELECT round trip, so it is not done per operation.
+ * Results are keyed by the underlying physical connection - for the AWS JDBC Wrapper the
+ * wrapper's current target connection, which it replaces on failover/switchover - and
+ * resolved again only when:
+ * - the physical connection changes (new connection, or the wrapper switched hosts)
+ * - the load thread saw a failover/connection error and called {@link Session#invalidate()}
+ * - the sampling interval elapsed (catches changes the two signals above miss)
+ * 
+ * The per-operation cost is an unwrap, an identity compare and a clock read.
+ * 
+ * The number of open sessions per endpoint is kept up to date on every change, so it can
+ * be exported as a gauge that shows the load moving from blue to green.
+ */
+public final class EndpointTracker {
+    
+    private static final String ENDPOINT_QUERY =
+        "SELECT CONCAT(@@hostname, ':', @@port, ' [', IF(@@read_only=0, 'WRITER', 'READER'), ']') as info";
+    
+    /** A failed resolution is retried after this delay rather than on every operation */
+    private static final long RETRY_AFTER_FAILURE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    /** Session count key for endpoints that could not be resolved (error text is not a label) */
+    private static final String UNKNOWN = "unknown";
+    
+    // Shared across threads: a pooled physical connection handed to another thread is not resolved again
+    private final Map<Connection, String> resolvedByConnection = Collections.synchronizedMap(new WeakHashMap<>());
+    private final long sampleIntervalNanos;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder resolvedOnChange = new LongAdder();
+    private final LongAdder resolvedOnInvalidate = new LongAdder();
+    private final LongAdder resolvedOnSample = new LongAdder();
+    private final LongAdder resolveFailures = new LongAdder();
+    private final Map<String, AtomicInteger> sessionsByEndpoint = new ConcurrentHashMap<>();
+    
+    /**
+     * @param sampleIntervalMillis Re-resolve an unchanged connection after this long (0 = never)
+     */
+    public EndpointTracker(long sampleIntervalMillis) {
+        this.sampleIntervalNanos = sampleIntervalMillis > 0
+            ? TimeUnit.MILLISECONDS.toNanos(sampleIntervalMillis) : Long.MAX_VALUE;
+    }
+    
+    /**
+     * Create the per-thread view (not thread-safe - one per load thread)
+     */
+    public Session session() {
+        return new Session();
+    }
+    
+    /**
+     * Query the endpoint of a connection (one round trip)
+     */
+    public static String queryEndpoint(Connection conn) {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(ENDPOINT_QUERY)) {
+            if (rs.next()) {
+                return rs.getString("info");
+            }
+        } catch (SQLException e) {
+            return "unknown (error: " + e.getMessage() + ")";
+        }
+        return "unknown";
+    }
+    
+    /**
+     * Physical connection behind the pool proxy and the AWS JDBC Wrapper (falls back to the
+     * outermost object that could be unwrapped)
+     */
+    static Connection physicalConnection(Connection conn) {
+        try {
+            Connection delegate = conn.isWrapperFor(Connection.class) ? conn.unwrap(Connection.class) : conn;
+            if (delegate instanceof ConnectionWrapper) {
+                Connection current = ((ConnectionWrapper) delegate).getCurrentConnection();
+                if (current != null) {
+                    return current;
+                }
+            }
+            return delegate;
+        } catch (SQLException e) {
+            return conn;
+        }
+    }
+    
+    /**
+     * Open sessions per endpoint (endpoints seen earlier are kept with 0)
+     */
+    public Map<String, Integer> getSessionsByEndpoint() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicInteger> entry : sessionsByEndpoint.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().get());
+        }
+        return result;
+    }
+    
+    /**
+     * Lookup and resolution counters
+     */
+    public Stats getStats() {
+        return new Stats(sampleIntervalNanos == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(sampleIntervalNanos),
+            lookups.sum(), resolvedOnChange.sum(), resolvedOnInvalidate.sum(), resolvedOnSample.sum(),
+            resolveFailures.sum());
+    }
+    
+    /**
+     * Endpoint cache of one load thread
+     */
+    public final class Session {
+        
+        private Connection physical;
+        private String endpoint = "unknown";
+        private String countedAs;  // Endpoint this session is counted under, null when closed
+        private long expiresAtNanos;
+        private boolean invalidated;
+        
+        private Session() {
+            countedAs = UNKNOWN;
+            sessionsByEndpoint.computeIfAbsent(UNKNOWN, key -> new AtomicInteger()).incrementAndGet();
+        }
+        
+        /**
+         * Endpoint serving the connection, resolved only when one of the triggers fired
+         */
+        public String endpoint(Connection conn) {
+            lookups.increment();
+            Connection current = physicalConnection(conn);
+            long now = System.nanoTime();
+            if (current != physical) {
+                physical = current;
+                invalidated = false;
+                String known = resolvedByConnection.get(current);
+                if (known != null) {
+                    setEndpoint(known);
+                    expiresAtNanos = now + sampleIntervalNanos;
+                } else {
+                    resolvedOnChange.increment();
+                    resolve(conn, current, now);
+                }
+            } else if (invalidated) {
+                invalidated = false;
+                resolvedOnInvalidate.increment();
+                resolve(conn, current, now);
+            } else if (now - expiresAtNanos >= 0) {
+                resolvedOnSample.increment();
+                resolve(conn, current, now);
+            }
+            return endpoint;
+        }
+        
+        /**
+         * Last resolved endpoint without touching the connection
+         */
+        public String lastEndpoint() {
+            return endpoint;
+        }
+        
+        /**
+         * Force resolution on the next lookup (failover or connection error seen)
+         */
+        public void invalidate() {
+            invalidated = true;
+            if (physical != null) {
+                resolvedByConnection.remove(physical);
+            }
+        }
+        
+        /**
+         * Stop counting this session (call when the load thread ends)
+         */
+        public void close() {
+            if (countedAs != null) {
+                sessionsByEndpoint.get(countedAs).decrementAndGet();
+                countedAs = null;
+            }
+        }
+        
+        private void setEndpoint(String resolved) {
+            endpoint = resolved;
+            String key = resolved.startsWith(UNKNOWN) ? UNKNOWN : resolved;
+            if (countedAs != null && !countedAs.equals(key)) {
+                sessionsByEndpoint.get(countedAs).decrementAndGet();
+                sessionsByEndpoint.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+                countedAs = key;
+            }
+        }
+        
+        private void resolve(Connection conn, Connection current, long now) {
+            String resolved = queryEndpoint(conn);
+            if (resolved.startsWith("unknown")) {
+                resolveFailures.increment();
+                setEndpoint(resolved);
+                // Retry soon, but not on every operation while the instance is unreachable
+                expiresAtNanos = now + Math.min(RETRY_AFTER_FAILURE_NANOS, sampleIntervalNanos);
+                return;
+            }
+            setEndpoint(resolved);
+            expiresAtNanos = now + sampleIntervalNanos;
+            resolvedByConnection.put(current, resolved);
+        }
+    }
+    
+    /**
+     * Endpoint tracking counters DTO
+     */
+    public static class Stats {
+        private final long sampleIntervalMs;
+        private final long lookups;
+        private final long resolvedOnChange;
+        private final long resolvedOnInvalidate;
+        private final long resolvedOnSample;
+        private final long resolveFailures;
+        
+        public Stats(long sampleIntervalMs, long lookups, long resolvedOnChange, long resolvedOnInvalidate,
+                     long resolvedOnSample, long resolveFailures) {
+            this.sampleIntervalMs = sampleIntervalMs;
+            this.lookups = lookups;
+            this.resolvedOnChange = resolvedOnChange;
+            this.resolvedOnInvalidate = resolvedOnInvalidate;
+            this.resolvedOnSample = resolvedOnSample;
+            this.resolveFailures = resolveFailures;
+        }
+        
+        public long getSampleIntervalMs() { return sampleIntervalMs; }
+        public long getLookups() { return lookups; }
+        public long getResolvedOnChange() { return resolvedOnChange; }
+        public long getResolvedOnInvalidate() { return resolvedOnInvalidate; }
+        public long getResolvedOnSample() { return resolvedOnSample; }
+        public long getResolveFailures() { return resolveFailures; }
+        public long getResolutions() {
+            return resolvedOnChange + resolvedOnInvalidate + resolvedOnSample;
+        }
+    }
+}
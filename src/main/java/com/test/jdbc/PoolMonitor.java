@@ -0,0 +1,375 @@
+package com.test.jdbc;
+
+import com.test.metrics.LatencyHistogram;
+import com.test.metrics.LatencySnapshot;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pool instrumentation: how long callers wait in {@code dataSource.getConnection()}
+ * 
+ * Installed as the Hikari metrics tracker of the application's HikariDataSource before the
+ * pool starts, so every borrow - load threads and User API requests alike - is measured by
+ * the pool itself at no extra cost: acquisition time (getConnection() until a connection was
+ * handed out), usage time (borrow until return), connection creation time and acquisition
+ * timeouts. Hikari's own Micrometer metrics (hikaricp_*) are still recorded by delegation.
+ * 
+ * A sampler thread reads active, idle and pending (threads awaiting a connection) counts
+ * every sample interval and keeps per-second extremes, which the test runs add to their
+ * time series. The pool counts as exhausted while every connection is in use and callers
+ * are waiting. Telling the two failure modes of a switchover apart:
+ * - database slow: connections are returned, but usage time rises; acquisition waits
+ *   follow only once the pool runs full
+ * - pool drained: exhausted with (almost) no returns - connections are stuck in calls that
+ *   do not come back, and waiting callers end in acquisition timeouts
+ */
+@Component
+public class PoolMonitor implements BeanPostProcessor, MetricsTrackerFactory {
+    
+    private static final Logger log = LoggerFactory.getLogger(PoolMonitor.class);
+    
+    private static final long LATENCY_WINDOW_MS = 10_000;
+    /** Exhaustion episodes at least this long are logged */
+    private static final long LOGGED_EXHAUSTION_MS = 1_000;
+    /** Seconds of per-second gauge extremes kept for the time-series samplers */
+    private static final int SECONDS_KEPT = 8;
+    
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final LatencyHistogram acquisition = new LatencyHistogram(LATENCY_WINDOW_MS);
+    private final LatencyHistogram usage = new LatencyHistogram(LATENCY_WINDOW_MS);
+    private final LatencyHistogram creation = new LatencyHistogram(LATENCY_WINDOW_MS);
+    private final LongAdder timeouts = new LongAdder();
+    private volatile HikariDataSource dataSource;
+    private volatile String poolName;
+    private ScheduledExecutorService sampler;
+    
+    // Sampler state (guarded by this)
+    private final long[] gaugeSecond = new long[SECONDS_KEPT];
+    private final int[] maxActive = new int[SECONDS_KEPT];
+    private final int[] minIdle = new int[SECONDS_KEPT];
+    private final int[] maxPending = new int[SECONDS_KEPT];
+    private int active;
+    private int idle;
+    private int pending;
+    private int total;
+    private int peakPending;
+    private long exhaustionEpisodes;
+    private long exhaustedMillis;      // Completed episodes
+    private long exhaustedSince = -1;  // Start of the current episode (-1 = not exhausted)
+    private int episodePeakPending;
+    
+    @Value("${app.pool-monitor.sample-interval-ms:100}")
+    private long sampleIntervalMs;
+    
+    public PoolMonitor(ObjectProvider<MeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+    
+    /**
+     * Install this tracker on the HikariDataSource (must happen before its pool starts)
+     */
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource && dataSource == null) {
+            HikariDataSource hikari = (HikariDataSource) bean;
+            if (hikari.getMetricsTrackerFactory() == null && hikari.getMetricRegistry() == null) {
+                hikari.setMetricsTrackerFactory(this);
+                dataSource = hikari;
+            }
+        }
+        return bean;
+    }
+    
+    /**
+     * Called by Hikari when the pool starts (first getConnection())
+     */
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        MeterRegistry registry = registryProvider.getIfAvailable();
+        IMetricsTracker delegate = registry != null
+            ? new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats)
+            : new IMetricsTracker() { };
+        if (registry != null) {
+            FunctionCounter.builder("bluegreen.pool.exhausted", this, PoolMonitor::getExhaustionEpisodes)
+                .description("Episodes with every pool connection in use and callers waiting")
+                .tag("pool", poolName)
+                .register(registry);
+            FunctionCounter.builder("bluegreen.pool.exhausted.time", this,
+                    monitor -> monitor.getExhaustedMillis() / 1000.0)
+                .description("Time the pool was exhausted")
+                .baseUnit("seconds")
+                .tag("pool", poolName)
+                .register(registry);
+        }
+        startSampler();
+        log.info("🏊 Pool monitor attached to {} (gauges sampled every {}ms)", poolName, sampleIntervalMs);
+        return new Tracker(delegate);
+    }
+    
+    private synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bg-pool-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, 0, Math.max(10, sampleIntervalMs), TimeUnit.MILLISECONDS);
+    }
+    
+    private void sample() {
+        try {
+            HikariDataSource hikari = dataSource;
+            HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+            if (pool == null) {
+                return;
+            }
+            record(System.currentTimeMillis(), pool.getActiveConnections(), pool.getIdleConnections(),
+                pool.getThreadsAwaitingConnection(), pool.getTotalConnections(), hikari.getMaximumPoolSize());
+        } catch (RuntimeException e) {
+            // Must not escape: a scheduled task that throws is never run again
+            log.warn("⚠️  Pool sample failed: {}", e.getMessage());
+        }
+    }
+    
+    private synchronized void record(long nowMillis, int activeNow, int idleNow, int pendingNow, int totalNow,
+                                     int maximum) {
+        active = activeNow;
+        idle = idleNow;
+        pending = pendingNow;
+        total = totalNow;
+        peakPending = Math.max(peakPending, pendingNow);
+        
+        long second = nowMillis / 1000;
+        int slot = (int) (second % SECONDS_KEPT);
+        if (gaugeSecond[slot] != second) {
+            gaugeSecond[slot] = second;
+            maxActive[slot] = activeNow;
+            minIdle[slot] = idleNow;
+            maxPending[slot] = pendingNow;
+        } else {
+            maxActive[slot] = Math.max(maxActive[slot], activeNow);
+            minIdle[slot] = Math.min(minIdle[slot], idleNow);
+            maxPending[slot] = Math.max(maxPending[slot], pendingNow);
+        }
+        
+        boolean exhausted = activeNow >= maximum && pendingNow > 0;
+        if (exhausted && exhaustedSince < 0) {
+            exhaustedSince = nowMillis;
+            exhaustionEpisodes++;
+            episodePeakPending = pendingNow;
+        } else if (exhausted) {
+            episodePeakPending = Math.max(episodePeakPending, pendingNow);
+        } else if (exhaustedSince >= 0) {
+            long duration = nowMillis - exhaustedSince;
+            exhaustedMillis += duration;
+            exhaustedSince = -1;
+            if (duration >= LOGGED_EXHAUSTION_MS) {
+                log.warn("🏊 Pool {} was exhausted for {}ms ({} connections in use, up to {} callers waiting)",
+                    poolName, duration, maximum, episodePeakPending);
+            }
+        }
+    }
+    
+    /**
+     * Per-second gauge extremes of an epoch second (null if not sampled or no longer kept)
+     */
+    public synchronized SecondGauges getSecond(long epochSecond) {
+        int slot = (int) (epochSecond % SECONDS_KEPT);
+        if (gaugeSecond[slot] != epochSecond) {
+            return null;
+        }
+        return new SecondGauges(maxActive[slot], minIdle[slot], maxPending[slot]);
+    }
+    
+    /**
+     * Current gauges and cumulative counts since application start
+     */
+    public synchronized Snapshot snapshot() {
+        HikariDataSource hikari = dataSource;
+        long exhaustedNow = exhaustedSince >= 0 ? System.currentTimeMillis() - exhaustedSince : 0;
+        return new Snapshot(poolName != null, poolName, hikari != null ? hikari.getMaximumPoolSize() : 0,
+            hikari != null ? hikari.getConnectionTimeout() : 0,
+            active, idle, pending, total, peakPending, exhaustedSince >= 0, exhaustionEpisodes,
+            exhaustedMillis + exhaustedNow, timeouts.sum(),
+            acquisition.snapshot(), acquisition.windowSnapshot(), usage.snapshot(), creation.snapshot());
+    }
+    
+    /**
+     * Configured maximum pool size (0 if the pool is not instrumented)
+     */
+    public int getMaximumPoolSize() {
+        HikariDataSource hikari = dataSource;
+        return hikari != null ? hikari.getMaximumPoolSize() : 0;
+    }
+    
+    /**
+     * Whether the pool was instrumented (a HikariDataSource without another metrics tracker)
+     */
+    public boolean isAttached() {
+        return dataSource != null;
+    }
+    
+    /** Acquisition latency: getConnection() until a connection was handed out */
+    public LatencyHistogram getAcquisition() { return acquisition; }
+    /** Usage: borrow until return (millisecond resolution) */
+    public LatencyHistogram getUsage() { return usage; }
+    /** Physical connection creation: connect plus the wrapper's plugin setup */
+    public LatencyHistogram getCreation() { return creation; }
+    public long getTimeouts() { return timeouts.sum(); }
+    public synchronized long getExhaustionEpisodes() { return exhaustionEpisodes; }
+    
+    /**
+     * Total exhausted time including the current episode
+     */
+    public synchronized long getExhaustedMillis() {
+        return exhaustedMillis + (exhaustedSince >= 0 ? System.currentTimeMillis() - exhaustedSince : 0);
+    }
+    
+    /**
+     * Records into the histograms, then into Hikari's Micrometer tracker (called on borrowing threads)
+     */
+    private final class Tracker implements IMetricsTracker {
+        
+        private final IMetricsTracker delegate;
+        
+        Tracker(IMetricsTracker delegate) {
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            creation.recordNanos(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+        
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquisition.recordNanos(elapsedAcquiredNanos);
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+        }
+        
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.recordNanos(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+        }
+        
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            delegate.recordConnectionTimeout();
+        }
+        
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+    
+    /**
+     * Gauge extremes of one second: busiest active, lowest idle, most callers waiting
+     */
+    public static class SecondGauges {
+        private final int maxActive;
+        private final int minIdle;
+        private final int maxPending;
+        
+        public SecondGauges(int maxActive, int minIdle, int maxPending) {
+            this.maxActive = maxActive;
+            this.minIdle = minIdle;
+            this.maxPending = maxPending;
+        }
+        
+        public int getMaxActive() { return maxActive; }
+        public int getMinIdle() { return minIdle; }
+        public int getMaxPending() { return maxPending; }
+    }
+    
+    /**
+     * Pool state for status and reports
+     */
+    public static class Snapshot {
+        private final boolean started;
+        private final String poolName;
+        private final int maximumPoolSize;
+        private final long connectionTimeoutMs;
+        private final int active;
+        private final int idle;
+        private final int pending;
+        private final int total;
+        private final int peakPending;
+        private final boolean exhausted;
+        private final long exhaustionEpisodes;
+        private final long exhaustedMillis;
+        private final long timeouts;
+        private final LatencySnapshot acquisition;
+        private final LatencySnapshot recentAcquisition;
+        private final LatencySnapshot usage;
+        private final LatencySnapshot creation;
+        
+        public Snapshot(boolean started, String poolName, int maximumPoolSize, long connectionTimeoutMs,
+                        int active, int idle, int pending, int total, int peakPending, boolean exhausted,
+                        long exhaustionEpisodes, long exhaustedMillis, long timeouts,
+                        LatencySnapshot acquisition, LatencySnapshot recentAcquisition,
+                        LatencySnapshot usage, LatencySnapshot creation) {
+            this.started = started;
+            this.poolName = poolName;
+            this.maximumPoolSize = maximumPoolSize;
+            this.connectionTimeoutMs = connectionTimeoutMs;
+            this.active = active;
+            this.idle = idle;
+            this.pending = pending;
+            this.total = total;
+            this.peakPending = peakPending;
+            this.exhausted = exhausted;
+            this.exhaustionEpisodes = exhaustionEpisodes;
+            this.exhaustedMillis = exhaustedMillis;
+            this.timeouts = timeouts;
+            this.acquisition = acquisition;
+            this.recentAcquisition = recentAcquisition;
+            this.usage = usage;
+            this.creation = creation;
+        }
+        
+        /** Whether the pool has started (it starts on the first getConnection()) */
+        public boolean isStarted() { return started; }
+        public String getPoolName() { return poolName; }
+        public int getMaximumPoolSize() { return maximumPoolSize; }
+        public long getConnectionTimeoutMs() { return connectionTimeoutMs; }
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        /** Threads waiting in getConnection() */
+        public int getPending() { return pending; }
+        public int getTotal() { return total; }
+        public int getPeakPending() { return peakPending; }
+        public boolean isExhausted() { return exhausted; }
+        public long getExhaustionEpisodes() { return exhaustionEpisodes; }
+        public long getExhaustedMillis() { return exhaustedMillis; }
+        public long getTimeouts() { return timeouts; }
+        public LatencySnapshot getAcquisition() { return acquisition; }
+        /** Acquisition latency of the most recent 10-second window */
+        public LatencySnapshot getRecentAcquisition() { return recentAcquisition; }
+        public LatencySnapshot getUsage() { return usage; }
+        public LatencySnapshot getCreation() { return creation; }
+    }
+}
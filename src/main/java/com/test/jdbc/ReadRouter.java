@@ -0,0 +1,268 @@
+package com.test.jdbc;
+
+import com.test.metrics.LatencyHistogram;
+import com.test.metrics.LatencySnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Routes read-only queries to reader instances, falling back to the writer
+ * 
+ * Every reader target has its own DataSource (a pool on one reader host or on the reader
+ * endpoint); reads are spread round-robin over the first activeReaders of them. A reader
+ * that cannot hand out a connection, or whose connection fails during the query, is skipped
+ * for the retry interval and the read is retried on the next reader; with no reader left it
+ * runs on the writer. SQL errors that are not connection failures are not retried - they
+ * would fail on every instance.
+ * 
+ * Reads, errors and latency are counted per target, so read throughput can be compared
+ * between runs with 0..n active readers.
+ */
+public final class ReadRouter {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReadRouter.class);
+    
+    private static final long LATENCY_WINDOW_MS = 10_000;
+    private static final int MAX_CAUSE_DEPTH = 8;
+    
+    private final Target writer;
+    private final List<Target> readers = new ArrayList<>();
+    private final long retryIntervalNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder fallbacks = new LongAdder();
+    private volatile int activeReaders;
+    private volatile long resetMillis = System.currentTimeMillis();
+    
+    /**
+     * @param writer Writer DataSource (fallback)
+     * @param readerNames Reader targets for stats (host names)
+     * @param readerSources DataSource per reader target
+     * @param retryIntervalMs How long a failed reader is skipped
+     */
+    public ReadRouter(DataSource writer, List<String> readerNames, List<DataSource> readerSources,
+                      long retryIntervalMs) {
+        this.writer = new Target("writer", writer);
+        for (int i = 0; i < readerSources.size(); i++) {
+            readers.add(new Target(readerNames.get(i), readerSources.get(i)));
+        }
+        this.retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(retryIntervalMs);
+        this.activeReaders = readers.size();
+    }
+    
+    /**
+     * Run a read-only query on a reader (or the writer if no reader is available)
+     */
+    public <T> T read(Function<JdbcTemplate, T> query) {
+        int active = activeReaders;
+        if (active > 0) {
+            int start = Math.floorMod(next.getAndIncrement(), active);
+            long now = System.nanoTime();
+            for (int i = 0; i < active; i++) {
+                Target reader = readers.get((start + i) % active);
+                if (reader.isDown(now)) {
+                    continue;
+                }
+                try {
+                    return reader.execute(query);
+                } catch (DataAccessException e) {
+                    if (!isConnectionFailure(e)) {
+                        throw e;
+                    }
+                    reader.markDown(System.nanoTime() + retryIntervalNanos);
+                    log.warn("⚠️ Reader {} unavailable, skipping it for {}ms: {}", reader.name,
+                        TimeUnit.NANOSECONDS.toMillis(retryIntervalNanos), e.getMessage());
+                }
+            }
+            fallbacks.increment();
+        }
+        return writer.execute(query);
+    }
+    
+    /**
+     * Limit routing to the first n readers (0 = every read on the writer)
+     */
+    public void setActiveReaders(int n) {
+        if (n < 0 || n > readers.size()) {
+            throw new IllegalArgumentException("activeReaders must be between 0 and " + readers.size());
+        }
+        activeReaders = n;
+    }
+    
+    public int getActiveReaders() {
+        return activeReaders;
+    }
+    
+    public int getReaderCount() {
+        return readers.size();
+    }
+    
+    /**
+     * Start a new measurement (counters and latency of every target)
+     */
+    public void reset() {
+        writer.reset();
+        for (Target reader : readers) {
+            reader.reset();
+        }
+        fallbacks.reset();
+        resetMillis = System.currentTimeMillis();
+    }
+    
+    public Snapshot snapshot() {
+        long now = System.currentTimeMillis();
+        double seconds = Math.max(1, now - resetMillis) / 1000.0;
+        long nowNanos = System.nanoTime();
+        List<TargetSnapshot> readerSnapshots = new ArrayList<>();
+        for (int i = 0; i < readers.size(); i++) {
+            readerSnapshots.add(readers.get(i).snapshot(i < activeReaders, nowNanos, seconds));
+        }
+        return new Snapshot(activeReaders, readers.size(), resetMillis, fallbacks.sum(),
+            writer.snapshot(true, nowNanos, seconds), readerSnapshots);
+    }
+    
+    /**
+     * Whether the reader itself failed (no connection, or the connection broke), as opposed to the query
+     */
+    static boolean isConnectionFailure(DataAccessException e) {
+        if (e instanceof CannotGetJdbcConnectionException) {
+            return true;
+        }
+        Throwable cause = e.getCause();
+        for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (cause instanceof SQLException) {
+                return SqlErrorClassifier.classify((SQLException) cause).isConnectionEvent();
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+    
+    private static final class Target {
+        final String name;
+        final JdbcTemplate jdbcTemplate;
+        final LongAdder reads = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram(LATENCY_WINDOW_MS);
+        volatile long downUntilNanos;
+        volatile boolean down;
+        
+        Target(String name, DataSource dataSource) {
+            this.name = name;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+        
+        <T> T execute(Function<JdbcTemplate, T> query) {
+            long start = System.nanoTime();
+            try {
+                T result = query.apply(jdbcTemplate);
+                latency.recordNanos(System.nanoTime() - start);
+                reads.increment();
+                down = false;
+                return result;
+            } catch (DataAccessException e) {
+                errors.increment();
+                throw e;
+            }
+        }
+        
+        boolean isDown(long nowNanos) {
+            return down && nowNanos - downUntilNanos < 0;
+        }
+        
+        void markDown(long untilNanos) {
+            downUntilNanos = untilNanos;
+            down = true;
+        }
+        
+        void reset() {
+            reads.reset();
+            errors.reset();
+            latency.reset();
+        }
+        
+        TargetSnapshot snapshot(boolean active, long nowNanos, double seconds) {
+            long count = reads.sum();
+            return new TargetSnapshot(name, active, isDown(nowNanos), count, errors.sum(), count / seconds,
+                latency.snapshot(), latency.windowSnapshot());
+        }
+    }
+    
+    public static final class Snapshot {
+        private final int activeReaders;
+        private final int readerCount;
+        private final long sinceMillis;
+        private final long fallbacks;
+        private final TargetSnapshot writer;
+        private final List<TargetSnapshot> readers;
+        
+        public Snapshot(int activeReaders, int readerCount, long sinceMillis, long fallbacks,
+                        TargetSnapshot writer, List<TargetSnapshot> readers) {
+            this.activeReaders = activeReaders;
+            this.readerCount = readerCount;
+            this.sinceMillis = sinceMillis;
+            this.fallbacks = fallbacks;
+            this.writer = writer;
+            this.readers = readers;
+        }
+        
+        public int getActiveReaders() { return activeReaders; }
+        public int getReaderCount() { return readerCount; }
+        public long getSinceMillis() { return sinceMillis; }
+        public long getFallbacks() { return fallbacks; }
+        public TargetSnapshot getWriter() { return writer; }
+        public List<TargetSnapshot> getReaders() { return readers; }
+        
+        /** Reads per second over all targets since the last reset */
+        public double getReadsPerSecond() {
+            double total = writer.getReadsPerSecond();
+            for (TargetSnapshot reader : readers) {
+                total += reader.getReadsPerSecond();
+            }
+            return total;
+        }
+    }
+    
+    public static final class TargetSnapshot {
+        private final String name;
+        private final boolean active;
+        private final boolean down;
+        private final long reads;
+        private final long errors;
+        private final double readsPerSecond;
+        private final LatencySnapshot latency;
+        private final LatencySnapshot recentLatency;
+        
+        public TargetSnapshot(String name, boolean active, boolean down, long reads, long errors,
+                              double readsPerSecond, LatencySnapshot latency, LatencySnapshot recentLatency) {
+            this.name = name;
+            this.active = active;
+            this.down = down;
+            this.reads = reads;
+            this.errors = errors;
+            this.readsPerSecond = readsPerSecond;
+            this.latency = latency;
+            this.recentLatency = recentLatency;
+        }
+        
+        public String getName() { return name; }
+        public boolean isActive() { return active; }
+        public boolean isDown() { return down; }
+        public long getReads() { return reads; }
+        public long getErrors() { return errors; }
+        public double getReadsPerSecond() { return readsPerSecond; }
+        public LatencySnapshot getLatency() { return latency; }
+        public LatencySnapshot getRecentLatency() { return recentLatency; }
+    }
+}
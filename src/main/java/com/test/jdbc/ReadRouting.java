@@ -0,0 +1,157 @@
+package com.test.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read/write routing of the repositories' read-only queries
+ * 
+ * With app.read-routing.enabled, every reader host (READ_ROUTING_READERS, default: the reader
+ * endpoint derived from the cluster endpoint) gets its own Hikari pool - datasource URL with the
+ * host replaced and wrapper plugins disabled, so a pool stays on the instance it measures - and
+ * reads are balanced over them by {@link ReadRouter}, falling back to the application's
+ * DataSource (writer) when no reader is available. Disabled, every read runs on the writer.
+ * 
+ * Repositories inject this component instead of the writer's JdbcTemplate for their reads.
+ * The reader pools are not Spring beans: PoolMonitor keeps instrumenting the writer pool only.
+ */
+@Component
+public class ReadRouting {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReadRouting.class);
+    
+    private final DataSource dataSource;
+    private final List<HikariDataSource> readerPools = new ArrayList<>();
+    private ReadRouter router;
+    
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+    
+    @Value("${spring.datasource.driver-class-name:}")
+    private String driverClassName;
+    
+    @Value("${spring.datasource.username:}")
+    private String username;
+    
+    @Value("${spring.datasource.password:}")
+    private String password;
+    
+    @Value("${app.read-routing.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${app.read-routing.readers:}")
+    private String configuredReaders;
+    
+    @Value("${app.read-routing.pool-size:20}")
+    private int poolSize;
+    
+    @Value("${app.read-routing.connection-timeout-ms:2000}")
+    private long connectionTimeoutMs;
+    
+    @Value("${app.read-routing.retry-interval-ms:5000}")
+    private long retryIntervalMs;
+    
+    public ReadRouting(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    @PostConstruct
+    public void init() {
+        List<String> hosts = enabled ? readers() : Collections.emptyList();
+        List<DataSource> sources = new ArrayList<>();
+        for (int i = 0; i < hosts.size(); i++) {
+            HikariDataSource pool = readerPool(hosts.get(i), i + 1);
+            readerPools.add(pool);
+            sources.add(pool);
+        }
+        router = new ReadRouter(dataSource, hosts, sources, retryIntervalMs);
+        if (!enabled) {
+            log.info("📖 Read routing disabled: UserService reads run on the writer (READ_ROUTING_ENABLED=true to enable)");
+        } else if (hosts.isEmpty()) {
+            log.warn("⚠️ Read routing enabled but no reader hosts (set READ_ROUTING_READERS): reads run on the writer");
+        } else {
+            log.info("📖 Read routing: {} reader(s) {}, pool size {}, writer fallback", hosts.size(), hosts, poolSize);
+        }
+    }
+    
+    @PreDestroy
+    public void close() {
+        for (HikariDataSource pool : readerPools) {
+            pool.close();
+        }
+    }
+    
+    /**
+     * Run a read-only query on a reader, or on the writer if none is available
+     */
+    public <T> T read(Function<JdbcTemplate, T> query) {
+        return router.read(query);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Route to the first n reader hosts only (0 = writer only), for throughput per reader count
+     */
+    public void setActiveReaders(int n) {
+        router.setActiveReaders(n);
+        router.reset();
+        log.info("📖 Read routing: {} of {} reader(s) active", n, router.getReaderCount());
+    }
+    
+    public void reset() {
+        router.reset();
+    }
+    
+    public ReadRouter.Snapshot snapshot() {
+        return router.snapshot();
+    }
+    
+    private List<String> readers() {
+        List<String> hosts = new ArrayList<>();
+        for (String host : configuredReaders.split(",")) {
+            if (!host.isBlank()) {
+                hosts.add(host.trim());
+            }
+        }
+        if (hosts.isEmpty()) {
+            String endpoint = ReaderUrls.readerEndpoint(datasourceUrl);
+            if (endpoint != null) {
+                hosts.add(endpoint);
+            }
+        }
+        return hosts;
+    }
+    
+    private HikariDataSource readerPool(String host, int index) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("ReaderPool-" + index);
+        config.setJdbcUrl(ReaderUrls.readerUrl(datasourceUrl, host));
+        if (!driverClassName.isEmpty()) {
+            config.setDriverClassName(driverClassName);
+        }
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        config.setInitializationFailTimeout(-1);  // Start without the reader; the router falls back
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+}
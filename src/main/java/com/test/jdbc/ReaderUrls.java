@@ -0,0 +1,52 @@
+package com.test.jdbc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC URLs of reader hosts, derived from the application's datasource URL
+ * 
+ * Used by the replica lag probe and the read routing pools: without configured readers, the
+ * Aurora reader endpoint is derived from the cluster endpoint
+ * (name.cluster-id.region... -> name.cluster-ro-id.region...).
+ */
+public final class ReaderUrls {
+    
+    private static final Pattern URL_HOST = Pattern.compile("^(jdbc:[^/]*//)([^/?]+)(.*)$");
+    private static final Pattern WRAPPER_PLUGINS = Pattern.compile("wrapperPlugins=[^&]*");
+    
+    private ReaderUrls() {
+    }
+    
+    /**
+     * Aurora reader endpoint of the cluster endpoint in a datasource URL (null if the URL has none)
+     */
+    public static String readerEndpoint(String url) {
+        Matcher matcher = URL_HOST.matcher(url);
+        if (matcher.matches() && matcher.group(2).contains(".cluster-") && !matcher.group(2).contains(".cluster-ro-")) {
+            return matcher.group(2).replace(".cluster-", ".cluster-ro-");
+        }
+        return null;
+    }
+    
+    /**
+     * Datasource URL pointed at another host, without wrapper plugins (no failover, no
+     * blue/green routing - the connection must stay on the instance it measures)
+     */
+    public static String readerUrl(String url, String host) {
+        Matcher matcher = URL_HOST.matcher(url);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Cannot derive reader URL from " + url);
+        }
+        String authority = matcher.group(2);
+        int port = authority.lastIndexOf(':');
+        String target = host.contains(":") || port < 0 ? host : host + authority.substring(port);
+        String rest = matcher.group(3);
+        if (WRAPPER_PLUGINS.matcher(rest).find()) {
+            rest = WRAPPER_PLUGINS.matcher(rest).replaceFirst("wrapperPlugins=");
+        } else {
+            rest += (rest.contains("?") ? "&" : "?") + "wrapperPlugins=";
+        }
+        return matcher.group(1) + target + rest;
+    }
+}
@@ -0,0 +1,157 @@
+package com.test.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pacing of the load threads' reconnects after a connection was lost
+ * 
+ * With a fixed delay every thread that saw the switchover retries in lockstep: all of them hit
+ * the new writer at the same moment, and all of them then sleep the full delay even when it
+ * was ready long before. In JITTERED mode each retry waits a random time between 0 and an
+ * exponentially growing cap ("full jitter": initialDelay * 2^attempt, at most maxDelay), which
+ * spreads the attempts out while the first ones come early. On top, a token bucket shared by
+ * all test runs admits at most attemptsPerSecond connection attempts (bursts up to burst);
+ * threads beyond it wait for their token instead of piling onto the cluster.
+ * 
+ * FIXED mode keeps the previous behavior (500ms settle after a failover, 1000ms between
+ * attempts, no admission control) for comparison.
+ */
+@Component
+public class ReconnectController {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReconnectController.class);
+    
+    /** Previous fixed delays */
+    static final long FIXED_SETTLE_MS = 500;
+    static final long FIXED_RETRY_DELAY_MS = 1000;
+    
+    public enum Mode {
+        FIXED,
+        JITTERED;
+        
+        public static Mode fromString(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("app.reconnect.backoff must be fixed or jittered: " + value);
+            }
+        }
+    }
+    
+    private final Mode mode;
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final double attemptsPerSecond;
+    private final int burst;
+    private final long nanosPerToken;
+    
+    // Token bucket as the time the next token is due: tokens accumulate while it lies in the past
+    private long nextTokenNanos;
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder throttledNanos = new LongAdder();
+    
+    public ReconnectController(@Value("${app.reconnect.backoff:jittered}") String backoff,
+                               @Value("${app.reconnect.initial-delay-ms:100}") long initialDelayMs,
+                               @Value("${app.reconnect.max-delay-ms:5000}") long maxDelayMs,
+                               @Value("${app.reconnect.attempts-per-second:50}") double attemptsPerSecond,
+                               @Value("${app.reconnect.burst:20}") int burst) {
+        if (initialDelayMs < 1 || maxDelayMs < initialDelayMs) {
+            throw new IllegalArgumentException("app.reconnect delays must satisfy 1 <= initial-delay-ms <= max-delay-ms");
+        }
+        if (!(attemptsPerSecond > 0) || burst < 1) {
+            throw new IllegalArgumentException("app.reconnect.attempts-per-second and burst must be positive");
+        }
+        this.mode = Mode.fromString(backoff);
+        this.initialDelayMs = initialDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.attemptsPerSecond = attemptsPerSecond;
+        this.burst = burst;
+        this.nanosPerToken = (long) (TimeUnit.SECONDS.toNanos(1) / attemptsPerSecond);
+        this.nextTokenNanos = System.nanoTime() - burst * nanosPerToken;
+        if (mode == Mode.JITTERED) {
+            log.info("🔁 Reconnect backoff: jittered {}-{}ms, admission {} attempts/sec (burst {})",
+                initialDelayMs, maxDelayMs, attemptsPerSecond, burst);
+        } else {
+            log.info("🔁 Reconnect backoff: fixed ({}ms after failover, {}ms between attempts)",
+                FIXED_SETTLE_MS, FIXED_RETRY_DELAY_MS);
+        }
+    }
+    
+    /**
+     * Delays of one reconnect sequence (one per lost connection)
+     */
+    public Backoff newBackoff() {
+        return new Backoff();
+    }
+    
+    /**
+     * Wait for admission of one connection attempt (returns at once in FIXED mode)
+     * 
+     * @return Nanoseconds waited for a token
+     */
+    public long admit() throws InterruptedException {
+        if (mode == Mode.FIXED) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long due;
+        synchronized (this) {
+            // Unused tokens accumulate up to the burst
+            due = Math.max(nextTokenNanos, now - (burst - 1) * nanosPerToken);
+            nextTokenNanos = due + nanosPerToken;
+        }
+        long wait = due - now;
+        if (wait <= 0) {
+            return 0;
+        }
+        throttled.increment();
+        throttledNanos.add(wait);
+        TimeUnit.NANOSECONDS.sleep(wait);
+        return wait;
+    }
+    
+    public Mode getMode() { return mode; }
+    public long getInitialDelayMs() { return initialDelayMs; }
+    public long getMaxDelayMs() { return maxDelayMs; }
+    public double getAttemptsPerSecond() { return attemptsPerSecond; }
+    public int getBurst() { return burst; }
+    /** Attempts that had to wait for a token (all runs, since start) */
+    public long getThrottled() { return throttled.sum(); }
+    public long getThrottledMillis() { return TimeUnit.NANOSECONDS.toMillis(throttledNanos.sum()); }
+    
+    /**
+     * Delays of one reconnect sequence; not thread-safe (owned by the reconnecting thread)
+     */
+    public final class Backoff {
+        private int attempt;
+        
+        private Backoff() {
+        }
+        
+        /**
+         * Wait after a failover error before the first attempt
+         */
+        public long settleMillis() {
+            return mode == Mode.FIXED ? FIXED_SETTLE_MS : ThreadLocalRandom.current().nextLong(initialDelayMs + 1);
+        }
+        
+        /**
+         * Wait after a failed attempt before the next one
+         */
+        public long nextDelayMillis() {
+            if (mode == Mode.FIXED) {
+                return FIXED_RETRY_DELAY_MS;
+            }
+            attempt++;
+            long cap = attempt >= 31 ? maxDelayMs : Math.min(maxDelayMs, initialDelayMs << attempt);
+            return ThreadLocalRandom.current().nextLong(cap + 1);
+        }
+    }
+}
@@ -0,0 +1,551 @@
+package com.test.jdbc;
+
+import com.test.metrics.LatencyHistogram;
+import com.test.metrics.LatencySnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Client-visible replication lag of reader instances
+ * 
+ * One writer thread upserts a heartbeat row (&lt;prefix&gt;_bg_heartbeat) every heartbeat interval
+ * through the application's DataSource, so it follows the writer across the switchover like the
+ * load threads. One poller thread per reader host (reader endpoint or instance endpoint) reads
+ * the row on its own connection, opened without wrapper plugins so it stays on the instance it
+ * reached (@@hostname, queried once per connection); lag is recorded per instance.
+ * 
+ * Writer and pollers share one clock, so lag needs no clock synchronization: a poll that sees
+ * heartbeat s while s+1 was already acknowledged has missed s+1 since it was acknowledged, and
+ * lag = read start - acknowledgement of s+1 (0 if the reader has every acknowledged heartbeat).
+ * This does not include the heartbeat interval as the usual "now - timestamp of the latest row"
+ * does; that estimate is only used once s+1 dropped out of the acknowledgement ring (lag of more
+ * than {@link #ACK_RING} heartbeats).
+ * 
+ * A poller reconnects every reconnect interval so that a reader endpoint rotates among the
+ * reader instances. Every started probe has a random id and its own heartbeat row (primary key
+ * probe_id), so probes of several application instances can share the table; a probe deletes
+ * its row when it stops.
+ */
+public final class ReplicaLagProbe {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagProbe.class);
+    
+    /** Acknowledgement times kept for exact lag (older heartbeats fall back to their send time) */
+    public static final int ACK_RING = 1 << 13;
+    /** Seconds of per-second peak lag kept for the timeline */
+    public static final int TIMELINE_SECONDS = 900;
+    private static final long LATENCY_WINDOW_MS = 10_000;
+    private static final long RETRY_DELAY_MS = 500;
+    
+    private final DataSource writerSource;
+    private final String tableName;
+    private final List<String> readerHosts;
+    private final List<String> readerUrls;
+    private final String username;
+    private final String password;
+    private final long heartbeatIntervalNanos;
+    private final long pollIntervalNanos;
+    private final long reconnectIntervalNanos;
+    private final long probeId = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+    private final long startMillis = System.currentTimeMillis();
+    // Clock shared by writer and pollers: epoch nanoseconds, advancing with System.nanoTime()
+    private final long epochAnchorNanos = TimeUnit.MILLISECONDS.toNanos(startMillis);
+    private final long nanoAnchor = System.nanoTime();
+    
+    private final AtomicReferenceArray<Ack> acks = new AtomicReferenceArray<>(ACK_RING);
+    private volatile long lastAcked;  // Highest acknowledged heartbeat (0 = none)
+    private final LongAdder heartbeatFailures = new LongAdder();
+    private final LatencyHistogram heartbeatLatency = new LatencyHistogram(LATENCY_WINDOW_MS);
+    private volatile String writerInstance = "unknown";
+    
+    private final ConcurrentMap<String, InstanceLag> instances = new ConcurrentSkipListMap<>();
+    private final List<ReaderState> readers = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+    private volatile long stopMillis;
+    
+    // Per-second peak lag over all instances (guarded by timelineSecond)
+    private final long[] timelineSecond = new long[TIMELINE_SECONDS];
+    private final long[] timelineMaxNanos = new long[TIMELINE_SECONDS];
+    private final long[] timelineSamples = new long[TIMELINE_SECONDS];
+    
+    /**
+     * @param readerUrls JDBC URL per reader host (same order as readerHosts)
+     */
+    public ReplicaLagProbe(DataSource writerSource, String tableName, List<String> readerHosts,
+                           List<String> readerUrls, String username, String password,
+                           long heartbeatIntervalMs, long pollIntervalMs, long reconnectIntervalMs) {
+        this.writerSource = writerSource;
+        this.tableName = tableName;
+        this.readerHosts = readerHosts;
+        this.readerUrls = readerUrls;
+        this.username = username;
+        this.password = password;
+        this.heartbeatIntervalNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMs);
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMs);
+        this.reconnectIntervalNanos = TimeUnit.MILLISECONDS.toNanos(reconnectIntervalMs);
+        for (String host : readerHosts) {
+            readers.add(new ReaderState(host));
+        }
+    }
+    
+    public synchronized void start(String threadPrefix) {
+        running = true;
+        threads.add(new Thread(this::runHeartbeatWriter, threadPrefix + "writer"));
+        for (int i = 0; i < readers.size(); i++) {
+            final int index = i;
+            threads.add(new Thread(() -> runPoller(readers.get(index), readerUrls.get(index)),
+                threadPrefix + "reader-" + (i + 1)));
+        }
+        for (Thread thread : threads) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+        log.info("📡 Replica lag probe {} started: heartbeat every {}ms into {}, polling {} every {}ms",
+            probeId, TimeUnit.NANOSECONDS.toMillis(heartbeatIntervalNanos), tableName, readerHosts,
+            TimeUnit.NANOSECONDS.toMillis(pollIntervalNanos));
+    }
+    
+    public synchronized void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        stopMillis = System.currentTimeMillis();
+        deleteHeartbeat();
+    }
+    
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private long clockNanos() {
+        return epochAnchorNanos + (System.nanoTime() - nanoAnchor);
+    }
+    
+    private void runHeartbeatWriter() {
+        String createSql = "CREATE TABLE IF NOT EXISTS " + tableName + " (" +
+            "probe_id BIGINT PRIMARY KEY, " +
+            "seq BIGINT NOT NULL, " +
+            "writer_nanos BIGINT NOT NULL, " +
+            "writer VARCHAR(255), " +
+            "updated_at TIMESTAMP(6) NULL" +
+            ") ENGINE=InnoDB";
+        String upsertSql = "INSERT INTO " + tableName +
+            " (probe_id, seq, writer_nanos, writer, updated_at) VALUES (?, ?, ?, @@hostname, NOW(6))" +
+            " ON DUPLICATE KEY UPDATE seq = VALUES(seq)," +
+            " writer_nanos = VALUES(writer_nanos), writer = VALUES(writer), updated_at = VALUES(updated_at)";
+        Connection conn = null;
+        PreparedStatement upsert = null;
+        long seq = 0;
+        long next = System.nanoTime();
+        while (running) {
+            try {
+                if (conn == null) {
+                    conn = writerSource.getConnection();
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.execute(createSql);
+                        migrateTable(conn, stmt);
+                        try (ResultSet rs = stmt.executeQuery("SELECT @@hostname")) {
+                            if (rs.next()) {
+                                writerInstance = rs.getString(1);
+                            }
+                        }
+                    }
+                    upsert = conn.prepareStatement(upsertSql);
+                }
+                seq++;
+                long sent = clockNanos();
+                upsert.setLong(1, probeId);
+                upsert.setLong(2, seq);
+                upsert.setLong(3, sent);
+                upsert.executeUpdate();
+                long acknowledged = clockNanos();
+                // One immutable slot: a poller never pairs a sequence with another heartbeat's time
+                acks.set((int) (seq & (ACK_RING - 1)), new Ack(seq, acknowledged));
+                lastAcked = seq;
+                heartbeatLatency.recordNanos(acknowledged - sent);
+            } catch (SQLException e) {
+                heartbeatFailures.increment();
+                log.warn("⚠️  Replica lag heartbeat failed: {}", e.getMessage());
+                conn = close(conn);
+                next = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY_MS);
+            }
+            next = Math.max(next + heartbeatIntervalNanos, System.nanoTime());
+            LockSupport.parkNanos(next - System.nanoTime());
+        }
+        close(conn);
+    }
+    
+    /**
+     * Replace the id = 1 primary key of a table created by an earlier version with probe_id
+     */
+    private void migrateTable(Connection conn, Statement stmt) throws SQLException {
+        boolean hasId;
+        try (ResultSet rs = conn.getMetaData().getColumns(conn.getCatalog(), null, tableName, "id")) {
+            hasId = rs.next();
+        }
+        if (hasId) {
+            stmt.execute("ALTER TABLE " + tableName + " DROP COLUMN id, ADD PRIMARY KEY (probe_id)");
+            log.info("✅ Keyed {} by probe_id", tableName);
+        }
+    }
+    
+    /**
+     * Remove this probe's heartbeat row (best effort - a leftover row is never read again)
+     */
+    private void deleteHeartbeat() {
+        try (Connection conn = writerSource.getConnection();
+             PreparedStatement delete = conn.prepareStatement("DELETE FROM " + tableName + " WHERE probe_id = ?")) {
+            delete.setLong(1, probeId);
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            log.warn("⚠️  Could not delete heartbeat row of probe {}: {}", probeId, e.getMessage());
+        }
+    }
+    
+    private void runPoller(ReaderState reader, String url) {
+        String selectSql = "SELECT seq, writer_nanos FROM " + tableName + " WHERE probe_id = ?";
+        Connection conn = null;
+        PreparedStatement select = null;
+        long connectedNanos = 0;
+        long next = System.nanoTime();
+        while (running) {
+            try {
+                if (conn != null && System.nanoTime() - connectedNanos >= reconnectIntervalNanos) {
+                    conn = close(conn);  // Let a reader endpoint pick an instance again
+                }
+                if (conn == null) {
+                    conn = DriverManager.getConnection(url, username, password);
+                    try (Statement stmt = conn.createStatement();
+                         ResultSet rs = stmt.executeQuery("SELECT @@hostname")) {
+                        reader.instance = rs.next() ? rs.getString(1) : reader.host;
+                    }
+                    select = conn.prepareStatement(selectSql);
+                    select.setLong(1, probeId);
+                    connectedNanos = System.nanoTime();
+                    reader.connects.increment();
+                }
+                long acked = lastAcked;
+                long readStart = clockNanos();
+                try (ResultSet rs = select.executeQuery()) {
+                    reader.polls.increment();
+                    // No row yet: none of this probe's heartbeats reached the instance
+                    boolean visible = rs.next();
+                    long lag = lagNanos(visible ? rs.getLong(1) : 0, visible ? rs.getLong(2) : 0, acked, readStart);
+                    if (lag >= 0) {
+                        instances.computeIfAbsent(reader.instance, InstanceLag::new).record(lag, reader.host);
+                        recordTimeline(lag);
+                    }
+                }
+            } catch (SQLException e) {
+                reader.errors.increment();
+                reader.lastError = e.getMessage();
+                conn = close(conn);
+                next = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY_MS);
+            }
+            next = Math.max(next + pollIntervalNanos, System.nanoTime());
+            LockSupport.parkNanos(next - System.nanoTime());
+        }
+        close(conn);
+    }
+    
+    /**
+     * Lag of a reader that sees heartbeat visible (0 = none of this probe) at readStart
+     * 
+     * @return Nanoseconds, or -1 if nothing was acknowledged yet
+     */
+    private long lagNanos(long visible, long visibleSentNanos, long acked, long readStart) {
+        if (acked == 0) {
+            return -1;
+        }
+        if (visible >= acked) {
+            return 0;
+        }
+        long missing = visible + 1;
+        Ack ack = acks.get((int) (missing & (ACK_RING - 1)));
+        if (ack != null && ack.seq == missing) {
+            return Math.max(0, readStart - ack.nanos);
+        }
+        // Older than the ring: time since the visible heartbeat was sent (overestimates by < 1 interval)
+        return visibleSentNanos > 0 ? Math.max(0, readStart - visibleSentNanos) : readStart - epochAnchorNanos;
+    }
+    
+    private void recordTimeline(long lagNanos) {
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % TIMELINE_SECONDS);
+        synchronized (timelineSecond) {
+            if (timelineSecond[slot] != second) {
+                timelineSecond[slot] = second;
+                timelineMaxNanos[slot] = 0;
+                timelineSamples[slot] = 0;
+            }
+            timelineMaxNanos[slot] = Math.max(timelineMaxNanos[slot], lagNanos);
+            timelineSamples[slot]++;
+        }
+    }
+    
+    private static Connection close(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                // Ignore - connection may already be broken
+            }
+        }
+        return null;
+    }
+    
+    public Snapshot snapshot() {
+        List<InstanceSnapshot> instanceSnapshots = new ArrayList<>();
+        for (InstanceLag instance : instances.values()) {
+            instanceSnapshots.add(instance.snapshot());
+        }
+        List<ReaderSnapshot> readerSnapshots = new ArrayList<>();
+        for (ReaderState reader : readers) {
+            readerSnapshots.add(new ReaderSnapshot(reader.host, reader.instance, reader.polls.sum(),
+                reader.errors.sum(), reader.connects.sum(), reader.lastError));
+        }
+        List<TimelinePoint> timeline = new ArrayList<>();
+        long oldest = System.currentTimeMillis() / 1000 - TIMELINE_SECONDS;
+        synchronized (timelineSecond) {
+            for (int i = 0; i < TIMELINE_SECONDS; i++) {
+                if (timelineSecond[i] > oldest) {
+                    timeline.add(new TimelinePoint(timelineSecond[i], timelineMaxNanos[i] / 1e6, timelineSamples[i]));
+                }
+            }
+        }
+        timeline.sort((a, b) -> Long.compare(a.second, b.second));
+        return new Snapshot(running, probeId, tableName, startMillis, stopMillis,
+            TimeUnit.NANOSECONDS.toMillis(heartbeatIntervalNanos), TimeUnit.NANOSECONDS.toMillis(pollIntervalNanos),
+            writerInstance, lastAcked, heartbeatFailures.sum(), heartbeatLatency.snapshot(),
+            readerSnapshots, instanceSnapshots, timeline);
+    }
+    
+    /**
+     * Acknowledgement of one heartbeat (clock nanoseconds)
+     */
+    private static final class Ack {
+        final long seq;
+        final long nanos;
+        
+        Ack(long seq, long nanos) {
+            this.seq = seq;
+            this.nanos = nanos;
+        }
+    }
+    
+    /**
+     * Poller of one reader host
+     */
+    private static final class ReaderState {
+        final String host;
+        final LongAdder polls = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder connects = new LongAdder();
+        volatile String instance;
+        volatile String lastError;
+        
+        ReaderState(String host) {
+            this.host = host;
+        }
+    }
+    
+    /**
+     * Lag observed on one instance (by @@hostname)
+     */
+    private static final class InstanceLag {
+        final String instance;
+        final LatencyHistogram lag = new LatencyHistogram(LATENCY_WINDOW_MS);
+        volatile long lastLagNanos;
+        volatile long lastSeenMillis;
+        volatile String readerHost;
+        long maxLagNanos;    // Guarded by this
+        long maxAtMillis;
+        
+        InstanceLag(String instance) {
+            this.instance = instance;
+        }
+        
+        void record(long lagNanos, String host) {
+            lag.recordNanos(lagNanos);
+            lastLagNanos = lagNanos;
+            lastSeenMillis = System.currentTimeMillis();
+            readerHost = host;
+            synchronized (this) {
+                if (lagNanos > maxLagNanos) {
+                    maxLagNanos = lagNanos;
+                    maxAtMillis = lastSeenMillis;
+                }
+            }
+        }
+        
+        synchronized InstanceSnapshot snapshot() {
+            return new InstanceSnapshot(instance, readerHost, lag.snapshot(), lag.windowSnapshot(),
+                lastLagNanos / 1e6, maxLagNanos / 1e6, maxAtMillis, lastSeenMillis);
+        }
+    }
+    
+    public static final class Snapshot {
+        private final boolean running;
+        private final long probeId;
+        private final String table;
+        private final long startMillis;
+        private final long stopMillis;
+        private final long heartbeatIntervalMs;
+        private final long pollIntervalMs;
+        private final String writerInstance;
+        private final long heartbeats;
+        private final long heartbeatFailures;
+        private final LatencySnapshot heartbeatLatency;
+        private final List<ReaderSnapshot> readers;
+        private final List<InstanceSnapshot> instances;
+        private final List<TimelinePoint> timeline;
+        
+        Snapshot(boolean running, long probeId, String table, long startMillis, long stopMillis,
+                 long heartbeatIntervalMs, long pollIntervalMs, String writerInstance, long heartbeats,
+                 long heartbeatFailures, LatencySnapshot heartbeatLatency, List<ReaderSnapshot> readers,
+                 List<InstanceSnapshot> instances, List<TimelinePoint> timeline) {
+            this.running = running;
+            this.probeId = probeId;
+            this.table = table;
+            this.startMillis = startMillis;
+            this.stopMillis = stopMillis;
+            this.heartbeatIntervalMs = heartbeatIntervalMs;
+            this.pollIntervalMs = pollIntervalMs;
+            this.writerInstance = writerInstance;
+            this.heartbeats = heartbeats;
+            this.heartbeatFailures = heartbeatFailures;
+            this.heartbeatLatency = heartbeatLatency;
+            this.readers = readers;
+            this.instances = instances;
+            this.timeline = timeline;
+        }
+        
+        public boolean isRunning() { return running; }
+        public long getProbeId() { return probeId; }
+        public String getTable() { return table; }
+        public long getStartMillis() { return startMillis; }
+        /** 0 while running */
+        public long getStopMillis() { return stopMillis; }
+        public long getHeartbeatIntervalMs() { return heartbeatIntervalMs; }
+        public long getPollIntervalMs() { return pollIntervalMs; }
+        /** Instance that took the most recent heartbeat connection */
+        public String getWriterInstance() { return writerInstance; }
+        /** Acknowledged heartbeats */
+        public long getHeartbeats() { return heartbeats; }
+        public long getHeartbeatFailures() { return heartbeatFailures; }
+        /** Upsert round trip of the heartbeats */
+        public LatencySnapshot getHeartbeatLatency() { return heartbeatLatency; }
+        public List<ReaderSnapshot> getReaders() { return readers; }
+        /** Per instance, ordered by name */
+        public List<InstanceSnapshot> getInstances() { return instances; }
+        /** Peak lag per second over all instances, oldest first (up to {@link #TIMELINE_SECONDS}) */
+        public List<TimelinePoint> getTimeline() { return timeline; }
+    }
+    
+    public static final class ReaderSnapshot {
+        private final String host;
+        private final String instance;
+        private final long polls;
+        private final long errors;
+        private final long connects;
+        private final String lastError;
+        
+        ReaderSnapshot(String host, String instance, long polls, long errors, long connects, String lastError) {
+            this.host = host;
+            this.instance = instance;
+            this.polls = polls;
+            this.errors = errors;
+            this.connects = connects;
+            this.lastError = lastError;
+        }
+        
+        /** Configured reader endpoint or instance host */
+        public String getHost() { return host; }
+        /** Instance of the current connection (null before the first poll) */
+        public String getInstance() { return instance; }
+        public long getPolls() { return polls; }
+        public long getErrors() { return errors; }
+        public long getConnects() { return connects; }
+        public String getLastError() { return lastError; }
+    }
+    
+    public static final class InstanceSnapshot {
+        private final String instance;
+        private final String readerHost;
+        private final LatencySnapshot lag;
+        private final LatencySnapshot recentLag;
+        private final double lastLagMs;
+        private final double maxLagMs;
+        private final long maxAtMillis;
+        private final long lastSeenMillis;
+        
+        InstanceSnapshot(String instance, String readerHost, LatencySnapshot lag, LatencySnapshot recentLag,
+                         double lastLagMs, double maxLagMs, long maxAtMillis, long lastSeenMillis) {
+            this.instance = instance;
+            this.readerHost = readerHost;
+            this.lag = lag;
+            this.recentLag = recentLag;
+            this.lastLagMs = lastLagMs;
+            this.maxLagMs = maxLagMs;
+            this.maxAtMillis = maxAtMillis;
+            this.lastSeenMillis = lastSeenMillis;
+        }
+        
+        /** @@hostname of the reader instance */
+        public String getInstance() { return instance; }
+        /** Reader host it was last reached through */
+        public String getReaderHost() { return readerHost; }
+        /** Lag distribution since the probe started */
+        public LatencySnapshot getLag() { return lag; }
+        /** Lag distribution of the most recent 10s window */
+        public LatencySnapshot getRecentLag() { return recentLag; }
+        public double getLastLagMs() { return lastLagMs; }
+        public double getMaxLagMs() { return maxLagMs; }
+        public long getMaxAtMillis() { return maxAtMillis; }
+        public long getLastSeenMillis() { return lastSeenMillis; }
+    }
+    
+    public static final class TimelinePoint {
+        private final long second;
+        private final double maxLagMs;
+        private final long samples;
+        
+        TimelinePoint(long second, double maxLagMs, long samples) {
+            this.second = second;
+            this.maxLagMs = maxLagMs;
+            this.samples = samples;
+        }
+        
+        /** Epoch second */
+        public long getSecond() { return second; }
+        public double getMaxLagMs() { return maxLagMs; }
+        public long getSamples() { return samples; }
+    }
+}
@@ -0,0 +1,233 @@
+package com.test.jdbc;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Allocation-free classification of load-thread SQLExceptions into {@link SqlErrorOutcome}s
+ * 
+ * During a switchover thousands of exceptions per second go through here, so nothing looks
+ * at the message text. The outcome comes from precomputed tables, checked in this order for
+ * the exception and then up to {@link #MAX_CAUSE_DEPTH} causes:
+ * 1. exception type - AWS JDBC Wrapper failover exceptions, Connector/J and JDBC 4 subclasses;
+ *    the result of the hierarchy walk is cached per exception class
+ * 2. vendor error code (1290 read-only, 2013 lost connection, 1213 deadlock...)
+ * 3. full SQLState (08S02 failover success, 25006 read-only transaction...)
+ * 4. SQLState class (08 connection exception, 40 transaction rollback)
+ * 
+ * A pool acquisition timeout is told apart before the tables: Hikari throws a plain
+ * SQLTransientConnectionException carrying the SQLState of the last failed connection attempt,
+ * or none when the database is healthy and every connection is simply in use. Without a SQLState
+ * it is {@link SqlErrorOutcome#POOL_TIMEOUT}, not a lost connection, so a drained pool is not
+ * reported as a failover; with one, the SQLState decides.
+ * 
+ * Thread-safe. Counters per outcome are striped and summed only when read.
+ */
+public final class SqlErrorClassifier {
+    
+    private static final int MAX_CAUSE_DEPTH = 4;
+    private static final int MAX_VENDOR_CODE = 4096;
+    private static final int SQLSTATE_CHARS = 36;  // 0-9, A-Z
+    
+    private static final Map<String, SqlErrorOutcome> BY_CLASS_NAME = new HashMap<>();
+    private static final SqlErrorOutcome[] BY_VENDOR_CODE = new SqlErrorOutcome[MAX_VENDOR_CODE];
+    private static final Map<String, SqlErrorOutcome> BY_SQLSTATE = new HashMap<>();
+    private static final SqlErrorOutcome[] BY_SQLSTATE_CLASS = new SqlErrorOutcome[SQLSTATE_CHARS * SQLSTATE_CHARS];
+    
+    static {
+        // AWS JDBC Wrapper
+        BY_CLASS_NAME.put("software.amazon.jdbc.plugin.failover.FailoverSuccessSQLException",
+            SqlErrorOutcome.FAILOVER_SUCCESS);
+        BY_CLASS_NAME.put("software.amazon.jdbc.plugin.failover.FailoverFailedSQLException",
+            SqlErrorOutcome.FAILOVER_FAILED);
+        BY_CLASS_NAME.put("software.amazon.jdbc.plugin.failover.TransactionStateUnknownSQLException",
+            SqlErrorOutcome.TRANSACTION_STATE_UNKNOWN);
+        // MySQL Connector/J
+        BY_CLASS_NAME.put("com.mysql.cj.jdbc.exceptions.CommunicationsException", SqlErrorOutcome.CONNECTION_LOST);
+        BY_CLASS_NAME.put("com.mysql.cj.exceptions.CJCommunicationsException", SqlErrorOutcome.CONNECTION_LOST);
+        BY_CLASS_NAME.put("com.mysql.cj.jdbc.exceptions.MySQLTimeoutException", SqlErrorOutcome.TIMEOUT);
+        BY_CLASS_NAME.put("com.mysql.cj.jdbc.exceptions.MySQLTransactionRollbackException",
+            SqlErrorOutcome.LOCK_CONFLICT);
+        // JDBC 4 subclasses
+        BY_CLASS_NAME.put("java.sql.SQLRecoverableException", SqlErrorOutcome.CONNECTION_LOST);
+        BY_CLASS_NAME.put("java.sql.SQLNonTransientConnectionException", SqlErrorOutcome.CONNECTION_LOST);
+        BY_CLASS_NAME.put("java.sql.SQLTimeoutException", SqlErrorOutcome.TIMEOUT);
+        BY_CLASS_NAME.put("java.sql.SQLTransactionRollbackException", SqlErrorOutcome.LOCK_CONFLICT);
+        
+        // Server: read-only instance
+        vendorCode(SqlErrorOutcome.READ_ONLY,
+            1290,   // ER_OPTION_PREVENTS_STATEMENT (--read-only / --super-read-only)
+            1792,   // ER_CANT_EXECUTE_IN_READ_ONLY_TRANSACTION
+            1836);  // ER_READ_ONLY_MODE
+        // Server: shutdown / connection aborted; client: connection lost
+        vendorCode(SqlErrorOutcome.CONNECTION_LOST,
+            1040,   // ER_CON_COUNT_ERROR
+            1047,   // ER_UNKNOWN_COM_ERROR
+            1053,   // ER_SERVER_SHUTDOWN
+            1077,   // ER_NORMAL_SHUTDOWN
+            1079,   // ER_SHUTDOWN_COMPLETE
+            1080,   // ER_FORCING_CLOSE
+            1152,   // ER_ABORTING_CONNECTION
+            1184,   // ER_NEW_ABORTING_CONNECTION
+            1927,   // ER_CONNECTION_KILLED
+            2002,   // CR_CONNECTION_ERROR
+            2003,   // CR_CONN_HOST_ERROR
+            2006,   // CR_SERVER_GONE_ERROR
+            2013,   // CR_SERVER_LOST
+            2055,   // CR_SERVER_LOST_EXTENDED
+            4031);  // ER_CLIENT_INTERACTION_TIMEOUT
+        vendorCode(SqlErrorOutcome.LOCK_CONFLICT,
+            1205,   // ER_LOCK_WAIT_TIMEOUT
+            1213);  // ER_LOCK_DEADLOCK
+        vendorCode(SqlErrorOutcome.TIMEOUT,
+            1317,   // ER_QUERY_INTERRUPTED
+            3024);  // ER_QUERY_TIMEOUT
+        
+        BY_SQLSTATE.put("08S02", SqlErrorOutcome.FAILOVER_SUCCESS);           // Wrapper: connection changed
+        BY_SQLSTATE.put("08007", SqlErrorOutcome.TRANSACTION_STATE_UNKNOWN);  // Transaction resolution unknown
+        BY_SQLSTATE.put("25006", SqlErrorOutcome.READ_ONLY);                  // Read-only SQL transaction
+        BY_SQLSTATE.put("HYT00", SqlErrorOutcome.TIMEOUT);
+        BY_SQLSTATE.put("HY008", SqlErrorOutcome.TIMEOUT);                    // Operation canceled
+        
+        BY_SQLSTATE_CLASS[sqlStateClassIndex("08")] = SqlErrorOutcome.CONNECTION_LOST;
+        BY_SQLSTATE_CLASS[sqlStateClassIndex("40")] = SqlErrorOutcome.LOCK_CONFLICT;
+    }
+    
+    // Hierarchy walk result per exception class (null = type alone does not decide)
+    private static final ClassValue<SqlErrorOutcome[]> BY_CLASS = new ClassValue<SqlErrorOutcome[]>() {
+        @Override
+        protected SqlErrorOutcome[] computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                SqlErrorOutcome outcome = BY_CLASS_NAME.get(c.getName());
+                if (outcome != null) {
+                    return new SqlErrorOutcome[] {outcome};
+                }
+            }
+            return new SqlErrorOutcome[] {null};
+        }
+    };
+    
+    private final LongAdder[] counts = new LongAdder[SqlErrorOutcome.values().length];
+    
+    public SqlErrorClassifier() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Classify without counting
+     */
+    public static SqlErrorOutcome classify(SQLException e) {
+        if (isPoolTimeout(e)) {
+            return SqlErrorOutcome.POOL_TIMEOUT;
+        }
+        Throwable current = e;
+        for (int depth = 0; current != null && depth <= MAX_CAUSE_DEPTH; depth++) {
+            SqlErrorOutcome outcome = BY_CLASS.get(current.getClass())[0];
+            if (outcome != null) {
+                return outcome;
+            }
+            if (current instanceof SQLException) {
+                outcome = byCodes((SQLException) current);
+                if (outcome != null) {
+                    return outcome;
+                }
+            }
+            Throwable cause = current.getCause();
+            current = cause != current ? cause : null;
+        }
+        return SqlErrorOutcome.OTHER;
+    }
+    
+    /**
+     * Connection pool acquisition timed out while the database itself reported nothing
+     */
+    private static boolean isPoolTimeout(SQLException e) {
+        return e.getClass() == SQLTransientConnectionException.class && e.getSQLState() == null && e.getCause() == null;
+    }
+    
+    /**
+     * Classify and count one failed operation (call once per failure)
+     */
+    public SqlErrorOutcome record(SQLException e) {
+        return record(e, 1);
+    }
+    
+    /**
+     * Classify one failure and count it as {@code operations} failed operations (e.g. the rows
+     * of a JDBC batch that were not applied), so counts match row-based failure counters
+     */
+    public SqlErrorOutcome record(SQLException e, int operations) {
+        SqlErrorOutcome outcome = classify(e);
+        counts[outcome.ordinal()].add(operations);
+        return outcome;
+    }
+    
+    public long getCount(SqlErrorOutcome outcome) {
+        return counts[outcome.ordinal()].sum();
+    }
+    
+    /**
+     * Count per outcome, in enum order (for status and report)
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (SqlErrorOutcome outcome : SqlErrorOutcome.values()) {
+            result.put(outcome.name(), counts[outcome.ordinal()].sum());
+        }
+        return result;
+    }
+    
+    /**
+     * Reset counters (call only while no load threads are recording)
+     */
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+    }
+    
+    private static SqlErrorOutcome byCodes(SQLException e) {
+        int code = e.getErrorCode();
+        if (code > 0 && code < MAX_VENDOR_CODE && BY_VENDOR_CODE[code] != null) {
+            return BY_VENDOR_CODE[code];
+        }
+        String state = e.getSQLState();
+        if (state == null || state.length() < 2) {
+            return null;
+        }
+        SqlErrorOutcome outcome = BY_SQLSTATE.get(state);
+        if (outcome != null) {
+            return outcome;
+        }
+        int index = sqlStateClassIndex(state);
+        return index >= 0 ? BY_SQLSTATE_CLASS[index] : null;
+    }
+    
+    private static int sqlStateClassIndex(String state) {
+        int high = sqlStateChar(state.charAt(0));
+        int low = sqlStateChar(state.charAt(1));
+        return high < 0 || low < 0 ? -1 : high * SQLSTATE_CHARS + low;
+    }
+    
+    private static int sqlStateChar(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return 10 + c - 'A';
+        }
+        return -1;
+    }
+    
+    private static void vendorCode(SqlErrorOutcome outcome, int... codes) {
+        for (int code : codes) {
+            BY_VENDOR_CODE[code] = outcome;
+        }
+    }
+}
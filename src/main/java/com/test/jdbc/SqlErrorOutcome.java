@@ -0,0 +1,40 @@
+package com.test.jdbc;
+
+/**
+ * What a failed JDBC operation means for a load thread, as decided by {@link SqlErrorClassifier}
+ */
+public enum SqlErrorOutcome {
+    
+    /** Wrapper failed over and switched the connection; the operation can be retried on it */
+    FAILOVER_SUCCESS(true),
+    /** Wrapper could not fail over; the connection is unusable */
+    FAILOVER_FAILED(true),
+    /** Connection switched while a transaction was open; its outcome is unknown */
+    TRANSACTION_STATE_UNKNOWN(true),
+    /** Connection dropped, server shut down or unreachable (SQLState class 08, 2006/2013/1053...) */
+    CONNECTION_LOST(true),
+    /** Write reached a read-only instance (old blue writer, demoted writer, reader) */
+    READ_ONLY(false),
+    /** Deadlock or lock wait timeout (SQLState class 40, 1213/1205) */
+    LOCK_CONFLICT(false),
+    /** Statement or network timeout */
+    TIMEOUT(false),
+    /** No pooled connection within the pool's connection timeout (pool drained, database not asked) */
+    POOL_TIMEOUT(false),
+    /** Anything else (syntax, constraint, data errors...) */
+    OTHER(false);
+    
+    private final boolean connectionEvent;
+    
+    SqlErrorOutcome(boolean connectionEvent) {
+        this.connectionEvent = connectionEvent;
+    }
+    
+    /**
+     * Whether the connection was switched or lost - the load thread counts a failover and
+     * reconnects (or re-resolves its endpoint)
+     */
+    public boolean isConnectionEvent() {
+        return connectionEvent;
+    }
+}
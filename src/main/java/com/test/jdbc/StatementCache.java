@@ -0,0 +1,85 @@
+package com.test.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-connection prepared statement cache for load threads
+ *  
+ * Each SQL string is prepared once per connection and reused for every following
+ * write, so the hot loop does not parse SQL or allocate statements. The cache is bound
+ * to one connection object; when a load thread replaces its connection (reconnect after
+ * failover) it must drop the cache and build a new one for the new connection.
+ *  
+ * Whether statements are client-side or server-side is decided by the driver property
+ * useServerPrepStmts on the connection. Not thread-safe - owned by one load thread.
+ */
+public final class StatementCache implements AutoCloseable {
+    
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private int prepared = 0;
+    
+    public StatementCache(Connection connection) {
+        this.connection = connection;
+    }
+    
+    /**
+     * Return the cached statement for the SQL, preparing it on first use
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+            prepared++;
+        }
+        return statement;
+    }
+    
+    /**
+     * Return the cached statement for the SQL, preparing it on first use with the given
+     * generated-keys flag (a SQL string must always be requested with the same flag)
+     */
+    public PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql, autoGeneratedKeys);
+            statements.put(sql, statement);
+            prepared++;
+        }
+        return statement;
+    }
+    
+    /**
+     * Whether this cache belongs to the given connection
+     */
+    public boolean isFor(Connection conn) {
+        return connection == conn;
+    }
+    
+    /**
+     * Number of statements prepared by this cache
+     */
+    public int getPrepared() {
+        return prepared;
+    }
+    
+    /**
+     * Close all cached statements (errors ignored - the connection may already be gone)
+     */
+    @Override
+    public void close() {
+        for (PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // Ignore - statement handle may be invalid after failover
+            }
+        }
+        statements.clear();
+    }
+}
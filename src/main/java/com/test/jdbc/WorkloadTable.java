@@ -0,0 +1,154 @@
+package com.test.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL and key range of one table used by declarative workloads
+ * 
+ * Statement texts are built once per test, so load threads prepare each of them once per
+ * connection ({@link StatementCache}). Keys for point operations are drawn uniformly from
+ * the id range loaded at test start and extended by the workload's own inserts; ids that
+ * were deleted simply match no row.
+ * 
+ * Thread-safe: the key range is shared by all load threads.
+ */
+public final class WorkloadTable {
+    
+    private final String name;
+    private final boolean payloadColumn;  // data TEXT (write test table) vs name VARCHAR (test_table)
+    private final String createSql;
+    private final String selectByIdSql;
+    private final String rangeScanSql;
+    private final String insertSql;
+    private final String updateSql;
+    private final String deleteSql;
+    private final String selectForUpdateSql;
+    private final AtomicLong lowestId = new AtomicLong(1);
+    private final AtomicLong highestId = new AtomicLong(0);
+    
+    private WorkloadTable(String name, boolean payloadColumn, String createSql, String columns,
+                          String insertSql, String updateSql) {
+        this.name = name;
+        this.payloadColumn = payloadColumn;
+        this.createSql = createSql;
+        this.selectByIdSql = "SELECT " + columns + " FROM " + name + " WHERE id = ?";
+        this.rangeScanSql = "SELECT " + columns + " FROM " + name + " WHERE id >= ? ORDER BY id LIMIT ?";
+        this.insertSql = insertSql;
+        this.updateSql = updateSql;
+        this.deleteSql = "DELETE FROM " + name + " WHERE id = ?";
+        this.selectForUpdateSql = "SELECT " + columns + " FROM " + name + " WHERE id = ? FOR UPDATE";
+    }
+    
+    /**
+     * The persistent write test table (&lt;prefix&gt;_bg_write_test)
+     * Workload inserts leave stream_id/seq NULL - only the write tests are verified
+     */
+    public static WorkloadTable writeTest(String tablePrefix) {
+        String table = tablePrefix + "_bg_write_test";
+        return new WorkloadTable(table, true,
+            "CREATE TABLE IF NOT EXISTS " + table + " (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "thread_id INT NOT NULL, " +
+                "endpoint VARCHAR(255), " +
+                "write_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                "data TEXT, " +
+                "stream_id BIGINT NULL, " +
+                "seq BIGINT NULL, " +
+                "INDEX idx_thread (thread_id), " +
+                "INDEX idx_time (write_time), " +
+                "INDEX idx_stream_seq (stream_id, thread_id, seq)" +
+                ") ENGINE=InnoDB",
+            "id, thread_id, endpoint, write_time, data",
+            "INSERT INTO " + table + " (thread_id, endpoint, write_time, data) VALUES (?, ?, NOW(), ?)",
+            "UPDATE " + table + " SET endpoint = ?, write_time = NOW(), data = ? WHERE id = ?");
+    }
+    
+    /**
+     * The application table used by the User API (test_table)
+     */
+    public static WorkloadTable testTable() {
+        return new WorkloadTable("test_table", false,
+            "CREATE TABLE IF NOT EXISTS test_table (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "name VARCHAR(255) NOT NULL, " +
+                "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                ") ENGINE=InnoDB",
+            "id, name, created_at",
+            "INSERT INTO test_table (name) VALUES (?)",
+            "UPDATE test_table SET name = ? WHERE id = ?");
+    }
+    
+    /**
+     * Create the table if missing and load its current id range
+     */
+    public void prepare(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(createSql);
+            try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MIN(id), 1), COALESCE(MAX(id), 0) FROM " + name)) {
+                if (rs.next()) {
+                    lowestId.set(rs.getLong(1));
+                    highestId.set(rs.getLong(2));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Random existing id (0 while the table is empty - matches no row)
+     */
+    public long randomId() {
+        long low = lowestId.get();
+        long high = highestId.get();
+        return high >= low ? ThreadLocalRandom.current().nextLong(low, high + 1) : 0;
+    }
+    
+    /**
+     * Extend the key range with an id generated by an insert
+     */
+    public void inserted(long id) {
+        highestId.accumulateAndGet(id, Math::max);
+    }
+    
+    /**
+     * Bind the INSERT (threadId/endpoint are only stored by the write test table)
+     */
+    public void bindInsert(PreparedStatement ps, int threadId, String endpoint, byte[] payload) throws SQLException {
+        if (payloadColumn) {
+            ps.setInt(1, threadId);
+            ps.setString(2, endpoint);
+            ps.setBytes(3, payload);
+        } else {
+            ps.setBytes(1, payload);
+        }
+    }
+    
+    /**
+     * Bind the UPDATE of one row
+     */
+    public void bindUpdate(PreparedStatement ps, long id, String endpoint, byte[] payload) throws SQLException {
+        if (payloadColumn) {
+            ps.setString(1, endpoint);
+            ps.setBytes(2, payload);
+            ps.setLong(3, id);
+        } else {
+            ps.setBytes(1, payload);
+            ps.setLong(2, id);
+        }
+    }
+    
+    public String getName() { return name; }
+    /** Whether rows carry the configured payload (otherwise a short label fits the column) */
+    public boolean hasPayloadColumn() { return payloadColumn; }
+    public String getSelectByIdSql() { return selectByIdSql; }
+    public String getRangeScanSql() { return rangeScanSql; }
+    public String getInsertSql() { return insertSql; }
+    public String getUpdateSql() { return updateSql; }
+    public String getDeleteSql() { return deleteSql; }
+    public String getSelectForUpdateSql() { return selectForUpdateSql; }
+}
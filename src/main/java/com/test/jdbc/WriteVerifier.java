@@ -0,0 +1,395 @@
+package com.test.jdbc;
+
+import com.test.metrics.WriteLedger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-loss and duplicate detector of one write test
+ * 
+ * Every row the write test inserts carries the test's stream id and the writer thread's
+ * sequence number (columns stream_id/seq of &lt;prefix&gt;_bg_write_test; the table is shared by
+ * all runs and tests, the random stream id keeps them apart). What the client was told about
+ * each sequence is kept in a {@link WriteLedger} per writer thread. A verification pass
+ * compares the table with the ledgers without reading rows into the heap: per writer, ranges
+ * of {@link #RANGE_SEQUENCES} sequences are checked with one aggregate query over the
+ * (stream_id, thread_id, seq) index - row count, distinct count, sum of seq and sum of seq²
+ * must equal the ledger's. The sum of squares is an independent second checksum: a lost and
+ * an extra sequence that cancel out in the sum do not also cancel out in the squares. Only a
+ * range that does not match is split in halves down to {@link #LEAF_SEQUENCES} sequences,
+ * which are then read as (seq, count) pairs and classified:
+ * 
+ * - lost: acknowledged, but no row
+ * - duplicated: more than one row for a sequence
+ * - in doubt: the connection failed while the write was in flight; reported as committed
+ *   or not committed - both are correct outcomes, but the client could not know
+ * - unacknowledged committed: reported as failed, but the row exists
+ * 
+ * A clean table therefore costs one indexed range query per 100,000 writes, once: each writer
+ * keeps a watermark below which its ranges were verified, and later passes only check new
+ * sequences plus the ranges that had in-doubt, failed or mismatching sequences. When a pass
+ * reaches a different server than the previous one (e.g. green after a switchover), every
+ * range is checked again.
+ * 
+ * Passes are serialized; the ledgers are safe to update while a pass runs (it only checks
+ * sequences that had an outcome when it started).
+ */
+public final class WriteVerifier {
+    
+    private static final Logger log = LoggerFactory.getLogger(WriteVerifier.class);
+    
+    /** Sequences checked by one aggregate query when the range is clean */
+    public static final int RANGE_SEQUENCES = 100_000;
+    /** Ranges this small are read per sequence instead of being split further */
+    public static final int LEAF_SEQUENCES = 1_024;
+    /** Examples of lost/duplicated sequences kept for the report */
+    public static final int MAX_EXAMPLES = 20;
+    
+    private final DataSource dataSource;
+    private final String tableName;
+    private final long streamId;
+    private final ConcurrentMap<Integer, WriteLedger> ledgers = new ConcurrentHashMap<>();
+    private final AtomicLong passes = new AtomicLong();
+    private final Map<Integer, Progress> progress = new HashMap<>();  // Guarded by this
+    private String verifiedServer;  // Guarded by this
+    private final String aggregateSql;
+    private final String leafSql;
+    private volatile boolean tablePrepared;
+    private volatile boolean running;
+    private volatile Result lastResult;
+    
+    public WriteVerifier(DataSource dataSource, String tableName) {
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+        this.streamId = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+        String where = " FROM " + tableName + " WHERE stream_id = ? AND thread_id = ? AND seq >= ? AND seq < ?";
+        this.aggregateSql = "SELECT COUNT(*), COUNT(DISTINCT seq), COALESCE(SUM(seq), 0), COALESCE(SUM(seq * seq), 0)"
+            + where;
+        this.leafSql = "SELECT seq, COUNT(*)" + where + " GROUP BY seq";
+    }
+    
+    /**
+     * Add the stream_id/seq columns to a table created before they existed (once per test)
+     */
+    public synchronized void prepareTable(Connection conn) throws SQLException {
+        if (tablePrepared) {
+            return;
+        }
+        DatabaseMetaData meta = conn.getMetaData();
+        boolean hasSeq;
+        try (ResultSet rs = meta.getColumns(conn.getCatalog(), null, tableName, "seq")) {
+            hasSeq = rs.next();
+        }
+        if (!hasSeq) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ALTER TABLE " + tableName + " ADD COLUMN stream_id BIGINT NULL, "
+                    + "ADD COLUMN seq BIGINT NULL, ADD INDEX idx_stream_seq (stream_id, thread_id, seq)");
+            }
+            log.info("✅ Added stream_id/seq columns to {} for write verification", tableName);
+        }
+        tablePrepared = true;
+    }
+    
+    /**
+     * Ledger of one writer thread
+     */
+    public WriteLedger ledger(int threadId) {
+        return ledgers.computeIfAbsent(threadId, id -> new WriteLedger());
+    }
+    
+    public long getStreamId() { return streamId; }
+    public String getTableName() { return tableName; }
+    public boolean isRunning() { return running; }
+    public long getPasses() { return passes.get(); }
+    /** Most recent completed pass (null if none) */
+    public Result getLastResult() { return lastResult; }
+    
+    /**
+     * Client-side totals of all writers: acknowledged, in doubt, failed, ledger bytes
+     */
+    public long[] ledgerTotals() {
+        long[] totals = new long[4];
+        for (WriteLedger ledger : ledgers.values()) {
+            totals[0] += ledger.getAcknowledged();
+            totals[1] += ledger.getInDoubt();
+            totals[2] += ledger.getFailed();
+            totals[3] += ledger.getBitmapBytes();
+        }
+        return totals;
+    }
+    
+    /**
+     * Check the resolved sequences of every writer against the table (skipping ranges that an
+     * earlier pass verified clean on the same server)
+     * 
+     * @param trigger Why the pass runs (logged and reported)
+     */
+    public synchronized Result verify(String trigger) {
+        running = true;
+        long start = System.currentTimeMillis();
+        Tally tally = new Tally();
+        String error = null;
+        Map<Integer, WriteLedger> writers = new TreeMap<>(ledgers);
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement aggregate = conn.prepareStatement(aggregateSql);
+             PreparedStatement leaf = conn.prepareStatement(leafSql)) {
+            String server = server(conn);
+            if (!server.equals(verifiedServer)) {
+                // Rows verified on another server say nothing about this one
+                progress.clear();
+                verifiedServer = server;
+            }
+            for (Map.Entry<Integer, WriteLedger> writer : writers.entrySet()) {
+                int threadId = writer.getKey();
+                WriteLedger ledger = writer.getValue();
+                Progress done = progress.computeIfAbsent(threadId, id -> new Progress());
+                List<long[]> recheck = new ArrayList<>();
+                long clean = tally.clean;
+                for (long[] range : done.recheck) {
+                    checkRange(aggregate, leaf, threadId, ledger, range[0], range[1], tally, recheck);
+                }
+                long end = ledger.getResolved();
+                for (long from = done.verifiedTo; from < end; from += RANGE_SEQUENCES) {
+                    checkRange(aggregate, leaf, threadId, ledger, from, Math.min(from + RANGE_SEQUENCES, end),
+                        tally, recheck);
+                }
+                // Only advanced once the writer's checks all completed
+                tally.verifiedEarlier += done.clean;
+                done.clean += tally.clean - clean;
+                done.recheck = recheck;
+                done.verifiedTo = Math.max(done.verifiedTo, end);
+            }
+        } catch (SQLException e) {
+            error = e.getMessage();
+            log.warn("⚠️  Write verification ({}) aborted: {}", trigger, e.getMessage());
+        } finally {
+            running = false;
+        }
+        Result result = new Result(trigger, start, System.currentTimeMillis() - start, writers.size(), tally, error);
+        lastResult = result;
+        passes.incrementAndGet();
+        return result;
+    }
+    
+    /**
+     * Check [from, to) of one writer
+     * 
+     * @param recheck Collects the ranges the next pass has to check again (in-doubt, failed or
+     *                mismatching sequences); fully acknowledged clean ranges are counted in
+     *                {@link Tally#clean} instead
+     */
+    private void checkRange(PreparedStatement aggregate, PreparedStatement leaf, int threadId, WriteLedger ledger,
+                            long from, long to, Tally tally, List<long[]> recheck) throws SQLException {
+        long[] expected = ledger.expected(from, to);
+        long acknowledged = expected[0];
+        long inDoubt = expected[3];
+        long rows;
+        long distinct;
+        long sum;
+        long squares;
+        bind(aggregate, threadId, from, to);
+        tally.queries++;
+        try (ResultSet rs = aggregate.executeQuery()) {
+            rs.next();
+            rows = rs.getLong(1);
+            distinct = rs.getLong(2);
+            sum = rs.getLong(3);
+            // SUM of BIGINT is a DECIMAL: compare its low 64 bits with the ledger's wrapped sum
+            squares = rs.getBigDecimal(4).toBigInteger().longValue();
+        }
+        tally.checked += acknowledged + inDoubt;
+        if (inDoubt == 0 && rows == distinct && distinct == acknowledged && sum == expected[1]
+                && squares == expected[2]) {
+            // Every acknowledged write exactly once, nothing else
+            if (acknowledged == to - from) {
+                tally.clean += acknowledged;
+            } else {
+                recheck.add(new long[] {from, to});  // Failed writes - must stay absent
+            }
+            return;
+        }
+        if (rows == 0) {
+            recheck.add(new long[] {from, to});
+            // Whole range missing - no need to look at single sequences
+            tally.lost += acknowledged;
+            tally.inDoubt += inDoubt;
+            for (long seq = from; seq < to && acknowledged > 0 && tally.examples.size() < MAX_EXAMPLES; seq++) {
+                if (ledger.isAcknowledged(seq)) {
+                    tally.example(threadId, seq, "lost");
+                }
+            }
+            return;
+        }
+        if (to - from > LEAF_SEQUENCES) {
+            tally.checked -= acknowledged + inDoubt;  // Counted again by the halves
+            long mid = from + (to - from) / 2;
+            checkRange(aggregate, leaf, threadId, ledger, from, mid, tally, recheck);
+            checkRange(aggregate, leaf, threadId, ledger, mid, to, tally, recheck);
+            return;
+        }
+        recheck.add(new long[] {from, to});
+        int[] counts = new int[(int) (to - from)];
+        bind(leaf, threadId, from, to);
+        tally.queries++;
+        try (ResultSet rs = leaf.executeQuery()) {
+            while (rs.next()) {
+                counts[(int) (rs.getLong(1) - from)] = rs.getInt(2);
+            }
+        }
+        for (long seq = from; seq < to; seq++) {
+            int count = counts[(int) (seq - from)];
+            if (count > 1) {
+                tally.duplicatedSequences++;
+                tally.duplicateRows += count - 1;
+                tally.example(threadId, seq, count + " rows");
+            }
+            if (ledger.isAcknowledged(seq)) {
+                if (count == 0) {
+                    tally.lost++;
+                    tally.example(threadId, seq, "lost");
+                }
+            } else if (ledger.isInDoubt(seq)) {
+                tally.inDoubt++;
+                if (count > 0) {
+                    tally.inDoubtCommitted++;
+                }
+            } else if (count > 0) {
+                tally.unacknowledgedCommitted++;
+                tally.example(threadId, seq, "failed but committed");
+            }
+        }
+    }
+    
+    private static String server(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT @@hostname")) {
+            return rs.next() ? String.valueOf(rs.getString(1)) : "";
+        }
+    }
+    
+    private void bind(PreparedStatement ps, int threadId, long from, long to) throws SQLException {
+        ps.setLong(1, streamId);
+        ps.setInt(2, threadId);
+        ps.setLong(3, from);
+        ps.setLong(4, to);
+    }
+    
+    /**
+     * What earlier passes verified of one writer (guarded by the verifier)
+     */
+    private static final class Progress {
+        long verifiedTo;                          // Sequences below were checked by a pass
+        long clean;                               // Acknowledged writes of clean ranges below verifiedTo
+        List<long[]> recheck = new ArrayList<>(); // Ranges below verifiedTo to check again
+    }
+    
+    /**
+     * Counters of one pass (owned by the verifying thread)
+     */
+    private static final class Tally {
+        long checked;
+        long clean;
+        long verifiedEarlier;
+        long lost;
+        long duplicatedSequences;
+        long duplicateRows;
+        long inDoubt;
+        long inDoubtCommitted;
+        long unacknowledgedCommitted;
+        long queries;
+        final List<String> examples = new ArrayList<>();
+        
+        void example(int threadId, long seq, String what) {
+            if (examples.size() < MAX_EXAMPLES) {
+                examples.add("thread " + threadId + " seq " + seq + ": " + what);
+            }
+        }
+    }
+    
+    /**
+     * Outcome of one verification pass
+     */
+    public static final class Result {
+        private final String trigger;
+        private final long startMillis;
+        private final long durationMillis;
+        private final int writers;
+        private final long checked;
+        private final long verifiedEarlier;
+        private final long lost;
+        private final long duplicatedSequences;
+        private final long duplicateRows;
+        private final long inDoubt;
+        private final long inDoubtCommitted;
+        private final long unacknowledgedCommitted;
+        private final long queries;
+        private final List<String> examples;
+        private final String error;
+        
+        Result(String trigger, long startMillis, long durationMillis, int writers, Tally tally, String error) {
+            this.trigger = trigger;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.writers = writers;
+            this.checked = tally.checked;
+            this.verifiedEarlier = tally.verifiedEarlier;
+            this.lost = tally.lost;
+            this.duplicatedSequences = tally.duplicatedSequences;
+            this.duplicateRows = tally.duplicateRows;
+            this.inDoubt = tally.inDoubt;
+            this.inDoubtCommitted = tally.inDoubtCommitted;
+            this.unacknowledgedCommitted = tally.unacknowledgedCommitted;
+            this.queries = tally.queries;
+            this.examples = Collections.unmodifiableList(tally.examples);
+            this.error = error;
+        }
+        
+        public String getTrigger() { return trigger; }
+        public long getStartMillis() { return startMillis; }
+        public long getDurationMillis() { return durationMillis; }
+        public int getWriters() { return writers; }
+        /** Sequences with a known outcome that were checked (acknowledged + in doubt) */
+        public long getChecked() { return checked; }
+        /** Acknowledged writes of ranges an earlier pass verified clean (not queried again) */
+        public long getVerifiedEarlier() { return verifiedEarlier; }
+        /** Acknowledged writes without a row */
+        public long getLost() { return lost; }
+        /** Sequences with more than one row */
+        public long getDuplicatedSequences() { return duplicatedSequences; }
+        /** Rows beyond the first of duplicated sequences */
+        public long getDuplicateRows() { return duplicateRows; }
+        /** Writes whose outcome the client could not know */
+        public long getInDoubt() { return inDoubt; }
+        /** In-doubt writes that were committed (the rest were not) */
+        public long getInDoubtCommitted() { return inDoubtCommitted; }
+        /** Writes reported as failed that were committed anyway */
+        public long getUnacknowledgedCommitted() { return unacknowledgedCommitted; }
+        public long getQueries() { return queries; }
+        /** Up to {@link #MAX_EXAMPLES} offending sequences */
+        public List<String> getExamples() { return examples; }
+        /** Why the pass was aborted (null if it completed) */
+        public String getError() { return error; }
+        
+        public boolean isClean() {
+            return error == null && lost == 0 && duplicatedSequences == 0 && unacknowledgedCommitted == 0;
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.test.jdbc.fake;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One simulated Aurora cluster of the fake driver: instances, roles, timeline and data
+ * 
+ * A cluster is created by the first connection with its clusterId (URL parameter, default
+ * "fake"); later URLs with the same clusterId - reader endpoint, instance endpoints - join it
+ * and their other parameters are ignored. Instance i (1..n) is reached at
+ * {@code <cluster>-instance-<i>}; the cluster endpoint (host containing ".cluster-") follows the
+ * writer, the reader endpoint (".cluster-ro-") picks the readers round-robin. Instance 1 starts
+ * as the writer; each failover promotes the next instance. @@hostname is ip-10-&lt;generation&gt;-0-&lt;i&gt;
+ * and the generation changes with every switchover (the green instances take over).
+ * 
+ * The timeline is evaluated lazily: each operation compares the elapsed time with the script,
+ * so no thread drives it and a paused application sees the events in order when it resumes.
+ * Drops and topology changes are counted; a connection that has seen fewer of them than the
+ * cluster fails once, like a connection of the AWS JDBC Wrapper after a failover.
+ */
+public final class FakeCluster {
+    
+    private static final Logger log = LoggerFactory.getLogger(FakeCluster.class);
+    
+    private static final ConcurrentMap<String, FakeCluster> CLUSTERS = new ConcurrentHashMap<>();
+    
+    private final String name;
+    private final int instances;
+    private final long seed;
+    private final LatencyModel readLatency;
+    private final LatencyModel writeLatency;
+    private final LatencyModel connectLatency;
+    private final LatencyModel replicaLag;
+    private final double inDoubtCommitRatio;
+    private final FakeDatabase database;
+    private final AtomicLong connectionIds = new AtomicLong();
+    private final AtomicInteger nextReader = new AtomicInteger();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder connects = new LongAdder();
+    private final Map<String, LongAdder> injected = new ConcurrentHashMap<>();
+    
+    // Timeline: counts of completed events before the last re-arm plus the current script
+    private volatile Timeline timeline;
+    
+    private FakeCluster(String name, Map<String, String> params, String database) {
+        this.name = name;
+        this.instances = 1 + Integer.parseInt(params.getOrDefault("readers", "1"));
+        this.seed = Long.parseLong(params.getOrDefault("seed", "42"));
+        this.readLatency = LatencyModel.parse(params.getOrDefault("readLatency", "fixed:0.5"));
+        this.writeLatency = LatencyModel.parse(params.getOrDefault("writeLatency", "fixed:1"));
+        this.connectLatency = LatencyModel.parse(params.getOrDefault("connectLatency", "fixed:2"));
+        this.replicaLag = LatencyModel.parse(params.getOrDefault("replicaLag", "fixed:15"));
+        this.inDoubtCommitRatio = Double.parseDouble(params.getOrDefault("inDoubtCommit", "0.5"));
+        if (instances < 1 || instances > 16) {
+            throw new IllegalArgumentException("readers must be between 0 and 15");
+        }
+        this.database = new FakeDatabase(database);
+        this.timeline = new Timeline(FakeScript.parse(params.get("script")), System.nanoTime(), 0, 0, 0);
+    }
+    
+    /**
+     * Cluster of a URL (created with its parameters on first use)
+     */
+    static FakeCluster of(Map<String, String> params, String database) {
+        String id = params.getOrDefault("clusterId", "fake");
+        return CLUSTERS.computeIfAbsent(id, key -> {
+            FakeCluster cluster = new FakeCluster(key, params, database);
+            log.info("🧪 Fake cluster '{}': {} instance(s), seed {}, read {} / write {} / connect {} ms, "
+                + "replica lag {} ms, script: {}", key, cluster.instances, cluster.seed, cluster.readLatency,
+                cluster.writeLatency, cluster.connectLatency, cluster.replicaLag,
+                cluster.timeline.script.getEvents().isEmpty() ? "none" : cluster.timeline.script);
+            return cluster;
+        });
+    }
+    
+    /**
+     * Every cluster created in this JVM
+     */
+    public static Collection<FakeCluster> clusters() {
+        return Collections.unmodifiableCollection(CLUSTERS.values());
+    }
+    
+    /**
+     * Restart the timeline now, with a new script (null = the current one again)
+     */
+    public synchronized void rearm(String script) {
+        Timeline current = timeline;
+        long now = System.nanoTime();
+        FakeScript next = script != null ? FakeScript.parse(script) : current.script;
+        timeline = new Timeline(next, now, current.drops(now), current.failovers(now), current.switchovers(now));
+        log.info("🧪 Fake cluster '{}': timeline re-armed, script: {}", name,
+            next.getEvents().isEmpty() ? "none" : next);
+    }
+    
+    // ---------------------------------------------------------------- connections
+    
+    /**
+     * Open a connection to a host of this cluster (cluster, reader or instance endpoint)
+     */
+    FakeConnection connect(String host, String url, String user) throws SQLException {
+        long id = connectionIds.incrementAndGet();
+        Random random = new Random(seed * 0x9E3779B97F4A7C15L + id);
+        park(connectLatency.sampleNanos(random));
+        long now = System.nanoTime();
+        Timeline t = timeline;
+        logTransitions(t, now);
+        String h = host.toLowerCase(Locale.ROOT);
+        boolean followsWriter;
+        int instance;
+        if (h.contains(".cluster-ro-")) {
+            followsWriter = false;
+            instance = readerInstance(t.writer(now, instances));
+        } else if (h.contains(".cluster-") || h.equals(name.toLowerCase(Locale.ROOT))) {
+            followsWriter = true;
+            instance = t.writer(now, instances);
+        } else if (h.startsWith(name.toLowerCase(Locale.ROOT) + "-instance-")) {
+            followsWriter = false;
+            try {
+                instance = Integer.parseInt(h.substring(h.lastIndexOf('-') + 1)) - 1;
+            } catch (NumberFormatException e) {
+                instance = -1;
+            }
+            if (instance < 0 || instance >= instances) {
+                throw unknownHost(host);
+            }
+        } else {
+            throw unknownHost(host);
+        }
+        if (t.unavailable(now, instance == t.writer(now, instances))) {
+            count("connect refused");
+            throw new SQLNonTransientConnectionException("Communications link failure: instance "
+                + instanceEndpoint(instance) + " is not available (fake driver)", "08001");
+        }
+        connects.increment();
+        return new FakeConnection(this, id, instance, followsWriter, t.drops(now), t.topology(now), random, url, user);
+    }
+    
+    private int readerInstance(int writer) {
+        if (instances == 1) {
+            return writer;
+        }
+        int n = Math.floorMod(nextReader.getAndIncrement(), instances - 1);
+        return n >= writer ? n + 1 : n;
+    }
+    
+    private SQLException unknownHost(String host) {
+        return new SQLNonTransientConnectionException("Communications link failure: unknown host " + host
+            + " (fake cluster '" + name + "' has " + name + "-instance-1.." + instances
+            + ", *.cluster-* and *.cluster-ro-* endpoints)", "08001");
+    }
+    
+    // ---------------------------------------------------------------- timeline
+    
+    /**
+     * Failure to inject before a statement of this connection (null = none), updating its view
+     * 
+     * Blocks while a failover is in progress on the connection's writer.
+     */
+    SQLException beforeStatement(FakeConnection conn, boolean write) {
+        long now = System.nanoTime();
+        Timeline t = timeline;
+        logTransitions(t, now);
+        if (t.drops(now) > conn.seenDrops) {
+            count("connection dropped");
+            return conn.broken("Communications link failure\n\nThe last packet successfully received from "
+                + "the server was " + conn.idleMillis() + " milliseconds ago (fake driver: connection dropped)");
+        }
+        long failoverEnd = t.failoverEnd(now);
+        if (failoverEnd > now && conn.instance == t.writer(now, instances)) {
+            park(failoverEnd - now);  // The wrapper fails over inside the call
+            now = System.nanoTime();
+        }
+        long topology = t.topology(now);
+        if (topology > conn.seenTopology) {
+            conn.seenTopology = topology;
+            if (conn.followsWriter) {
+                conn.instance = t.writer(now, instances);
+            }
+            count("connection changed");
+            log.debug("Fake cluster '{}': connection {} changed to {}", name, conn.id, hostname(conn.instance, now));
+            return conn.changed();
+        }
+        if (write && (conn.instance != t.writer(now, instances) || t.readOnly(now))) {
+            count("read-only");
+            return new SQLException("The MySQL server is running with the --read-only option so it cannot "
+                + "execute this statement", "HY000", 1290);
+        }
+        return null;
+    }
+    
+    /**
+     * Whether the connection was dropped while its statement was in flight
+     */
+    boolean droppedSince(FakeConnection conn) {
+        return timeline.drops(System.nanoTime()) > conn.seenDrops;
+    }
+    
+    boolean commitInDoubt(Random random) {
+        count("in-doubt write");
+        return random.nextDouble() < inDoubtCommitRatio;
+    }
+    
+    boolean isWriter(int instance) {
+        return instance == timeline.writer(System.nanoTime(), instances);
+    }
+    
+    String hostname(int instance, long now) {
+        return "ip-10-" + timeline.switchovers(now) + "-0-" + (instance + 1);
+    }
+    
+    String instanceEndpoint(int instance) {
+        return name + "-instance-" + (instance + 1);
+    }
+    
+    long visibleNanos(int instance, Random random) {
+        long now = System.nanoTime();
+        return isWriter(instance) ? now : now - replicaLag.sampleNanos(random);
+    }
+    
+    LatencyModel latency(boolean write) {
+        return write ? writeLatency : readLatency;
+    }
+    
+    FakeDatabase database() {
+        return database;
+    }
+    
+    void statementExecuted() {
+        statements.increment();
+    }
+    
+    /**
+     * Log each scripted event once when it starts and once when it ends (as first observed)
+     */
+    private void logTransitions(Timeline t, long now) {
+        long elapsed = now - t.startNanos;
+        List<FakeScript.Event> events = t.script.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            FakeScript.Event event = events.get(i);
+            int state = elapsed < event.getOffsetNanos() ? 0 : elapsed < event.getEndNanos() ? 1 : 2;
+            int logged = t.logged.get(i);
+            if (state > logged && t.logged.compareAndSet(i, logged, state)) {
+                if (logged == 0) {
+                    log.info("🧪 Fake cluster '{}': {} started", name, event);
+                }
+                if (state == 2) {
+                    log.info("🧪 Fake cluster '{}': {} done - writer {}, hostnames ip-10-{}-0-*", name, event,
+                        instanceEndpoint(t.writer(now, instances)), t.switchovers(now));
+                }
+            }
+        }
+    }
+    
+    private void count(String kind) {
+        injected.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+    
+    static void park(long nanos) {
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+    
+    /**
+     * Current state for /api/fake
+     */
+    public Map<String, Object> describe() {
+        long now = System.nanoTime();
+        Timeline t = timeline;
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("cluster", name);
+        map.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(now - t.startNanos));
+        map.put("script", t.script.toString());
+        List<Map<String, Object>> events = new ArrayList<>();
+        for (FakeScript.Event event : t.script.getEvents()) {
+            Map<String, Object> e = new LinkedHashMap<>();
+            e.put("event", event.toString());
+            long elapsed = now - t.startNanos;
+            e.put("state", elapsed < event.getOffsetNanos() ? "pending"
+                : elapsed < event.getEndNanos() ? "active" : "done");
+            events.add(e);
+        }
+        map.put("events", events);
+        List<Map<String, Object>> list = new ArrayList<>();
+        int writer = t.writer(now, instances);
+        for (int i = 0; i < instances; i++) {
+            Map<String, Object> instance = new LinkedHashMap<>();
+            instance.put("endpoint", instanceEndpoint(i));
+            instance.put("hostname", hostname(i, now));
+            instance.put("role", i == writer ? "WRITER" : "READER");
+            list.add(instance);
+        }
+        map.put("instances", list);
+        map.put("readOnly", t.readOnly(now));
+        map.put("drops", t.drops(now));
+        map.put("failovers", t.failovers(now));
+        map.put("switchovers", t.switchovers(now));
+        map.put("connects", connects.sum());
+        map.put("statements", statements.sum());
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, LongAdder> entry : injected.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        map.put("injected", counts);
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("read", readLatency.toString());
+        latency.put("write", writeLatency.toString());
+        latency.put("connect", connectLatency.toString());
+        latency.put("replicaLag", replicaLag.toString());
+        map.put("latencyMs", latency);
+        return map;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Immutable script + start time; event counts are derived from the elapsed time
+     */
+    private static final class Timeline {
+        final FakeScript script;
+        final long startNanos;
+        final long baseDrops;
+        final long baseFailovers;
+        final long baseSwitchovers;
+        final AtomicIntegerArray logged;  // Per event: 0 pending, 1 started, 2 done (as logged)
+        
+        Timeline(FakeScript script, long startNanos, long baseDrops, long baseFailovers, long baseSwitchovers) {
+            this.script = script;
+            this.startNanos = startNanos;
+            this.baseDrops = baseDrops;
+            this.baseFailovers = baseFailovers;
+            this.baseSwitchovers = baseSwitchovers;
+            this.logged = new AtomicIntegerArray(script.getEvents().size());
+        }
+        
+        long drops(long now) {
+            return baseDrops + started(now, FakeScript.Kind.DROP);
+        }
+        
+        long failovers(long now) {
+            return baseFailovers + completed(now, FakeScript.Kind.FAILOVER);
+        }
+        
+        long switchovers(long now) {
+            return baseSwitchovers + completed(now, FakeScript.Kind.SWITCHOVER);
+        }
+        
+        long topology(long now) {
+            return failovers(now) + switchovers(now);
+        }
+        
+        int writer(long now, int instances) {
+            return (int) (failovers(now) % instances);
+        }
+        
+        boolean readOnly(long now) {
+            long elapsed = now - startNanos;
+            for (FakeScript.Event event : script.getEvents()) {
+                if ((event.getKind() == FakeScript.Kind.SWITCHOVER || event.getKind() == FakeScript.Kind.READONLY)
+                        && event.isActive(elapsed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * End of the failover in progress (0 if none)
+         */
+        long failoverEnd(long now) {
+            long elapsed = now - startNanos;
+            for (FakeScript.Event event : script.getEvents()) {
+                if (event.getKind() == FakeScript.Kind.FAILOVER && event.isActive(elapsed)) {
+                    return startNanos + event.getEndNanos();
+                }
+            }
+            return 0;
+        }
+        
+        /**
+         * Whether new connections to the instance fail (drop window, or the writer during a failover)
+         */
+        boolean unavailable(long now, boolean writer) {
+            long elapsed = now - startNanos;
+            for (FakeScript.Event event : script.getEvents()) {
+                if (event.isActive(elapsed) && (event.getKind() == FakeScript.Kind.DROP
+                        || (writer && event.getKind() == FakeScript.Kind.FAILOVER))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private long started(long now, FakeScript.Kind kind) {
+            long elapsed = now - startNanos;
+            long count = 0;
+            for (FakeScript.Event event : script.getEvents()) {
+                if (event.getKind() == kind && elapsed >= event.getOffsetNanos()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        
+        private long completed(long now, FakeScript.Kind kind) {
+            long elapsed = now - startNanos;
+            long count = 0;
+            for (FakeScript.Event event : script.getEvents()) {
+                if (event.getKind() == kind && elapsed >= event.getEndNanos()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
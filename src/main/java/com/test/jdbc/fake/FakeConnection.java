@@ -0,0 +1,333 @@
+package com.test.jdbc.fake;
+
+import software.amazon.jdbc.plugin.failover.FailoverSuccessSQLException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection of the fake driver (dynamic proxy), pinned to one instance of its cluster
+ * 
+ * Every statement round trip: scripted failure check, simulated latency, then the statement on
+ * the shared in-memory data. A drop that starts while a statement is in flight breaks the
+ * connection after the latency; a write is then applied or not at random (in-doubt commit).
+ * Auto-commit is reported but transactions are not simulated: each statement applies at once.
+ */
+final class FakeConnection implements InvocationHandler, FakeDatabase.Context {
+    
+    private final FakeCluster cluster;
+    final long id;
+    volatile int instance;
+    final boolean followsWriter;
+    final long seenDrops;
+    volatile long seenTopology;
+    private final Random random;
+    private final String url;
+    private final String user;
+    private final Connection proxy;
+    private volatile boolean closed;
+    private volatile long lastUsedNanos = System.nanoTime();
+    private boolean autoCommit = true;
+    private boolean readOnly;
+    private int isolation = Connection.TRANSACTION_REPEATABLE_READ;
+    private int networkTimeout;
+    private String catalog;
+    private String schema;
+    
+    FakeConnection(FakeCluster cluster, long id, int instance, boolean followsWriter, long seenDrops,
+                   long seenTopology, Random random, String url, String user) {
+        this.cluster = cluster;
+        this.id = id;
+        this.instance = instance;
+        this.followsWriter = followsWriter;
+        this.seenDrops = seenDrops;
+        this.seenTopology = seenTopology;
+        this.random = random;
+        this.url = url;
+        this.user = user;
+        this.catalog = cluster.database().getName();
+        this.proxy = (Connection) Proxy.newProxyInstance(FakeConnection.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, this);
+    }
+    
+    Connection proxy() {
+        return proxy;
+    }
+    
+    @Override
+    public Object invoke(Object p, Method method, Object[] args) throws Throwable {
+        return dispatch(method, args);
+    }
+    
+    private Object dispatch(Method method, Object[] args) throws SQLException {
+        switch (method.getName()) {
+            case "close":
+            case "abort":
+                closed = true;
+                return null;
+            case "isClosed":
+                return closed;
+            case "isValid":
+                if (!closed && cluster.droppedSince(this)) {
+                    closed = true;
+                }
+                return !closed;
+            case "createStatement":
+                checkOpen();
+                return FakeStatement.create(this, null);
+            case "prepareStatement":
+                checkOpen();
+                return FakeStatement.create(this, (String) args[0]);
+            case "prepareCall":
+                throw new SQLFeatureNotSupportedException("Stored procedures are not supported by the fake driver");
+            case "nativeSQL":
+                return args[0];
+            case "setAutoCommit":
+                checkOpen();
+                autoCommit = (Boolean) args[0];
+                return null;
+            case "getAutoCommit":
+                return autoCommit;
+            case "commit":
+            case "rollback":
+            case "releaseSavepoint":
+                checkOpen();
+                return null;
+            case "setReadOnly":
+                readOnly = (Boolean) args[0];
+                return null;
+            case "isReadOnly":
+                return readOnly;
+            case "setTransactionIsolation":
+                isolation = (Integer) args[0];
+                return null;
+            case "getTransactionIsolation":
+                return isolation;
+            case "setCatalog":
+                catalog = (String) args[0];
+                return null;
+            case "getCatalog":
+                return catalog;
+            case "setSchema":
+                schema = (String) args[0];
+                return null;
+            case "getSchema":
+                return schema;
+            case "setNetworkTimeout":
+                networkTimeout = (Integer) args[1];
+                return null;
+            case "getNetworkTimeout":
+                return networkTimeout;
+            case "getHoldability":
+                return ResultSet.HOLD_CURSORS_OVER_COMMIT;
+            case "getClientInfo":
+                return args == null ? new Properties() : null;
+            case "getMetaData":
+                return metaData();
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+                throw new SQLException("Not a wrapper for " + args[0]);
+            case "isWrapperFor":
+                return ((Class<?>) args[0]).isInstance(proxy);
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "FakeConnection[" + id + " " + cluster.instanceEndpoint(instance) + "]";
+            default:
+                return zero(method.getReturnType());
+        }
+    }
+    
+    /**
+     * One round trip: the statement once per parameter set (a batch is a single round trip)
+     */
+    List<FakeDatabase.Result> execute(String sql, List<List<Object>> paramSets) throws SQLException {
+        checkOpen();
+        FakeDatabase database = cluster.database();
+        boolean write = database.isWrite(sql);
+        SQLException injected = cluster.beforeStatement(this, write);
+        if (injected != null) {
+            throw injected;
+        }
+        FakeCluster.park(cluster.latency(write).sampleNanos(random));
+        lastUsedNanos = System.nanoTime();
+        if (cluster.droppedSince(this)) {
+            if (write && cluster.commitInDoubt(random)) {
+                apply(database, sql, paramSets);
+            }
+            throw broken("Communications link failure\n\nThe last packet sent successfully to the server was "
+                + "0 milliseconds ago (fake driver: connection dropped during the statement)");
+        }
+        List<FakeDatabase.Result> results = apply(database, sql, paramSets);
+        cluster.statementExecuted();
+        return results;
+    }
+    
+    private List<FakeDatabase.Result> apply(FakeDatabase database, String sql, List<List<Object>> paramSets)
+            throws SQLException {
+        List<FakeDatabase.Result> results = new ArrayList<>(paramSets.size());
+        for (List<Object> params : paramSets) {
+            results.add(database.execute(sql, params, this));
+        }
+        return results;
+    }
+    
+    /**
+     * Close the connection and return the communications failure to throw
+     */
+    SQLException broken(String message) {
+        closed = true;
+        return new SQLException(message, "08S01");
+    }
+    
+    /**
+     * The failover exception of the AWS JDBC Wrapper: the statement was not executed, the connection is usable
+     */
+    SQLException changed() {
+        return new FailoverSuccessSQLException("The active SQL connection has changed due to a connection failure. "
+            + "Please re-configure session state if required. (fake driver: now on "
+            + cluster.instanceEndpoint(instance) + ")");
+    }
+    
+    long idleMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastUsedNanos);
+    }
+    
+    @Override
+    public String hostname() {
+        return cluster.hostname(instance, System.nanoTime());
+    }
+    
+    @Override
+    public boolean isWriter() {
+        return cluster.isWriter(instance);
+    }
+    
+    @Override
+    public long visibleNanos() {
+        return cluster.visibleNanos(instance, random);
+    }
+    
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLNonTransientConnectionException("No operations allowed after connection closed.", "08003");
+        }
+    }
+    
+    private DatabaseMetaData metaData() {
+        return (DatabaseMetaData) Proxy.newProxyInstance(FakeConnection.class.getClassLoader(),
+            new Class<?>[] {DatabaseMetaData.class}, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "getDatabaseProductName":
+                        return "MySQL";
+                    case "getDatabaseProductVersion":
+                        return "8.0.39-fake";
+                    case "getDatabaseMajorVersion":
+                        return 8;
+                    case "getDatabaseMinorVersion":
+                        return 0;
+                    case "getDriverName":
+                        return "Fake JDBC Driver";
+                    case "getDriverVersion":
+                        return FakeDriver.VERSION;
+                    case "getDriverMajorVersion":
+                        return FakeDriver.MAJOR_VERSION;
+                    case "getDriverMinorVersion":
+                        return FakeDriver.MINOR_VERSION;
+                    case "getJDBCMajorVersion":
+                        return 4;
+                    case "getJDBCMinorVersion":
+                        return 2;
+                    case "getURL":
+                        return url;
+                    case "getUserName":
+                        return user;
+                    case "isReadOnly":
+                        return !cluster.isWriter(instance);
+                    case "getConnection":
+                        return proxy;
+                    case "getIdentifierQuoteString":
+                        return "`";
+                    case "supportsBatchUpdates":
+                    case "supportsGetGeneratedKeys":
+                    case "supportsTransactions":
+                        return true;
+                    case "getColumns": {
+                        List<Object[]> rows = new ArrayList<>();
+                        String pattern = (String) args[3];
+                        for (String column : cluster.database().columns((String) args[2])) {
+                            // Exact names only ("%" or null = all columns)
+                            if (pattern == null || pattern.equals("%") || pattern.equalsIgnoreCase(column)) {
+                                rows.add(new Object[] {column});
+                            }
+                        }
+                        return FakeResultSet.create(new String[] {"COLUMN_NAME"}, rows, null);
+                    }
+                    case "getTables":
+                    case "getSchemas":
+                    case "getCatalogs":
+                        return FakeResultSet.create(new String[] {"TABLE_NAME"}, Collections.emptyList(), null);
+                    case "unwrap":
+                        return p;
+                    case "isWrapperFor":
+                        return ((Class<?>) args[0]).isInstance(p);
+                    case "hashCode":
+                        return System.identityHashCode(p);
+                    case "equals":
+                        return p == args[0];
+                    case "toString":
+                        return "FakeDatabaseMetaData[" + url + "]";
+                    default:
+                        return zero(method.getReturnType());
+                }
+            });
+    }
+    
+    /**
+     * Default value for a method without meaning in the fake driver
+     */
+    static Object zero(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == char.class) {
+            return (char) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,755 @@
+package com.test.jdbc.fake;
+
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shared in-memory "database" of one fake cluster - just enough SQL for this application
+ * 
+ * Not a SQL engine: statements are recognized by shape, and only what the load generator and
+ * its probes observe is kept per table:
+ * - rows without an explicit id get the next AUTO_INCREMENT id; nothing else is stored, and
+ *   reads synthesize rows for existing ids (column values derived from the column name)
+ * - (stream_id, thread_id, seq) of every inserted row, so the write-loss verifier finds lost
+ *   and duplicated writes
+ * - rows inserted with an explicit primary key (the replica lag heartbeat, keyed by probe_id)
+ *   with a history of versions, so a reader sees the version that was committed before its
+ *   replica lag
+ * 
+ * Supported: CREATE TABLE, ALTER TABLE ADD COLUMN, INSERT (multi-row, ON DUPLICATE KEY UPDATE),
+ * UPDATE/DELETE ... WHERE id = ?, SELECT without FROM (@@hostname, @@read_only, literals),
+ * SELECT by primary key / id range / whole table, COUNT/MIN/MAX(id) and the verifier's aggregates over
+ * a stream range. Transactions are not simulated (every statement applies immediately). Other
+ * statements either no-op (SET, COMMIT...) or fail with a syntax error naming the fake driver.
+ */
+final class FakeDatabase {
+    
+    /** Rows returned by a SELECT without an id condition (findAll) */
+    static final int MAX_SCAN_ROWS = 1000;
+    private static final int VERSION_HISTORY = 4096;
+    private static final int MAX_CACHED_STATEMENTS = 4096;
+    
+    private static final Pattern CREATE_TABLE =
+        Pattern.compile("^CREATE\\s+TABLE\\s+(IF\\s+NOT\\s+EXISTS\\s+)?`?(\\w+)`?\\s*\\(", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ALTER_TABLE = Pattern.compile("^ALTER\\s+TABLE\\s+`?(\\w+)`?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ADD_COLUMN = Pattern.compile("ADD\\s+COLUMN\\s+`?(\\w+)`?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INSERT =
+        Pattern.compile("^INSERT\\s+INTO\\s+`?(\\w+)`?\\s*\\(([^)]*)\\)\\s*VALUES\\s*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UPDATE = Pattern.compile("^UPDATE\\s+`?(\\w+)`?\\s", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DELETE = Pattern.compile("^DELETE\\s+FROM\\s+`?(\\w+)`?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CONDITION = Pattern.compile("^`?(\\w+)`?\\s*(=|>=|<=|>|<)\\s*(\\?|-?\\d+)$");
+    private static final Pattern LIMIT = Pattern.compile("\\sLIMIT\\s+(\\?|\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> NOT_COLUMNS = Set.of("PRIMARY", "INDEX", "KEY", "UNIQUE", "CONSTRAINT",
+        "FOREIGN", "FULLTEXT", "SPATIAL", "CHECK");
+    
+    /**
+     * The instance a statement runs on
+     */
+    interface Context {
+        String hostname();
+        boolean isWriter();
+        /** Reads see writes committed up to this time (System.nanoTime; now on the writer) */
+        long visibleNanos();
+    }
+    
+    /**
+     * Outcome of one statement: a result set (labels + rows) or an update count
+     */
+    static final class Result {
+        final String[] labels;
+        final List<Object[]> rows;
+        final int updateCount;
+        final long[] generatedKeys;
+        
+        private Result(String[] labels, List<Object[]> rows, int updateCount, long[] generatedKeys) {
+            this.labels = labels;
+            this.rows = rows;
+            this.updateCount = updateCount;
+            this.generatedKeys = generatedKeys;
+        }
+        
+        static Result query(String[] labels, List<Object[]> rows) {
+            return new Result(labels, rows, -1, new long[0]);
+        }
+        
+        static Result update(int count, long[] generatedKeys) {
+            return new Result(null, null, count, generatedKeys);
+        }
+        
+        boolean isQuery() {
+            return labels != null;
+        }
+    }
+    
+    private final String database;
+    private final long createdMillis = System.currentTimeMillis();
+    private final ConcurrentMap<String, Table> tables = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Parsed> statements = new ConcurrentHashMap<>();
+    
+    FakeDatabase(String database) {
+        this.database = database;
+    }
+    
+    /**
+     * Whether the statement modifies data (fails on a read-only instance)
+     */
+    boolean isWrite(String sql) {
+        Kind kind = parse(sql).kind;
+        return kind == Kind.INSERT || kind == Kind.UPDATE || kind == Kind.DELETE
+            || kind == Kind.CREATE || kind == Kind.ALTER;
+    }
+    
+    Result execute(String sql, List<Object> params, Context context) throws SQLException {
+        Parsed statement = parse(sql);
+        switch (statement.kind) {
+            case CREATE:
+                return create(statement);
+            case ALTER:
+                table(statement.table).columns.addAll(statement.columns);
+                return Result.update(0, new long[0]);
+            case INSERT:
+                return insert(statement, params, context);
+            case UPDATE:
+            case DELETE:
+                return Result.update(exists(table(statement.table), idParam(statement, params)) ? 1 : 0, new long[0]);
+            case SELECT:
+                return select(statement, params, context);
+            case NO_OP:
+                return Result.update(0, new long[0]);
+            default:
+                throw new SQLSyntaxErrorException("Statement not supported by the fake driver: " + sql, "42000", 1064);
+        }
+    }
+    
+    /**
+     * Column names of a table (empty if it does not exist), for DatabaseMetaData.getColumns
+     */
+    List<String> columns(String table) {
+        Table t = table != null ? tables.get(table.toLowerCase(Locale.ROOT)) : null;
+        return t != null ? new ArrayList<>(t.columns) : Collections.emptyList();
+    }
+    
+    String getName() {
+        return database;
+    }
+    
+    // ---------------------------------------------------------------- execution
+    
+    private Result create(Parsed statement) throws SQLException {
+        Table created = new Table(statement.table, statement.columns, statement.primaryKey);
+        Table existing = tables.putIfAbsent(statement.table, created);
+        if (existing != null && !statement.ifNotExists) {
+            throw new SQLSyntaxErrorException("Table '" + statement.table + "' already exists", "42S01", 1050);
+        }
+        return Result.update(0, new long[0]);
+    }
+    
+    private Result insert(Parsed statement, List<Object> params, Context context) throws SQLException {
+        Table table = table(statement.table);
+        int next = 0;
+        long[] keys = new long[statement.tuples.size()];
+        for (int row = 0; row < statement.tuples.size(); row++) {
+            List<String> tuple = statement.tuples.get(row);
+            Object[] values = new Object[tuple.size()];
+            for (int i = 0; i < tuple.size(); i++) {
+                String item = tuple.get(i);
+                values[i] = item.equals("?") ? param(params, next++) : literal(item, context);
+            }
+            int keyColumn = table.isKeyedById() ? statement.idColumn
+                : Arrays.asList(statement.insertColumns).indexOf(table.primaryKey);
+            if (keyColumn >= 0) {
+                long id = toLong(values[keyColumn]);
+                table.keyed.computeIfAbsent(id, k -> new VersionedRow()).write(statement.insertColumns, values);
+                if (table.isKeyedById()) {
+                    table.highestId.accumulateAndGet(id, Math::max);
+                }
+                keys[row] = id;
+            } else {
+                keys[row] = table.highestId.incrementAndGet();
+            }
+            if (statement.streamColumn >= 0 && statement.seqColumn >= 0 && statement.threadColumn >= 0
+                    && values[statement.streamColumn] != null && values[statement.seqColumn] != null) {
+                table.recordSequence(toLong(values[statement.streamColumn]),
+                    (int) toLong(values[statement.threadColumn]), toLong(values[statement.seqColumn]));
+            }
+        }
+        return Result.update(statement.tuples.size(), keys);
+    }
+    
+    private Result select(Parsed statement, List<Object> params, Context context) throws SQLException {
+        if (statement.table == null) {
+            Object[] row = new Object[statement.items.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = scalar(statement.items.get(i), context);
+            }
+            return Result.query(statement.labels, Collections.singletonList(row));
+        }
+        Table table = table(statement.table);
+        Long streamId = condition(statement, params, "STREAM_ID", "=");
+        if (streamId != null) {
+            return streamSelect(statement, params, table, streamId);
+        }
+        if (statement.aggregate) {
+            Object[] row = new Object[statement.items.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = aggregate(statement.items.get(i), table);
+            }
+            return Result.query(statement.labels, Collections.singletonList(row));
+        }
+        Long id = condition(statement, params, table.primaryKey, "=");
+        List<Object[]> rows = new ArrayList<>();
+        VersionedRow keyed = id != null ? table.keyed.get(id) : null;
+        if (keyed != null || (id != null && !table.isKeyedById())) {
+            // Only explicitly inserted rows exist in a table without AUTO_INCREMENT id
+            Map<String, Object> version = keyed != null ? keyed.visible(context.visibleNanos()) : null;
+            if (version != null) {
+                Object[] row = new Object[statement.items.size()];
+                for (int i = 0; i < row.length; i++) {
+                    String item = statement.items.get(i).toUpperCase(Locale.ROOT);
+                    row[i] = item.startsWith("@@") ? scalar(item, context) : version.get(item);
+                }
+                rows.add(row);
+            }
+            return Result.query(statement.labels, rows);
+        }
+        long highest = table.highestId.get();
+        long from;
+        long to;
+        if (id != null) {
+            from = id;
+            to = id;
+        } else {
+            Long lowest = condition(statement, params, "ID", ">=");
+            from = lowest != null ? Math.max(lowest, 1) : 1;
+            to = highest;
+        }
+        long limit = statement.limitParam >= 0 ? toLong(param(params, statement.limitParam))
+            : statement.limit >= 0 ? statement.limit : MAX_SCAN_ROWS;
+        to = Math.min(to, Math.min(highest, from + Math.min(limit, MAX_SCAN_ROWS) - 1));
+        for (long rowId = Math.max(from, 1); rowId <= to; rowId++) {
+            Object[] row = new Object[statement.items.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = synthesize(statement.items.get(i), rowId, context);
+            }
+            rows.add(row);
+        }
+        return Result.query(statement.labels, rows);
+    }
+    
+    private Result streamSelect(Parsed statement, List<Object> params, Table table, long streamId) {
+        Long threadId = condition(statement, params, "THREAD_ID", "=");
+        Long from = condition(statement, params, "SEQ", ">=");
+        Long to = condition(statement, params, "SEQ", "<");
+        ConcurrentNavigableMap<Long, AtomicInteger> sequences = table.sequences(streamId,
+            threadId != null ? threadId.intValue() : 0);
+        ConcurrentNavigableMap<Long, AtomicInteger> range = sequences.subMap(
+            from != null ? from : Long.MIN_VALUE, true, to != null ? to : Long.MAX_VALUE, false);
+        if (statement.groupBySeq) {
+            List<Object[]> rows = new ArrayList<>();
+            for (Map.Entry<Long, AtomicInteger> entry : range.entrySet()) {
+                rows.add(new Object[] {entry.getKey(), (long) entry.getValue().get()});
+            }
+            return Result.query(statement.labels, rows);
+        }
+        long count = 0;
+        long sum = 0;
+        long squares = 0;
+        for (Map.Entry<Long, AtomicInteger> entry : range.entrySet()) {
+            int n = entry.getValue().get();
+            long seq = entry.getKey();
+            count += n;
+            sum += seq * n;
+            squares += seq * seq * n;
+        }
+        Object[] row = new Object[statement.items.size()];
+        for (int i = 0; i < row.length; i++) {
+            String item = statement.items.get(i).toUpperCase(Locale.ROOT).replace(" ", "");
+            if (item.startsWith("COUNT(DISTINCT")) {
+                row[i] = (long) range.size();
+            } else if (item.contains("SUM(SEQ*SEQ)")) {
+                row[i] = squares;
+            } else if (item.contains("SUM(")) {
+                row[i] = sum;
+            } else {
+                row[i] = count;
+            }
+        }
+        return Result.query(statement.labels, Collections.singletonList(row));
+    }
+    
+    private static Object aggregate(String item, Table table) {
+        String expr = item.toUpperCase(Locale.ROOT).replace(" ", "");
+        Object fallback = null;
+        if (expr.startsWith("COALESCE(") && expr.endsWith(")")) {
+            int comma = expr.lastIndexOf(',');
+            fallback = Long.parseLong(expr.substring(comma + 1, expr.length() - 1));
+            expr = expr.substring("COALESCE(".length(), comma);
+        }
+        long highest = table.highestId.get();
+        if (expr.startsWith("COUNT(")) {
+            return highest;
+        }
+        if (highest == 0) {
+            return fallback;
+        }
+        return expr.startsWith("MIN(") ? 1L : highest;
+    }
+    
+    private Object scalar(String item, Context context) {
+        String expr = item.toUpperCase(Locale.ROOT);
+        if (expr.contains("CONCAT(") && expr.contains("@@HOSTNAME")) {
+            return context.hostname() + ":3306 [" + (context.isWriter() ? "WRITER" : "READER") + "]";
+        }
+        if (expr.contains("@@HOSTNAME")) {
+            return context.hostname();
+        }
+        if (expr.contains("@@PORT")) {
+            return 3306L;
+        }
+        if (expr.contains("READ_ONLY")) {
+            return context.isWriter() ? 0L : 1L;
+        }
+        if (expr.contains("VERSION()")) {
+            return "8.0.39-fake";
+        }
+        if (expr.contains("DATABASE()")) {
+            return database;
+        }
+        return literal(item, context);
+    }
+    
+    private Object synthesize(String column, long id, Context context) {
+        String name = column.toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "ID":
+                return id;
+            case "THREAD_ID":
+                return (int) (id % 64);
+            case "ENDPOINT":
+            case "WRITER":
+                return context.hostname();
+            case "NAME":
+                return "user-" + id;
+            case "PHASE":
+                return "fake";
+            case "STREAM_ID":
+            case "SEQ":
+                return null;
+            default:
+                if (name.endsWith("_TIME") || name.endsWith("_AT")) {
+                    return new Timestamp(createdMillis + id);
+                }
+                if (name.contains("DATA")) {
+                    return "fake row " + id;
+                }
+                return null;
+        }
+    }
+    
+    private static Object literal(String item, Context context) {
+        String expr = item.trim();
+        String upper = expr.toUpperCase(Locale.ROOT);
+        if (upper.equals("NULL")) {
+            return null;
+        }
+        if (upper.startsWith("NOW(") || upper.equals("CURRENT_TIMESTAMP")) {
+            return new Timestamp(System.currentTimeMillis());
+        }
+        if (upper.equals("@@HOSTNAME")) {
+            return context.hostname();
+        }
+        if (expr.length() >= 2 && (expr.startsWith("'") && expr.endsWith("'"))) {
+            return expr.substring(1, expr.length() - 1);
+        }
+        try {
+            return Long.parseLong(expr);
+        } catch (NumberFormatException e) {
+            return expr;
+        }
+    }
+    
+    private boolean exists(Table table, Long id) {
+        return id != null && ((id >= 1 && id <= table.highestId.get()) || table.keyed.containsKey(id));
+    }
+    
+    private Table table(String name) throws SQLException {
+        Table table = tables.get(name);
+        if (table == null) {
+            throw new SQLSyntaxErrorException("Table '" + database + "." + name + "' doesn't exist", "42S02", 1146);
+        }
+        return table;
+    }
+    
+    private static Long idParam(Parsed statement, List<Object> params) {
+        return condition(statement, params, "ID", "=");
+    }
+    
+    private static Long condition(Parsed statement, List<Object> params, String column, String op) {
+        for (Condition condition : statement.conditions) {
+            if (condition.column.equals(column) && condition.op.equals(op)) {
+                return condition.param >= 0 ? toLong(param(params, condition.param)) : condition.literal;
+            }
+        }
+        return null;
+    }
+    
+    private static Object param(List<Object> params, int index) {
+        return index < params.size() ? params.get(index) : null;
+    }
+    
+    private static long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return value != null ? Long.parseLong(value.toString().trim()) : 0;
+    }
+    
+    // ---------------------------------------------------------------- parsing
+    
+    private enum Kind { CREATE, ALTER, INSERT, UPDATE, DELETE, SELECT, NO_OP, UNSUPPORTED }
+    
+    private static final class Condition {
+        final String column;
+        final String op;
+        final int param;     // Placeholder index, or -1 for a literal
+        final Long literal;
+        
+        Condition(String column, String op, int param, Long literal) {
+            this.column = column;
+            this.op = op;
+            this.param = param;
+            this.literal = literal;
+        }
+    }
+    
+    private static final class Parsed {
+        Kind kind = Kind.UNSUPPORTED;
+        String table;
+        boolean ifNotExists;
+        List<String> columns = new ArrayList<>();
+        String primaryKey = "ID";
+        // INSERT
+        String[] insertColumns;
+        List<List<String>> tuples = new ArrayList<>();
+        int idColumn = -1;
+        int threadColumn = -1;
+        int streamColumn = -1;
+        int seqColumn = -1;
+        // SELECT
+        List<String> items = new ArrayList<>();
+        String[] labels;
+        boolean aggregate;
+        boolean groupBySeq;
+        int limitParam = -1;
+        long limit = -1;
+        List<Condition> conditions = new ArrayList<>();
+    }
+    
+    private Parsed parse(String sql) {
+        Parsed parsed = statements.get(sql);
+        if (parsed == null) {
+            parsed = doParse(sql.trim());
+            if (statements.size() < MAX_CACHED_STATEMENTS) {
+                statements.put(sql, parsed);
+            }
+        }
+        return parsed;
+    }
+    
+    private static Parsed doParse(String sql) {
+        Parsed p = new Parsed();
+        String upper = sql.toUpperCase(Locale.ROOT);
+        Matcher m;
+        if ((m = CREATE_TABLE.matcher(sql)).find()) {
+            p.kind = Kind.CREATE;
+            p.ifNotExists = m.group(1) != null;
+            p.table = m.group(2).toLowerCase(Locale.ROOT);
+            int close = sql.lastIndexOf(')');
+            for (String element : splitTopLevel(sql.substring(m.end(), Math.max(close, m.end())))) {
+                String first = element.trim().split("\\s+")[0].replace("`", "");
+                if (!first.isEmpty() && !NOT_COLUMNS.contains(first.toUpperCase(Locale.ROOT))) {
+                    p.columns.add(first.toLowerCase(Locale.ROOT));
+                    if (element.toUpperCase(Locale.ROOT).contains(" PRIMARY KEY")) {
+                        p.primaryKey = first.toUpperCase(Locale.ROOT);
+                    }
+                }
+            }
+        } else if ((m = ALTER_TABLE.matcher(sql)).find()) {
+            p.kind = Kind.ALTER;
+            p.table = m.group(1).toLowerCase(Locale.ROOT);
+            Matcher add = ADD_COLUMN.matcher(sql);
+            while (add.find()) {
+                p.columns.add(add.group(1).toLowerCase(Locale.ROOT));
+            }
+        } else if ((m = INSERT.matcher(sql)).find()) {
+            p.kind = Kind.INSERT;
+            p.table = m.group(1).toLowerCase(Locale.ROOT);
+            List<String> columns = splitTopLevel(m.group(2));
+            p.insertColumns = new String[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                String column = columns.get(i).trim().replace("`", "").toUpperCase(Locale.ROOT);
+                p.insertColumns[i] = column;
+                if (column.equals("ID")) {
+                    p.idColumn = i;
+                } else if (column.equals("THREAD_ID")) {
+                    p.threadColumn = i;
+                } else if (column.equals("STREAM_ID")) {
+                    p.streamColumn = i;
+                } else if (column.equals("SEQ")) {
+                    p.seqColumn = i;
+                }
+            }
+            parseTuples(sql, m.end(), p.tuples);
+        } else if ((m = UPDATE.matcher(sql)).find()) {
+            p.kind = Kind.UPDATE;
+            p.table = m.group(1).toLowerCase(Locale.ROOT);
+            parseWhere(sql, upper, p);
+        } else if ((m = DELETE.matcher(sql)).find()) {
+            p.kind = Kind.DELETE;
+            p.table = m.group(1).toLowerCase(Locale.ROOT);
+            parseWhere(sql, upper, p);
+        } else if (upper.startsWith("SELECT")) {
+            parseSelect(sql, upper, p);
+        } else if (upper.startsWith("SET") || upper.startsWith("COMMIT") || upper.startsWith("ROLLBACK")
+                || upper.startsWith("START TRANSACTION") || upper.startsWith("BEGIN") || upper.startsWith("USE")) {
+            p.kind = Kind.NO_OP;
+        }
+        return p;
+    }
+    
+    private static void parseSelect(String sql, String upper, Parsed p) {
+        p.kind = Kind.SELECT;
+        int from = indexOfTopLevel(upper, " FROM ");
+        String list = sql.substring("SELECT".length(), from >= 0 ? from : sql.length());
+        List<String> labels = new ArrayList<>();
+        for (String item : splitTopLevel(list)) {
+            String expr = item.trim();
+            String label = expr;
+            int as = indexOfTopLevel(expr.toUpperCase(Locale.ROOT), " AS ");
+            if (as >= 0) {
+                label = expr.substring(as + 4).trim();
+                expr = expr.substring(0, as).trim();
+            }
+            p.items.add(expr);
+            labels.add(label.replace("`", ""));
+            String upperExpr = expr.toUpperCase(Locale.ROOT);
+            if (upperExpr.contains("COUNT(") || upperExpr.contains("MIN(") || upperExpr.contains("MAX(")
+                    || upperExpr.contains("SUM(")) {
+                p.aggregate = true;
+            }
+        }
+        p.labels = labels.toArray(new String[0]);
+        if (from < 0) {
+            return;
+        }
+        String rest = sql.substring(from + " FROM ".length()).trim();
+        p.table = rest.split("[\\s;]+")[0].replace("`", "").toLowerCase(Locale.ROOT);
+        p.groupBySeq = upper.matches("(?s).*\\sGROUP\\s+BY\\s+SEQ\\b.*");
+        parseWhere(sql, upper, p);
+        Matcher limit = LIMIT.matcher(sql);
+        if (limit.find()) {
+            if (limit.group(1).equals("?")) {
+                p.limitParam = countPlaceholders(sql, limit.start());
+            } else {
+                p.limit = Long.parseLong(limit.group(1));
+            }
+        }
+    }
+    
+    /**
+     * Conjunction of simple conditions (column op ? / column op number) after WHERE
+     */
+    private static void parseWhere(String sql, String upper, Parsed p) {
+        int where = indexOfTopLevel(upper, " WHERE ");
+        if (where < 0) {
+            return;
+        }
+        int start = where + " WHERE ".length();
+        int end = upper.length();
+        for (String keyword : new String[] {" GROUP BY ", " ORDER BY ", " LIMIT ", " FOR UPDATE"}) {
+            int at = upper.indexOf(keyword, start);
+            if (at >= 0) {
+                end = Math.min(end, at);
+            }
+        }
+        int position = start;
+        for (String part : sql.substring(start, end).split("(?i)\\s+AND\\s+")) {
+            int partStart = sql.indexOf(part.trim(), position);
+            Matcher m = CONDITION.matcher(part.trim());
+            if (m.matches()) {
+                String column = m.group(1).toUpperCase(Locale.ROOT);
+                if (m.group(3).equals("?")) {
+                    p.conditions.add(new Condition(column, m.group(2), countPlaceholders(sql, partStart), null));
+                } else {
+                    p.conditions.add(new Condition(column, m.group(2), -1, Long.parseLong(m.group(3))));
+                }
+            }
+            position = partStart + part.trim().length();
+        }
+    }
+    
+    private static void parseTuples(String sql, int start, List<List<String>> tuples) {
+        int i = start;
+        while (i < sql.length()) {
+            while (i < sql.length() && (Character.isWhitespace(sql.charAt(i)) || sql.charAt(i) == ',')) {
+                i++;
+            }
+            if (i >= sql.length() || sql.charAt(i) != '(') {
+                return;  // ON DUPLICATE KEY UPDATE ... or end
+            }
+            int close = matchingParen(sql, i);
+            tuples.add(splitTopLevel(sql.substring(i + 1, close)));
+            i = close + 1;
+        }
+    }
+    
+    private static int matchingParen(String s, int open) {
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = open; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return s.length();
+    }
+    
+    private static List<String> splitTopLevel(String s) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')') {
+                depth--;
+            } else if (!quoted && depth == 0 && c == ',') {
+                parts.add(s.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        String last = s.substring(start).trim();
+        if (!last.isEmpty()) {
+            parts.add(last);
+        }
+        return parts;
+    }
+    
+    private static int indexOfTopLevel(String s, String token) {
+        int depth = 0;
+        for (int i = 0; i <= s.length() - token.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && s.startsWith(token, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static int countPlaceholders(String sql, int end) {
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    // ---------------------------------------------------------------- storage
+    
+    private static final class Table {
+        final String name;
+        final String primaryKey;  // Upper case
+        final Set<String> columns = new CopyOnWriteArraySet<>();
+        final AtomicLong highestId = new AtomicLong();
+        final ConcurrentMap<Long, VersionedRow> keyed = new ConcurrentHashMap<>();
+        final ConcurrentMap<Long, ConcurrentMap<Integer, ConcurrentSkipListMap<Long, AtomicInteger>>> streams =
+            new ConcurrentHashMap<>();
+        
+        Table(String name, List<String> columns, String primaryKey) {
+            this.name = name;
+            this.primaryKey = primaryKey;
+            this.columns.addAll(columns);
+        }
+        
+        /** Whether rows are AUTO_INCREMENT ids (synthesized) rather than only explicitly inserted keys */
+        boolean isKeyedById() {
+            return primaryKey.equals("ID");
+        }
+        
+        void recordSequence(long streamId, int threadId, long seq) {
+            sequences(streamId, threadId).computeIfAbsent(seq, s -> new AtomicInteger()).incrementAndGet();
+        }
+        
+        ConcurrentSkipListMap<Long, AtomicInteger> sequences(long streamId, int threadId) {
+            return streams.computeIfAbsent(streamId, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(threadId, t -> new ConcurrentSkipListMap<>());
+        }
+    }
+    
+    /**
+     * Versions of a row written with an explicit id (most recent {@link #VERSION_HISTORY} kept)
+     */
+    private static final class VersionedRow {
+        private final long[] commitNanos = new long[VERSION_HISTORY];
+        private final List<Map<String, Object>> versions = new ArrayList<>(Collections.nCopies(VERSION_HISTORY, null));
+        private long count;
+        
+        synchronized void write(String[] columns, Object[] values) {
+            Map<String, Object> version = new ConcurrentHashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                if (values[i] != null) {
+                    version.put(columns[i], values[i]);
+                }
+            }
+            int slot = (int) (count++ % VERSION_HISTORY);
+            commitNanos[slot] = System.nanoTime();
+            versions.set(slot, version);
+        }
+        
+        /**
+         * Latest version committed at or before the given time (null if none is kept)
+         */
+        synchronized Map<String, Object> visible(long nanos) {
+            long oldest = Math.max(0, count - VERSION_HISTORY);
+            for (long i = count - 1; i >= oldest; i--) {
+                int slot = (int) (i % VERSION_HISTORY);
+                if (commitNanos[slot] - nanos <= 0) {
+                    return versions.get(slot);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.test.jdbc.fake;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Deterministic in-process JDBC driver simulating an Aurora MySQL cluster
+ * 
+ * URL: {@code jdbc:fake://<host>[:port]/<database>?clusterId=fake&readers=1&seed=42
+ * &readLatency=fixed:0.5&writeLatency=fixed:1&connectLatency=fixed:2&replicaLag=fixed:15
+ * &inDoubtCommit=0.5&script=30s:switchover(3s)} - see {@link LatencyModel} for the latency
+ * specs and {@link FakeScript} for the script. The host selects the endpoint of the cluster
+ * (see {@link FakeCluster}); port, user and password are accepted and ignored.
+ * 
+ * Runs the application's own SQL shapes against in-memory tables, so the write, stream and
+ * replica-lag tests, the reconnect logic and the error classifier can be exercised without a
+ * database, with repeatable latencies (seeded per connection) and scripted failures.
+ */
+public final class FakeDriver implements Driver {
+    
+    public static final String PREFIX = "jdbc:fake:";
+    static final int MAJOR_VERSION = 1;
+    static final int MINOR_VERSION = 0;
+    static final String VERSION = MAJOR_VERSION + "." + MINOR_VERSION;
+    
+    static {
+        try {
+            DriverManager.registerDriver(new FakeDriver());
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;  // Not ours: DriverManager tries the next driver
+        }
+        String rest = url.substring(PREFIX.length());
+        if (rest.startsWith("//")) {
+            rest = rest.substring(2);
+        }
+        String query = "";
+        int q = rest.indexOf('?');
+        if (q >= 0) {
+            query = rest.substring(q + 1);
+            rest = rest.substring(0, q);
+        }
+        String database = "";
+        int slash = rest.indexOf('/');
+        if (slash >= 0) {
+            database = rest.substring(slash + 1);
+            rest = rest.substring(0, slash);
+        }
+        int colon = rest.indexOf(':');
+        String host = colon >= 0 ? rest.substring(0, colon) : rest;
+        if (host.isEmpty()) {
+            throw new SQLException("Missing host in fake driver URL: " + url, "08001");
+        }
+        Map<String, String> params = parseQuery(query);
+        String user = info != null ? info.getProperty("user") : null;
+        try {
+            return FakeCluster.of(params, database).connect(host, url, user).proxy();
+        } catch (IllegalArgumentException e) {
+            throw new SQLException("Invalid fake driver URL: " + e.getMessage(), "08001", e);
+        }
+    }
+    
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            if (!value.isEmpty()) {
+                params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+    
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(PREFIX);
+    }
+    
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+    
+    @Override
+    public int getMajorVersion() {
+        return MAJOR_VERSION;
+    }
+    
+    @Override
+    public int getMinorVersion() {
+        return MINOR_VERSION;
+    }
+    
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("java.util.logging is not used by the fake driver");
+    }
+}
@@ -0,0 +1,241 @@
+package com.test.jdbc.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Forward-only result set over materialized rows (dynamic proxy)
+ * 
+ * Column access by index or case-insensitive label with the usual JDBC conversions between
+ * numbers, strings, timestamps and bytes; methods without meaning here return zero values.
+ */
+final class FakeResultSet implements InvocationHandler {
+    
+    private final String[] labels;
+    private final List<Object[]> rows;
+    private final Statement statement;
+    private int row = -1;
+    private boolean wasNull;
+    private boolean closed;
+    
+    private FakeResultSet(String[] labels, List<Object[]> rows, Statement statement) {
+        this.labels = labels;
+        this.rows = rows;
+        this.statement = statement;
+    }
+    
+    static ResultSet create(String[] labels, List<Object[]> rows, Statement statement) {
+        return (ResultSet) Proxy.newProxyInstance(FakeResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class}, new FakeResultSet(labels, rows, statement));
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "next":
+                checkOpen();
+                return ++row < rows.size();
+            case "close":
+                closed = true;
+                return null;
+            case "isClosed":
+                return closed;
+            case "wasNull":
+                return wasNull;
+            case "getMetaData":
+                return metaData();
+            case "findColumn":
+                return column(args[0]);
+            case "getStatement":
+                return statement;
+            case "getRow":
+                return row >= 0 && row < rows.size() ? row + 1 : 0;
+            case "isBeforeFirst":
+                return row < 0 && !rows.isEmpty();
+            case "isAfterLast":
+                return row >= rows.size() && !rows.isEmpty();
+            case "getType":
+                return ResultSet.TYPE_FORWARD_ONLY;
+            case "getConcurrency":
+                return ResultSet.CONCUR_READ_ONLY;
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+                throw new SQLException("Not a wrapper for " + args[0]);
+            case "isWrapperFor":
+                return ((Class<?>) args[0]).isInstance(proxy);
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "FakeResultSet[" + rows.size() + " rows]";
+            default:
+                if (name.startsWith("get") && args != null && args.length >= 1
+                        && (args[0] instanceof Integer || args[0] instanceof String)) {
+                    return value(method, args);
+                }
+                return FakeConnection.zero(method.getReturnType());
+        }
+    }
+    
+    private Object value(Method method, Object[] args) throws SQLException {
+        checkOpen();
+        if (row < 0 || row >= rows.size()) {
+            throw new SQLException("No current row", "S1000");
+        }
+        Object value = rows.get(row)[column(args[0]) - 1];
+        wasNull = value == null;
+        Class<?> type = method.getReturnType();
+        if (method.getName().equals("getObject") && args.length == 2 && args[1] instanceof Class) {
+            type = (Class<?>) args[1];
+        }
+        return convert(value, type);
+    }
+    
+    private static Object convert(Object value, Class<?> type) throws SQLException {
+        if (value == null) {
+            return FakeConnection.zero(type);
+        }
+        if (type == Object.class || type.isInstance(value)) {
+            return value;
+        }
+        if (type == long.class || type == Long.class) {
+            return toNumber(value).longValue();
+        }
+        if (type == int.class || type == Integer.class) {
+            return toNumber(value).intValue();
+        }
+        if (type == short.class || type == Short.class) {
+            return toNumber(value).shortValue();
+        }
+        if (type == double.class || type == Double.class) {
+            return toNumber(value).doubleValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return toNumber(value).floatValue();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return toNumber(value).longValue() != 0;
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(value.toString());
+        }
+        if (type == String.class) {
+            return value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : value.toString();
+        }
+        if (type == byte[].class) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (type == Timestamp.class && value instanceof Number) {
+            return new Timestamp(((Number) value).longValue());
+        }
+        throw new SQLException("Cannot convert " + value.getClass().getSimpleName() + " to " + type.getSimpleName(),
+            "S1009");
+    }
+    
+    private static Number toNumber(Object value) throws SQLException {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).getTime();
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new SQLException("Not a number: " + value, "S1009");
+        }
+    }
+    
+    private int column(Object key) throws SQLException {
+        if (key instanceof Integer) {
+            int index = (Integer) key;
+            if (index < 1 || index > labels.length) {
+                throw new SQLException("Column index out of range: " + index, "S1002");
+            }
+            return index;
+        }
+        String label = key.toString();
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException("Column '" + label + "' not found.", "S0022");
+    }
+    
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Operation not allowed after ResultSet closed", "S1000");
+        }
+    }
+    
+    private ResultSetMetaData metaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(FakeResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSetMetaData.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getColumnCount":
+                        return labels.length;
+                    case "getColumnLabel":
+                    case "getColumnName":
+                        return labels[(Integer) args[0] - 1];
+                    case "getColumnType":
+                        return sqlType((Integer) args[0]);
+                    case "getColumnTypeName":
+                        return sqlType((Integer) args[0]) == Types.BIGINT ? "BIGINT"
+                            : sqlType((Integer) args[0]) == Types.TIMESTAMP ? "TIMESTAMP" : "VARCHAR";
+                    case "getColumnClassName":
+                        return sqlType((Integer) args[0]) == Types.BIGINT ? Long.class.getName()
+                            : sqlType((Integer) args[0]) == Types.TIMESTAMP ? Timestamp.class.getName()
+                            : String.class.getName();
+                    case "isNullable":
+                        return ResultSetMetaData.columnNullableUnknown;
+                    case "getTableName":
+                    case "getSchemaName":
+                    case "getCatalogName":
+                        return "";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "FakeResultSetMetaData" + String.join(",", labels).toLowerCase(Locale.ROOT);
+                    default:
+                        return FakeConnection.zero(method.getReturnType());
+                }
+            });
+    }
+    
+    private int sqlType(int column) {
+        for (Object[] r : rows) {
+            Object value = r[column - 1];
+            if (value instanceof Number) {
+                return Types.BIGINT;
+            }
+            if (value instanceof Timestamp) {
+                return Types.TIMESTAMP;
+            }
+            if (value != null) {
+                return Types.VARCHAR;
+            }
+        }
+        return Types.VARCHAR;
+    }
+}
@@ -0,0 +1,161 @@
+package com.test.jdbc.fake;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scripted timeline of cluster events for the fake driver
+ * 
+ * Format: comma-separated {@code <offset>:<event>[(<duration>)]}, times as 500ms, 30s or 2m,
+ * offsets from the start of the timeline (first connection, or the last re-arm):
+ * - switchover(3s)  blue/green switchover: writes fail read-only (1290) for the duration, then
+ *                   every instance gets a new hostname and each open connection fails once with
+ *                   "connection has changed" (08S02) and continues on the new instance
+ * - failover(5s)    writer failure: the next instance is promoted after the duration; statements
+ *                   on the old writer block until then and fail once with 08S02, new writer
+ *                   connections fail (08001) meanwhile
+ * - drop(2s)        every open connection breaks (08S01, in-flight writes in doubt), new
+ *                   connections fail (08001) for the duration
+ * - readonly(5s)    writes on the writer fail read-only (1290) for the duration
+ * 
+ * Example: {@code 30s:switchover(3s),90s:drop(1s),120s:readonly(10s)}
+ */
+public final class FakeScript {
+    
+    public static final FakeScript EMPTY = new FakeScript(Collections.emptyList(), "");
+    
+    /**
+     * Event kind with its default duration
+     */
+    public enum Kind {
+        SWITCHOVER(3000),
+        FAILOVER(5000),
+        DROP(0),
+        READONLY(5000);
+        
+        private final long defaultDurationMs;
+        
+        Kind(long defaultDurationMs) {
+            this.defaultDurationMs = defaultDurationMs;
+        }
+    }
+    
+    /**
+     * One scripted event: active in [offset, offset + duration)
+     */
+    public static final class Event {
+        private final Kind kind;
+        private final long offsetNanos;
+        private final long durationNanos;
+        
+        Event(Kind kind, long offsetNanos, long durationNanos) {
+            this.kind = kind;
+            this.offsetNanos = offsetNanos;
+            this.durationNanos = durationNanos;
+        }
+        
+        public Kind getKind() { return kind; }
+        public long getOffsetNanos() { return offsetNanos; }
+        public long getDurationNanos() { return durationNanos; }
+        public long getEndNanos() { return offsetNanos + durationNanos; }
+        
+        boolean isActive(long elapsedNanos) {
+            return elapsedNanos >= offsetNanos && elapsedNanos < offsetNanos + durationNanos;
+        }
+        
+        @Override
+        public String toString() {
+            return formatMillis(offsetNanos) + ":" + kind.name().toLowerCase(Locale.ROOT)
+                + "(" + formatMillis(durationNanos) + ")";
+        }
+    }
+    
+    private final List<Event> events;
+    private final String spec;
+    
+    private FakeScript(List<Event> events, String spec) {
+        this.events = events;
+        this.spec = spec;
+    }
+    
+    /**
+     * Parse a script (null or empty = no events)
+     */
+    public static FakeScript parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return EMPTY;
+        }
+        List<Event> events = new ArrayList<>();
+        for (String item : spec.split(",")) {
+            String entry = item.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int colon = entry.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("Script event must be <offset>:<event>[(<duration>)]: " + entry);
+            }
+            long offset = parseDuration(entry.substring(0, colon));
+            String event = entry.substring(colon + 1).trim();
+            String name = event;
+            Long duration = null;
+            int paren = event.indexOf('(');
+            if (paren >= 0) {
+                if (!event.endsWith(")")) {
+                    throw new IllegalArgumentException("Missing ')' in script event: " + entry);
+                }
+                name = event.substring(0, paren).trim();
+                duration = parseDuration(event.substring(paren + 1, event.length() - 1));
+            }
+            Kind kind;
+            try {
+                kind = Kind.valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown script event '" + name
+                    + "' (switchover, failover, drop, readonly): " + entry);
+            }
+            long durationNanos = duration != null ? duration : TimeUnit.MILLISECONDS.toNanos(kind.defaultDurationMs);
+            events.add(new Event(kind, offset, durationNanos));
+        }
+        events.sort((x, y) -> Long.compare(x.offsetNanos, y.offsetNanos));
+        return new FakeScript(Collections.unmodifiableList(events), spec.trim());
+    }
+    
+    public List<Event> getEvents() {
+        return events;
+    }
+    
+    @Override
+    public String toString() {
+        return spec;
+    }
+    
+    /**
+     * 500ms, 30s, 2m or a plain number of milliseconds, in nanoseconds
+     */
+    static long parseDuration(String value) {
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (v.endsWith("ms")) {
+                return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(v.substring(0, v.length() - 2).trim()));
+            }
+            if (v.endsWith("s")) {
+                return (long) (Double.parseDouble(v.substring(0, v.length() - 1).trim()) * 1e9);
+            }
+            if (v.endsWith("m")) {
+                return (long) (Double.parseDouble(v.substring(0, v.length() - 1).trim()) * 60e9);
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(v));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration: " + value);
+        }
+    }
+    
+    static String formatMillis(long nanos) {
+        long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+        return ms % 1000 == 0 ? (ms / 1000) + "s" : ms + "ms";
+    }
+}
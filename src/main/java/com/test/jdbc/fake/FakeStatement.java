@@ -0,0 +1,235 @@
+package com.test.jdbc.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Statement / PreparedStatement of a fake connection (dynamic proxy)
+ * 
+ * Parameters are collected per index; a batch (addBatch/executeBatch) is one round trip, like
+ * rewriteBatchedStatements. Every execution goes through {@link FakeConnection#execute}, where
+ * latency and the scripted failures apply.
+ */
+final class FakeStatement implements InvocationHandler {
+    
+    private static final String[] GENERATED_KEY = {"GENERATED_KEY"};
+    
+    private final FakeConnection connection;
+    private final String sql;  // null for a plain Statement
+    private final List<Object> params = new ArrayList<>();
+    private final List<List<Object>> batch = new ArrayList<>();
+    private final List<String> sqlBatch = new ArrayList<>();
+    private Statement proxy;
+    private FakeDatabase.Result current;
+    private long[] generatedKeys = new long[0];
+    private int queryTimeout;
+    private int fetchSize;
+    private int maxRows;
+    private boolean closed;
+    
+    private FakeStatement(FakeConnection connection, String sql) {
+        this.connection = connection;
+        this.sql = sql;
+    }
+    
+    static Statement create(FakeConnection connection, String sql) {
+        FakeStatement handler = new FakeStatement(connection, sql);
+        Class<?> type = sql != null ? PreparedStatement.class : Statement.class;
+        handler.proxy = (Statement) Proxy.newProxyInstance(FakeStatement.class.getClassLoader(),
+            new Class<?>[] {type}, handler);
+        return handler.proxy;
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        return dispatch(method, args);
+    }
+    
+    private Object dispatch(Method method, Object[] args) throws SQLException {
+        String name = method.getName();
+        if (method.getDeclaringClass() == PreparedStatement.class && name.startsWith("set")
+                && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            setParameter((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            return null;
+        }
+        switch (name) {
+            case "executeQuery":
+                return resultSet(run(sqlArg(args), params));
+            case "executeUpdate":
+                return (int) updateCount(run(sqlArg(args), params));
+            case "executeLargeUpdate":
+                return updateCount(run(sqlArg(args), params));
+            case "execute":
+                return run(sqlArg(args), params).isQuery();
+            case "executeBatch": {
+                long[] counts = executeBatch();
+                int[] result = new int[counts.length];
+                for (int i = 0; i < counts.length; i++) {
+                    result[i] = (int) counts[i];
+                }
+                return result;
+            }
+            case "executeLargeBatch":
+                return executeBatch();
+            case "addBatch":
+                if (args != null && args.length == 1) {
+                    sqlBatch.add((String) args[0]);
+                } else {
+                    batch.add(new ArrayList<>(params));
+                }
+                return null;
+            case "clearBatch":
+                batch.clear();
+                sqlBatch.clear();
+                return null;
+            case "clearParameters":
+                params.clear();
+                return null;
+            case "getResultSet":
+                return current != null && current.isQuery() ? resultSet(current) : null;
+            case "getUpdateCount":
+                return current != null && !current.isQuery() ? current.updateCount : -1;
+            case "getLargeUpdateCount":
+                return current != null && !current.isQuery() ? (long) current.updateCount : -1L;
+            case "getMoreResults":
+                current = null;
+                return false;
+            case "getGeneratedKeys": {
+                List<Object[]> rows = new ArrayList<>();
+                for (long key : generatedKeys) {
+                    rows.add(new Object[] {key});
+                }
+                return FakeResultSet.create(GENERATED_KEY, rows, proxy);
+            }
+            case "getConnection":
+                return connection.proxy();
+            case "close":
+                closed = true;
+                return null;
+            case "isClosed":
+                return closed;
+            case "setQueryTimeout":
+                queryTimeout = (Integer) args[0];
+                return null;
+            case "getQueryTimeout":
+                return queryTimeout;
+            case "setFetchSize":
+                fetchSize = (Integer) args[0];
+                return null;
+            case "getFetchSize":
+                return fetchSize;
+            case "setMaxRows":
+                maxRows = (Integer) args[0];
+                return null;
+            case "getMaxRows":
+                return maxRows;
+            case "getResultSetType":
+                return ResultSet.TYPE_FORWARD_ONLY;
+            case "getResultSetConcurrency":
+                return ResultSet.CONCUR_READ_ONLY;
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+                throw new SQLException("Not a wrapper for " + args[0]);
+            case "isWrapperFor":
+                return ((Class<?>) args[0]).isInstance(proxy);
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "FakeStatement[" + (sql != null ? sql : "") + "]";
+            default:
+                return FakeConnection.zero(method.getReturnType());
+        }
+    }
+    
+    private FakeDatabase.Result run(String statementSql, List<Object> values) throws SQLException {
+        checkOpen();
+        FakeDatabase.Result result = connection.execute(statementSql,
+            Collections.singletonList(new ArrayList<>(values))).get(0);
+        current = result;
+        generatedKeys = result.generatedKeys;
+        return result;
+    }
+    
+    private long[] executeBatch() throws SQLException {
+        checkOpen();
+        List<FakeDatabase.Result> results = new ArrayList<>();
+        try {
+            if (sql != null) {
+                if (!batch.isEmpty()) {
+                    results.addAll(connection.execute(sql, batch));
+                }
+            } else {
+                for (String each : sqlBatch) {
+                    results.addAll(connection.execute(each, Collections.singletonList(Collections.emptyList())));
+                }
+            }
+        } finally {
+            batch.clear();
+            sqlBatch.clear();
+        }
+        long[] counts = new long[results.size()];
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = results.get(i).updateCount;
+            for (long key : results.get(i).generatedKeys) {
+                keys.add(key);
+            }
+        }
+        generatedKeys = keys.stream().mapToLong(Long::longValue).toArray();
+        current = null;
+        return counts;
+    }
+    
+    private ResultSet resultSet(FakeDatabase.Result result) throws SQLException {
+        if (!result.isQuery()) {
+            throw new SQLException("Statement did not return a result set", "S1009");
+        }
+        List<Object[]> rows = maxRows > 0 && result.rows.size() > maxRows ? result.rows.subList(0, maxRows) : result.rows;
+        return FakeResultSet.create(result.labels, rows, proxy);
+    }
+    
+    private long updateCount(FakeDatabase.Result result) throws SQLException {
+        if (result.isQuery()) {
+            throw new SQLException("Can not issue executeUpdate() for SELECTs", "S1009");
+        }
+        return result.updateCount;
+    }
+    
+    private String sqlArg(Object[] args) throws SQLException {
+        if (args != null && args.length >= 1 && args[0] instanceof String) {
+            return (String) args[0];
+        }
+        if (sql == null) {
+            throw new SQLException("No SQL statement", "S1009");
+        }
+        return sql;
+    }
+    
+    private void setParameter(int index, Object value) throws SQLException {
+        if (index < 1) {
+            throw new SQLException("Parameter index out of range: " + index, "S1009");
+        }
+        while (params.size() < index) {
+            params.add(null);
+        }
+        params.set(index - 1, value);
+    }
+    
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("No operations allowed after statement closed.", "S1009");
+        }
+    }
+}
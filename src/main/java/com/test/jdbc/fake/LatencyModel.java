@@ -0,0 +1,102 @@
+package com.test.jdbc.fake;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Simulated round-trip latency of the fake driver
+ * 
+ * Spec format (milliseconds):
+ * - fixed:1.5             every call takes 1.5 ms
+ * - uniform:0.5,2         uniform between 0.5 and 2 ms
+ * - lognormal:1.2,0.4     log-normal with median 1.2 ms and sigma 0.4 (long right tail)
+ * - exponential:1.0       exponential with mean 1.0 ms
+ * 
+ * Samples are drawn from the caller's Random (one per connection, seeded), so a run with
+ * the same seed and the same call sequence per connection sees the same latencies.
+ */
+public final class LatencyModel {
+    
+    public static final LatencyModel ZERO = new LatencyModel("fixed", 0, 0, "fixed:0");
+    
+    private final String kind;
+    private final double a;
+    private final double b;
+    private final String spec;
+    
+    private LatencyModel(String kind, double a, double b, String spec) {
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+        this.spec = spec;
+    }
+    
+    /**
+     * Parse a spec (null or empty = no latency)
+     */
+    public static LatencyModel parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return ZERO;
+        }
+        String trimmed = spec.trim();
+        int colon = trimmed.indexOf(':');
+        String kind = (colon < 0 ? "fixed" : trimmed.substring(0, colon)).toLowerCase(Locale.ROOT);
+        String[] args = (colon < 0 ? trimmed : trimmed.substring(colon + 1)).split(",");
+        try {
+            double first = Double.parseDouble(args[0].trim());
+            double second = args.length > 1 ? Double.parseDouble(args[1].trim()) : 0;
+            switch (kind) {
+                case "fixed":
+                case "exponential":
+                    require(first >= 0, spec);
+                    return new LatencyModel(kind, first, 0, trimmed);
+                case "uniform":
+                case "lognormal":
+                    require(args.length == 2 && first >= 0 && second >= 0, spec);
+                    require(!kind.equals("uniform") || second >= first, spec);
+                    return new LatencyModel(kind, first, second, trimmed);
+                default:
+                    throw new IllegalArgumentException("Unknown latency distribution '" + kind
+                        + "' (fixed, uniform, lognormal, exponential): " + spec);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency spec: " + spec);
+        }
+    }
+    
+    /**
+     * One latency sample in nanoseconds
+     */
+    public long sampleNanos(Random random) {
+        double ms;
+        switch (kind) {
+            case "uniform":
+                ms = a + (b - a) * random.nextDouble();
+                break;
+            case "lognormal":
+                ms = a * Math.exp(b * random.nextGaussian());
+                break;
+            case "exponential":
+                ms = -a * Math.log(1 - random.nextDouble());
+                break;
+            default:
+                ms = a;
+        }
+        return (long) (ms * 1_000_000);
+    }
+    
+    public boolean isZero() {
+        return kind.equals("fixed") && a == 0;
+    }
+    
+    @Override
+    public String toString() {
+        return spec;
+    }
+    
+    private static void require(boolean condition, String spec) {
+        if (!condition) {
+            throw new IllegalArgumentException("Invalid latency spec: " + spec);
+        }
+    }
+}
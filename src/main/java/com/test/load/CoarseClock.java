@@ -0,0 +1,58 @@
+package com.test.load;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Cached wall-clock timestamps for log messages
+ * 
+ * Formatting LocalDateTime.now() allocates a date-time, a formatter context and the String on
+ * every call. Log statements on the load paths pass a timestamp eagerly, so at high rates this
+ * shows up as CPU and GC churn. This clock formats at most once per resolution interval and
+ * hands every caller within the same interval the same String.
+ * 
+ * Thread-safe: the cached value is an immutable holder published through a volatile field;
+ * concurrent callers crossing an interval boundary may both format, which is harmless.
+ */
+public final class CoarseClock {
+    
+    private static final DateTimeFormatter FORMATTER =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    
+    private final long resolutionMillis;
+    private volatile Stamp current = new Stamp(Long.MIN_VALUE, "");
+    
+    /**
+     * @param resolutionMillis Timestamps are reused within this interval (1 = exact to the millisecond)
+     */
+    public CoarseClock(long resolutionMillis) {
+        if (resolutionMillis < 1) {
+            throw new IllegalArgumentException("resolutionMillis must be >= 1: " + resolutionMillis);
+        }
+        this.resolutionMillis = resolutionMillis;
+    }
+    
+    /**
+     * Current time as "yyyy-MM-dd HH:mm:ss.SSS", truncated to the resolution
+     */
+    public String now() {
+        long bucket = System.currentTimeMillis() / resolutionMillis;
+        Stamp stamp = current;
+        if (stamp.bucket != bucket) {
+            stamp = new Stamp(bucket, FORMATTER.format(Instant.ofEpochMilli(bucket * resolutionMillis)));
+            current = stamp;
+        }
+        return stamp.text;
+    }
+    
+    private static final class Stamp {
+        private final long bucket;
+        private final String text;
+        
+        private Stamp(long bucket, String text) {
+            this.bucket = bucket;
+            this.text = text;
+        }
+    }
+}
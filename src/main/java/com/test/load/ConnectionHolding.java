@@ -0,0 +1,85 @@
+package com.test.load;
+
+/**
+ * How long a load thread keeps a pooled connection
+ * 
+ * Long-lived connections are what the failover plugins see in most load tests; application
+ * code usually borrows per request, paying the pool (and validation) cost every time but
+ * picking up a healthy connection after a switchover without reconnect logic.
+ */
+public final class ConnectionHolding {
+    
+    public static final int MAX_OPERATIONS_PER_BORROW = 1_000_000;
+    
+    /** One connection for the whole test (replaced only after a failure) */
+    public static final ConnectionHolding HOLD_FOR_TEST = new ConnectionHolding(Strategy.HOLD_FOR_TEST, 0);
+    
+    public enum Strategy {
+        HOLD_FOR_TEST,
+        BORROW_PER_OPERATION,
+        BORROW_PER_N_OPERATIONS
+    }
+    
+    private final Strategy strategy;
+    private final int operationsPerBorrow;
+    
+    private ConnectionHolding(Strategy strategy, int operationsPerBorrow) {
+        this.strategy = strategy;
+        this.operationsPerBorrow = operationsPerBorrow;
+    }
+    
+    /**
+     * Parse from request parameters (case-insensitive, '-' or '_')
+     * 
+     * @param strategy            hold_for_test (default), borrow_per_operation or borrow_per_n_operations
+     * @param operationsPerBorrow N for borrow_per_n_operations (ignored otherwise)
+     */
+    public static ConnectionHolding fromString(String strategy, Integer operationsPerBorrow) {
+        if (strategy == null || strategy.isEmpty()) {
+            return HOLD_FOR_TEST;
+        }
+        Strategy parsed;
+        try {
+            parsed = Strategy.valueOf(strategy.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("connectionStrategy must be one of: hold_for_test, "
+                + "borrow_per_operation, borrow_per_n_operations");
+        }
+        switch (parsed) {
+            case BORROW_PER_OPERATION:
+                return new ConnectionHolding(parsed, 1);
+            case BORROW_PER_N_OPERATIONS:
+                if (operationsPerBorrow == null || operationsPerBorrow < 1
+                        || operationsPerBorrow > MAX_OPERATIONS_PER_BORROW) {
+                    throw new IllegalArgumentException("operationsPerBorrow must be between 1 and "
+                        + MAX_OPERATIONS_PER_BORROW + " for borrow_per_n_operations");
+                }
+                return new ConnectionHolding(parsed, operationsPerBorrow);
+            default:
+                return HOLD_FOR_TEST;
+        }
+    }
+    
+    public Strategy getStrategy() {
+        return strategy;
+    }
+    
+    /**
+     * Operations run on one borrowed connection (0 = the whole test)
+     */
+    public int getOperationsPerBorrow() {
+        return operationsPerBorrow;
+    }
+    
+    public boolean isHoldForTest() {
+        return strategy == Strategy.HOLD_FOR_TEST;
+    }
+    
+    /**
+     * Label for logs and status, e.g. "borrow_per_n_operations(50)"
+     */
+    public String label() {
+        String name = strategy.name().toLowerCase();
+        return strategy == Strategy.BORROW_PER_N_OPERATIONS ? name + "(" + operationsPerBorrow + ")" : name;
+    }
+}
@@ -0,0 +1,27 @@
+package com.test.load;
+
+/**
+ * How simulated clients are mapped onto JVM threads
+ */
+public enum ExecutorMode {
+    
+    /** One platform thread per simulated client (fixed thread pool) */
+    PLATFORM,
+    
+    /** One virtual thread per simulated client (requires JDK 21+) */
+    VIRTUAL;
+    
+    /**
+     * Parse mode from request parameter (case-insensitive)
+     */
+    public static ExecutorMode fromString(String value) {
+        if (value == null || value.isEmpty()) {
+            return PLATFORM;
+        }
+        try {
+            return ExecutorMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("executorMode must be one of: platform, virtual");
+        }
+    }
+}
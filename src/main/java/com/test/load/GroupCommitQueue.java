@@ -0,0 +1,88 @@
+package com.test.load;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Bounded lock-free queue between write producers and group-commit threads
+ * 
+ * Producers reserve a slot with a CAS on the size counter and then append to a
+ * {@link ConcurrentLinkedQueue}; neither side takes a lock, so hundreds of producers
+ * do not serialize on a queue monitor while a committer is blocked in a slow commit.
+ * When the queue is full {@link #offer} fails immediately instead of blocking - the
+ * caller counts the rejection as back-pressure.
+ * 
+ * The size counter is updated before insert and after removal, so {@link #size()}
+ * can briefly over-report by the number of in-flight offers.
+ */
+public final class GroupCommitQueue<T> {
+    
+    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private final int capacity;
+    
+    public GroupCommitQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+    
+    /**
+     * Append an item if the queue is not full
+     * 
+     * @return false if the queue is at capacity
+     */
+    public boolean offer(T item) {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        queue.offer(item);
+        maxDepth.accumulate(current + 1);
+        return true;
+    }
+    
+    /**
+     * Move up to maxItems queued items to the sink
+     * 
+     * @return Number of items moved
+     */
+    public int drainTo(List<T> sink, int maxItems) {
+        int drained = 0;
+        T item;
+        while (drained < maxItems && (item = queue.poll()) != null) {
+            sink.add(item);
+            drained++;
+        }
+        if (drained > 0) {
+            size.addAndGet(-drained);
+        }
+        return drained;
+    }
+    
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+    
+    public int size() {
+        return size.get();
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * Highest depth seen since creation
+     */
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+}
@@ -0,0 +1,80 @@
+package com.test.load;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor factory for load generator threads
+ * 
+ * Virtual threads are looked up reflectively so the project still builds and runs
+ * on JDK 11/17 (see build.sh); VIRTUAL mode is rejected at start time when the
+ * running JVM does not support it.
+ */
+public final class LoadExecutors {
+    
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+    
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTask = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            // JDK < 21 - virtual threads not available
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTask;
+    }
+    
+    private LoadExecutors() {
+    }
+    
+    /**
+     * Whether the running JVM supports virtual threads
+     */
+    public static boolean virtualThreadsSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+    
+    /**
+     * Create executor for the given mode
+     * 
+     * @param mode        Executor mode
+     * @param numThreads  Number of concurrent tasks (platform mode pool size)
+     * @param namePrefix  Thread name prefix (threads are numbered from 1)
+     * @throws IllegalStateException if VIRTUAL is requested on a JVM without virtual threads
+     */
+    public static ExecutorService create(ExecutorMode mode, int numThreads, String namePrefix) {
+        if (mode == ExecutorMode.PLATFORM) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(numThreads,
+                runnable -> new Thread(runnable, namePrefix + threadNumber.incrementAndGet()));
+        }
+        if (!virtualThreadsSupported()) {
+            throw new IllegalStateException("Virtual threads require JDK 21+ (running on Java "
+                + System.getProperty("java.version") + ")");
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, namePrefix, 1L);
+            ThreadFactory factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.test.load;
+
+import com.test.jdbc.ConnectionLease;
+import com.test.jdbc.EndpointTracker;
+import com.test.jdbc.ReconnectController;
+import com.test.jdbc.SqlErrorClassifier;
+import com.test.jdbc.SqlErrorOutcome;
+import com.test.jdbc.StatementCache;
+import com.test.metrics.OutageTracker;
+import com.test.metrics.RecoveryTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Connection of one load thread and the bookkeeping every load loop repeats around it
+ * 
+ * Holds the thread's pooled connection through a {@link ConnectionLease}, replaces it after
+ * read-only and connection errors (paced by the {@link ReconnectController} and counted in the
+ * time to full recovery), classifies and counts failures, and keeps the thread's outage
+ * windows, endpoint and statement cache. A loop runs each operation as
+ * 
+ *   connection() -> execute -> succeeded() | failed() + recover() -> operationDone()
+ * 
+ * and stops when connection() returns null or recover() returns false.
+ * 
+ * Not thread-safe - owned by one load thread.
+ */
+public final class LoadThreadConnection implements AutoCloseable {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoadThreadConnection.class);
+    private static final CoarseClock clock = new CoarseClock(100);
+    
+    /** Connection attempts of one (re)connect before the thread gives up */
+    public static final int MAX_CONNECT_ATTEMPTS = 10;
+    // Errors that need no reconnect are logged once per this many (avoids log spam)
+    private static final int FAILURE_LOG_INTERVAL = 100;
+    
+    private final Context context;
+    private final String name;
+    private final ConnectionLease lease;
+    private final EndpointTracker.Session endpoints;
+    private final OutageTracker outage;
+    private Connection conn;
+    private String endpoint = "unknown";
+    private StatementCache statements;
+    private long unrecoverableFailures;
+    
+    /**
+     * @param name      Thread name in log messages, e.g. "Write-Thread-3"
+     * @param outage    Outage windows of the thread (null when other threads track them, e.g.
+     *                  pipeline committers whose producers see every failure)
+     */
+    public LoadThreadConnection(Context context, String name, ConnectionLease lease,
+                                EndpointTracker.Session endpoints, OutageTracker outage) {
+        this.context = context;
+        this.name = name;
+        this.lease = lease;
+        this.endpoints = endpoints;
+        this.outage = outage;
+    }
+    
+    /**
+     * Initial connection with retry (not counted as a reconnect)
+     * 
+     * @return The connection, or null if none could be obtained (logged)
+     */
+    public Connection open() {
+        try {
+            conn = connectWithRetry(context.reconnectController.newBackoff(), false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (conn == null) {
+            log.error("❌ [{}] {}: Failed to get initial connection", clock.now(), name);
+            return null;
+        }
+        endpointChanged();
+        log.info("✅ [{}] {} got connection: {}", clock.now(), name, endpoint);
+        return conn;
+    }
+    
+    /**
+     * Connection for the next operation: borrows one when the strategy returned the previous
+     * connection, replaces one that was found closed
+     * 
+     * @return null if a closed connection could not be replaced (logged - the thread should stop)
+     * @throws SQLException Borrowing from the pool failed (handle like a failed operation)
+     */
+    public Connection connection() throws SQLException {
+        if (conn == null && lease.isBorrowing()) {
+            // Returned after the previous operation(s) - borrow the next one
+            conn = lease.borrow();
+        } else if (conn == null || conn.isClosed()) {
+            log.warn("⚠️  [{}] {}: Connection is closed, reconnecting...", clock.now(), name);
+            conn = recover(false);
+            if (conn == null) {
+                log.error("❌ [{}] {}: Failed to reconnect", clock.now(), name);
+                return null;
+            }
+            log.info("✅ [{}] {}: Reconnected to {}", clock.now(), name, endpoints.endpoint(conn));
+        }
+        // Resolved only when the physical connection changed or after invalidate/sampling
+        endpointChanged();
+        return conn;
+    }
+    
+    /**
+     * Prepared statements of the current connection (rebuilt when the connection was replaced)
+     */
+    public StatementCache statements() {
+        if (statements == null || !statements.isFor(conn)) {
+            // New or replaced connection - statements of the old one are invalid
+            if (statements != null) {
+                statements.close();
+                context.statementCacheRebuilds.increment();
+            }
+            statements = new StatementCache(conn);
+        }
+        return statements;
+    }
+    
+    /**
+     * Endpoint of the current connection (as of the last {@link #connection()})
+     */
+    public String endpoint() {
+        return endpoint;
+    }
+    
+    /**
+     * The operation succeeded
+     */
+    public void succeeded() {
+        if (outage != null) {
+            outage.success(endpoint);
+        }
+    }
+    
+    /**
+     * The operation failed: classify and count the error, track the outage
+     * 
+     * Call {@link #recover} next; outcome-specific bookkeeping of the caller (e.g. the write
+     * ledger) goes in between, so it is not delayed by the reconnect.
+     * 
+     * @param operations Failed operations the error counts for (e.g. the unapplied rows of a batch)
+     */
+    public SqlErrorOutcome failed(SQLException e, int operations) {
+        if (outage != null) {
+            outage.failure();
+        }
+        return context.errorClassifier.record(e, operations);
+    }
+    
+    /**
+     * Replace the connection after a read-only or connection error, log other errors
+     * 
+     * @param operation What failed, for log messages (e.g. "write", "INSERT test_table")
+     * @return false if the connection was lost and could not be replaced (the thread should stop)
+     */
+    public boolean recover(SQLException e, SqlErrorOutcome outcome, String operation) {
+        if (outcome == SqlErrorOutcome.READ_ONLY) {
+            context.readOnlyErrors.increment();
+            endpoints.invalidate();
+            log.warn("⚠️  [{}] {}: READ-ONLY error on {} - {}", clock.now(), name, operation, e.getMessage());
+            // Reconnect to reach the writer; if that fails the next connection() tries again
+            conn = recover(true);
+            if (conn != null) {
+                endpointChanged();
+            }
+        } else if (outcome.isConnectionEvent()) {
+            endpoints.invalidate();
+            context.failoverCount.increment();
+            log.info("🔄 [{}] {}: Failover detected on {} ({}), reconnecting... ({})",
+                clock.now(), name, operation, outcome, e.getMessage());
+            conn = recover(true);
+            if (conn == null) {
+                log.error("❌ [{}] {}: Failed to reconnect after failover", clock.now(), name);
+                return false;
+            }
+            endpointChanged();
+            log.info("✅ [{}] {}: Successfully reconnected after failover to {}", clock.now(), name, endpoint);
+        } else if (unrecoverableFailures++ % FAILURE_LOG_INTERVAL == 0) {
+            log.error("❌ [{}] {}: {} failed - {} (SQLState: {}, ErrorCode: {})",
+                clock.now(), name, operation, e.getMessage(), e.getSQLState(), e.getErrorCode());
+        }
+        return true;
+    }
+    
+    /**
+     * One operation finished: the lease returns the connection when the strategy says so
+     */
+    public void operationDone() {
+        lease.operationDone();
+        conn = lease.current();
+    }
+    
+    /**
+     * Whether the test is still running
+     */
+    public boolean isTestRunning() {
+        return context.running.get();
+    }
+    
+    /**
+     * Close the outage window, the endpoint session and statements, return the connection
+     */
+    @Override
+    public void close() {
+        if (outage != null) {
+            outage.finish();
+        }
+        endpoints.close();
+        if (statements != null) {
+            statements.close();
+        }
+        if (lease.current() != null) {
+            lease.close();
+            log.info("🔌 [{}] {} connection returned to pool", clock.now(), name);
+        }
+    }
+    
+    private void endpointChanged() {
+        endpoint = endpoints.endpoint(conn);
+        context.endpointListener.accept(endpoint);
+    }
+    
+    /**
+     * Drop the connection and reconnect, counted in the time to full recovery
+     * 
+     * @param settle Wait for the cluster to stabilize before the first attempt (after a failover error)
+     */
+    private Connection recover(boolean settle) {
+        lease.discard();
+        ReconnectController.Backoff backoff = context.reconnectController.newBackoff();
+        Connection replacement = null;
+        context.recovery.connectionLost();
+        try {
+            if (settle) {
+                Thread.sleep(backoff.settleMillis());
+            }
+            replacement = connectWithRetry(backoff, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            context.recovery.reconnectEnded(replacement != null);
+        }
+        return replacement;
+    }
+    
+    /**
+     * Connection attempts with backoff, borrowing through the lease
+     * 
+     * @param admitted Reconnects pass the controller's admission (token bucket) before each attempt
+     */
+    private Connection connectWithRetry(ReconnectController.Backoff backoff, boolean admitted)
+            throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_CONNECT_ATTEMPTS; attempt++) {
+            if (admitted) {
+                context.reconnectController.admit();
+                context.reconnectAttempts.increment();
+            }
+            try {
+                Connection candidate = lease.borrow();
+                if (candidate != null && !candidate.isClosed()) {
+                    return candidate;
+                }
+                lease.discard();
+            } catch (SQLException e) {
+                log.warn("⚠️  [{}] {}: Connection attempt {}/{} failed: {}",
+                    clock.now(), name, attempt, MAX_CONNECT_ATTEMPTS, e.getMessage());
+            }
+            if (admitted) {
+                context.reconnectAttemptsFailed.increment();
+            }
+            
+            if (attempt < MAX_CONNECT_ATTEMPTS && context.running.get()) {
+                Thread.sleep(backoff.nextDelayMillis());
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Collaborators and counters of a test run, shared by its load threads
+     */
+    public static final class Context {
+        private final ReconnectController reconnectController;
+        private final RecoveryTracker recovery;
+        private final LongAdder reconnectAttempts;
+        private final LongAdder reconnectAttemptsFailed;
+        private final SqlErrorClassifier errorClassifier;
+        private final LongAdder readOnlyErrors;
+        private final LongAdder failoverCount;
+        private final LongAdder statementCacheRebuilds;
+        private final AtomicBoolean running;
+        private final Consumer<String> endpointListener;
+        
+        /**
+         * @param reconnectAttempts       Connection attempts of reconnecting threads
+         * @param reconnectAttemptsFailed Reconnect attempts that failed
+         * @param readOnlyErrors          Errors from a read-only instance
+         * @param failoverCount           Connection errors (failovers) seen by the threads
+         * @param statementCacheRebuilds  Statement caches dropped with a replaced connection
+         * @param running                 Whether the test runs (stops retry backoff when cleared)
+         * @param endpointListener        Called with the endpoint serving a thread after each lookup
+         */
+        public Context(ReconnectController reconnectController, RecoveryTracker recovery,
+                       LongAdder reconnectAttempts, LongAdder reconnectAttemptsFailed,
+                       SqlErrorClassifier errorClassifier, LongAdder readOnlyErrors, LongAdder failoverCount,
+                       LongAdder statementCacheRebuilds, AtomicBoolean running,
+                       Consumer<String> endpointListener) {
+            this.reconnectController = reconnectController;
+            this.recovery = recovery;
+            this.reconnectAttempts = reconnectAttempts;
+            this.reconnectAttemptsFailed = reconnectAttemptsFailed;
+            this.errorClassifier = errorClassifier;
+            this.readOnlyErrors = readOnlyErrors;
+            this.failoverCount = failoverCount;
+            this.statementCacheRebuilds = statementCacheRebuilds;
+            this.running = running;
+            this.endpointListener = endpointListener;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.test.load;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop pacer for load threads
+ * 
+ * Schedules operations against absolute nanosecond deadlines (start + n * interval)
+ * instead of sleeping a fixed interval after each operation. A slow operation does
+ * not push the schedule back: the following operations start late and the delay
+ * between intended start and actual start is reported as schedule lag.
+ * 
+ * Measuring latency from {@link #intendedStartNanos()} instead of the actual start
+ * includes that queueing delay (no coordinated omission), which is what a real client
+ * population would observe during a switchover.
+ * 
+ * Not thread-safe - each load thread owns its own pacer.
+ */
+public final class OpenLoopPacer {
+    
+    private long startNanos;
+    private double intervalNanos;
+    private long sequence = 0;
+    private long baseSequence = 0;  // Sequence at the last restart
+    private long intendedStartNanos;
+    private long actualStartNanos;
+    
+    /**
+     * @param opsPerSecond Target rate, may be fractional (e.g. 0.5 = one op every 2 seconds)
+     */
+    public OpenLoopPacer(double opsPerSecond) {
+        this(opsPerSecond, System.nanoTime());
+    }
+    
+    /**
+     * @param opsPerSecond Target rate, may be fractional
+     * @param startNanos   Schedule origin ({@link System#nanoTime()} timebase)
+     */
+    public OpenLoopPacer(double opsPerSecond, long startNanos) {
+        if (!(opsPerSecond > 0) || Double.isInfinite(opsPerSecond)) {
+            throw new IllegalArgumentException("opsPerSecond must be a positive finite number: " + opsPerSecond);
+        }
+        this.intervalNanos = 1_000_000_000d / opsPerSecond;
+        this.startNanos = startNanos;
+    }
+    
+    /**
+     * Restart the schedule at a new rate, with the next operation due now
+     * 
+     * Operations the old schedule was behind on are dropped, so a new load step does not
+     * inherit the queue built up by the previous one.
+     */
+    public void restart(double opsPerSecond) {
+        if (!(opsPerSecond > 0) || Double.isInfinite(opsPerSecond)) {
+            throw new IllegalArgumentException("opsPerSecond must be a positive finite number: " + opsPerSecond);
+        }
+        this.intervalNanos = 1_000_000_000d / opsPerSecond;
+        this.startNanos = System.nanoTime();
+        this.baseSequence = sequence;
+    }
+    
+    /**
+     * Block until the deadline of the next operation.
+     * Returns immediately when the schedule is already behind.
+     * 
+     * @return Intended start time of the operation (nanoTime)
+     */
+    public long awaitNext() throws InterruptedException {
+        long deadline = startNanos + (long) ((sequence - baseSequence) * intervalNanos);
+        sequence++;
+        
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        
+        intendedStartNanos = deadline;
+        actualStartNanos = System.nanoTime();
+        return deadline;
+    }
+    
+    /**
+     * Intended start of the current operation (nanoTime)
+     */
+    public long intendedStartNanos() {
+        return intendedStartNanos;
+    }
+    
+    /**
+     * Actual start of the current operation (nanoTime)
+     */
+    public long actualStartNanos() {
+        return actualStartNanos;
+    }
+    
+    /**
+     * Delay between intended and actual start of the current operation
+     */
+    public long scheduleLagNanos() {
+        return actualStartNanos - intendedStartNanos;
+    }
+    
+    /**
+     * Number of operations scheduled so far
+     */
+    public long scheduled() {
+        return sequence;
+    }
+    
+    public double intervalNanos() {
+        return intervalNanos;
+    }
+}
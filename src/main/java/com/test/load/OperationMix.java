@@ -0,0 +1,57 @@
+package com.test.load;
+
+/**
+ * Deterministic interleaving of weighted operations (smooth weighted round-robin)
+ * 
+ * Every call adds each operation's weight to its credit and picks the operation with the
+ * highest credit, which then pays the total weight. Over any window each operation runs in
+ * proportion to its weight, evenly spread rather than in bursts, and without a random
+ * number per operation. Driven by a pacer at the total rate, each operation therefore
+ * runs at its own target rate.
+ * 
+ * Not thread-safe - each load thread owns its own mix.
+ */
+public final class OperationMix {
+    
+    private final double[] weights;
+    private final double[] credit;
+    private final double totalWeight;
+    
+    /**
+     * @param weights Relative weight (e.g. target rate) per operation
+     * @param phase   Number of picks to skip, so threads created with different phases are offset
+     */
+    public OperationMix(double[] weights, int phase) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("at least one operation is required");
+        }
+        this.weights = weights.clone();
+        this.credit = new double[weights.length];
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight > 0)) {
+                throw new IllegalArgumentException("weights must be greater than 0");
+            }
+            total += weight;
+        }
+        this.totalWeight = total;
+        for (int i = 0; i < Math.floorMod(phase, 1024); i++) {
+            next();
+        }
+    }
+    
+    /**
+     * Index of the next operation
+     */
+    public int next() {
+        int best = 0;
+        for (int i = 0; i < weights.length; i++) {
+            credit[i] += weights[i];
+            if (credit[i] > credit[best]) {
+                best = i;
+            }
+        }
+        credit[best] -= totalWeight;
+        return best;
+    }
+}
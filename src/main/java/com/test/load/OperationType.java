@@ -0,0 +1,56 @@
+package com.test.load;
+
+/**
+ * Operation types of a declarative workload (see {@link WorkloadSpec})
+ */
+public enum OperationType {
+    
+    /** SELECT one row by primary key */
+    POINT_SELECT(true),
+    
+    /** SELECT up to N rows from a random primary key upwards */
+    RANGE_SCAN(true),
+    
+    /** INSERT one row */
+    INSERT(false),
+    
+    /** UPDATE one row by primary key */
+    UPDATE(false),
+    
+    /** DELETE one row by primary key */
+    DELETE(false),
+    
+    /** DatabaseMetaData table lookup (what the metadata read test does) */
+    METADATA_READ(true),
+    
+    /** SELECT ... FOR UPDATE, UPDATE and INSERT in one transaction */
+    TRANSACTION(false);
+    
+    private final boolean read;
+    
+    OperationType(boolean read) {
+        this.read = read;
+    }
+    
+    /**
+     * Whether the operation counts as a read (otherwise as a write) in the test statistics
+     */
+    public boolean isRead() {
+        return read;
+    }
+    
+    /**
+     * Parse type from a workload spec (case-insensitive, e.g. "point_select")
+     */
+    public static OperationType fromString(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("operation type is required");
+        }
+        try {
+            return OperationType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("operation type must be one of: point_select, range_scan, insert, "
+                + "update, delete, metadata_read, transaction (got '" + value + "')");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.test.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Garbage-free row payloads for the write hot path
+ * 
+ * Payloads are ASCII and written into buffers allocated once, so building a row does not
+ * create Strings or StringBuilders. The caller binds the returned array directly
+ * (PreparedStatement.setBytes). Every payload has exactly {@code size} bytes:
+ * - label:  "Thread-N Write #M " padded with '.' (readable rows, default)
+ * - random: label followed by random alphanumerics, refreshed per row (defeats compression)
+ * - fixed:  constant filler, identical for every row (no per-row work at all)
+ * 
+ * The driver may keep a reference to a bound array until the statement executes, so the
+ * generator rotates through {@code slots} buffers: use at least as many slots as rows bound
+ * per statement (batch size or rows per multi-row INSERT).
+ * 
+ * Not thread-safe - each load thread owns its own generator.
+ */
+public final class PayloadGenerator {
+    
+    /** Longest label: "Thread-" + int + " Write #" + long + " " */
+    public static final int MAX_LABEL_LENGTH = 7 + 11 + 8 + 20 + 1;
+    
+    private static final byte[] THREAD = ascii("Thread-");
+    private static final byte[] WRITE = ascii(" Write #");
+    private static final byte[] ALPHABET = ascii("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_");
+    private static final byte FILLER = '.';
+    
+    /**
+     * Payload content mode
+     */
+    public enum Content {
+        LABEL,
+        RANDOM,
+        FIXED;
+        
+        /**
+         * Parse a configuration value (case-insensitive)
+         */
+        public static Content parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("payload content must be label, random or fixed: " + value);
+            }
+        }
+    }
+    
+    private final Content content;
+    private final byte[][] buffers;
+    private final byte[] digits = new byte[20];
+    private int next;
+    private long random;
+    
+    /**
+     * @param size    Payload length in bytes (a label longer than this is truncated)
+     * @param content Content mode
+     * @param slots   Number of rotating buffers (rows bound per statement)
+     * @param seed    Seed of the random content (e.g. the thread id)
+     */
+    public PayloadGenerator(int size, Content content, int slots, long seed) {
+        if (size < 1) {
+            throw new IllegalArgumentException("payload size must be >= 1: " + size);
+        }
+        if (slots < 1) {
+            throw new IllegalArgumentException("slots must be >= 1: " + slots);
+        }
+        this.content = content;
+        this.buffers = new byte[slots][size];
+        for (byte[] buffer : buffers) {
+            Arrays.fill(buffer, FILLER);
+        }
+        long mixed = seed * 0x9E3779B97F4A7C15L + 1;
+        this.random = mixed != 0 ? mixed : 1;  // xorshift state must be non-zero
+    }
+    
+    /**
+     * Fill the next buffer with the payload of one row
+     * 
+     * @return The filled buffer, valid until {@code slots} further calls
+     */
+    public byte[] next(int threadId, long sequence) {
+        byte[] buffer = buffers[next];
+        next = next + 1 == buffers.length ? 0 : next + 1;
+        if (content == Content.FIXED) {
+            return buffer;
+        }
+        
+        int pos = put(buffer, 0, THREAD);
+        pos = putNumber(buffer, pos, threadId);
+        pos = put(buffer, pos, WRITE);
+        pos = putNumber(buffer, pos, sequence);
+        if (pos < buffer.length) {
+            buffer[pos++] = ' ';
+        }
+        
+        if (content == Content.RANDOM) {
+            fillRandom(buffer, pos);
+        } else {
+            // Clear the tail of a longer label previously written into this buffer
+            for (int i = pos; i < buffer.length && buffer[i] != FILLER; i++) {
+                buffer[i] = FILLER;
+            }
+        }
+        return buffer;
+    }
+    
+    public int getSize() {
+        return buffers[0].length;
+    }
+    
+    public Content getContent() {
+        return content;
+    }
+    
+    private static int put(byte[] buffer, int pos, byte[] text) {
+        int length = Math.min(text.length, buffer.length - pos);
+        System.arraycopy(text, 0, buffer, pos, Math.max(length, 0));
+        return pos + Math.max(length, 0);
+    }
+    
+    private int putNumber(byte[] buffer, int pos, long value) {
+        if (value < 0 && pos < buffer.length) {
+            buffer[pos++] = '-';
+        }
+        // Digits via remainder magnitude, so Long.MIN_VALUE needs no special case
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + (int) Math.abs(value % 10));
+            value /= 10;
+        } while (value != 0);
+        while (count > 0 && pos < buffer.length) {
+            buffer[pos++] = digits[--count];
+        }
+        return pos;
+    }
+    
+    private void fillRandom(byte[] buffer, int pos) {
+        long bits = 0;
+        int available = 0;
+        for (int i = pos; i < buffer.length; i++) {
+            if (available == 0) {
+                // xorshift64
+                random ^= random << 13;
+                random ^= random >>> 7;
+                random ^= random << 17;
+                bits = random;
+                available = 10;  // 10 x 6 bits per word
+            }
+            buffer[i] = ALPHABET[(int) (bits & 63)];
+            bits >>>= 6;
+            available--;
+        }
+    }
+    
+    private static byte[] ascii(String text) {
+        byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) text.charAt(i);
+        }
+        return bytes;
+    }
+}
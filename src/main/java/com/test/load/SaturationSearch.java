@@ -0,0 +1,226 @@
+package com.test.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Step-wise search for the maximum sustainable throughput (the knee of the latency curve)
+ * 
+ * The offered load starts at startRate and grows by growthFactor per step while every step
+ * passes: p99 latency within the SLO, error rate within maxErrorRate and at least
+ * {@link #MIN_THROUGHPUT_RATIO} of the offered rate actually completed. The first failing step
+ * brackets the knee; refineSteps further steps bisect between the last passing and the first
+ * failing rate. The result is the highest throughput achieved by a passing step.
+ * 
+ * Rates are total operations per second across all load threads. Updated by the search thread,
+ * read by status requests - all methods are synchronized.
+ */
+public final class SaturationSearch {
+    
+    /** A step passes only if this fraction of the offered operations completed successfully */
+    public static final double MIN_THROUGHPUT_RATIO = 0.95;
+    
+    private final double startRate;
+    private final double maxRate;
+    private final double growthFactor;
+    private final int stepSeconds;
+    private final int settleSeconds;
+    private final double sloP99Ms;
+    private final double maxErrorRate;
+    private final int refineSteps;
+    
+    private final List<Step> steps = new ArrayList<>();
+    private double offeredRate;
+    private double lastPassingRate = 0;
+    private double firstFailingRate = Double.NaN;
+    private int refinementsLeft;
+    private Step best;
+    private String stopReason;  // Null while searching
+    
+    /**
+     * @param startRate     Offered rate of the first step (ops/sec, all threads)
+     * @param maxRate       Upper bound of the offered rate
+     * @param growthFactor  Rate multiplier between passing steps (> 1)
+     * @param stepSeconds   Measured duration of each step
+     * @param settleSeconds Time after a rate change before measuring
+     * @param sloP99Ms      Highest acceptable p99 latency
+     * @param maxErrorRate  Highest acceptable fraction of failed operations
+     * @param refineSteps   Bisection steps after the knee is bracketed
+     */
+    public SaturationSearch(double startRate, double maxRate, double growthFactor, int stepSeconds,
+                            int settleSeconds, double sloP99Ms, double maxErrorRate, int refineSteps) {
+        if (!(startRate > 0) || !(maxRate >= startRate)) {
+            throw new IllegalArgumentException("startRate must be greater than 0 and at most maxRate");
+        }
+        if (!(growthFactor > 1)) {
+            throw new IllegalArgumentException("growthFactor must be greater than 1");
+        }
+        if (!(sloP99Ms > 0)) {
+            throw new IllegalArgumentException("sloP99Ms must be greater than 0");
+        }
+        if (!(maxErrorRate >= 0) || maxErrorRate >= 1) {
+            throw new IllegalArgumentException("maxErrorRate must be between 0 and 1");
+        }
+        this.startRate = startRate;
+        this.maxRate = maxRate;
+        this.growthFactor = growthFactor;
+        this.stepSeconds = stepSeconds;
+        this.settleSeconds = settleSeconds;
+        this.sloP99Ms = sloP99Ms;
+        this.maxErrorRate = maxErrorRate;
+        this.refineSteps = refineSteps;
+        this.offeredRate = startRate;
+        this.refinementsLeft = refineSteps;
+    }
+    
+    /**
+     * Offered rate of the current step
+     */
+    public synchronized double getOfferedRate() {
+        return offeredRate;
+    }
+    
+    /**
+     * Whether the search has ended (see {@link #getStopReason()})
+     */
+    public synchronized boolean isDone() {
+        return stopReason != null;
+    }
+    
+    /**
+     * Evaluate the measured step at the current offered rate and choose the next rate
+     * 
+     * @param completed Operations completed successfully during the step
+     * @param failed    Operations failed during the step
+     * @param seconds   Measured duration
+     * @param p99Ms     Highest p99 latency among the measured operation types
+     * @return The recorded step
+     */
+    public synchronized Step record(long completed, long failed, double seconds, double p99Ms) {
+        long total = completed + failed;
+        double achievedRate = seconds > 0 ? completed / seconds : 0;
+        double errorRate = total > 0 ? (double) failed / total : 0;
+        String failure = null;
+        if (total == 0) {
+            failure = "throughput";
+        } else if (errorRate > maxErrorRate) {
+            failure = "errors";
+        } else if (p99Ms > sloP99Ms) {
+            failure = "p99";
+        } else if (achievedRate < offeredRate * MIN_THROUGHPUT_RATIO) {
+            failure = "throughput";
+        }
+        boolean refining = !Double.isNaN(firstFailingRate);
+        Step step = new Step(steps.size() + 1, refining ? "refine" : "ramp", offeredRate, achievedRate,
+            total, failed, errorRate, p99Ms, failure == null, failure);
+        steps.add(step);
+        
+        if (failure == null) {
+            lastPassingRate = offeredRate;
+            if (best == null || achievedRate > best.achievedRate) {
+                best = step;
+            }
+        } else {
+            firstFailingRate = Double.isNaN(firstFailingRate) ? offeredRate : Math.min(firstFailingRate, offeredRate);
+        }
+        
+        if (Double.isNaN(firstFailingRate)) {
+            // Ramp: grow until a step fails or maxRate passed
+            if (offeredRate >= maxRate) {
+                stopReason = "maxRate reached without missing the SLO";
+            } else {
+                offeredRate = Math.min(offeredRate * growthFactor, maxRate);
+            }
+        } else if (lastPassingRate == 0) {
+            stopReason = "SLO missed at the start rate";
+        } else {
+            if (refining) {
+                refinementsLeft--;
+            }
+            if (refinementsLeft <= 0) {
+                stopReason = "knee found";
+            } else {
+                offeredRate = (lastPassingRate + firstFailingRate) / 2;
+            }
+        }
+        return step;
+    }
+    
+    /**
+     * End the search early (e.g. test stopped)
+     */
+    public synchronized void abort(String reason) {
+        if (stopReason == null) {
+            stopReason = reason;
+        }
+    }
+    
+    /**
+     * Highest throughput of a passing step (0 if none passed)
+     */
+    public synchronized double getMaxSustainableRate() {
+        return best != null ? best.achievedRate : 0;
+    }
+    
+    /**
+     * Lowest offered rate that failed (NaN if none failed)
+     */
+    public synchronized double getKneeRate() {
+        return firstFailingRate;
+    }
+    
+    public synchronized String getStopReason() { return stopReason; }
+    public synchronized List<Step> getSteps() { return Collections.unmodifiableList(new ArrayList<>(steps)); }
+    public double getStartRate() { return startRate; }
+    public double getMaxRate() { return maxRate; }
+    public double getGrowthFactor() { return growthFactor; }
+    public int getStepSeconds() { return stepSeconds; }
+    public int getSettleSeconds() { return settleSeconds; }
+    public double getSloP99Ms() { return sloP99Ms; }
+    public double getMaxErrorRate() { return maxErrorRate; }
+    public int getRefineSteps() { return refineSteps; }
+    
+    /**
+     * One measured load step
+     */
+    public static final class Step {
+        private final int index;
+        private final String phase;
+        private final double offeredRate;
+        private final double achievedRate;
+        private final long operations;
+        private final long failed;
+        private final double errorRate;
+        private final double p99Ms;
+        private final boolean passed;
+        private final String failure;
+        
+        Step(int index, String phase, double offeredRate, double achievedRate, long operations, long failed,
+             double errorRate, double p99Ms, boolean passed, String failure) {
+            this.index = index;
+            this.phase = phase;
+            this.offeredRate = offeredRate;
+            this.achievedRate = achievedRate;
+            this.operations = operations;
+            this.failed = failed;
+            this.errorRate = errorRate;
+            this.p99Ms = p99Ms;
+            this.passed = passed;
+            this.failure = failure;
+        }
+        
+        public int getIndex() { return index; }
+        /** "ramp" or "refine" */
+        public String getPhase() { return phase; }
+        public double getOfferedRate() { return offeredRate; }
+        public double getAchievedRate() { return achievedRate; }
+        public long getOperations() { return operations; }
+        public long getFailed() { return failed; }
+        public double getErrorRate() { return errorRate; }
+        public double getP99Ms() { return p99Ms; }
+        public boolean isPassed() { return passed; }
+        /** Why the step failed: "throughput", "errors" or "p99" (null if passed) */
+        public String getFailure() { return failure; }
+    }
+}
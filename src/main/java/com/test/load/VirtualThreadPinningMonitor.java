@@ -0,0 +1,138 @@
+package com.test.load;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reports carrier-thread pinning of virtual threads
+ * 
+ * A virtual thread that blocks inside a synchronized block (e.g. in the JDBC driver
+ * or the AWS JDBC Wrapper) pins its carrier thread, which silently caps concurrency
+ * at the carrier pool size. The JVM reports this as the JFR event
+ * "jdk.VirtualThreadPinned"; this monitor records those events and aggregates them
+ * by the first non-JDK frame, i.e. the driver/wrapper code holding the monitor.
+ * 
+ * Events arrive through a JFR event stream (delivered once each, as the JVM flushes its
+ * per-thread buffers, about once per second), so refreshing costs the same however long the
+ * recording runs.
+ */
+public final class VirtualThreadPinningMonitor implements AutoCloseable {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int TOP_FRAMES = 5;
+    
+    private final RecordingStream stream;
+    private final Map<String, Long> countsByFrame = new HashMap<>();
+    private long totalEvents = 0;
+    private long totalPinnedNanos = 0;
+    private long maxPinnedNanos = 0;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    
+    private VirtualThreadPinningMonitor(RecordingStream stream) {
+        this.stream = stream;
+    }
+    
+    /**
+     * Start streaming pinning events longer than the given threshold
+     */
+    public static VirtualThreadPinningMonitor start(Duration threshold) {
+        RecordingStream stream = new RecordingStream();
+        stream.setMaxSize(32L * 1024 * 1024);
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(stream);
+        stream.onEvent(PINNED_EVENT, monitor::accept);
+        stream.startAsync();
+        return monitor;
+    }
+    
+    private synchronized void accept(RecordedEvent event) {
+        long pinnedNanos = event.getDuration().toNanos();
+        totalEvents++;
+        totalPinnedNanos += pinnedNanos;
+        maxPinnedNanos = Math.max(maxPinnedNanos, pinnedNanos);
+        countsByFrame.merge(pinningFrame(event.getStackTrace()), 1L, Long::sum);
+    }
+    
+    /**
+     * Update the snapshot with the events delivered so far
+     */
+    public synchronized Snapshot refresh() {
+        Map<String, Long> top = countsByFrame.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(TOP_FRAMES)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+        snapshot = new Snapshot(totalEvents, totalPinnedNanos, maxPinnedNanos, top);
+        return snapshot;
+    }
+    
+    /**
+     * Last computed snapshot (does not read new events)
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    @Override
+    public void close() {
+        stream.close();
+        refresh();
+    }
+    
+    /**
+     * First frame outside the JDK - the code that was holding the monitor
+     */
+    private static String pinningFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")) {
+                continue;
+            }
+            return className + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        return frames.isEmpty() || frames.get(0).getMethod() == null
+            ? "unknown"
+            : frames.get(0).getMethod().getType().getName() + "." + frames.get(0).getMethod().getName();
+    }
+    
+    /**
+     * Pinning statistics
+     */
+    public static class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0, 0, 0, Collections.emptyMap());
+        
+        private final long pinnedEvents;
+        private final long totalPinnedNanos;
+        private final long maxPinnedNanos;
+        private final Map<String, Long> topPinningFrames;
+        
+        public Snapshot(long pinnedEvents, long totalPinnedNanos, long maxPinnedNanos,
+                        Map<String, Long> topPinningFrames) {
+            this.pinnedEvents = pinnedEvents;
+            this.totalPinnedNanos = totalPinnedNanos;
+            this.maxPinnedNanos = maxPinnedNanos;
+            this.topPinningFrames = topPinningFrames;
+        }
+        
+        public long getPinnedEvents() { return pinnedEvents; }
+        public double getTotalPinnedMs() { return totalPinnedNanos / 1_000_000.0; }
+        public double getMaxPinnedMs() { return maxPinnedNanos / 1_000_000.0; }
+        public Map<String, Long> getTopPinningFrames() { return topPinningFrames; }
+    }
+}
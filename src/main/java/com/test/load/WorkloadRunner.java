@@ -0,0 +1,263 @@
+package com.test.load;
+
+import com.test.jdbc.SqlErrorOutcome;
+import com.test.jdbc.StatementCache;
+import com.test.jdbc.WorkloadTable;
+import com.test.metrics.OperationStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Load threads of a declarative workload test: each runs the {@link WorkloadSpec}'s operation
+ * mix on its own connection, paced open-loop
+ * 
+ * Latency is measured from the intended start time, so it includes the time an operation
+ * waited because the previous one was slow. The rate follows the run's load scale, which the
+ * saturation search raises step by step.
+ * 
+ * Thread-safe: one instance per test, shared by its load threads.
+ */
+public final class WorkloadRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(WorkloadRunner.class);
+    private static final CoarseClock clock = new CoarseClock(100);
+    
+    // Bytes of the label written to test_table.name
+    private static final int LABEL_SIZE = 64;
+    
+    private final WorkloadSpec spec;
+    private final WorkloadTable[] tables;
+    private final OperationStats[] stats;
+    private final OperationStats readStats;
+    private final OperationStats writeStats;
+    private final LongAdder statementsPrepared;
+    private final DoubleSupplier loadScale;
+    
+    /**
+     * @param tables             Table of each operation, in the spec's order
+     * @param stats              Statistics of each operation, in the spec's order
+     * @param readStats          All read operations of the run
+     * @param writeStats         All write operations of the run
+     * @param statementsPrepared Statements prepared by the load threads
+     * @param loadScale          Current multiplier of the spec's rates (read before each operation)
+     */
+    public WorkloadRunner(WorkloadSpec spec, WorkloadTable[] tables, OperationStats[] stats,
+                          OperationStats readStats, OperationStats writeStats, LongAdder statementsPrepared,
+                          DoubleSupplier loadScale) {
+        this.spec = spec;
+        this.tables = tables;
+        this.stats = stats;
+        this.readStats = readStats;
+        this.writeStats = writeStats;
+        this.statementsPrepared = statementsPrepared;
+        this.loadScale = loadScale;
+    }
+    
+    /**
+     * Run one load thread until the test stops or the duration ends
+     * 
+     * @param connection      Connection of the thread (closed when done)
+     * @param payloads        Payloads of the thread's writes
+     * @param durationSeconds 0 = until the test is stopped
+     */
+    public void run(LoadThreadConnection connection, int threadId, PayloadGenerator payloads, int durationSeconds) {
+        String name = "Workload-Thread-" + threadId;
+        log.info("🎛️  [{}] {}: Starting '{}' ({}/sec)...",
+            clock.now(), name, spec.getName(), String.format("%.1f", spec.getOperationsPerSecond()));
+        
+        List<WorkloadSpec.Operation> operations = spec.getOperations();
+        OperationMix mix = spec.newMix(threadId);
+        PayloadGenerator labels = new PayloadGenerator(LABEL_SIZE, PayloadGenerator.Content.LABEL, 1, threadId);
+        long operationCount = 0;
+        
+        try {
+            if (connection.open() == null) {
+                return;
+            }
+            
+            long startTime = System.currentTimeMillis();
+            long endTime = durationSeconds == 0 ? Long.MAX_VALUE : startTime + (durationSeconds * 1000L);
+            long lastReportTime = startTime;
+            long lastReportCount = 0;
+            double pacedScale = loadScale.getAsDouble();
+            OpenLoopPacer pacer = new OpenLoopPacer(spec.getOperationsPerSecond() * pacedScale);
+            
+            while (connection.isTestRunning() && System.currentTimeMillis() < endTime) {
+                double scale = loadScale.getAsDouble();
+                if (scale != pacedScale) {
+                    // New saturation step - start its schedule without the previous step's backlog
+                    pacer.restart(spec.getOperationsPerSecond() * scale);
+                    pacedScale = scale;
+                }
+                try {
+                    pacer.awaitNext();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                
+                int index = mix.next();
+                WorkloadSpec.Operation operation = operations.get(index);
+                boolean success = false;
+                boolean lost = false;
+                try {
+                    Connection conn = connection.connection();
+                    if (conn == null) {
+                        break;
+                    }
+                    StatementCache statements = connection.statements();
+                    int prepared = statements.getPrepared();
+                    WorkloadTable table = tables[index];
+                    byte[] payload = table.hasPayloadColumn()
+                        ? payloads.next(threadId, operationCount) : labels.next(threadId, operationCount);
+                    executeOperation(conn, statements, operation, table, threadId, connection.endpoint(), payload);
+                    statementsPrepared.add(statements.getPrepared() - prepared);
+                    success = true;
+                    connection.succeeded();
+                
+                } catch (SQLException e) {
+                    SqlErrorOutcome outcome = connection.failed(e, 1);
+                    lost = !connection.recover(e, outcome, operation.label());
+                }
+                
+                long latencyNanos = System.nanoTime() - pacer.intendedStartNanos();
+                long scheduleLag = pacer.scheduleLagNanos();
+                stats[index].record(success, latencyNanos, scheduleLag);
+                (operation.getType().isRead() ? readStats : writeStats).record(success, latencyNanos, scheduleLag);
+                operationCount++;
+                if (lost) {
+                    break;
+                }
+                connection.operationDone();
+                
+                // Report progress every 10 seconds
+                long currentTime = System.currentTimeMillis();
+                if (currentTime - lastReportTime >= 10000) {
+                    double actualRate = (operationCount - lastReportCount) / ((currentTime - lastReportTime) / 1000.0);
+                    log.info("📊 [{}] {}: {} operations, actual rate: {}/sec, schedule lag: {}ms, endpoint: {}",
+                        clock.now(), name, operationCount, String.format("%.1f", actualRate),
+                        String.format("%.1f", scheduleLag / 1_000_000.0), connection.endpoint());
+                    lastReportTime = currentTime;
+                    lastReportCount = operationCount;
+                }
+            }
+            
+            log.info("✅ [{}] {}: Completed {} operations", clock.now(), name, operationCount);
+        
+        } catch (Exception e) {
+            log.error("❌ [{}] {} fatal error: {}", clock.now(), name, e.getMessage());
+        } finally {
+            connection.close();
+        }
+    }
+    
+    /**
+     * Execute one workload operation with the connection's cached statements
+     */
+    private void executeOperation(Connection conn, StatementCache statements, WorkloadSpec.Operation operation,
+                                  WorkloadTable table, int threadId, String endpoint, byte[] payload)
+            throws SQLException {
+        PreparedStatement ps;
+        switch (operation.getType()) {
+            case POINT_SELECT:
+                ps = statements.prepare(table.getSelectByIdSql());
+                ps.setLong(1, table.randomId());
+                consume(ps);
+                break;
+            case RANGE_SCAN:
+                ps = statements.prepare(table.getRangeScanSql());
+                ps.setLong(1, table.randomId());
+                ps.setInt(2, operation.getRows());
+                consume(ps);
+                break;
+            case INSERT:
+                insertRow(statements, table, threadId, endpoint, payload);
+                break;
+            case UPDATE:
+                ps = statements.prepare(table.getUpdateSql());
+                table.bindUpdate(ps, table.randomId(), endpoint, payload);
+                ps.executeUpdate();
+                break;
+            case DELETE:
+                ps = statements.prepare(table.getDeleteSql());
+                ps.setLong(1, table.randomId());
+                ps.executeUpdate();
+                break;
+            case METADATA_READ:
+                DatabaseMetaData metaData = conn.getMetaData();
+                try (ResultSet tables = metaData.getTables(null, null, "%", new String[]{"TABLE"})) {
+                    while (tables.next()) {
+                        // Drain the result set
+                    }
+                }
+                break;
+            case TRANSACTION:
+                executeTransaction(conn, statements, table, threadId, endpoint, payload);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported operation: " + operation.getType());
+        }
+    }
+    
+    /**
+     * Lock one row, update it and insert one row in a single transaction
+     */
+    private void executeTransaction(Connection conn, StatementCache statements, WorkloadTable table, int threadId,
+                                    String endpoint, byte[] payload) throws SQLException {
+        conn.setAutoCommit(false);
+        try {
+            long id = table.randomId();
+            PreparedStatement select = statements.prepare(table.getSelectForUpdateSql());
+            select.setLong(1, id);
+            consume(select);
+            PreparedStatement update = statements.prepare(table.getUpdateSql());
+            table.bindUpdate(update, id, endpoint, payload);
+            update.executeUpdate();
+            insertRow(statements, table, threadId, endpoint, payload);
+            conn.commit();
+        } catch (SQLException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackError) {
+                // Ignore - connection may be gone; the original error is reported
+            }
+            throw e;
+        } finally {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                // Ignore - a broken connection is replaced by the caller
+            }
+        }
+    }
+    
+    private void insertRow(StatementCache statements, WorkloadTable table, int threadId, String endpoint,
+                           byte[] payload) throws SQLException {
+        PreparedStatement ps = statements.prepare(table.getInsertSql(), Statement.RETURN_GENERATED_KEYS);
+        table.bindInsert(ps, threadId, endpoint, payload);
+        ps.executeUpdate();
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            if (keys.next()) {
+                table.inserted(keys.getLong(1));
+            }
+        }
+    }
+    
+    private static void consume(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                // Drain the result set - rows are fetched but not inspected
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.test.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declarative workload: a weighted mix of operations with per-thread target rates
+ * 
+ * Parsed from the "workload" object of the /start request, e.g.
+ * <pre>
+ * {"name": "orders", "operationsPerSecond": 200, "operations": [
+ *     {"type": "point_select", "weight": 70, "table": "test_table"},
+ *     {"type": "range_scan", "weight": 10, "rows": 50},
+ *     {"type": "insert", "ratePerSecond": 15},
+ *     {"type": "transaction", "weight": 5}]}
+ * </pre>
+ * An operation runs at its ratePerSecond if given; otherwise it gets its weight's share of
+ * operationsPerSecond. All rates are per load thread. Operations run against
+ * "write_test" (&lt;prefix&gt;_bg_write_test, the default) or "test_table".
+ */
+public final class WorkloadSpec {
+    
+    public static final String TABLE_WRITE_TEST = "write_test";
+    public static final String TABLE_TEST_TABLE = "test_table";
+    
+    public static final int MAX_OPERATIONS = 32;
+    public static final int MAX_RANGE_ROWS = 10_000;
+    public static final double MAX_OPERATIONS_PER_SECOND = 100_000;
+    private static final int DEFAULT_RANGE_ROWS = 20;
+    
+    private final String name;
+    private final List<Operation> operations;
+    private final double operationsPerSecond;
+    
+    private WorkloadSpec(String name, List<Operation> operations) {
+        this.name = name;
+        this.operations = Collections.unmodifiableList(operations);
+        double total = 0;
+        for (Operation operation : operations) {
+            total += operation.ratePerSecond;
+        }
+        this.operationsPerSecond = total;
+    }
+    
+    /**
+     * Parse and validate a spec (JSON object as deserialized by Jackson)
+     * 
+     * @throws IllegalArgumentException Describing the first invalid field
+     */
+    public static WorkloadSpec fromMap(Map<String, Object> spec) {
+        if (spec == null) {
+            throw new IllegalArgumentException("workload must be a JSON object");
+        }
+        String name = spec.get("name") != null ? spec.get("name").toString() : "custom";
+        Object rawOperations = spec.get("operations");
+        if (!(rawOperations instanceof List) || ((List<?>) rawOperations).isEmpty()) {
+            throw new IllegalArgumentException("workload.operations must be a non-empty list");
+        }
+        List<?> entries = (List<?>) rawOperations;
+        if (entries.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("workload.operations may have at most " + MAX_OPERATIONS + " entries");
+        }
+        
+        // First pass: explicit rates and weights
+        double[] rates = new double[entries.size()];
+        double[] weights = new double[entries.size()];
+        double totalWeight = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            Map<?, ?> entry = asObject(entries.get(i), i);
+            Double rate = number(entry, "ratePerSecond", i);
+            Double weight = number(entry, "weight", i);
+            if (rate != null) {
+                if (!(rate > 0)) {
+                    throw new IllegalArgumentException(field(i, "ratePerSecond") + " must be greater than 0");
+                }
+                rates[i] = rate;
+            } else {
+                weights[i] = weight != null ? weight : 1;
+                if (!(weights[i] > 0)) {
+                    throw new IllegalArgumentException(field(i, "weight") + " must be greater than 0");
+                }
+                totalWeight += weights[i];
+            }
+        }
+        Double weightedRate = number(spec, "operationsPerSecond", -1);
+        if (totalWeight > 0 && (weightedRate == null || !(weightedRate > 0))) {
+            throw new IllegalArgumentException(
+                "workload.operationsPerSecond (> 0) is required for operations given by weight");
+        }
+        
+        List<Operation> operations = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Map<?, ?> entry = (Map<?, ?>) entries.get(i);
+            Object rawType = entry.get("type");
+            OperationType type;
+            try {
+                type = OperationType.fromString(rawType != null ? rawType.toString() : null);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(field(i, "type") + ": " + e.getMessage());
+            }
+            String table = entry.get("table") != null ? entry.get("table").toString().trim().toLowerCase()
+                : TABLE_WRITE_TEST;
+            if (!TABLE_WRITE_TEST.equals(table) && !TABLE_TEST_TABLE.equals(table)) {
+                throw new IllegalArgumentException(field(i, "table") + " must be one of: "
+                    + TABLE_WRITE_TEST + ", " + TABLE_TEST_TABLE);
+            }
+            Double rows = number(entry, "rows", i);
+            int rangeRows = rows != null ? rows.intValue() : DEFAULT_RANGE_ROWS;
+            if (rangeRows < 1 || rangeRows > MAX_RANGE_ROWS) {
+                throw new IllegalArgumentException(field(i, "rows") + " must be between 1 and " + MAX_RANGE_ROWS);
+            }
+            double rate = rates[i] > 0 ? rates[i] : weightedRate * weights[i] / totalWeight;
+            operations.add(new Operation(type, table, rangeRows, rate));
+        }
+        
+        WorkloadSpec workload = new WorkloadSpec(name, operations);
+        if (workload.operationsPerSecond > MAX_OPERATIONS_PER_SECOND) {
+            throw new IllegalArgumentException("workload total rate must be at most "
+                + (long) MAX_OPERATIONS_PER_SECOND + " operations per second per thread");
+        }
+        return workload;
+    }
+    
+    /**
+     * New operation sequence for one load thread
+     * 
+     * @param phase Offset (e.g. thread id) so threads do not issue the same operation in lockstep
+     */
+    public OperationMix newMix(int phase) {
+        double[] rates = new double[operations.size()];
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] = operations.get(i).ratePerSecond;
+        }
+        return new OperationMix(rates, phase);
+    }
+    
+    /**
+     * Whether any operation uses the table
+     */
+    public boolean usesTable(String table) {
+        for (Operation operation : operations) {
+            if (operation.type != OperationType.METADATA_READ && operation.table.equals(table)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Whether any operation counts as a write
+     */
+    public boolean hasWrites() {
+        for (Operation operation : operations) {
+            if (!operation.type.isRead()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public String getName() { return name; }
+    public List<Operation> getOperations() { return operations; }
+    /** Total target rate of one load thread */
+    public double getOperationsPerSecond() { return operationsPerSecond; }
+    
+    private static Map<?, ?> asObject(Object entry, int index) {
+        if (!(entry instanceof Map)) {
+            throw new IllegalArgumentException("workload.operations[" + index + "] must be a JSON object");
+        }
+        return (Map<?, ?>) entry;
+    }
+    
+    private static Double number(Map<?, ?> map, String key, int index) {
+        Object value = map.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException((index < 0 ? "workload." + key : field(index, key)) + " must be a number");
+        }
+        return ((Number) value).doubleValue();
+    }
+    
+    private static String field(int index, String key) {
+        return "workload.operations[" + index + "]." + key;
+    }
+    
+    /**
+     * One operation of the mix
+     */
+    public static final class Operation {
+        private final OperationType type;
+        private final String table;
+        private final int rows;
+        private final double ratePerSecond;
+        
+        Operation(OperationType type, String table, int rows, double ratePerSecond) {
+            this.type = type;
+            this.table = table;
+            this.rows = rows;
+            this.ratePerSecond = ratePerSecond;
+        }
+        
+        public OperationType getType() { return type; }
+        public String getTable() { return table; }
+        /** Row limit of a range scan */
+        public int getRows() { return rows; }
+        /** Target rate of one load thread */
+        public double getRatePerSecond() { return ratePerSecond; }
+        
+        /**
+         * Short label for logs and status, e.g. "point_select(test_table)"
+         */
+        public String label() {
+            String typeName = type.name().toLowerCase();
+            return type == OperationType.METADATA_READ ? typeName : typeName + "(" + table + ")";
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.test.load;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * One row a producer wants written by the group-commit pipeline
+ * 
+ * The producer enqueues the intent and waits on its completion future; the committer
+ * that wrote the row completes it (or fails it with the commit error). Latency is
+ * measured by the producer from enqueue to completion, so it includes queueing and
+ * the wait for the rest of the multi-row INSERT. The committer generates the row
+ * payload from thread id and sequence, so the intent carries no data.
+ */
+public final class WriteIntent {
+    
+    private final int threadId;
+    private final long sequence;
+    private final long enqueueNanos;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private String committedEndpoint;  // Published to the producer by the future's completion
+    private volatile boolean inDoubt;
+    
+    public WriteIntent(int threadId, long sequence) {
+        this.threadId = threadId;
+        this.sequence = sequence;
+        this.enqueueNanos = System.nanoTime();
+    }
+    
+    public int getThreadId() {
+        return threadId;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public long getEnqueueNanos() {
+        return enqueueNanos;
+    }
+    
+    /**
+     * Instance that committed the row (valid after a successful {@link #await})
+     */
+    public String getCommittedEndpoint() {
+        return committedEndpoint;
+    }
+    
+    /**
+     * Mark the row as committed (called by the committer thread)
+     */
+    public void complete(String endpoint) {
+        committedEndpoint = endpoint;
+        completion.complete(null);
+    }
+    
+    /**
+     * Mark the row as failed (called by the committer thread)
+     */
+    public void fail(Throwable cause) {
+        fail(cause, false);
+    }
+    
+    /**
+     * Mark the row as failed; inDoubt if the INSERT may have been committed anyway
+     * (the connection failed while it was in flight)
+     */
+    public void fail(Throwable cause, boolean inDoubt) {
+        this.inDoubt = inDoubt;
+        completion.completeExceptionally(cause);
+    }
+    
+    /**
+     * Whether the row may have been written although {@link #await} returned false:
+     * the commit failed in doubt, or no answer came in time (the committer may still write it)
+     */
+    public boolean isInDoubt() {
+        return inDoubt || !completion.isCompletedExceptionally();
+    }
+    
+    /**
+     * Wait for the committer
+     * 
+     * @return true if the row was committed, false if the commit failed or timed out
+     */
+    public boolean await(long timeoutMs) throws InterruptedException {
+        try {
+            completion.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.test.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Heap bytes allocated per operation by the load threads of one kind (reads, writes...)
+ * 
+ * Uses the HotSpot per-thread allocation counter (com.sun.management.ThreadMXBean). Reading
+ * it costs far more than an operation, so each thread's {@link Probe} reads it only every
+ * {@link #SAMPLE_OPERATIONS} operations and publishes the delta. The figure includes
+ * everything the thread allocates - payload, statement binding, driver and wrapper - and is
+ * dominated by the driver (a few KB per operation with Connector/J); use it to compare
+ * settings, not as an allocation-free target.
+ * 
+ * Virtual threads (and JVMs without the counter) report no allocation data; their
+ * operations are not counted.
+ */
+public final class AllocationMeter {
+    
+    /** Operations between two reads of the thread's allocation counter */
+    public static final int SAMPLE_OPERATIONS = 256;
+    
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder operations = new LongAdder();
+    
+    /**
+     * Create the probe for the calling load thread (not thread-safe - use it only on that thread)
+     */
+    public Probe probe() {
+        return new Probe(Thread.currentThread().getId());
+    }
+    
+    /**
+     * Whether the JVM measures per-thread allocation
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+    
+    /**
+     * Measured operations and average bytes per operation
+     */
+    public Snapshot snapshot() {
+        long ops = operations.sum();
+        return new Snapshot(ops, ops > 0 ? (double) bytes.sum() / ops : 0);
+    }
+    
+    /**
+     * Clear the counters (call only while no load threads are running)
+     */
+    public void reset() {
+        bytes.reset();
+        operations.reset();
+    }
+    
+    private static com.sun.management.ThreadMXBean threadBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // Not a HotSpot JVM or not permitted - allocation is not reported
+        }
+        return null;
+    }
+    
+    /**
+     * Allocation per operation DTO
+     */
+    public static class Snapshot {
+        private final long measuredOperations;
+        private final double bytesPerOperation;
+        
+        public Snapshot(long measuredOperations, double bytesPerOperation) {
+            this.measuredOperations = measuredOperations;
+            this.bytesPerOperation = bytesPerOperation;
+        }
+        
+        public long getMeasuredOperations() { return measuredOperations; }
+        public double getBytesPerOperation() { return bytesPerOperation; }
+    }
+    
+    /**
+     * Allocation probe of one load thread
+     */
+    public final class Probe {
+        
+        private final long threadId;
+        private long baselineBytes;
+        private int pending;
+        private boolean active;
+        
+        private Probe(long threadId) {
+            this.threadId = threadId;
+            this.baselineBytes = allocatedBytes();
+            this.active = baselineBytes >= 0;
+        }
+        
+        /**
+         * Count one completed operation
+         */
+        public void operation() {
+            if (active && ++pending == SAMPLE_OPERATIONS) {
+                publish();
+            }
+        }
+        
+        /**
+         * Publish the operations counted since the last sample (call when the thread stops)
+         */
+        public void flush() {
+            if (active && pending > 0) {
+                publish();
+            }
+        }
+        
+        private void publish() {
+            long allocated = allocatedBytes();
+            if (allocated < 0) {
+                active = false;
+                return;
+            }
+            bytes.add(allocated - baselineBytes);
+            operations.add(pending);
+            baselineBytes = allocated;
+            pending = 0;
+        }
+        
+        private long allocatedBytes() {
+            return THREADS != null ? THREADS.getThreadAllocatedBytes(threadId) : -1;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.test.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * High-dynamic-range latency histogram with microsecond resolution
+ * 
+ * Load threads record into HdrHistogram {@link Recorder}s, which are wait-free and
+ * allocation-free once sized. Recording is striped by thread id so hundreds of load
+ * threads do not contend on a single recorder's phaser counter. The stripe count is capped
+ * at a small constant and all histograms auto-resize to the largest value actually
+ * recorded: a run creates dozens of these, and fixed one-hour histograms per stripe would
+ * cost megabytes each.
+ * 
+ * Readers (status endpoint, monitor thread, final report) drain all stripes into a
+ * cumulative histogram and into fixed-length windows, so both the whole-test
+ * distribution and the distribution of the most recent interval are available.
+ * Periodic consumers (time-series sampler, status stream) each hold an {@link Interval}
+ * that returns the values recorded since that consumer's previous call.
+ */
+public final class LatencyHistogram {
+    
+    /** Latencies above one hour are clamped */
+    public static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int MAX_STRIPES = 8;
+    
+    private final Recorder[] stripes;
+    private final int stripeMask;
+    private final Histogram cumulative = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram currentWindow = new Histogram(SIGNIFICANT_DIGITS);
+    private final List<Interval> intervals = new ArrayList<>();
+    private final Interval defaultInterval;
+    private final long windowMillis;
+    private final Histogram[] recycled;  // Per stripe: a Recorder only accepts its own histograms back
+    private long currentWindowStart = System.currentTimeMillis();
+    private LatencySnapshot lastWindow = LatencySnapshot.EMPTY;
+    
+    /**
+     * @param windowMillis Length of the rolling window reported by {@link #windowSnapshot()}
+     */
+    public LatencyHistogram(long windowMillis) {
+        this.windowMillis = windowMillis;
+        // Next power of two >= CPUs (at most MAX_STRIPES), so stripes can be selected with a mask
+        int stripeCount = Math.min(MAX_STRIPES,
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+        this.stripes = new Recorder[stripeCount];
+        this.recycled = new Histogram[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Recorder(SIGNIFICANT_DIGITS);  // Auto-resizing
+        }
+        this.stripeMask = stripeCount - 1;
+        cumulative.setStartTimeStamp(currentWindowStart);
+        this.defaultInterval = newInterval();
+    }
+    
+    /**
+     * Record a latency (hot path - allocates only while a stripe grows to the recorded range)
+     */
+    public void recordNanos(long nanos) {
+        long micros = nanos / 1_000;
+        if (micros < 0) {
+            micros = 0;
+        } else if (micros > HIGHEST_TRACKABLE_MICROS) {
+            micros = HIGHEST_TRACKABLE_MICROS;
+        }
+        stripes[(int) Thread.currentThread().getId() & stripeMask].recordValue(micros);
+    }
+    
+    /**
+     * Distribution since the last reset
+     */
+    public synchronized LatencySnapshot snapshot() {
+        drain();
+        return LatencySnapshot.of(cumulative, cumulative.getStartTimeStamp(), System.currentTimeMillis());
+    }
+    
+    /**
+     * Distribution of the most recently completed window
+     */
+    public synchronized LatencySnapshot windowSnapshot() {
+        drain();
+        return lastWindow;
+    }
+    
+    /**
+     * Distribution of the values recorded since the previous call (single consumer)
+     */
+    public LatencySnapshot intervalSnapshot() {
+        return defaultInterval.snapshot();
+    }
+    
+    /**
+     * Register an additional interval consumer (lives as long as this histogram)
+     */
+    public synchronized Interval newInterval() {
+        Interval interval = new Interval(System.currentTimeMillis());
+        intervals.add(interval);
+        return interval;
+    }
+    
+    /**
+     * Unregister an interval consumer (e.g. when its owner is discarded)
+     */
+    public synchronized void removeInterval(Interval interval) {
+        intervals.remove(interval);
+    }
+    
+    /**
+     * Copy of the cumulative histogram (microseconds) for further aggregation
+     */
+    public synchronized Histogram copyCumulative() {
+        drain();
+        return cumulative.copy();
+    }
+    
+    /**
+     * Clear all recorded values
+     */
+    public synchronized void reset() {
+        for (Recorder stripe : stripes) {
+            stripe.reset();
+        }
+        cumulative.reset();
+        currentWindow.reset();
+        long now = System.currentTimeMillis();
+        for (Interval interval : intervals) {
+            interval.values.reset();
+            interval.start = now;
+        }
+        cumulative.setStartTimeStamp(now);
+        currentWindowStart = now;
+        lastWindow = LatencySnapshot.EMPTY;
+    }
+    
+    private void drain() {
+        for (int i = 0; i < stripes.length; i++) {
+            Histogram intervalHistogram = stripes[i].getIntervalHistogram(recycled[i]);
+            recycled[i] = intervalHistogram;
+            if (intervalHistogram.getTotalCount() == 0) {
+                continue;  // Idle stripe: nothing to add
+            }
+            cumulative.add(intervalHistogram);
+            currentWindow.add(intervalHistogram);
+            for (Interval interval : intervals) {
+                interval.values.add(intervalHistogram);
+            }
+        }
+        
+        long now = System.currentTimeMillis();
+        if (now - currentWindowStart >= windowMillis) {
+            lastWindow = LatencySnapshot.of(currentWindow, currentWindowStart, now);
+            currentWindow.reset();
+            currentWindowStart = now;
+        }
+    }
+    
+    /**
+     * Values recorded since one consumer's previous call (use from a single thread)
+     */
+    public final class Interval {
+        
+        private final Histogram values = new Histogram(SIGNIFICANT_DIGITS);
+        private long start;
+        
+        private Interval(long start) {
+            this.start = start;
+        }
+        
+        /**
+         * Distribution of the values recorded since the previous call
+         */
+        public LatencySnapshot snapshot() {
+            synchronized (LatencyHistogram.this) {
+                drain();
+                long now = System.currentTimeMillis();
+                LatencySnapshot interval = LatencySnapshot.of(values, start, now);
+                values.reset();
+                start = now;
+                return interval;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.test.metrics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Immutable latency percentiles (milliseconds) computed from a {@link LatencyHistogram}
+ */
+public class LatencySnapshot {
+    
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    
+    private final long count;
+    private final double meanMs;
+    private final double minMs;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+    private final long startTimeMillis;
+    private final long endTimeMillis;
+    
+    public LatencySnapshot(long count, double meanMs, double minMs, double p50Ms, double p90Ms,
+                           double p99Ms, double p999Ms, double maxMs,
+                           long startTimeMillis, long endTimeMillis) {
+        this.count = count;
+        this.meanMs = meanMs;
+        this.minMs = minMs;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p99Ms = p99Ms;
+        this.p999Ms = p999Ms;
+        this.maxMs = maxMs;
+        this.startTimeMillis = startTimeMillis;
+        this.endTimeMillis = endTimeMillis;
+    }
+    
+    /**
+     * Compute snapshot from a histogram recorded in microseconds
+     */
+    public static LatencySnapshot of(Histogram histogram, long startTimeMillis, long endTimeMillis) {
+        if (histogram.getTotalCount() == 0) {
+            return new LatencySnapshot(0, 0, 0, 0, 0, 0, 0, 0, startTimeMillis, endTimeMillis);
+        }
+        return new LatencySnapshot(
+            histogram.getTotalCount(),
+            histogram.getMean() / 1000.0,
+            histogram.getMinValue() / 1000.0,
+            histogram.getValueAtPercentile(50.0) / 1000.0,
+            histogram.getValueAtPercentile(90.0) / 1000.0,
+            histogram.getValueAtPercentile(99.0) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0,
+            startTimeMillis,
+            endTimeMillis
+        );
+    }
+    
+    public long getCount() { return count; }
+    public double getMeanMs() { return meanMs; }
+    public double getMinMs() { return minMs; }
+    public double getP50Ms() { return p50Ms; }
+    public double getP90Ms() { return p90Ms; }
+    public double getP99Ms() { return p99Ms; }
+    public double getP999Ms() { return p999Ms; }
+    public double getMaxMs() { return maxMs; }
+    public long getStartTimeMillis() { return startTimeMillis; }
+    public long getEndTimeMillis() { return endTimeMillis; }
+    
+    /**
+     * One-line summary for log reports
+     */
+    public String toSummary() {
+        return String.format("p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms (n=%,d)",
+            p50Ms, p90Ms, p99Ms, p999Ms, maxMs, count);
+    }
+}
@@ -0,0 +1,167 @@
+package com.test.metrics;
+
+import com.test.jdbc.SqlErrorClassifier;
+import com.test.jdbc.SqlErrorOutcome;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Micrometer export of the load-test statistics (scraped via /actuator/prometheus)
+ * 
+ * Counters are function counters over the existing striped counters, so they cost nothing
+ * on the hot path - the registry reads them at scrape time. Latency is the only value
+ * recorded per operation: each {@link OperationStats} passes its latencies to a timer with
+ * a percentile histogram (one bucket increment per operation), so Prometheus can aggregate
+ * percentiles across test instances.
+ * 
+ * Micrometer holds gauge and counter sources weakly; all bound objects must be owned by a
+ * long-lived component (the test service). The load-test counters restart from zero when a
+ * new test starts; Prometheus rate() treats that as a counter reset.
+ * 
+ * Every meter carries a "run" tag with the test run id, so concurrent runs export separate
+ * series; {@link #remove()} unregisters them when a run is discarded.
+ */
+public final class LoadTestMeters {
+    
+    public static final String PREFIX = "bluegreen";
+    
+    private static final Duration MIN_EXPECTED_LATENCY = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED_LATENCY = Duration.ofSeconds(60);
+    
+    private final MeterRegistry registry;
+    private final Tag runTag;
+    private final MultiGauge endpointSessions;
+    private final List<Meter> meters = new ArrayList<>();
+    
+    public LoadTestMeters(MeterRegistry registry, String runId) {
+        this.registry = registry;
+        this.runTag = Tag.of("run", runId);
+        this.endpointSessions = MultiGauge.builder(PREFIX + ".endpoint.sessions")
+            .description("Load threads whose connection currently points at the endpoint")
+            .register(registry);
+    }
+    
+    /**
+     * Success/failure counters and a latency timer for one operation type
+     * 
+     * @param name      Counter name, e.g. "reads"
+     * @param timerName Timer name prefix, e.g. "read" (bluegreen.read.latency)
+     */
+    public void bindOperations(String name, String timerName, OperationStats stats) {
+        add(FunctionCounter.builder(PREFIX + "." + name, stats, OperationStats::getSuccessful)
+            .tags(Tags.of(runTag))
+            .tag("result", "success")
+            .register(registry));
+        add(FunctionCounter.builder(PREFIX + "." + name, stats, OperationStats::getFailed)
+            .tags(Tags.of(runTag))
+            .tag("result", "failure")
+            .register(registry));
+        Timer timer = add(Timer.builder(PREFIX + "." + timerName + ".latency")
+            .description("Latency from intended start to completion")
+            .tags(Tags.of(runTag))
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED_LATENCY)
+            .maximumExpectedValue(MAX_EXPECTED_LATENCY)
+            .register(registry));
+        stats.exportLatency(nanos -> timer.record(nanos, TimeUnit.NANOSECONDS));
+    }
+    
+    /**
+     * Counter over a striped counter owned by the caller
+     */
+    public void bindCounter(String name, String description, LongAdder counter, String... tags) {
+        add(FunctionCounter.builder(PREFIX + "." + name, counter, LongAdder::sum)
+            .description(description)
+            .tags(Tags.of(tags).and(runTag))
+            .register(registry));
+    }
+    
+    /**
+     * Failures per error class
+     */
+    public void bindErrors(SqlErrorClassifier classifier) {
+        for (SqlErrorOutcome outcome : SqlErrorOutcome.values()) {
+            add(FunctionCounter.builder(PREFIX + ".errors", classifier, c -> c.getCount(outcome))
+                .description("Failed operations by error class")
+                .tags(Tags.of(runTag))
+                .tag("outcome", outcome.name().toLowerCase())
+                .tag("connection_event", String.valueOf(outcome.isConnectionEvent()))
+                .register(registry));
+        }
+    }
+    
+    /**
+     * Outage windows, total blackout time and threads currently in an outage
+     */
+    public void bindOutages(OutageRecorder outages) {
+        add(FunctionCounter.builder(PREFIX + ".outage.windows", outages, OutageRecorder::getRecoveredWindows)
+            .description("Closed per-thread outage windows")
+            .tags(Tags.of(runTag))
+            .tag("state", "recovered")
+            .register(registry));
+        add(FunctionCounter.builder(PREFIX + ".outage.windows", outages, OutageRecorder::getUnrecoveredWindows)
+            .tags(Tags.of(runTag))
+            .tag("state", "unrecovered")
+            .register(registry));
+        add(FunctionCounter.builder(PREFIX + ".outage.blackout", outages, o -> o.getTotalBlackoutMillis() / 1000.0)
+            .description("Sum of recovered blackout durations")
+            .tags(Tags.of(runTag))
+            .baseUnit("seconds")
+            .register(registry));
+        add(Gauge.builder(PREFIX + ".outage.open", outages, OutageRecorder::getOpenOutages)
+            .description("Load threads currently in an outage")
+            .tags(Tags.of(runTag))
+            .register(registry));
+    }
+    
+    /**
+     * 1 while a test is running
+     */
+    public void bindRunning(AtomicBoolean running) {
+        add(Gauge.builder(PREFIX + ".test.running", running, r -> r.get() ? 1 : 0)
+            .description("Whether a load test is running")
+            .tags(Tags.of(runTag))
+            .register(registry));
+    }
+    
+    /**
+     * Replace the per-endpoint session gauges (endpoints no longer present are removed)
+     */
+    public void updateEndpointSessions(Map<String, Integer> sessionsByEndpoint) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(sessionsByEndpoint.size());
+        for (Map.Entry<String, Integer> entry : sessionsByEndpoint.entrySet()) {
+            rows.add(MultiGauge.Row.of(Tags.of(runTag).and("endpoint", entry.getKey()), entry.getValue()));
+        }
+        endpointSessions.register(rows, true);
+    }
+    
+    /**
+     * Unregister every meter of this run (latency export to the removed timers stops mattering)
+     */
+    public void remove() {
+        endpointSessions.register(new ArrayList<MultiGauge.Row<?>>(), true);
+        for (Meter meter : meters) {
+            registry.remove(meter);
+        }
+        meters.clear();
+    }
+    
+    private <M extends Meter> M add(M meter) {
+        meters.add(meter);
+        return meter;
+    }
+}
@@ -0,0 +1,95 @@
+package com.test.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * Statistics for one operation type (metadata reads, writes)
+ * 
+ * Counters are {@link LongAdder}s: each contending thread updates its own padded cell,
+ * so recording does not bounce a shared cache line between hundreds of load threads.
+ * Cells are only summed when getStatus(), the monitor thread or the final report read
+ * the values. Latency goes into a striped {@link LatencyHistogram} and, when metrics
+ * export is bound, to an exporter (e.g. a Micrometer timer).
+ */
+public final class OperationStats {
+    
+    private final LongAdder successful = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalScheduleLagNanos = new LongAdder();
+    private final LongAccumulator maxScheduleLagNanos = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram latency;
+    private volatile LongConsumer latencyExport = nanos -> { };
+    
+    /**
+     * @param latencyWindowMillis Length of the rolling latency window
+     */
+    public OperationStats(long latencyWindowMillis) {
+        this.latency = new LatencyHistogram(latencyWindowMillis);
+    }
+    
+    /**
+     * Record one completed operation (hot path)
+     * 
+     * @param success          Whether the operation succeeded
+     * @param latencyNanos     Latency from intended start to completion
+     * @param scheduleLagNanos Delay between intended and actual start (0 when not paced)
+     */
+    public void record(boolean success, long latencyNanos, long scheduleLagNanos) {
+        if (success) {
+            successful.increment();
+        } else {
+            failed.increment();
+        }
+        latency.recordNanos(latencyNanos);
+        latencyExport.accept(latencyNanos);
+        if (scheduleLagNanos > 0) {
+            totalScheduleLagNanos.add(scheduleLagNanos);
+            maxScheduleLagNanos.accumulate(scheduleLagNanos);
+        }
+    }
+    
+    public long getTotal() {
+        return successful.sum() + failed.sum();
+    }
+    
+    public long getSuccessful() {
+        return successful.sum();
+    }
+    
+    public long getFailed() {
+        return failed.sum();
+    }
+    
+    public double getAvgScheduleLagMs() {
+        long total = getTotal();
+        return total > 0 ? totalScheduleLagNanos.sum() / 1_000_000.0 / total : 0;
+    }
+    
+    public double getMaxScheduleLagMs() {
+        return maxScheduleLagNanos.get() / 1_000_000.0;
+    }
+    
+    /**
+     * Also pass every recorded latency (nanoseconds) to the exporter
+     */
+    public void exportLatency(LongConsumer exporter) {
+        this.latencyExport = exporter;
+    }
+    
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+    
+    /**
+     * Reset all values (call only while no load threads are recording)
+     */
+    public void reset() {
+        successful.reset();
+        failed.reset();
+        totalScheduleLagNanos.reset();
+        maxScheduleLagNanos.reset();
+        latency.reset();
+    }
+}
@@ -0,0 +1,189 @@
+package com.test.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-thread outage windows into a blackout distribution and a cluster-wide timeline
+ * 
+ * Load threads report through their own {@link OutageTracker}; this class only sees window
+ * open/close transitions. Closed windows are kept (up to {@link #MAX_STORED_WINDOWS}) to
+ * build the timeline: overlapping windows of different threads - usually one switchover -
+ * are merged into one timeline entry with the number of affected threads and the endpoints
+ * before and after.
+ */
+public final class OutageRecorder {
+    
+    /** Closed windows kept for the timeline; later windows are still counted in the distribution */
+    public static final int MAX_STORED_WINDOWS = 10_000;
+    
+    /** Windows starting within this gap of the previous entry's end join that entry */
+    private static final long MERGE_GAP_MILLIS = 1_000;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(24);
+    private static final int LONGEST_WINDOWS = 10;
+    
+    private final Map<String, Long> openOutages = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<OutageWindow> windows = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger storedWindows = new AtomicInteger();
+    private final LongAdder recoveredWindows = new LongAdder();
+    private final LongAdder unrecoveredWindows = new LongAdder();
+    private final LongAdder totalBlackoutMillis = new LongAdder();
+    private final Histogram blackoutMicros = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private volatile long startTimeMillis = System.currentTimeMillis();
+    
+    /**
+     * Create the tracker for one load thread
+     * 
+     * @param thread Thread label shown in the report (e.g. "Read-3")
+     */
+    public OutageTracker tracker(String thread) {
+        return new OutageTracker(thread, this);
+    }
+    
+    void open(String thread, long startMillis) {
+        openOutages.put(thread, startMillis);
+    }
+    
+    void close(OutageWindow window) {
+        openOutages.remove(window.getThread());
+        if (window.isRecovered()) {
+            recoveredWindows.increment();
+            totalBlackoutMillis.add(Math.max(window.getBlackoutMillis(), 0));
+            long micros = Math.min(Math.max(window.getBlackoutMillis(), 0) * 1000, HIGHEST_TRACKABLE_MICROS);
+            synchronized (blackoutMicros) {
+                blackoutMicros.recordValue(micros);
+            }
+        } else {
+            unrecoveredWindows.increment();
+        }
+        if (storedWindows.incrementAndGet() <= MAX_STORED_WINDOWS) {
+            windows.add(window);
+        }
+    }
+    
+    /**
+     * Build the current report (open outages are measured up to now)
+     */
+    public OutageReport report() {
+        long now = System.currentTimeMillis();
+        LatencySnapshot distribution;
+        synchronized (blackoutMicros) {
+            distribution = LatencySnapshot.of(blackoutMicros, startTimeMillis, now);
+        }
+        
+        List<OutageWindow> closed = new ArrayList<>(windows);
+        long longestOpenMillis = 0;
+        for (Long start : openOutages.values()) {
+            longestOpenMillis = Math.max(longestOpenMillis, now - start);
+        }
+        
+        List<OutageWindow> longest = new ArrayList<>(closed);
+        longest.sort(Comparator.comparingLong(OutageWindow::getBlackoutMillis).reversed());
+        if (longest.size() > LONGEST_WINDOWS) {
+            longest = new ArrayList<>(longest.subList(0, LONGEST_WINDOWS));
+        }
+        
+        return new OutageReport(recoveredWindows.sum(), unrecoveredWindows.sum(), openOutages.size(),
+            longestOpenMillis, distribution, timeline(closed, now), longest);
+    }
+    
+    public long getRecoveredWindows() {
+        return recoveredWindows.sum();
+    }
+    
+    public long getUnrecoveredWindows() {
+        return unrecoveredWindows.sum();
+    }
+    
+    /** Threads currently in an outage */
+    public int getOpenOutages() {
+        return openOutages.size();
+    }
+    
+    /** Sum of the blackout durations of recovered windows */
+    public long getTotalBlackoutMillis() {
+        return totalBlackoutMillis.sum();
+    }
+    
+    /**
+     * Merge overlapping windows of all threads into cluster-wide outage intervals
+     */
+    private List<OutageReport.TimelineEntry> timeline(List<OutageWindow> closed, long now) {
+        List<OutageWindow> sorted = new ArrayList<>(closed);
+        sorted.sort(Comparator.comparingLong(OutageWindow::getStartMillis));
+        
+        List<OutageReport.TimelineEntry> entries = new ArrayList<>();
+        long start = 0;
+        long end = 0;
+        Set<String> threads = new LinkedHashSet<>();
+        Set<String> endpointsBefore = new LinkedHashSet<>();
+        Set<String> endpointsAfter = new LinkedHashSet<>();
+        int count = 0;
+        for (OutageWindow window : sorted) {
+            if (count > 0 && window.getStartMillis() > end + MERGE_GAP_MILLIS) {
+                entries.add(new OutageReport.TimelineEntry(start, end, count, threads.size(),
+                    String.join(", ", endpointsBefore), String.join(", ", endpointsAfter), false));
+                threads.clear();
+                endpointsBefore.clear();
+                endpointsAfter.clear();
+                count = 0;
+            }
+            if (count == 0) {
+                start = window.getStartMillis();
+                end = window.getRecoveredMillis();
+            } else {
+                end = Math.max(end, window.getRecoveredMillis());
+            }
+            count++;
+            threads.add(window.getThread());
+            if (window.getEndpointBefore() != null) {
+                endpointsBefore.add(window.getEndpointBefore());
+            }
+            if (window.getEndpointAfter() != null) {
+                endpointsAfter.add(window.getEndpointAfter());
+            }
+        }
+        if (count > 0) {
+            entries.add(new OutageReport.TimelineEntry(start, end, count, threads.size(),
+                String.join(", ", endpointsBefore), String.join(", ", endpointsAfter), false));
+        }
+        
+        // Still-open outages form one ongoing entry
+        if (!openOutages.isEmpty()) {
+            long openStart = Long.MAX_VALUE;
+            for (Long openedAt : openOutages.values()) {
+                openStart = Math.min(openStart, openedAt);
+            }
+            entries.add(new OutageReport.TimelineEntry(openStart, now, openOutages.size(), openOutages.size(),
+                "", "", true));
+        }
+        return entries;
+    }
+    
+    /**
+     * Clear all windows (call only while no load threads are running)
+     */
+    public void reset() {
+        openOutages.clear();
+        windows.clear();
+        storedWindows.set(0);
+        recoveredWindows.reset();
+        unrecoveredWindows.reset();
+        totalBlackoutMillis.reset();
+        synchronized (blackoutMicros) {
+            blackoutMicros.reset();
+        }
+        startTimeMillis = System.currentTimeMillis();
+    }
+}
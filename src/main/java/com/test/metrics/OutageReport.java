@@ -0,0 +1,70 @@
+package com.test.metrics;
+
+import java.util.List;
+
+/**
+ * Client-side outage summary built by {@link OutageRecorder}
+ */
+public class OutageReport {
+    
+    private final long recoveredWindows;
+    private final long unrecoveredWindows;
+    private final int openOutages;
+    private final long longestOpenMillis;
+    private final LatencySnapshot blackout;
+    private final List<TimelineEntry> timeline;
+    private final List<OutageWindow> longestWindows;
+    
+    public OutageReport(long recoveredWindows, long unrecoveredWindows, int openOutages, long longestOpenMillis,
+                        LatencySnapshot blackout, List<TimelineEntry> timeline, List<OutageWindow> longestWindows) {
+        this.recoveredWindows = recoveredWindows;
+        this.unrecoveredWindows = unrecoveredWindows;
+        this.openOutages = openOutages;
+        this.longestOpenMillis = longestOpenMillis;
+        this.blackout = blackout;
+        this.timeline = timeline;
+        this.longestWindows = longestWindows;
+    }
+    
+    public long getRecoveredWindows() { return recoveredWindows; }
+    public long getUnrecoveredWindows() { return unrecoveredWindows; }
+    public int getOpenOutages() { return openOutages; }
+    public long getLongestOpenMillis() { return longestOpenMillis; }
+    /** Blackout durations of recovered windows (milliseconds) */
+    public LatencySnapshot getBlackout() { return blackout; }
+    public List<TimelineEntry> getTimeline() { return timeline; }
+    public List<OutageWindow> getLongestWindows() { return longestWindows; }
+    
+    /**
+     * One cluster-wide outage interval: overlapping windows of one or more threads
+     */
+    public static class TimelineEntry {
+        private final long startMillis;
+        private final long endMillis;
+        private final int windows;
+        private final int threads;
+        private final String endpointsBefore;
+        private final String endpointsAfter;
+        private final boolean ongoing;
+        
+        public TimelineEntry(long startMillis, long endMillis, int windows, int threads,
+                             String endpointsBefore, String endpointsAfter, boolean ongoing) {
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.windows = windows;
+            this.threads = threads;
+            this.endpointsBefore = endpointsBefore;
+            this.endpointsAfter = endpointsAfter;
+            this.ongoing = ongoing;
+        }
+        
+        public long getStartMillis() { return startMillis; }
+        public long getEndMillis() { return endMillis; }
+        public long getDurationMillis() { return endMillis - startMillis; }
+        public int getWindows() { return windows; }
+        public int getThreads() { return threads; }
+        public String getEndpointsBefore() { return endpointsBefore; }
+        public String getEndpointsAfter() { return endpointsAfter; }
+        public boolean isOngoing() { return ongoing; }
+    }
+}
@@ -0,0 +1,82 @@
+package com.test.metrics;
+
+/**
+ * Outage window tracking for one load thread
+ * 
+ * The owning thread reports every operation outcome; the first failure after a success
+ * opens a window, the next success closes it and publishes an {@link OutageWindow} to the
+ * shared {@link OutageRecorder}. Only transitions touch shared state, so the per-operation
+ * cost is a clock read and a few field writes.
+ * 
+ * Not thread-safe - owned by one load thread.
+ */
+public final class OutageTracker {
+    
+    private final String thread;
+    private final OutageRecorder recorder;
+    private long lastSuccessMillis = 0;
+    private String lastEndpoint;
+    private long firstFailureMillis = 0;
+    private long failuresInRun = 0;
+    
+    OutageTracker(String thread, OutageRecorder recorder) {
+        this.thread = thread;
+        this.recorder = recorder;
+    }
+    
+    /**
+     * Record a successful operation
+     * 
+     * @param endpoint Instance that served it (may be null if unknown)
+     */
+    public void success(String endpoint) {
+        long now = System.currentTimeMillis();
+        if (failuresInRun > 0) {
+            recorder.close(new OutageWindow(thread, lastSuccessMillis, firstFailureMillis, now,
+                lastEndpoint, endpoint, failuresInRun, true));
+            failuresInRun = 0;
+        }
+        lastSuccessMillis = now;
+        lastEndpoint = endpoint;
+    }
+    
+    /**
+     * Record a failed operation
+     */
+    public void failure() {
+        if (failuresInRun == 0) {
+            firstFailureMillis = System.currentTimeMillis();
+            recorder.open(thread, lastSuccessMillis > 0 ? lastSuccessMillis : firstFailureMillis);
+        }
+        failuresInRun++;
+    }
+    
+    /**
+     * Record an operation outcome
+     */
+    public void record(boolean success, String endpoint) {
+        if (success) {
+            success(endpoint);
+        } else {
+            failure();
+        }
+    }
+    
+    /**
+     * Close an open window as not recovered (call when the thread stops)
+     */
+    public void finish() {
+        if (failuresInRun > 0) {
+            recorder.close(new OutageWindow(thread, lastSuccessMillis, firstFailureMillis,
+                System.currentTimeMillis(), lastEndpoint, null, failuresInRun, false));
+            failuresInRun = 0;
+        }
+    }
+    
+    /**
+     * Whether the thread is currently in an error run
+     */
+    public boolean isInOutage() {
+        return failuresInRun > 0;
+    }
+}
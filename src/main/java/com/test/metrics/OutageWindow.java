@@ -0,0 +1,60 @@
+package com.test.metrics;
+
+/**
+ * One client-side outage of one load thread
+ * 
+ * The blackout runs from the last successful operation before an error run to the first
+ * successful operation after it - the time the client could not get any work done,
+ * regardless of how many operations failed in between. If the thread never succeeded
+ * before the errors, the first failure is used as the start.
+ * 
+ * A window still open when the thread stops is closed as not recovered; its end is the
+ * stop time and it is kept out of the blackout distribution.
+ */
+public final class OutageWindow {
+    
+    private final String thread;
+    private final long lastSuccessMillis;
+    private final long firstFailureMillis;
+    private final long recoveredMillis;
+    private final String endpointBefore;
+    private final String endpointAfter;
+    private final long failedOperations;
+    private final boolean recovered;
+    
+    public OutageWindow(String thread, long lastSuccessMillis, long firstFailureMillis, long recoveredMillis,
+                        String endpointBefore, String endpointAfter, long failedOperations, boolean recovered) {
+        this.thread = thread;
+        this.lastSuccessMillis = lastSuccessMillis;
+        this.firstFailureMillis = firstFailureMillis;
+        this.recoveredMillis = recoveredMillis;
+        this.endpointBefore = endpointBefore;
+        this.endpointAfter = endpointAfter;
+        this.failedOperations = failedOperations;
+        this.recovered = recovered;
+    }
+    
+    public String getThread() { return thread; }
+    public long getLastSuccessMillis() { return lastSuccessMillis; }
+    public long getFirstFailureMillis() { return firstFailureMillis; }
+    public long getRecoveredMillis() { return recoveredMillis; }
+    public String getEndpointBefore() { return endpointBefore; }
+    public String getEndpointAfter() { return endpointAfter; }
+    public long getFailedOperations() { return failedOperations; }
+    public boolean isRecovered() { return recovered; }
+    
+    /**
+     * Start of the blackout (last success, or first failure if there was none)
+     */
+    public long getStartMillis() {
+        return lastSuccessMillis > 0 ? lastSuccessMillis : firstFailureMillis;
+    }
+    
+    public long getBlackoutMillis() {
+        return recoveredMillis - getStartMillis();
+    }
+    
+    public boolean isEndpointChanged() {
+        return recovered && endpointBefore != null && !endpointBefore.equals(endpointAfter);
+    }
+}
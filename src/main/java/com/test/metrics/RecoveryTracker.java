@@ -0,0 +1,163 @@
+package com.test.metrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to full recovery: from the first load thread losing its connection until every thread
+ * that lost one has a working connection again
+ * 
+ * Per-thread outage windows (see {@link OutageRecorder}) show how long each client was down;
+ * this is the cluster-wide view of the reconnect phase. An episode starts when the number of
+ * reconnecting threads goes from 0 to 1 and ends when it is back at 0. Threads that give up
+ * end their part of the episode too, but are counted, so an episode with lost threads was
+ * not a full recovery.
+ */
+public final class RecoveryTracker {
+    
+    /** Most recent episodes kept for the report */
+    public static final int MAX_STORED_EPISODES = 20;
+    
+    private final Deque<Episode> episodes = new ArrayDeque<>();
+    private long completedEpisodes;
+    private long totalMillis;
+    private long maxMillis;
+    private int reconnecting;
+    private int peakSinceSample;
+    // Current episode
+    private long startNanos;
+    private long startMillis;
+    private int threads;
+    private int peakThreads;
+    private int gaveUp;
+    
+    /**
+     * A load thread lost its connection and starts reconnecting
+     */
+    public synchronized void connectionLost() {
+        if (reconnecting == 0) {
+            startNanos = System.nanoTime();
+            startMillis = System.currentTimeMillis();
+            threads = 0;
+            peakThreads = 0;
+            gaveUp = 0;
+        }
+        reconnecting++;
+        threads++;
+        peakThreads = Math.max(peakThreads, reconnecting);
+        peakSinceSample = Math.max(peakSinceSample, reconnecting);
+    }
+    
+    /**
+     * The thread has a working connection again (recovered) or stopped trying (not recovered)
+     */
+    public synchronized void reconnectEnded(boolean recovered) {
+        if (reconnecting == 0) {
+            return;  // Reset while the thread was reconnecting
+        }
+        if (!recovered) {
+            gaveUp++;
+        }
+        if (--reconnecting == 0) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            completedEpisodes++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+            if (episodes.size() >= MAX_STORED_EPISODES) {
+                episodes.removeFirst();
+            }
+            episodes.addLast(new Episode(startMillis, millis, threads, peakThreads, gaveUp));
+        }
+    }
+    
+    /**
+     * Most threads reconnecting at once since the previous call (for the per-second time series)
+     */
+    public synchronized int samplePeak() {
+        int peak = peakSinceSample;
+        peakSinceSample = reconnecting;
+        return peak;
+    }
+    
+    public synchronized void reset() {
+        episodes.clear();
+        completedEpisodes = 0;
+        totalMillis = 0;
+        maxMillis = 0;
+        reconnecting = 0;
+        peakSinceSample = 0;
+    }
+    
+    public synchronized Snapshot snapshot() {
+        long ongoingMillis = reconnecting > 0 ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) : 0;
+        return new Snapshot(completedEpisodes, completedEpisodes > 0 ? (double) totalMillis / completedEpisodes : 0,
+            maxMillis, episodes.isEmpty() ? null : episodes.peekLast(), reconnecting, ongoingMillis,
+            new ArrayList<>(episodes));
+    }
+    
+    /**
+     * One reconnect phase
+     */
+    public static final class Episode {
+        private final long startMillis;
+        private final long durationMillis;
+        private final int threads;
+        private final int peakThreads;
+        private final int gaveUp;
+        
+        Episode(long startMillis, long durationMillis, int threads, int peakThreads, int gaveUp) {
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.threads = threads;
+            this.peakThreads = peakThreads;
+            this.gaveUp = gaveUp;
+        }
+        
+        public long getStartMillis() { return startMillis; }
+        /** First connection lost until the last reconnecting thread was done */
+        public long getDurationMillis() { return durationMillis; }
+        /** Reconnects during the episode (a thread losing its connection twice counts twice) */
+        public int getThreads() { return threads; }
+        /** Most threads reconnecting at the same time */
+        public int getPeakThreads() { return peakThreads; }
+        /** Threads that gave up (0 = full recovery) */
+        public int getGaveUp() { return gaveUp; }
+        public boolean isFullRecovery() { return gaveUp == 0; }
+    }
+    
+    public static final class Snapshot {
+        private final long episodes;
+        private final double meanMillis;
+        private final long maxMillis;
+        private final Episode last;
+        private final int reconnecting;
+        private final long ongoingMillis;
+        private final List<Episode> recent;
+        
+        Snapshot(long episodes, double meanMillis, long maxMillis, Episode last, int reconnecting,
+                 long ongoingMillis, List<Episode> recent) {
+            this.episodes = episodes;
+            this.meanMillis = meanMillis;
+            this.maxMillis = maxMillis;
+            this.last = last;
+            this.reconnecting = reconnecting;
+            this.ongoingMillis = ongoingMillis;
+            this.recent = recent;
+        }
+        
+        public long getEpisodes() { return episodes; }
+        public double getMeanMillis() { return meanMillis; }
+        public long getMaxMillis() { return maxMillis; }
+        /** Most recent completed episode (null if none) */
+        public Episode getLast() { return last; }
+        /** Threads reconnecting right now */
+        public int getReconnecting() { return reconnecting; }
+        /** Age of the episode in progress (0 if none) */
+        public long getOngoingMillis() { return ongoingMillis; }
+        /** Up to {@link #MAX_STORED_EPISODES} most recent episodes, oldest first */
+        public List<Episode> getRecent() { return recent; }
+    }
+}
@@ -0,0 +1,87 @@
+package com.test.metrics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * One event of the status stream: what changed since the previous event
+ * 
+ * Counts are deltas over the event interval, latency is the distribution of that interval
+ * (milliseconds). Endpoint sessions are included only when they changed or a subscriber
+ * joined; null fields are omitted from the JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StatusDelta {
+    
+    private final long sequence;
+    private final long time;
+    private final long intervalMs;
+    private final boolean running;
+    private final long reads;
+    private final long readsFailed;
+    private final long writes;
+    private final long writesFailed;
+    private final double readsPerSecond;
+    private final double writesPerSecond;
+    private final double readP99Ms;
+    private final double readMaxMs;
+    private final double writeP99Ms;
+    private final double writeMaxMs;
+    private final Map<String, Long> errors;
+    private final int openOutages;
+    private final String endpoint;
+    private final boolean endpointChanged;
+    private final Map<String, Integer> endpointSessions;
+    
+    public StatusDelta(long sequence, long time, long intervalMs, boolean running,
+                       long reads, long readsFailed, long writes, long writesFailed,
+                       double readsPerSecond, double writesPerSecond,
+                       double readP99Ms, double readMaxMs, double writeP99Ms, double writeMaxMs,
+                       Map<String, Long> errors, int openOutages,
+                       String endpoint, boolean endpointChanged, Map<String, Integer> endpointSessions) {
+        this.sequence = sequence;
+        this.time = time;
+        this.intervalMs = intervalMs;
+        this.running = running;
+        this.reads = reads;
+        this.readsFailed = readsFailed;
+        this.writes = writes;
+        this.writesFailed = writesFailed;
+        this.readsPerSecond = readsPerSecond;
+        this.writesPerSecond = writesPerSecond;
+        this.readP99Ms = readP99Ms;
+        this.readMaxMs = readMaxMs;
+        this.writeP99Ms = writeP99Ms;
+        this.writeMaxMs = writeMaxMs;
+        this.errors = errors;
+        this.openOutages = openOutages;
+        this.endpoint = endpoint;
+        this.endpointChanged = endpointChanged;
+        this.endpointSessions = endpointSessions;
+    }
+    
+    public long getSequence() { return sequence; }
+    public long getTime() { return time; }
+    public long getIntervalMs() { return intervalMs; }
+    public boolean isRunning() { return running; }
+    public long getReads() { return reads; }
+    public long getReadsFailed() { return readsFailed; }
+    /** Rows in batch mode */
+    public long getWrites() { return writes; }
+    public long getWritesFailed() { return writesFailed; }
+    public double getReadsPerSecond() { return readsPerSecond; }
+    public double getWritesPerSecond() { return writesPerSecond; }
+    public double getReadP99Ms() { return readP99Ms; }
+    public double getReadMaxMs() { return readMaxMs; }
+    public double getWriteP99Ms() { return writeP99Ms; }
+    public double getWriteMaxMs() { return writeMaxMs; }
+    /** Failures per error class in this interval (only classes with failures) */
+    public Map<String, Long> getErrors() { return errors; }
+    public int getOpenOutages() { return openOutages; }
+    /** Endpoint last seen by the load threads */
+    public String getEndpoint() { return endpoint; }
+    public boolean isEndpointChanged() { return endpointChanged; }
+    /** Load threads per endpoint (null when unchanged) */
+    public Map<String, Integer> getEndpointSessions() { return endpointSessions; }
+}
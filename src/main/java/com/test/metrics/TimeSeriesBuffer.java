@@ -0,0 +1,331 @@
+package com.test.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-size ring buffer of per-second load statistics
+ * 
+ * Memory is allocated once and bounded by the capacity (about 140 bytes per second, e.g.
+ * ~12 MB for one day), so continuous runs of any length keep the most recent capacity
+ * seconds and overwrite the oldest. Values are stored as primitive columns rather than
+ * one object per second; endpoints are stored as an index into a small dictionary.
+ * 
+ * One writer (the sampler, once per second) and any number of readers; all access is
+ * synchronized, which is cheap at one append per second.
+ */
+public final class TimeSeriesBuffer {
+    
+    /** Distinct endpoints remembered; later ones are reported as "other" */
+    private static final int MAX_ENDPOINTS = 1024;
+    
+    private final int capacity;
+    private final String[] errorClasses;
+    private final long[] epochSecond;
+    private final int[] readsSucceeded;
+    private final int[] readsFailed;
+    private final int[] writesSucceeded;
+    private final int[] writesFailed;
+    private final int[][] errors;  // [error class][slot]
+    private final int[] readP50Micros;
+    private final int[] readP99Micros;
+    private final int[] readMaxMicros;
+    private final int[] writeP50Micros;
+    private final int[] writeP99Micros;
+    private final int[] writeMaxMicros;
+    private final short[] endpoint;
+    private final int[] poolActive;   // Highest sample of the second
+    private final int[] poolIdle;     // Lowest sample of the second
+    private final int[] poolPending;  // Highest sample of the second
+    private final int[] poolAcquired;
+    private final int[] poolTimeouts;
+    private final int[] poolAcquireP99Micros;
+    private final int[] poolAcquireMaxMicros;
+    private final int[] reconnectAttempts;
+    private final int[] reconnecting;  // Highest of the second
+    private final List<String> endpointNames = new ArrayList<>();
+    private final Map<String, Short> endpointIndex = new HashMap<>();
+    private int next;   // Slot of the next append
+    private int size;
+    
+    /**
+     * @param capacitySeconds Seconds retained
+     * @param errorClasses    Names of the error classes counted per second
+     */
+    public TimeSeriesBuffer(int capacitySeconds, String[] errorClasses) {
+        if (capacitySeconds < 1) {
+            throw new IllegalArgumentException("capacitySeconds must be >= 1: " + capacitySeconds);
+        }
+        this.capacity = capacitySeconds;
+        this.errorClasses = errorClasses.clone();
+        this.epochSecond = new long[capacity];
+        this.readsSucceeded = new int[capacity];
+        this.readsFailed = new int[capacity];
+        this.writesSucceeded = new int[capacity];
+        this.writesFailed = new int[capacity];
+        this.errors = new int[errorClasses.length][capacity];
+        this.readP50Micros = new int[capacity];
+        this.readP99Micros = new int[capacity];
+        this.readMaxMicros = new int[capacity];
+        this.writeP50Micros = new int[capacity];
+        this.writeP99Micros = new int[capacity];
+        this.writeMaxMicros = new int[capacity];
+        this.endpoint = new short[capacity];
+        this.poolActive = new int[capacity];
+        this.poolIdle = new int[capacity];
+        this.poolPending = new int[capacity];
+        this.poolAcquired = new int[capacity];
+        this.poolTimeouts = new int[capacity];
+        this.poolAcquireP99Micros = new int[capacity];
+        this.poolAcquireMaxMicros = new int[capacity];
+        this.reconnectAttempts = new int[capacity];
+        this.reconnecting = new int[capacity];
+    }
+    
+    /**
+     * Append one second (overwrites the oldest second when full)
+     * 
+     * @param errorCounts Failed operations per error class, in the order given to the constructor
+     *                    (same unit as the failed reads/writes: rows for batched writes)
+     * @param pool        Connection pool gauges and acquisitions of the second
+     * @param reconnectAttemptCount Connection attempts of reconnecting load threads in the second
+     * @param reconnectingThreads   Most load threads reconnecting at once in the second
+     */
+    public synchronized void append(long second, long reads, long failedReads, long writes, long failedWrites,
+                                    long[] errorCounts, LatencySnapshot readLatency, LatencySnapshot writeLatency,
+                                    String activeEndpoint, PoolSecond pool, long reconnectAttemptCount,
+                                    int reconnectingThreads) {
+        int slot = next;
+        epochSecond[slot] = second;
+        readsSucceeded[slot] = clamp(reads);
+        readsFailed[slot] = clamp(failedReads);
+        writesSucceeded[slot] = clamp(writes);
+        writesFailed[slot] = clamp(failedWrites);
+        for (int i = 0; i < errorClasses.length; i++) {
+            errors[i][slot] = clamp(errorCounts[i]);
+        }
+        readP50Micros[slot] = micros(readLatency.getP50Ms());
+        readP99Micros[slot] = micros(readLatency.getP99Ms());
+        readMaxMicros[slot] = micros(readLatency.getMaxMs());
+        writeP50Micros[slot] = micros(writeLatency.getP50Ms());
+        writeP99Micros[slot] = micros(writeLatency.getP99Ms());
+        writeMaxMicros[slot] = micros(writeLatency.getMaxMs());
+        endpoint[slot] = endpointId(activeEndpoint);
+        poolActive[slot] = pool.active;
+        poolIdle[slot] = pool.idle;
+        poolPending[slot] = pool.pending;
+        poolAcquired[slot] = clamp(pool.acquisitionLatency.getCount());
+        poolTimeouts[slot] = clamp(pool.timeouts);
+        poolAcquireP99Micros[slot] = micros(pool.acquisitionLatency.getP99Ms());
+        poolAcquireMaxMicros[slot] = micros(pool.acquisitionLatency.getMaxMs());
+        reconnectAttempts[slot] = clamp(reconnectAttemptCount);
+        reconnecting[slot] = reconnectingThreads;
+        next = (slot + 1) % capacity;
+        size = Math.min(size + 1, capacity);
+    }
+    
+    /**
+     * Points between two epoch seconds (inclusive), merging every {@code step} consecutive seconds
+     * 
+     * @param maxPoints Upper bound on returned points; step is raised to stay within it
+     */
+    public synchronized List<TimeSeriesPoint> query(long fromSecond, long toSecond, int step, int maxPoints) {
+        int first = -1;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long second = epochSecond[slot(i)];
+            if (second < fromSecond) {
+                continue;
+            }
+            if (second > toSecond) {
+                break;
+            }
+            if (first < 0) {
+                first = i;
+            }
+            count++;
+        }
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        
+        int effectiveStep = Math.max(step, (count + maxPoints - 1) / maxPoints);
+        List<TimeSeriesPoint> points = new ArrayList<>((count + effectiveStep - 1) / effectiveStep);
+        for (int i = first; i < first + count; i += effectiveStep) {
+            points.add(merge(i, Math.min(effectiveStep, first + count - i)));
+        }
+        return points;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public synchronized int getSize() {
+        return size;
+    }
+    
+    /**
+     * Oldest retained second (0 when empty)
+     */
+    public synchronized long getOldestSecond() {
+        return size > 0 ? epochSecond[slot(0)] : 0;
+    }
+    
+    /**
+     * Drop all seconds (memory stays allocated)
+     */
+    public synchronized void clear() {
+        next = 0;
+        size = 0;
+        endpointNames.clear();
+        endpointIndex.clear();
+    }
+    
+    /**
+     * Merge {@code length} seconds starting at logical position {@code start} (0 = oldest)
+     * 
+     * Counts are summed. Percentiles cannot be merged from per-second values, so the point
+     * carries the count-weighted mean of the medians and the highest p99 (see {@link TimeSeriesPoint}).
+     */
+    private TimeSeriesPoint merge(int start, int length) {
+        long reads = 0;
+        long failedReads = 0;
+        long writes = 0;
+        long failedWrites = 0;
+        long[] errorSums = new long[errorClasses.length];
+        double readP50Weighted = 0;
+        double writeP50Weighted = 0;
+        int readP99Max = 0;
+        int readMax = 0;
+        int writeP99Max = 0;
+        int writeMax = 0;
+        int maxPoolActive = 0;
+        int minPoolIdle = Integer.MAX_VALUE;
+        int maxPoolPending = 0;
+        long acquired = 0;
+        long timeouts = 0;
+        int acquireP99Max = 0;
+        int acquireMax = 0;
+        long attempts = 0;
+        int maxReconnecting = 0;
+        int lastSlot = slot(start);
+        for (int i = start; i < start + length; i++) {
+            int slot = slot(i);
+            lastSlot = slot;
+            long readOps = (long) readsSucceeded[slot] + readsFailed[slot];
+            long writeOps = (long) writesSucceeded[slot] + writesFailed[slot];
+            reads += readsSucceeded[slot];
+            failedReads += readsFailed[slot];
+            writes += writesSucceeded[slot];
+            failedWrites += writesFailed[slot];
+            for (int e = 0; e < errorClasses.length; e++) {
+                errorSums[e] += errors[e][slot];
+            }
+            readP50Weighted += (double) readP50Micros[slot] * readOps;
+            writeP50Weighted += (double) writeP50Micros[slot] * writeOps;
+            readP99Max = Math.max(readP99Max, readP99Micros[slot]);
+            readMax = Math.max(readMax, readMaxMicros[slot]);
+            writeP99Max = Math.max(writeP99Max, writeP99Micros[slot]);
+            writeMax = Math.max(writeMax, writeMaxMicros[slot]);
+            maxPoolActive = Math.max(maxPoolActive, poolActive[slot]);
+            minPoolIdle = Math.min(minPoolIdle, poolIdle[slot]);
+            maxPoolPending = Math.max(maxPoolPending, poolPending[slot]);
+            acquired += poolAcquired[slot];
+            timeouts += poolTimeouts[slot];
+            acquireP99Max = Math.max(acquireP99Max, poolAcquireP99Micros[slot]);
+            acquireMax = Math.max(acquireMax, poolAcquireMaxMicros[slot]);
+            attempts += reconnectAttempts[slot];
+            maxReconnecting = Math.max(maxReconnecting, reconnecting[slot]);
+        }
+        
+        Map<String, Long> errorMap = new LinkedHashMap<>();
+        for (int e = 0; e < errorClasses.length; e++) {
+            if (errorSums[e] > 0) {
+                errorMap.put(errorClasses[e], errorSums[e]);
+            }
+        }
+        long readOps = reads + failedReads;
+        long writeOps = writes + failedWrites;
+        return new TimeSeriesPoint(epochSecond[slot(start)], length,
+            reads, failedReads, writes, failedWrites, errorMap,
+            readOps > 0 ? readP50Weighted / readOps / 1000.0 : 0, readP99Max / 1000.0, readMax / 1000.0,
+            writeOps > 0 ? writeP50Weighted / writeOps / 1000.0 : 0, writeP99Max / 1000.0, writeMax / 1000.0,
+            endpointName(endpoint[lastSlot]),
+            maxPoolActive, minPoolIdle, maxPoolPending, acquired, timeouts, acquireP99Max / 1000.0, acquireMax / 1000.0,
+            attempts, maxReconnecting);
+    }
+    
+    /**
+     * Physical slot of the logical position (0 = oldest retained second)
+     */
+    private int slot(int position) {
+        int oldest = size < capacity ? 0 : next;
+        return (oldest + position) % capacity;
+    }
+    
+    private short endpointId(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Short id = endpointIndex.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (endpointNames.size() >= MAX_ENDPOINTS) {
+            return -2;
+        }
+        short newId = (short) endpointNames.size();
+        endpointNames.add(name);
+        endpointIndex.put(name, newId);
+        return newId;
+    }
+    
+    private String endpointName(short id) {
+        if (id == -1) {
+            return null;
+        }
+        return id >= 0 ? endpointNames.get(id) : "other";
+    }
+    
+    /**
+     * Connection pool state of one second
+     */
+    public static final class PoolSecond {
+        
+        public static final PoolSecond EMPTY = new PoolSecond(0, 0, 0, 0, LatencySnapshot.EMPTY);
+        
+        private final int active;
+        private final int idle;
+        private final int pending;
+        private final long timeouts;
+        private final LatencySnapshot acquisitionLatency;
+        
+        /**
+         * @param active             Highest active (borrowed) connections sampled in the second
+         * @param idle               Lowest idle connections sampled in the second
+         * @param pending            Highest number of callers waiting for a connection
+         * @param timeouts           Acquisitions that timed out in the second
+         * @param acquisitionLatency Successful acquisitions of the second
+         */
+        public PoolSecond(int active, int idle, int pending, long timeouts, LatencySnapshot acquisitionLatency) {
+            this.active = active;
+            this.idle = idle;
+            this.pending = pending;
+            this.timeouts = timeouts;
+            this.acquisitionLatency = acquisitionLatency;
+        }
+    }
+    
+    private static int clamp(long value) {
+        return (int) Math.min(Math.max(value, 0), Integer.MAX_VALUE);
+    }
+    
+    private static int micros(double millis) {
+        return clamp(Math.round(millis * 1000.0));
+    }
+}
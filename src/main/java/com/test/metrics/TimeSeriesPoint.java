@@ -0,0 +1,113 @@
+package com.test.metrics;
+
+import java.util.Map;
+
+/**
+ * One point of the per-second time series (a single second, or several seconds merged by downsampling)
+ * 
+ * Latency fields are milliseconds. Only per-second percentiles are kept, and percentiles do not
+ * merge, so the names say what a merged point reports: p50Mean is the count-weighted mean of the
+ * per-second medians, p99Max and max are the highest per-second values (an upper bound, not the
+ * p99 of the merged seconds). For a single second they are that second's p50 and p99.
+ * Failures and errors per class both count operations (rows for batched writes).
+ * Pool gauges are sampled several times per second; a point reports the busiest sample
+ * (most active, fewest idle, most callers waiting).
+ */
+public class TimeSeriesPoint {
+    
+    private final long startEpochSecond;
+    private final int seconds;
+    private final long readsSucceeded;
+    private final long readsFailed;
+    private final long writesSucceeded;
+    private final long writesFailed;
+    private final Map<String, Long> errors;
+    private final double readP50MeanMs;
+    private final double readP99MaxMs;
+    private final double readMaxMs;
+    private final double writeP50MeanMs;
+    private final double writeP99MaxMs;
+    private final double writeMaxMs;
+    private final String endpoint;
+    private final int poolActive;
+    private final int poolIdle;
+    private final int poolPending;
+    private final long poolAcquired;
+    private final long poolTimeouts;
+    private final double poolAcquireP99MaxMs;
+    private final double poolAcquireMaxMs;
+    private final long reconnectAttempts;
+    private final int reconnecting;
+    
+    public TimeSeriesPoint(long startEpochSecond, int seconds,
+                           long readsSucceeded, long readsFailed, long writesSucceeded, long writesFailed,
+                           Map<String, Long> errors,
+                           double readP50MeanMs, double readP99MaxMs, double readMaxMs,
+                           double writeP50MeanMs, double writeP99MaxMs, double writeMaxMs,
+                           String endpoint,
+                           int poolActive, int poolIdle, int poolPending, long poolAcquired, long poolTimeouts,
+                           double poolAcquireP99MaxMs, double poolAcquireMaxMs,
+                           long reconnectAttempts, int reconnecting) {
+        this.startEpochSecond = startEpochSecond;
+        this.seconds = seconds;
+        this.readsSucceeded = readsSucceeded;
+        this.readsFailed = readsFailed;
+        this.writesSucceeded = writesSucceeded;
+        this.writesFailed = writesFailed;
+        this.errors = errors;
+        this.readP50MeanMs = readP50MeanMs;
+        this.readP99MaxMs = readP99MaxMs;
+        this.readMaxMs = readMaxMs;
+        this.writeP50MeanMs = writeP50MeanMs;
+        this.writeP99MaxMs = writeP99MaxMs;
+        this.writeMaxMs = writeMaxMs;
+        this.endpoint = endpoint;
+        this.poolActive = poolActive;
+        this.poolIdle = poolIdle;
+        this.poolPending = poolPending;
+        this.poolAcquired = poolAcquired;
+        this.poolTimeouts = poolTimeouts;
+        this.poolAcquireP99MaxMs = poolAcquireP99MaxMs;
+        this.poolAcquireMaxMs = poolAcquireMaxMs;
+        this.reconnectAttempts = reconnectAttempts;
+        this.reconnecting = reconnecting;
+    }
+    
+    public long getStartEpochSecond() { return startEpochSecond; }
+    public int getSeconds() { return seconds; }
+    public long getReadsSucceeded() { return readsSucceeded; }
+    public long getReadsFailed() { return readsFailed; }
+    public long getWritesSucceeded() { return writesSucceeded; }
+    public long getWritesFailed() { return writesFailed; }
+    /** Failed operations per error class (only classes with failures) */
+    public Map<String, Long> getErrors() { return errors; }
+    /** Count-weighted mean of the per-second read medians */
+    public double getReadP50MeanMs() { return readP50MeanMs; }
+    /** Highest per-second read p99 */
+    public double getReadP99MaxMs() { return readP99MaxMs; }
+    public double getReadMaxMs() { return readMaxMs; }
+    /** Count-weighted mean of the per-second write medians */
+    public double getWriteP50MeanMs() { return writeP50MeanMs; }
+    /** Highest per-second write p99 */
+    public double getWriteP99MaxMs() { return writeP99MaxMs; }
+    public double getWriteMaxMs() { return writeMaxMs; }
+    /** Endpoint last seen by the load threads at the end of the point */
+    public String getEndpoint() { return endpoint; }
+    /** Connections in use (highest sample) */
+    public int getPoolActive() { return poolActive; }
+    /** Idle connections (lowest sample) */
+    public int getPoolIdle() { return poolIdle; }
+    /** Callers waiting in getConnection() (highest sample) */
+    public int getPoolPending() { return poolPending; }
+    /** Connections handed out by the pool (all callers, not only this run) */
+    public long getPoolAcquired() { return poolAcquired; }
+    /** getConnection() calls that timed out */
+    public long getPoolTimeouts() { return poolTimeouts; }
+    /** Highest per-second acquisition p99 */
+    public double getPoolAcquireP99MaxMs() { return poolAcquireP99MaxMs; }
+    public double getPoolAcquireMaxMs() { return poolAcquireMaxMs; }
+    /** Connection attempts of reconnecting load threads (this run) */
+    public long getReconnectAttempts() { return reconnectAttempts; }
+    /** Most load threads reconnecting at the same time */
+    public int getReconnecting() { return reconnecting; }
+}
@@ -0,0 +1,185 @@
+package com.test.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Outcomes of one writer thread's writes by sequence number, for the write-loss detector
+ * 
+ * Every write takes the next sequence number of its thread before it is sent, and its outcome
+ * is recorded as acknowledged (committed as far as the client knows), in doubt (the connection
+ * failed while the statement was in flight - it may or may not have been applied) or failed
+ * (rejected, never applied). Acknowledged sequences are a bitmap in pages of 65,536 sequences;
+ * a page with every write acknowledged - the normal case - is replaced by a shared marker, so
+ * memory only grows with pages that saw failures (8 KB each). In-doubt sequences are rare and
+ * kept in a sorted array.
+ * 
+ * Written by the owning thread, read by the verifier; all methods are synchronized
+ * (uncontended except while a verification pass reads the ledger).
+ */
+public final class WriteLedger {
+    
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final long[] FULL = new long[0];
+    
+    private long[][] pages = new long[16][];
+    private int[] pageAcknowledged = new int[16];
+    private long next;       // Next sequence to hand out
+    private long resolved;   // Every sequence below has an outcome
+    private long acknowledged;
+    private long failed;
+    private long[] inDoubt = new long[16];
+    private int inDoubtCount;
+    
+    /**
+     * Sequence numbers for the next write (count consecutive numbers, e.g. one per batch row)
+     * 
+     * @return The first of them
+     */
+    public synchronized long reserve(int count) {
+        long first = next;
+        next += count;
+        return first;
+    }
+    
+    public synchronized void acknowledged(long first, int count) {
+        for (long seq = first; seq < first + count; seq++) {
+            setAcknowledged(seq);
+        }
+        acknowledged += count;
+        resolve(first + count);
+    }
+    
+    public synchronized void inDoubt(long first, int count) {
+        if (inDoubtCount + count > inDoubt.length) {
+            inDoubt = Arrays.copyOf(inDoubt, Math.max(inDoubt.length * 2, inDoubtCount + count));
+        }
+        for (long seq = first; seq < first + count; seq++) {
+            inDoubt[inDoubtCount++] = seq;
+        }
+        resolve(first + count);
+    }
+    
+    public synchronized void failed(long first, int count) {
+        failed += count;
+        resolve(first + count);
+    }
+    
+    /**
+     * Sequences below this have an outcome (the write in flight, if any, is at or above it)
+     */
+    public synchronized long getResolved() {
+        return resolved;
+    }
+    
+    public synchronized long getAcknowledged() {
+        return acknowledged;
+    }
+    
+    public synchronized long getFailed() {
+        return failed;
+    }
+    
+    public synchronized long getInDoubt() {
+        return inDoubtCount;
+    }
+    
+    /**
+     * Acknowledged count, sum of acknowledged sequences, sum of their squares and in-doubt count
+     * in [from, to)
+     * 
+     * The sum of squares wraps around (it is compared modulo 2^64).
+     */
+    public synchronized long[] expected(long from, long to) {
+        long count = 0;
+        long sum = 0;
+        long squares = 0;
+        long seq = from;
+        while (seq < to) {
+            int pageIndex = (int) (seq >>> PAGE_SHIFT);
+            long pageEnd = Math.min(to, ((long) pageIndex + 1) << PAGE_SHIFT);
+            long[] page = pageIndex < pages.length ? pages[pageIndex] : null;
+            if (page == FULL) {
+                long n = pageEnd - seq;
+                count += n;
+                sum += (seq + pageEnd - 1) * n / 2;
+                for (long s = seq; s < pageEnd; s++) {
+                    squares += s * s;
+                }
+            } else if (page != null) {
+                for (long s = seq; s < pageEnd; s++) {
+                    if (isSet(page, s)) {
+                        count++;
+                        sum += s;
+                        squares += s * s;
+                    }
+                }
+            }
+            seq = pageEnd;
+        }
+        return new long[] {count, sum, squares, inDoubtBetween(from, to)};
+    }
+    
+    public synchronized boolean isAcknowledged(long seq) {
+        int pageIndex = (int) (seq >>> PAGE_SHIFT);
+        long[] page = pageIndex < pages.length ? pages[pageIndex] : null;
+        return page == FULL || (page != null && isSet(page, seq));
+    }
+    
+    public synchronized boolean isInDoubt(long seq) {
+        return Arrays.binarySearch(inDoubt, 0, inDoubtCount, seq) >= 0;
+    }
+    
+    /**
+     * Memory held by the bitmap pages (bytes, approximate)
+     */
+    public synchronized long getBitmapBytes() {
+        long bytes = (long) pages.length * 12 + inDoubt.length * 8L;
+        for (long[] page : pages) {
+            if (page != null && page != FULL) {
+                bytes += page.length * 8L;
+            }
+        }
+        return bytes;
+    }
+    
+    private void setAcknowledged(long seq) {
+        int pageIndex = (int) (seq >>> PAGE_SHIFT);
+        if (pageIndex >= pages.length) {
+            int length = Math.max(pages.length * 2, pageIndex + 1);
+            pages = Arrays.copyOf(pages, length);
+            pageAcknowledged = Arrays.copyOf(pageAcknowledged, length);
+        }
+        long[] page = pages[pageIndex];
+        if (page == FULL) {
+            return;
+        }
+        if (page == null) {
+            page = new long[PAGE_SIZE / 64];
+            pages[pageIndex] = page;
+        }
+        int bit = (int) (seq & (PAGE_SIZE - 1));
+        long mask = 1L << bit;
+        if ((page[bit >>> 6] & mask) == 0) {
+            page[bit >>> 6] |= mask;
+            if (++pageAcknowledged[pageIndex] == PAGE_SIZE) {
+                pages[pageIndex] = FULL;
+            }
+        }
+    }
+    
+    private static boolean isSet(long[] page, long seq) {
+        int bit = (int) (seq & (PAGE_SIZE - 1));
+        return (page[bit >>> 6] & (1L << bit)) != 0;
+    }
+    
+    private long inDoubtBetween(long from, long to) {
+        int low = Arrays.binarySearch(inDoubt, 0, inDoubtCount, from);
+        int high = Arrays.binarySearch(inDoubt, 0, inDoubtCount, to);
+        return (high < 0 ? -high - 1 : high) - (low < 0 ? -low - 1 : low);
+    }
+    
+    private void resolve(long end) {
+        resolved = Math.max(resolved, end);
+    }
+}
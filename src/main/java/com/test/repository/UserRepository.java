@@ -1,5 +1,6 @@
 package com.test.repository;
 
+import com.test.jdbc.ReadRouting;
 import com.test.model.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,7 +14,8 @@ import java.util.List;
 
 /**
  * User Repository
- * Uses JdbcTemplate for database operations
+ * Uses JdbcTemplate for database operations; the read-only queries go through
+ * ReadRouting (reader instances when read routing is enabled, else the writer)
  */
 @Repository
 public class UserRepository {
@@ -21,9 +23,11 @@ public class UserRepository {
     private static final Logger log = LoggerFactory.getLogger(UserRepository.class);
     
     private final JdbcTemplate jdbcTemplate;
+    private final ReadRouting readRouting;
     
-    public UserRepository(JdbcTemplate jdbcTemplate) {
+    public UserRepository(JdbcTemplate jdbcTemplate, ReadRouting readRouting) {
         this.jdbcTemplate = jdbcTemplate;
+        this.readRouting = readRouting;
     }
     
     /**
@@ -32,7 +36,7 @@ public class UserRepository {
     public List<User> findAll() {
         String sql = "SELECT id, name, created_at FROM test_table";
         log.debug("Executing query: {}", sql);
-        return jdbcTemplate.query(sql, new UserRowMapper());
+        return readRouting.read(jdbc -> jdbc.query(sql, new UserRowMapper()));
     }
     
     /**
@@ -41,7 +45,7 @@ public class UserRepository {
     public User findById(Long id) {
         String sql = "SELECT id, name, created_at FROM test_table WHERE id = ?";
         log.debug("Executing query: {} with id={}", sql, id);
-        List<User> users = jdbcTemplate.query(sql, new UserRowMapper(), id);
+        List<User> users = readRouting.read(jdbc -> jdbc.query(sql, new UserRowMapper(), id));
         return users.isEmpty() ? null : users.get(0);
     }
     
@@ -78,14 +82,14 @@ public class UserRepository {
     public long count() {
         String sql = "SELECT COUNT(*) FROM test_table";
         log.debug("Executing count: {}", sql);
-        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        Long count = readRouting.read(jdbc -> jdbc.queryForObject(sql, Long.class));
         return count != null ? count : 0;
     }
     
     /**
-     * RowMapper for User
+     * RowMapper for User (public for the JMH row-mapping benchmark)
      */
-    private static class UserRowMapper implements RowMapper<User> {
+    public static final class UserRowMapper implements RowMapper<User> {
         @Override
         public User mapRow(ResultSet rs, int rowNum) throws SQLException {
             User user = new User();
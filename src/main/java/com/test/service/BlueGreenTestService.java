@@ -1,19 +1,66 @@
 package com.test.service;
 
+import com.test.jdbc.ConnectionLease;
+import com.test.jdbc.EndpointTracker;
+import com.test.jdbc.PoolMonitor;
+import com.test.jdbc.ReconnectController;
+import com.test.jdbc.SqlErrorClassifier;
+import com.test.jdbc.SqlErrorOutcome;
+import com.test.jdbc.StatementCache;
+import com.test.jdbc.WorkloadTable;
+import com.test.jdbc.WriteVerifier;
+import com.test.load.CoarseClock;
+import com.test.load.ConnectionHolding;
+import com.test.load.ExecutorMode;
+import com.test.load.GroupCommitQueue;
+import com.test.load.LoadExecutors;
+import com.test.load.LoadThreadConnection;
+import com.test.load.OpenLoopPacer;
+import com.test.load.OperationType;
+import com.test.load.PayloadGenerator;
+import com.test.load.SaturationSearch;
+import com.test.load.VirtualThreadPinningMonitor;
+import com.test.load.WorkloadRunner;
+import com.test.load.WorkloadSpec;
+import com.test.load.WriteIntent;
+import com.test.metrics.AllocationMeter;
+import com.test.metrics.LatencyHistogram;
+import com.test.metrics.LatencySnapshot;
+import com.test.metrics.LoadTestMeters;
+import com.test.metrics.OperationStats;
+import com.test.metrics.OutageRecorder;
+import com.test.metrics.OutageReport;
+import com.test.metrics.OutageTracker;
+import com.test.metrics.OutageWindow;
+import com.test.metrics.RecoveryTracker;
+import com.test.metrics.StatusDelta;
+import com.test.metrics.TimeSeriesBuffer;
+import com.test.metrics.TimeSeriesPoint;
+import com.test.metrics.WriteLedger;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Blue/Green Switchover Test Service
@@ -26,8 +73,13 @@ import java.util.concurrent.atomic.AtomicLong;
  * - Multi-threaded continuous metadata reads (high frequency)
  * - Tests connection stability during Blue/Green switchover
  * - Monitors failover events and connection state changes
+ * 
+ * One instance per named test run: each run owns its executor, counters, histograms and
+ * lifecycle, so several runs can load the same cluster side by side. Instances are created
+ * and looked up through {@link TestRunRegistry}.
  */
 @Service
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class BlueGreenTestService {
     
     private static final Logger log = LoggerFactory.getLogger(BlueGreenTestService.class);
@@ -35,47 +87,164 @@ public class BlueGreenTestService {
     private static final Logger ipLog = LoggerFactory.getLogger("IPMetadataLogger");
     
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    // Timestamps in log messages, formatted at most once per 100 ms (the log layout's own
+    // timestamp stays exact to the millisecond)
+    private static final CoarseClock clock = new CoarseClock(100);
+    
+    // Length of the rolling latency window (matches the per-thread report interval)
+    private static final long LATENCY_WINDOW_MS = 10_000;
+    
+    // Group-commit pipeline: how long a producer waits for its row, and committer idle poll
+    private static final long PIPELINE_COMPLETION_TIMEOUT_MS = 30_000;
+    private static final long COMMITTER_IDLE_PARK_NANOS = 200_000;
+    
+    private final String runId;
     
     @Autowired
     private DataSource dataSource;
     
+    private ReconnectController reconnectController;
+    private LoadThreadConnection.Context loadThreads;  // Shared by the load threads' connections
+    
     @Value("${app.table-prefix:default}")
     private String tablePrefix;
     
-    // Test statistics
-    private final AtomicLong totalMetadataReads = new AtomicLong(0);
-    private final AtomicLong successfulMetadataReads = new AtomicLong(0);
-    private final AtomicLong failedMetadataReads = new AtomicLong(0);
-    private final AtomicLong totalWrites = new AtomicLong(0);
-    private final AtomicLong successfulWrites = new AtomicLong(0);
-    private final AtomicLong failedWrites = new AtomicLong(0);
-    private final AtomicLong readOnlyErrors = new AtomicLong(0);
-    private final AtomicLong totalReadLatency = new AtomicLong(0);
-    private final AtomicLong totalWriteLatency = new AtomicLong(0);
-    private final AtomicInteger failoverCount = new AtomicInteger(0);
+    @Value("${app.virtual-threads.pinning-threshold-ms:20}")
+    private long pinningThresholdMs;
+    
+    @Value("${app.prepared-statements.server-side:false}")
+    private boolean serverPreparedStatements;
+    
+    @Value("${app.endpoint-tracking.sample-interval-ms:5000}")
+    private long endpointSampleIntervalMs;
+    
+    private int payloadSize;
+    private PayloadGenerator.Content payloadContent;
+    
+    @Value("${app.timeseries.capacity-seconds:86400}")
+    private int timeSeriesCapacitySeconds;
+    
+    // Reported with saturation results (the capacity found depends on both)
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+    
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+    
+    // Test statistics (striped - summed only when read by status/monitor/report)
+    private final OperationStats readStats = new OperationStats(LATENCY_WINDOW_MS);
+    private final OperationStats writeStats = new OperationStats(LATENCY_WINDOW_MS);
+    private final OperationStats batchStats = new OperationStats(LATENCY_WINDOW_MS);
+    private final LongAdder batchRowsSucceeded = new LongAdder();
+    private final LongAdder batchRowsFailed = new LongAdder();
+    private final LongAdder statementsPrepared = new LongAdder();
+    private final LongAdder statementCacheRebuilds = new LongAdder();
+    private final OperationStats commitStats = new OperationStats(LATENCY_WINDOW_MS);
+    private final LongAdder pipelineRowsCommitted = new LongAdder();
+    private final LongAdder pipelineRowsFailed = new LongAdder();
+    private final LongAdder pipelineRejected = new LongAdder();
+    private final OutageRecorder outages = new OutageRecorder();  // Per-thread blackout windows
+    private volatile EndpointTracker endpointTracker = new EndpointTracker(0);  // Replaced per test
+    private final SqlErrorClassifier errorClassifier = new SqlErrorClassifier();  // Failure outcomes by category
+    private final AllocationMeter readAllocation = new AllocationMeter();
+    private final AllocationMeter writeAllocation = new AllocationMeter();
+    private final LongAdder readOnlyErrors = new LongAdder();
+    private final LongAdder failoverCount = new LongAdder();
     private final AtomicBoolean testRunning = new AtomicBoolean(false);
     
     private ExecutorService executor;
+    private volatile ExecutorMode executorMode = ExecutorMode.PLATFORM;
+    private volatile VirtualThreadPinningMonitor pinningMonitor;
+    private volatile TimeSeriesBuffer timeSeries;  // Allocated on first test, kept across tests
+    private ScheduledExecutorService timeSeriesSampler;
+    private final long[] sampledCounts = new long[4 + SqlErrorOutcome.values().length];  // Sampler thread only
+    private volatile LoadTestMeters meters;  // Null when no MeterRegistry is configured
+    // Status stream state (stream thread only)
+    private final long[] streamedCounts = new long[sampledCounts.length];
+    private final LatencyHistogram.Interval readStreamLatency = readStats.getLatency().newInterval();
+    private final LatencyHistogram.Interval writeStreamLatency = writeStats.getLatency().newInterval();
+    private final LatencyHistogram.Interval batchStreamLatency = batchStats.getLatency().newInterval();
+    private long streamSequence;
+    private long streamedMillis;
+    private String streamedEndpoint;
+    private Map<String, Integer> streamedSessions;
     private volatile String lastEndpoint = "unknown";
     private volatile long testStartTime = 0;
 
     // Continuous mode flag
     private final AtomicBoolean continuousMode = new AtomicBoolean(false);
     private volatile int configuredThreads = 20;
-    private volatile int configuredReadsPerSecond = 500;
-    private volatile int configuredWritesPerSecond = 10;  // Writes per second per thread
+    private volatile double configuredReadsPerSecond = 500;
+    private volatile double configuredWritesPerSecond = 10;  // Writes per second per thread
     private volatile int configuredDurationSeconds = 3600;
     private volatile boolean enableWrites = true;  // Enable write operations
+    private volatile int writeBatchSize = 1;  // Rows per executeBatch (1 = single-row INSERT)
+    private volatile boolean reuseStatements = false;  // Per-connection prepared statement cache
+    private volatile GroupCommitQueue<WriteIntent> writeQueue;  // Group-commit pipeline mode only
+    private volatile int pipelineCommitters = 0;
+    private volatile int pipelineMaxRowsPerCommit = 0;
+    private volatile WorkloadSpec workload;  // Declarative workload test only
+    private volatile OperationStats[] workloadStats;  // Per workload operation, same order as the spec
+    private volatile double loadScale = 1;  // Multiplier of the workload rates (set per saturation step)
+    private volatile SaturationSearch saturation;  // Saturation search only
+    // Step latency of the saturation search (search thread only)
+    private final LatencyHistogram.Interval saturationReadLatency = readStats.getLatency().newInterval();
+    private final LatencyHistogram.Interval saturationWriteLatency = writeStats.getLatency().newInterval();
+    // How load threads hold pooled connections, and the borrow/return overhead this causes
+    private volatile ConnectionHolding connectionHolding = ConnectionHolding.HOLD_FOR_TEST;
+    private final ConnectionLease.Stats leaseStats = new ConnectionLease.Stats(LATENCY_WINDOW_MS);
+    private LatencyHistogram.Interval poolReportCreation;
+    // Connection pool (shared by all runs): per-second acquisitions and what happened during this run's test
+    private PoolMonitor poolMonitor;
+    private LatencyHistogram.Interval poolSampledLatency;  // Sampler thread only
+    private long poolSampledTimeouts;                      // Sampler thread only
+    private LatencyHistogram.Interval poolReportLatency;
+    private LatencyHistogram.Interval poolReportUsage;
+    private long poolTimeoutsAtStart;
+    private long poolEpisodesAtStart;
+    private long poolExhaustedMillisAtStart;
+    // Reconnects of the load threads (paced by the shared reconnect controller)
+    private final RecoveryTracker recovery = new RecoveryTracker();
+    private final LongAdder reconnectAttempts = new LongAdder();
+    private final LongAdder reconnectAttemptsFailed = new LongAdder();
+    private long reconnectSampledAttempts;  // Sampler thread only
+    private long reconnectThrottledAtStart;
+    private long reconnectThrottledMillisAtStart;
+    // Write-loss/duplicate detection of the write tests (null for other tests)
+    private volatile WriteVerifier writeVerifier;
+    private final AtomicBoolean verificationQueued = new AtomicBoolean(false);
+    private ExecutorService verificationExecutor;  // Created on first use, kept across tests
+    
+    /**
+     * @param runId Name of the test run (see {@link TestRunRegistry})
+     */
+    public BlueGreenTestService(String runId) {
+        this.runId = runId;
+    }
+    
+    /**
+     * Name of the test run this instance belongs to
+     */
+    public String getRunId() {
+        return runId;
+    }
+    
+    /**
+     * Whether a test of this run is currently running
+     */
+    public boolean isRunning() {
+        return testRunning.get();
+    }
 
     /**
      * Start Blue/Green switchover test with metadata reads and writes
      * 
      * @param numThreads Number of concurrent threads
-     * @param readsPerSecond Metadata reads per second per thread
+     * @param readsPerSecond Metadata reads per second per thread (may be fractional)
      * @param durationSeconds Test duration in seconds (0 = continuous mode)
      * @return Test ID
      */
-    public String startTest(int numThreads, int readsPerSecond, int durationSeconds) {
+    public String startTest(int numThreads, double readsPerSecond, int durationSeconds) {
         return startTest(numThreads, readsPerSecond, 10, durationSeconds, true);
     }
     
@@ -83,17 +252,57 @@ public class BlueGreenTestService {
      * Start Blue/Green switchover test with custom configuration
      * 
      * @param numThreads Number of concurrent threads
-     * @param readsPerSecond Metadata reads per second per thread
-     * @param writesPerSecond Writes per second per thread
+     * @param readsPerSecond Metadata reads per second per thread (may be fractional)
+     * @param writesPerSecond Writes per second per thread (may be fractional)
      * @param durationSeconds Test duration in seconds (0 = continuous mode)
      * @param enableWrites Enable write operations
      * @return Test ID
      */
-    public String startTest(int numThreads, int readsPerSecond, int writesPerSecond, 
+    public String startTest(int numThreads, double readsPerSecond, double writesPerSecond, 
                            int durationSeconds, boolean enableWrites) {
+        return startTest(numThreads, readsPerSecond, writesPerSecond, durationSeconds, enableWrites,
+            ExecutorMode.PLATFORM);
+    }
+    
+    /**
+     * Start Blue/Green switchover test with custom configuration and executor mode
+     * 
+     * @param numThreads Number of concurrent threads (simulated clients)
+     * @param readsPerSecond Metadata reads per second per thread (may be fractional)
+     * @param writesPerSecond Writes per second per thread (may be fractional)
+     * @param durationSeconds Test duration in seconds (0 = continuous mode)
+     * @param enableWrites Enable write operations
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per client)
+     * @return Test ID
+     */
+    public String startTest(int numThreads, double readsPerSecond, double writesPerSecond, 
+                           int durationSeconds, boolean enableWrites, ExecutorMode executorMode) {
+        return startTest(numThreads, readsPerSecond, writesPerSecond, durationSeconds, enableWrites, executorMode,
+            ConnectionHolding.HOLD_FOR_TEST);
+    }
+    
+    /**
+     * Start Blue/Green switchover test with custom configuration, executor mode and connection strategy
+     * 
+     * @param numThreads Number of concurrent threads (simulated clients)
+     * @param readsPerSecond Metadata reads per second per thread (may be fractional)
+     * @param writesPerSecond Writes per second per thread (may be fractional)
+     * @param durationSeconds Test duration in seconds (0 = continuous mode)
+     * @param enableWrites Enable write operations
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per client)
+     * @param holding How long each thread keeps its pooled connection
+     * @return Test ID
+     */
+    public String startTest(int numThreads, double readsPerSecond, double writesPerSecond, 
+                           int durationSeconds, boolean enableWrites, ExecutorMode executorMode,
+                           ConnectionHolding holding) {
         if (testRunning.get()) {
             throw new IllegalStateException("Test is already running");
         }
+        if (executorMode == ExecutorMode.VIRTUAL && !LoadExecutors.virtualThreadsSupported()) {
+            throw new IllegalArgumentException("executorMode=virtual requires JDK 21+ (running on Java "
+                + System.getProperty("java.version") + ")");
+        }
         
         // Save configuration for continuous mode
         this.configuredThreads = numThreads;
@@ -101,6 +310,9 @@ public class BlueGreenTestService {
         this.configuredWritesPerSecond = writesPerSecond;
         this.configuredDurationSeconds = durationSeconds;
         this.enableWrites = enableWrites;
+        this.writeBatchSize = 1;
+        this.reuseStatements = false;
+        this.connectionHolding = holding;
         
         // Check if continuous mode (duration = 0)
         boolean isContinuous = (durationSeconds == 0);
@@ -119,7 +331,10 @@ public class BlueGreenTestService {
         log.info("");
         log.info("📋 Test Configuration:");
         log.info("   Test ID: {}", testId);
+        log.info("   Run: {}", runId);
         log.info("   Total Threads: {}", numThreads);
+        log.info("   Executor Mode: {}", executorMode);
+        log.info("   Connection Strategy: {}", holding.label());
         log.info("   Reads Per Second (per thread): {}", readsPerSecond);
         log.info("   Total Reads Per Second: {}", numThreads * readsPerSecond);
         if (enableWrites) {
@@ -139,6 +354,7 @@ public class BlueGreenTestService {
         if (enableWrites) {
             log.info("   - All {} threads: Database writes ({}/sec each)", numThreads, writesPerSecond);
         }
+        log.info("   - Open-loop pacing: latency measured from intended start (includes queueing delay)");
         log.info("   - Monitoring for Blue/Green switchover events");
         log.info("   - Tracking connection state and failover behavior");
         if (isContinuous) {
@@ -146,7 +362,8 @@ public class BlueGreenTestService {
         }
         log.info("");
         
-        executor = Executors.newFixedThreadPool(numThreads + 1);
+        int totalTasks = (enableWrites ? numThreads * 2 : numThreads) + 1;
+        executor = createExecutor(executorMode, totalTasks, threadName("client-"));
         CountDownLatch startLatch = new CountDownLatch(1);
         
         // Start all metadata read threads
@@ -197,6 +414,202 @@ public class BlueGreenTestService {
         return testId;
     }
     
+    /**
+     * Start a declarative workload test
+     * 
+     * Each load thread holds one connection and runs the spec's operation mix open-loop at the
+     * spec's total rate; every operation runs at its own target rate. Statements are prepared
+     * once per connection. Reads and writes are also counted in the overall read/write statistics.
+     * 
+     * @param numThreads Number of load threads (simulated clients)
+     * @param durationSeconds Test duration in seconds (0 = continuous mode)
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per client)
+     * @param spec Validated workload
+     * @return Test ID
+     * @throws SQLException When the workload tables cannot be created or read
+     */
+    public String startWorkloadTest(int numThreads, int durationSeconds, ExecutorMode executorMode, WorkloadSpec spec)
+            throws SQLException {
+        return startWorkloadTest(numThreads, durationSeconds, executorMode, spec, ConnectionHolding.HOLD_FOR_TEST);
+    }
+    
+    /**
+     * Start a declarative workload test with a connection strategy
+     * 
+     * @param holding How long each thread keeps its pooled connection
+     * @see #startWorkloadTest(int, int, ExecutorMode, WorkloadSpec)
+     */
+    public String startWorkloadTest(int numThreads, int durationSeconds, ExecutorMode executorMode, WorkloadSpec spec,
+                                    ConnectionHolding holding) throws SQLException {
+        return startWorkload(numThreads, durationSeconds, executorMode, spec, null, holding);
+    }
+    
+    /**
+     * Start a saturation search: the workload's operation mix is offered at a total rate that
+     * grows step by step until p99 latency, error rate or throughput misses the target; the test
+     * ends at the knee and reports the maximum sustainable throughput
+     * 
+     * @param numThreads Number of load threads (each holds one connection)
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per client)
+     * @param spec Operation mix (only the relative rates matter)
+     * @param search Step and SLO configuration
+     * @return Test ID
+     * @throws SQLException When the workload tables cannot be created or read
+     */
+    public String startSaturationTest(int numThreads, ExecutorMode executorMode, WorkloadSpec spec,
+                                      SaturationSearch search) throws SQLException {
+        return startSaturationTest(numThreads, executorMode, spec, search, ConnectionHolding.HOLD_FOR_TEST);
+    }
+    
+    /**
+     * Start a saturation search with a connection strategy
+     * 
+     * @param holding How long each thread keeps its pooled connection
+     * @see #startSaturationTest(int, ExecutorMode, WorkloadSpec, SaturationSearch)
+     */
+    public String startSaturationTest(int numThreads, ExecutorMode executorMode, WorkloadSpec spec,
+                                      SaturationSearch search, ConnectionHolding holding) throws SQLException {
+        return startWorkload(numThreads, 0, executorMode, spec, search, holding);
+    }
+    
+    private String startWorkload(int numThreads, int durationSeconds, ExecutorMode executorMode, WorkloadSpec spec,
+                                 SaturationSearch search, ConnectionHolding holding) throws SQLException {
+        if (testRunning.get()) {
+            throw new IllegalStateException("Test is already running");
+        }
+        if (executorMode == ExecutorMode.VIRTUAL && !LoadExecutors.virtualThreadsSupported()) {
+            throw new IllegalArgumentException("executorMode=virtual requires JDK 21+ (running on Java "
+                + System.getProperty("java.version") + ")");
+        }
+        
+        // Create tables and load key ranges before any load thread starts
+        WorkloadTable writeTestTable = WorkloadTable.writeTest(tablePrefix);
+        WorkloadTable applicationTable = WorkloadTable.testTable();
+        boolean usesWriteTestTable = spec.usesTable(WorkloadSpec.TABLE_WRITE_TEST);
+        boolean usesApplicationTable = spec.usesTable(WorkloadSpec.TABLE_TEST_TABLE);
+        if (usesWriteTestTable || usesApplicationTable) {
+            try (Connection conn = dataSource.getConnection()) {
+                if (usesWriteTestTable) {
+                    writeTestTable.prepare(conn);
+                }
+                if (usesApplicationTable) {
+                    applicationTable.prepare(conn);
+                }
+            }
+        }
+        List<WorkloadSpec.Operation> operations = spec.getOperations();
+        WorkloadTable[] tables = new WorkloadTable[operations.size()];
+        OperationStats[] stats = new OperationStats[operations.size()];
+        for (int i = 0; i < operations.size(); i++) {
+            tables[i] = WorkloadSpec.TABLE_TEST_TABLE.equals(operations.get(i).getTable())
+                ? applicationTable : writeTestTable;
+            stats[i] = new OperationStats(LATENCY_WINDOW_MS);
+        }
+        
+        this.configuredThreads = numThreads;
+        this.configuredDurationSeconds = durationSeconds;
+        this.enableWrites = spec.hasWrites();
+        this.writeBatchSize = 1;
+        this.reuseStatements = true;
+        this.connectionHolding = holding;
+        boolean isContinuous = (durationSeconds == 0);
+        continuousMode.set(isContinuous);
+        
+        resetStatistics();
+        this.workload = spec;
+        this.workloadStats = stats;
+        this.saturation = search;
+        this.loadScale = search != null ? search.getOfferedRate() / (numThreads * spec.getOperationsPerSecond()) : 1;
+        testRunning.set(true);
+        testStartTime = System.currentTimeMillis();
+        
+        String testId = (search != null ? "SATURATION-" : "WORKLOAD-") + testStartTime;
+        
+        log.info("╔════════════════════════════════════════════════════════════════╗");
+        if (search != null) {
+            log.info("║   Blue/Green Switchover Test - Saturation Search              ║");
+        } else {
+            log.info("║   Blue/Green Switchover Test - Declarative Workload           ║");
+        }
+        log.info("╚════════════════════════════════════════════════════════════════╝");
+        log.info("");
+        log.info("📋 Test Configuration:");
+        log.info("   Test ID: {}", testId);
+        log.info("   Run: {}", runId);
+        log.info("   Workload: {}", spec.getName());
+        log.info("   Total Threads: {}", numThreads);
+        log.info("   Executor Mode: {}", executorMode);
+        log.info("   Connection Strategy: {}", holding.label());
+        log.info("   Operations Per Second (per thread): {}", String.format("%.1f", spec.getOperationsPerSecond()));
+        for (WorkloadSpec.Operation operation : operations) {
+            log.info("      {} {}/sec", operation.label(), String.format("%.2f", operation.getRatePerSecond()));
+        }
+        if (search != null) {
+            log.info("   Offered Load: {} ops/sec, x{} per step, up to {} ops/sec",
+                String.format("%.1f", search.getStartRate()), search.getGrowthFactor(),
+                String.format("%.1f", search.getMaxRate()));
+            log.info("   Steps: {}s settle + {}s measured, {} refinement steps", search.getSettleSeconds(),
+                search.getStepSeconds(), search.getRefineSteps());
+            log.info("   SLO: p99 <= {}ms, errors <= {}%, throughput >= {}% of offered", search.getSloP99Ms(),
+                search.getMaxErrorRate() * 100, (int) (SaturationSearch.MIN_THROUGHPUT_RATIO * 100));
+        } else {
+            log.info("   Total Operations Per Second: {}", String.format("%.1f", numThreads * spec.getOperationsPerSecond()));
+        }
+        if (search != null) {
+            log.info("   Test Duration: until the knee is found");
+        } else if (isContinuous) {
+            log.info("   Test Duration: ♾️  CONTINUOUS MODE (until manually stopped)");
+        } else {
+            log.info("   Test Duration: {} seconds", durationSeconds);
+        }
+        log.info("   Prepared Statements: {}, reused per connection", serverPreparedStatements ? "server-side" : "client-side");
+        log.info("");
+        
+        executor = createExecutor(executorMode, numThreads + (search != null ? 2 : 1), threadName("workload-"));
+        CountDownLatch startLatch = new CountDownLatch(1);
+        WorkloadRunner runner = new WorkloadRunner(spec, tables, stats, readStats, writeStats, statementsPrepared,
+            () -> loadScale);
+        
+        for (int i = 1; i <= numThreads; i++) {
+            final int threadId = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    runner.run(newLoadThreadConnection("Workload-Thread-" + threadId, "Workload-" + threadId,
+                        newLease()), threadId, payloadGenerator(1, threadId), durationSeconds);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("⚠️  Workload-Thread-{} interrupted during startup", threadId);
+                }
+            });
+        }
+        
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                runMonitoringThread(durationSeconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        if (search != null) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    runSaturationSearch(numThreads, spec, search);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        
+        log.info("🚀 [{}] Starting {} workload threads...", now(), numThreads);
+        log.info("");
+        startLatch.countDown();
+        
+        return testId;
+    }
+    
     /**
      * Stop the running test
      */
@@ -210,7 +623,13 @@ public class BlueGreenTestService {
                 Thread.currentThread().interrupt();
             }
         }
+        if (pinningMonitor != null) {
+            pinningMonitor.close();
+        }
+        stopTimeSeriesSampler();
+        updateEndpointGauges();
         log.info("🛑 Test stopped");
+        scheduleWriteVerification("test end", true);
         printFinalReport();
     }
     
@@ -223,9 +642,57 @@ public class BlueGreenTestService {
  * @return Test ID
  */
 public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
+        return startWriteOnlyTest(numConnections, writeIntervalMs, ExecutorMode.PLATFORM);
+    }
+    
+    /**
+     * Start simplified continuous write test with the given executor mode
+     * 
+     * @param numConnections Number of connections (one thread per connection)
+     * @param writeIntervalMs Write interval in milliseconds, 0 means as fast as possible
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per connection)
+     * @return Test ID
+     */
+    public String startWriteOnlyTest(int numConnections, int writeIntervalMs, ExecutorMode executorMode) {
+        return startWriteOnlyTest(numConnections, writeIntervalMs, executorMode, 1, true);
+    }
+    
+    /**
+     * Start simplified continuous write test with batched inserts
+     * 
+     * @param numConnections Number of connections (one thread per connection)
+     * @param writeIntervalMs Interval between writes (or batches) in milliseconds, 0 means as fast as possible
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per connection)
+     * @param batchSize Rows per addBatch/executeBatch round trip (1 = single-row INSERT)
+     * @param reuseStatements Prepare the INSERT once per connection instead of once per write
+     * @return Test ID
+     */
+    public String startWriteOnlyTest(int numConnections, int writeIntervalMs, ExecutorMode executorMode,
+                                     int batchSize, boolean reuseStatements) {
+        return startWriteOnlyTest(numConnections, writeIntervalMs, executorMode, batchSize, reuseStatements,
+            ConnectionHolding.HOLD_FOR_TEST);
+    }
+    
+    /**
+     * Start simplified continuous write test with batched inserts and a connection strategy
+     * 
+     * @param numConnections Number of connections (one thread per connection)
+     * @param writeIntervalMs Interval between writes (or batches) in milliseconds, 0 means as fast as possible
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per connection)
+     * @param batchSize Rows per addBatch/executeBatch round trip (1 = single-row INSERT)
+     * @param reuseStatements Prepare the INSERT once per connection instead of once per write
+     * @param holding How long each thread keeps its pooled connection
+     * @return Test ID
+     */
+    public String startWriteOnlyTest(int numConnections, int writeIntervalMs, ExecutorMode executorMode,
+                                     int batchSize, boolean reuseStatements, ConnectionHolding holding) {
         if (testRunning.get()) {
             throw new IllegalStateException("Test is already running");
         }
+        if (executorMode == ExecutorMode.VIRTUAL && !LoadExecutors.virtualThreadsSupported()) {
+            throw new IllegalArgumentException("executorMode=virtual requires JDK 21+ (running on Java "
+                + System.getProperty("java.version") + ")");
+        }
         
         resetStatistics();
         testRunning.set(true);
@@ -233,6 +700,10 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         continuousMode.set(true);
         enableWrites = true;
         configuredThreads = numConnections;
+        writeBatchSize = batchSize;
+        this.reuseStatements = reuseStatements;
+        connectionHolding = holding;
+        writeVerifier = new WriteVerifier(dataSource, tablePrefix + "_bg_write_test");
         
         String testId = "WRITE-" + testStartTime;
         
@@ -242,12 +713,22 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         log.info("");
         log.info("📋 Configuration:");
         log.info("   Test ID: {}", testId);
+        log.info("   Run: {}", runId);
         log.info("   Connections: {}", numConnections);
         log.info("   Write Interval: {}ms", writeIntervalMs);
-        log.info("   Mode: Each thread holds one connection, continuous writes");
+        log.info("   Executor Mode: {}", executorMode);
+        if (batchSize > 1) {
+            log.info("   Batch Size: {} rows per executeBatch (rewriteBatchedStatements)", batchSize);
+        }
+        log.info("   Prepared Statements: {}, {}", serverPreparedStatements ? "server-side" : "client-side",
+            reuseStatements ? "reused per connection" : "prepared per write");
+        log.info("   Connection Strategy: {}", holding.label());
+        log.info("   Write Verification: stream {} (per-thread sequence numbers)", writeVerifier.getStreamId());
+        log.info("   Mode: {}", holding.isHoldForTest() ? "Each thread holds one connection, continuous writes"
+            : "Each thread borrows pooled connections, continuous writes");
         log.info("");
         
-        executor = Executors.newFixedThreadPool(numConnections + 1);
+        executor = createExecutor(executorMode, numConnections + 1, threadName("writer-"));
         CountDownLatch startLatch = new CountDownLatch(1);
         
         // Start write threads
@@ -256,7 +737,7 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             executor.submit(() -> {
                 try {
                     startLatch.await();
-                    runPersistentWriteThread(threadId, writeIntervalMs);
+                    runPersistentWriteThread(threadId, writeIntervalMs, batchSize, reuseStatements);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                 }
@@ -279,124 +760,204 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         return testId;
     }
     
+    /**
+     * Start group-commit write pipeline test
+     * 
+     * Producer threads do not touch the database: each enqueues one write intent per
+     * interval on a bounded lock-free queue and waits for its completion future. A small
+     * number of committer threads, each holding one connection, drain the queue and write
+     * up to maxRowsPerCommit intents as one multi-row INSERT ... VALUES (...),(...).
+     * Producer latency (enqueue to commit) is reported as write latency, commit latency
+     * and queue depth separately.
+     * 
+     * @param numProducers Number of producer threads (simulated clients)
+     * @param writeIntervalMs Interval between a producer's writes in milliseconds, 0 means as fast as possible
+     * @param numCommitters Number of committer threads (one connection each)
+     * @param maxRowsPerCommit Maximum rows coalesced into one INSERT
+     * @param queueCapacity Queue bound; producers are rejected (counted as failed) when full
+     * @param executorMode PLATFORM (thread pool) or VIRTUAL (one virtual thread per producer)
+     * @return Test ID
+     */
+    public String startPipelineWriteTest(int numProducers, int writeIntervalMs, int numCommitters,
+                                         int maxRowsPerCommit, int queueCapacity, ExecutorMode executorMode) {
+        if (testRunning.get()) {
+            throw new IllegalStateException("Test is already running");
+        }
+        if (executorMode == ExecutorMode.VIRTUAL && !LoadExecutors.virtualThreadsSupported()) {
+            throw new IllegalArgumentException("executorMode=virtual requires JDK 21+ (running on Java "
+                + System.getProperty("java.version") + ")");
+        }
+        
+        resetStatistics();
+        testRunning.set(true);
+        testStartTime = System.currentTimeMillis();
+        continuousMode.set(true);
+        enableWrites = true;
+        configuredThreads = numProducers;
+        writeBatchSize = 1;
+        reuseStatements = false;
+        pipelineCommitters = numCommitters;
+        pipelineMaxRowsPerCommit = maxRowsPerCommit;
+        GroupCommitQueue<WriteIntent> queue = new GroupCommitQueue<>(queueCapacity);
+        writeQueue = queue;
+        writeVerifier = new WriteVerifier(dataSource, tablePrefix + "_bg_write_test");
+        
+        String testId = "PIPELINE-" + testStartTime;
+        
+        log.info("╔════════════════════════════════════════════════════════════════╗");
+        log.info("║   Group-Commit Write Pipeline Test - Multi-Row INSERTs        ║");
+        log.info("╚════════════════════════════════════════════════════════════════╝");
+        log.info("");
+        log.info("📋 Configuration:");
+        log.info("   Test ID: {}", testId);
+        log.info("   Run: {}", runId);
+        log.info("   Producers: {}", numProducers);
+        log.info("   Write Interval: {}ms", writeIntervalMs);
+        log.info("   Committers: {} (one connection each)", numCommitters);
+        log.info("   Max Rows Per Commit: {}", maxRowsPerCommit);
+        log.info("   Queue Capacity: {}", queueCapacity);
+        log.info("   Write Verification: stream {} (per-producer sequence numbers)", writeVerifier.getStreamId());
+        log.info("   Executor Mode: {}", executorMode);
+        log.info("");
+        
+        executor = createExecutor(executorMode, numProducers + numCommitters + 1, threadName("pipeline-"));
+        CountDownLatch startLatch = new CountDownLatch(1);
+        
+        // Start committer threads
+        for (int i = 1; i <= numCommitters; i++) {
+            final int committerId = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    runGroupCommitThread(committerId, queue, maxRowsPerCommit);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        
+        // Start producer threads
+        for (int i = 1; i <= numProducers; i++) {
+            final int threadId = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    runPipelineProducerThread(threadId, queue, writeIntervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        
+        // Start monitoring thread
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                runSimpleMonitoringThread();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        
+        log.info("🚀 [{}] Starting {} committers and {} producers...", now(), numCommitters, numProducers);
+        startLatch.countDown();
+        
+        return testId;
+    }
+    
     /**
      * Persistent connection write thread - holds connection without releasing, continuous writes
      * Automatically reconnects after failover
+     * With batchSize > 1 each iteration sends one JDBC batch of batchSize rows
+     * With reuseStatements the INSERT is prepared once per connection; the cache is
+     * dropped and rebuilt whenever the connection is replaced
      */
-    private void runPersistentWriteThread(int threadId, int writeIntervalMs) {
+    private void runPersistentWriteThread(int threadId, int writeIntervalMs, int batchSize,
+                                          boolean reuseStatements) {
         log.info("✍️  [{}] Write-Thread-{}: Starting continuous writes...", now(), threadId);
         
-        Connection conn = null;
+        LoadThreadConnection connection = newLoadThreadConnection("Write-Thread-" + threadId, "Writer-" + threadId,
+            newLease());
         String tableName = tablePrefix + "_bg_write_test";
+        String sql = "INSERT INTO " + tableName + 
+            " (thread_id, endpoint, write_time, data, stream_id, seq) VALUES (?, ?, NOW(), ?, ?, ?)";
+        long streamId = writeVerifier.getStreamId();
+        WriteLedger ledger = writeVerifier.ledger(threadId);
+        PayloadGenerator payloads = payloadGenerator(batchSize, threadId);
+        AllocationMeter.Probe allocation = writeAllocation.probe();
         
         long writeCount = 0;
         long lastReportTime = System.currentTimeMillis();
         long lastReportCount = 0;
-        int reconnectAttempts = 0;
-        final int MAX_RECONNECT_ATTEMPTS = 10;
-        final long RECONNECT_DELAY_MS = 1000;
         
         try {
-            // Get initial connection
-            conn = getConnectionWithRetry(threadId, MAX_RECONNECT_ATTEMPTS, RECONNECT_DELAY_MS);
-            if (conn == null) {
-                log.error("❌ [{}] Write-Thread-{}: Failed to get initial connection", now(), threadId);
+            Connection initial = connection.open();
+            if (initial == null) {
                 return;
             }
             
-            String endpoint = getEndpointInfo(conn);
-            lastEndpoint = endpoint;
-            log.info("✅ [{}] Write-Thread-{} got connection: {}", now(), threadId, endpoint);
-            
             // Create test table if not exists
-            ensureTestTable(conn, tableName);
+            ensureTestTable(initial, tableName);
             
             // Continuous writes until test stops
             while (testRunning.get()) {
                 long writeStart = System.nanoTime();
+                long writeNanos;
+                long firstSeq = -1;  // Sequence of the first row once the write is attempted
                 
                 try {
-                    // Check if connection is still valid
-                    if (conn == null || conn.isClosed()) {
-                        log.warn("⚠️  [{}] Write-Thread-{}: Connection is closed, reconnecting...", now(), threadId);
-                        conn = getConnectionWithRetry(threadId, MAX_RECONNECT_ATTEMPTS, RECONNECT_DELAY_MS);
-                        if (conn == null) {
-                            log.error("❌ [{}] Write-Thread-{}: Failed to reconnect", now(), threadId);
-                            break;
-                        }
-                        endpoint = getEndpointInfo(conn);
-                        lastEndpoint = endpoint;
-                        log.info("✅ [{}] Write-Thread-{}: Reconnected to {}", now(), threadId, endpoint);
-                        reconnectAttempts = 0;
+                    Connection conn = connection.connection();
+                    if (conn == null) {
+                        break;
                     }
+                    String endpoint = connection.endpoint();
                     
                     // Execute write
-                    String sql = "INSERT INTO " + tableName + 
-                        " (thread_id, endpoint, write_time, data) VALUES (?, ?, NOW(), ?)";
-                    try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-                        pstmt.setInt(1, threadId);
-                        pstmt.setString(2, endpoint);
-                        pstmt.setString(3, "Thread-" + threadId + " Write #" + writeCount);
-                        pstmt.executeUpdate();
+                    firstSeq = ledger.reserve(batchSize);
+                    if (reuseStatements) {
+                        StatementCache statements = connection.statements();
+                        int prepared = statements.getPrepared();
+                        PreparedStatement pstmt = statements.prepare(sql);
+                        statementsPrepared.add(statements.getPrepared() - prepared);
+                        executeInsert(pstmt, threadId, endpoint, payloads, writeCount, batchSize, streamId, firstSeq);
+                    } else {
+                        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                            statementsPrepared.increment();
+                            executeInsert(pstmt, threadId, endpoint, payloads, writeCount, batchSize, streamId, firstSeq);
+                        }
                     }
                     
-                    successfulWrites.incrementAndGet();
-                    reconnectAttempts = 0; // Reset on success
+                    writeNanos = System.nanoTime() - writeStart;
+                    ledger.acknowledged(firstSeq, batchSize);
+                    if (batchSize > 1) {
+                        recordBatch(batchSize, batchSize, writeNanos);
+                    } else {
+                        writeStats.record(true, writeNanos, 0);
+                    }
+                    connection.succeeded();
                     
                 } catch (SQLException e) {
-                    failedWrites.incrementAndGet();
-                    
-                    String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : "";
-                    String exceptionClass = e.getClass().getName();
-                    
-                    // Check if this is a failover success exception (connection switched)
-                    boolean isFailoverSuccess = exceptionClass.contains("FailoverSuccessSQLException") ||
-                        msg.contains("connection has changed") ||
-                        msg.contains("active sql connection has changed");
-                    
-                    // Check if connection is broken/closed
-                    boolean isConnectionBroken = msg.contains("connection is closed") ||
-                        msg.contains("connection closed") ||
-                        msg.contains("no operations allowed") ||
-                        e.getSQLState() != null && e.getSQLState().startsWith("08");
-                    
-                    if (msg.contains("read-only") || msg.contains("read only")) {
-                        readOnlyErrors.incrementAndGet();
-                        log.warn("⚠️  [{}] Write-Thread-{}: READ-ONLY error - {}", 
-                            now(), threadId, e.getMessage());
-                        // Try to reconnect to get a writer connection
-                        conn = handleFailoverAndReconnect(conn, threadId, MAX_RECONNECT_ATTEMPTS, RECONNECT_DELAY_MS);
-                        if (conn != null) {
-                            endpoint = getEndpointInfo(conn);
-                            lastEndpoint = endpoint;
-                        }
-                    } else if (isFailoverSuccess || isConnectionBroken) {
-                        failoverCount.incrementAndGet();
-                        log.info("� [{}] Write-Thread-{}: Failover detected, reconnecting... ({})", 
-                            now(), threadId, e.getMessage());
-                        
-                        // Close old connection and get new one
-                        conn = handleFailoverAndReconnect(conn, threadId, MAX_RECONNECT_ATTEMPTS, RECONNECT_DELAY_MS);
-                        if (conn != null) {
-                            endpoint = getEndpointInfo(conn);
-                            lastEndpoint = endpoint;
-                            log.info("✅ [{}] Write-Thread-{}: Successfully reconnected after failover to {}", 
-                                now(), threadId, endpoint);
-                        } else {
-                            log.error("❌ [{}] Write-Thread-{}: Failed to reconnect after failover", now(), threadId);
-                            break;
-                        }
+                    writeNanos = System.nanoTime() - writeStart;
+                    boolean[] appliedRows = appliedBatchRows(e, batchSize);
+                    if (batchSize > 1) {
+                        recordBatch(batchSize, count(appliedRows), writeNanos);
                     } else {
-                        log.error("❌ [{}] Write-Thread-{}: Write failed - {} (SQLState: {}, ErrorCode: {})", 
-                            now(), threadId, e.getMessage(), e.getSQLState(), e.getErrorCode());
+                        writeStats.record(false, writeNanos, 0);
+                    }
+                    
+                    // Counted per failed row, like the failed writes
+                    SqlErrorOutcome outcome = connection.failed(e, batchSize - count(appliedRows));
+                    if (firstSeq >= 0) {
+                        recordWriteOutcome(ledger, firstSeq, appliedRows, outcome);
+                    }
+                    if (!connection.recover(e, outcome, "write")) {
+                        break;
                     }
                 }
                 
-                totalWrites.incrementAndGet();
-                writeCount++;
-                
-                long writeLatency = (System.nanoTime() - writeStart) / 1_000_000;
-                totalWriteLatency.addAndGet(writeLatency);
+                writeCount += batchSize;
+                allocation.operation();
+                connection.operationDone();
                 
                 // Report every 10 seconds
                 long currentTime = System.currentTimeMillis();
@@ -404,7 +965,8 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
                     long writesInPeriod = writeCount - lastReportCount;
                     double actualRate = writesInPeriod / ((currentTime - lastReportTime) / 1000.0);
                     log.info("📊 [{}] Write-Thread-{}: {} writes, rate: {}/sec, latency: {}ms, endpoint: {}",
-                        now(), threadId, writeCount, String.format("%.1f", actualRate), writeLatency, endpoint);
+                        now(), threadId, writeCount, String.format("%.1f", actualRate),
+                        String.format("%.3f", writeNanos / 1_000_000.0), connection.endpoint());
                     lastReportTime = currentTime;
                     lastReportCount = writeCount;
                 }
@@ -425,72 +987,504 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         } catch (Exception e) {
             log.error("❌ [{}] Write-Thread-{} fatal error: {}", now(), threadId, e.getMessage());
         } finally {
-            // Close connection only when test ends
-            if (conn != null) {
-                try {
-                    conn.close();
-                    log.info("🔌 [{}] Write-Thread-{} connection closed", now(), threadId);
-                } catch (SQLException e) {
-                    // Ignore
+            allocation.flush();
+            // Connection is returned only when the test ends
+            connection.close();
+        }
+    }
+    
+    /**
+     * Bind and execute the persistent-writer INSERT (single row or one batch of rows)
+     */
+    private void executeInsert(PreparedStatement pstmt, int threadId, String endpoint, PayloadGenerator payloads,
+                               long writeCount, int batchSize, long streamId, long firstSeq) throws SQLException {
+        if (batchSize > 1) {
+            // A reused statement may still hold rows from a batch that failed mid-bind
+            pstmt.clearBatch();
+            for (int row = 0; row < batchSize; row++) {
+                pstmt.setInt(1, threadId);
+                pstmt.setString(2, endpoint);
+                pstmt.setBytes(3, payloads.next(threadId, writeCount + row));
+                pstmt.setLong(4, streamId);
+                pstmt.setLong(5, firstSeq + row);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        } else {
+            pstmt.setInt(1, threadId);
+            pstmt.setString(2, endpoint);
+            pstmt.setBytes(3, payloads.next(threadId, writeCount));
+            pstmt.setLong(4, streamId);
+            pstmt.setLong(5, firstSeq);
+            pstmt.executeUpdate();
+        }
+    }
+    
+    /**
+     * Record the outcome of a failed write in the writer's ledger (for the write verifier)
+     * Row i of the write has sequence firstSeq + i. Applied rows are acknowledged; the others are
+     * in doubt if the connection failed or the statement timed out while they were in flight,
+     * and failed otherwise. Runs of rows with the same outcome are recorded as one range.
+     */
+    private static void recordWriteOutcome(WriteLedger ledger, long firstSeq, boolean[] appliedRows,
+                                           SqlErrorOutcome outcome) {
+        boolean inDoubt = isInDoubt(outcome);
+        int start = 0;
+        while (start < appliedRows.length) {
+            boolean applied = appliedRows[start];
+            int end = start + 1;
+            while (end < appliedRows.length && appliedRows[end] == applied) {
+                end++;
+            }
+            if (applied) {
+                ledger.acknowledged(firstSeq + start, end - start);
+            } else if (inDoubt) {
+                ledger.inDoubt(firstSeq + start, end - start);
+            } else {
+                ledger.failed(firstSeq + start, end - start);
+            }
+            start = end;
+        }
+    }
+    
+    /**
+     * Whether a write that failed this way may still have been committed
+     */
+    private static boolean isInDoubt(SqlErrorOutcome outcome) {
+        return outcome.isConnectionEvent() || outcome == SqlErrorOutcome.TIMEOUT;
+    }
+    
+    /**
+     * Record one JDBC batch: per-batch latency plus per-row success/failure
+     */
+    private void recordBatch(int batchSize, int succeededRows, long batchNanos) {
+        batchStats.record(succeededRows == batchSize, batchNanos, 0);
+        batchRowsSucceeded.add(succeededRows);
+        batchRowsFailed.add(batchSize - succeededRows);
+    }
+    
+    /**
+     * Per row of a failed write: whether that row was applied
+     * 
+     * A BatchUpdateException carries one update count per executed statement, in batch order;
+     * a row counts as applied only by its own count (>= 0 or SUCCESS_NO_INFO), so a driver that
+     * continues after an error (EXECUTE_FAILED in the middle) is mapped row by row. Rows after
+     * the last count were never executed. With rewriteBatchedStatements the driver sends
+     * multi-row INSERTs and reports SUCCESS_NO_INFO for rows it applied.
+     * Any other exception means no row was applied.
+     */
+    static boolean[] appliedBatchRows(SQLException e, int rows) {
+        boolean[] applied = new boolean[rows];
+        if (e instanceof BatchUpdateException) {
+            int[] updateCounts = ((BatchUpdateException) e).getUpdateCounts();
+            if (updateCounts != null) {
+                for (int i = 0; i < Math.min(rows, updateCounts.length); i++) {
+                    applied[i] = updateCounts[i] >= 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO;
                 }
             }
         }
+        return applied;
+    }
+    
+    private static int count(boolean[] flags) {
+        int n = 0;
+        for (boolean flag : flags) {
+            if (flag) {
+                n++;
+            }
+        }
+        return n;
     }
     
     /**
-     * Get connection with retry logic
+     * Pipeline producer - enqueues one write intent per interval and waits for its commit
+     * Latency is measured from enqueue to completion (queueing + multi-row INSERT)
      */
-    private Connection getConnectionWithRetry(int threadId, int maxAttempts, long delayMs) {
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                Connection conn = dataSource.getConnection();
-                if (conn != null && !conn.isClosed()) {
-                    return conn;
+    private void runPipelineProducerThread(int threadId, GroupCommitQueue<WriteIntent> queue, int writeIntervalMs) {
+        WriteLedger ledger = writeVerifier.ledger(threadId);
+        OutageTracker outage = outages.tracker("Producer-" + threadId);
+        
+        try {
+            while (testRunning.get()) {
+                long sequence = ledger.reserve(1);
+                WriteIntent intent = new WriteIntent(threadId, sequence);
+                
+                boolean success;
+                if (queue.offer(intent)) {
+                    success = intent.await(PIPELINE_COMPLETION_TIMEOUT_MS);
+                    if (success) {
+                        ledger.acknowledged(sequence, 1);
+                    } else if (intent.isInDoubt()) {
+                        ledger.inDoubt(sequence, 1);
+                    } else {
+                        ledger.failed(sequence, 1);
+                    }
+                } else {
+                    // Queue full - committers cannot keep up (back-pressure)
+                    pipelineRejected.increment();
+                    ledger.failed(sequence, 1);
+                    success = false;
+                }
+                writeStats.record(success, System.nanoTime() - intent.getEnqueueNanos(), 0);
+                outage.record(success, intent.getCommittedEndpoint());
+                
+                if (writeIntervalMs > 0) {
+                    Thread.sleep(writeIntervalMs);
                 }
-            } catch (SQLException e) {
-                log.warn("⚠️  [{}] Write-Thread-{}: Connection attempt {}/{} failed: {}", 
-                    now(), threadId, attempt, maxAttempts, e.getMessage());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            outage.finish();
+        }
+    }
+    
+    /**
+     * Pipeline committer - holds one connection and writes queued intents as multi-row INSERTs
+     * Drains up to maxRowsPerCommit intents per statement; rows that arrive while a commit is
+     * in flight are coalesced into the next one. Reconnects after failover like the
+     * persistent writer; the intents of a failed INSERT are failed with its exception.
+     */
+    private void runGroupCommitThread(int committerId, GroupCommitQueue<WriteIntent> queue, int maxRowsPerCommit) {
+        log.info("✍️  [{}] Committer-{}: Starting group commits (up to {} rows per INSERT)...", 
+            now(), committerId, maxRowsPerCommit);
+        
+        // Holds its connection for the test; producers track the outages of the rows they enqueued
+        LoadThreadConnection connection = newLoadThreadConnection("Committer-" + committerId, null,
+            new ConnectionLease(dataSource, ConnectionHolding.HOLD_FOR_TEST, leaseStats));
+        String tableName = tablePrefix + "_bg_write_test";
+        String[] sqlByRows = new String[maxRowsPerCommit + 1];
+        List<WriteIntent> pending = new ArrayList<>(maxRowsPerCommit);
+        PayloadGenerator payloads = payloadGenerator(maxRowsPerCommit, committerId);
+        AllocationMeter.Probe allocation = writeAllocation.probe();
+        long streamId = writeVerifier.getStreamId();
+        
+        try {
+            Connection initial = connection.open();
+            if (initial == null) {
+                return;
+            }
+            ensureTestTable(initial, tableName);
             
-            if (attempt < maxAttempts && testRunning.get()) {
+            // Keep draining after stop so queued producers get an answer
+            while ((testRunning.get() || !queue.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+                int rows = queue.drainTo(pending, maxRowsPerCommit);
+                if (rows == 0) {
+                    LockSupport.parkNanos(COMMITTER_IDLE_PARK_NANOS);
+                    continue;
+                }
+                
+                long commitStart = System.nanoTime();
                 try {
-                    Thread.sleep(delayMs);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return null;
+                    Connection conn = connection.connection();
+                    if (conn == null) {
+                        break;
+                    }
+                    String endpoint = connection.endpoint();
+                    
+                    if (sqlByRows[rows] == null) {
+                        sqlByRows[rows] = multiRowInsertSql(tableName, rows);
+                    }
+                    try (PreparedStatement pstmt = conn.prepareStatement(sqlByRows[rows])) {
+                        int index = 1;
+                        for (WriteIntent intent : pending) {
+                            pstmt.setInt(index++, intent.getThreadId());
+                            pstmt.setString(index++, endpoint);
+                            pstmt.setBytes(index++, payloads.next(intent.getThreadId(), intent.getSequence()));
+                            pstmt.setLong(index++, streamId);
+                            pstmt.setLong(index++, intent.getSequence());
+                        }
+                        pstmt.executeUpdate();
+                    }
+                    
+                    commitStats.record(true, System.nanoTime() - commitStart, 0);
+                    pipelineRowsCommitted.add(rows);
+                    for (WriteIntent intent : pending) {
+                        intent.complete(endpoint);
+                    }
+                    
+                } catch (SQLException e) {
+                    commitStats.record(false, System.nanoTime() - commitStart, 0);
+                    pipelineRowsFailed.add(rows);
+                    SqlErrorOutcome outcome = connection.failed(e, rows);  // Each intent fails as a write
+                    for (WriteIntent intent : pending) {
+                        intent.fail(e, isInDoubt(outcome));
+                    }
+                    pending.clear();
+                    if (!connection.recover(e, outcome, "commit of " + rows + " rows")) {
+                        break;
+                    }
                 }
+                pending.clear();
+                allocation.operation();
             }
+        } catch (Exception e) {
+            log.error("❌ [{}] Committer-{} fatal error: {}", now(), committerId, e.getMessage());
+        } finally {
+            allocation.flush();
+            // Intents drained but not written (committer gave up) must not leave producers waiting
+            for (WriteIntent intent : pending) {
+                intent.fail(new SQLException("Committer-" + committerId + " stopped"));
+            }
+            connection.close();
         }
-        return null;
     }
     
     /**
-     * Handle failover by closing old connection and getting new one
+     * INSERT ... VALUES (?, ?, NOW(), ?, ?, ?),(...) with the given number of rows
      */
-    private Connection handleFailoverAndReconnect(Connection oldConn, int threadId, int maxAttempts, long delayMs) {
-        // Close old connection
-        if (oldConn != null) {
-            try {
-                oldConn.close();
-            } catch (SQLException e) {
-                // Ignore - connection may already be closed
+    private static String multiRowInsertSql(String tableName, int rows) {
+        StringBuilder sql = new StringBuilder(100 + rows * 24)
+            .append("INSERT INTO ").append(tableName)
+            .append(" (thread_id, endpoint, write_time, data, stream_id, seq) VALUES ");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(',');
+            }
+            sql.append("(?, ?, NOW(), ?, ?, ?)");
+        }
+        return sql.toString();
+    }
+    
+    /**
+     * Pooled connection of one load thread, held per the test's connection strategy
+     */
+    private ConnectionLease newLease() {
+        return new ConnectionLease(dataSource, connectionHolding, leaseStats);
+    }
+    
+    /**
+     * Connection of one load thread that reconnects after failover
+     * 
+     * @param outageThread Name of the thread's outage windows (null = not tracked)
+     */
+    private LoadThreadConnection newLoadThreadConnection(String name, String outageThread, ConnectionLease lease) {
+        return new LoadThreadConnection(loadThreads, name, lease, endpointTracker.session(),
+            outageThread != null ? outages.tracker(outageThread) : null);
+    }
+    
+    /**
+     * A borrow from the pool failed (borrowing strategies: counted as a failed operation)
+     */
+    private void recordBorrowFailure(SQLException e, String threadKind, int threadId, long operationNumber) {
+        SqlErrorOutcome outcome = errorClassifier.record(e);
+        if (operationNumber % 1000 == 0) {
+            log.error("❌ [{}] {}-Thread-{}: Borrowing a connection failed ({}): {}",
+                now(), threadKind, threadId, outcome, e.getMessage());
+        }
+    }
+    
+    /**
+     * Create load executor; in VIRTUAL mode also start the carrier-pinning monitor
+     */
+    private ExecutorService createExecutor(ExecutorMode mode, int numThreads, String namePrefix) {
+        this.executorMode = mode;
+        this.pinningMonitor = null;
+        if (mode == ExecutorMode.VIRTUAL) {
+            pinningMonitor = VirtualThreadPinningMonitor.start(Duration.ofMillis(pinningThresholdMs));
+            log.info("🧵 Virtual thread mode - reporting carrier pinning longer than {}ms", pinningThresholdMs);
+        }
+        startTimeSeriesSampler();
+        return LoadExecutors.create(mode, numThreads, namePrefix);
+    }
+    
+    /**
+     * Thread name with the run id, so log lines of concurrent runs can be told apart
+     * (the default run keeps the plain "bg-" names)
+     */
+    private String threadName(String suffix) {
+        return TestRunRegistry.DEFAULT_RUN_ID.equals(runId) ? "bg-" + suffix : "bg-" + runId + "-" + suffix;
+    }
+    
+    /**
+     * Start recording one time-series point per wall-clock second (replaces a previous sampler)
+     */
+    private synchronized void startTimeSeriesSampler() {
+        stopTimeSeriesSampler();
+        if (timeSeries == null) {
+            String[] errorClasses = new String[SqlErrorOutcome.values().length];
+            for (SqlErrorOutcome outcome : SqlErrorOutcome.values()) {
+                errorClasses[outcome.ordinal()] = outcome.name();
             }
+            timeSeries = new TimeSeriesBuffer(timeSeriesCapacitySeconds, errorClasses);
         }
+        timeSeries.clear();
+        readCumulativeCounts(sampledCounts);
+        readStats.getLatency().intervalSnapshot();
+        writeLatencySource().getLatency().intervalSnapshot();
+        poolSampledLatency.snapshot();
+        poolSampledTimeouts = poolMonitor.getTimeouts();
+        reconnectSampledAttempts = reconnectAttempts.sum();
+        recovery.samplePeak();
         
-        // Wait a bit for the cluster to stabilize
+        timeSeriesSampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName("timeseries"));
+            thread.setDaemon(true);
+            return thread;
+        });
+        long untilNextSecond = 1000 - System.currentTimeMillis() % 1000;
+        timeSeriesSampler.scheduleAtFixedRate(this::sampleTimeSeries, untilNextSecond, 1000, TimeUnit.MILLISECONDS);
+    }
+    
+    private synchronized void stopTimeSeriesSampler() {
+        if (timeSeriesSampler != null) {
+            timeSeriesSampler.shutdownNow();
+            timeSeriesSampler = null;
+        }
+    }
+    
+    /**
+     * Append the second that just ended: counter deltas, latency of that second, active endpoint
+     */
+    private void sampleTimeSeries() {
+        if (!testRunning.get()) {
+            return;
+        }
         try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return null;
+            long second = (System.currentTimeMillis() + 500) / 1000 - 1;
+            long[] counts = new long[sampledCounts.length];
+            readCumulativeCounts(counts);
+            long[] deltas = new long[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                deltas[i] = counts[i] - sampledCounts[i];
+            }
+            System.arraycopy(counts, 0, sampledCounts, 0, counts.length);
+            
+            long[] errors = new long[SqlErrorOutcome.values().length];
+            System.arraycopy(deltas, 4, errors, 0, errors.length);
+            LatencySnapshot readLatency = readStats.getLatency().intervalSnapshot();
+            LatencySnapshot writeLatency = writeLatencySource().getLatency().intervalSnapshot();
+            long attempts = reconnectAttempts.sum();
+            long newAttempts = attempts - reconnectSampledAttempts;
+            reconnectSampledAttempts = attempts;
+            timeSeries.append(second, deltas[0], deltas[1], deltas[2], deltas[3], errors,
+                readLatency, writeLatency, lastEndpoint, samplePool(second), newAttempts, recovery.samplePeak());
+            updateEndpointGauges();
+        } catch (RuntimeException e) {
+            // Must not escape: a scheduled task that throws is never run again
+            log.warn("⚠️  [{}] Time-series sample failed: {}", now(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Pool gauge extremes of the second, and acquisitions/timeouts since the previous sample
+     */
+    private TimeSeriesBuffer.PoolSecond samplePool(long second) {
+        long timeouts = poolMonitor.getTimeouts();
+        long newTimeouts = timeouts - poolSampledTimeouts;
+        poolSampledTimeouts = timeouts;
+        LatencySnapshot acquisitions = poolSampledLatency.snapshot();
+        PoolMonitor.SecondGauges gauges = poolMonitor.getSecond(second);
+        if (gauges == null) {
+            return new TimeSeriesBuffer.PoolSecond(0, 0, 0, newTimeouts, acquisitions);
+        }
+        return new TimeSeriesBuffer.PoolSecond(gauges.getMaxActive(), gauges.getMinIdle(), gauges.getMaxPending(),
+            newTimeouts, acquisitions);
+    }
+    
+    /**
+     * Reads ok/failed, writes ok/failed (rows in batch mode), then failures per SqlErrorOutcome
+     */
+    private void readCumulativeCounts(long[] counts) {
+        counts[0] = readStats.getSuccessful();
+        counts[1] = readStats.getFailed();
+        counts[2] = writeStats.getSuccessful() + batchRowsSucceeded.sum();
+        counts[3] = writeStats.getFailed() + batchRowsFailed.sum();
+        for (SqlErrorOutcome outcome : SqlErrorOutcome.values()) {
+            counts[4 + outcome.ordinal()] = errorClassifier.getCount(outcome);
+        }
+    }
+    
+    private void updateEndpointGauges() {
+        LoadTestMeters loadMeters = meters;
+        if (loadMeters != null) {
+            loadMeters.updateEndpointSessions(endpointTracker.getSessionsByEndpoint());
+        }
+    }
+    
+    private OperationStats writeLatencySource() {
+        return writeBatchSize > 1 ? batchStats : writeStats;
+    }
+    
+    /**
+     * Changes since the previous call, for the status stream (single consumer)
+     * 
+     * Counters restart from zero when a test starts; a counter below its previous value is
+     * treated as restarted.
+     * 
+     * @param includeSessions Include the per-endpoint sessions even if unchanged
+     */
+    public StatusDelta nextStatusDelta(boolean includeSessions) {
+        long nowMillis = System.currentTimeMillis();
+        long intervalMs = streamedMillis > 0 ? Math.max(1, nowMillis - streamedMillis) : 0;
+        streamedMillis = nowMillis;
+        
+        long[] counts = new long[streamedCounts.length];
+        readCumulativeCounts(counts);
+        long[] deltas = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            deltas[i] = counts[i] >= streamedCounts[i] ? counts[i] - streamedCounts[i] : counts[i];
+        }
+        System.arraycopy(counts, 0, streamedCounts, 0, counts.length);
+        Map<String, Long> errors = new LinkedHashMap<>();
+        for (SqlErrorOutcome outcome : SqlErrorOutcome.values()) {
+            long failed = deltas[4 + outcome.ordinal()];
+            if (failed > 0) {
+                errors.put(outcome.name(), failed);
+            }
+        }
+        
+        LatencySnapshot readLatency = readStreamLatency.snapshot();
+        LatencySnapshot writeLatency = writeStreamLatency.snapshot();
+        LatencySnapshot batchLatency = batchStreamLatency.snapshot();
+        if (writeBatchSize > 1) {
+            writeLatency = batchLatency;
         }
         
-        // Get new connection
-        return getConnectionWithRetry(threadId, maxAttempts, delayMs);
+        String endpoint = lastEndpoint;
+        boolean endpointChanged = streamedEndpoint != null && !streamedEndpoint.equals(endpoint);
+        streamedEndpoint = endpoint;
+        Map<String, Integer> sessions = endpointTracker.getSessionsByEndpoint();
+        boolean sessionsChanged = !sessions.equals(streamedSessions);
+        streamedSessions = sessions;
+        
+        double seconds = intervalMs / 1000.0;
+        return new StatusDelta(++streamSequence, nowMillis, intervalMs, testRunning.get(),
+            deltas[0], deltas[1], deltas[2], deltas[3],
+            seconds > 0 ? (deltas[0] + deltas[1]) / seconds : 0,
+            seconds > 0 ? (deltas[2] + deltas[3]) / seconds : 0,
+            readLatency.getP99Ms(), readLatency.getMaxMs(), writeLatency.getP99Ms(), writeLatency.getMaxMs(),
+            errors, outages.getOpenOutages(),
+            endpoint, endpointChanged, includeSessions || sessionsChanged ? sessions : null);
+    }
+    
+    /**
+     * Per-second history of the current/last test (null before the first test)
+     */
+    public TimeSeriesBuffer getTimeSeries() {
+        return timeSeries;
     }
     
     /**
-     * Ensure test table exists
+     * Refresh and log virtual thread pinning report (VIRTUAL mode only)
+     */
+    private void reportPinning() {
+        VirtualThreadPinningMonitor monitor = pinningMonitor;
+        if (monitor == null) {
+            return;
+        }
+        VirtualThreadPinningMonitor.Snapshot pinning = monitor.refresh();
+        if (pinning.getPinnedEvents() > 0) {
+            log.warn("📌 Virtual thread pinning: {} events, total {}ms, max {}ms",
+                pinning.getPinnedEvents(), String.format("%.1f", pinning.getTotalPinnedMs()),
+                String.format("%.1f", pinning.getMaxPinnedMs()));
+            pinning.getTopPinningFrames().forEach((frame, count) ->
+                log.warn("   {} x {}", count, frame));
+        }
+    }
+    
+    /**
+     * Ensure test table exists (with the stream_id/seq columns of the write verifier)
      */
     private void ensureTestTable(Connection conn, String tableName) {
         String sql = "CREATE TABLE IF NOT EXISTS " + tableName + " (" +
@@ -499,8 +1493,11 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             "endpoint VARCHAR(255), " +
             "write_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
             "data TEXT, " +
+            "stream_id BIGINT NULL, " +
+            "seq BIGINT NULL, " +
             "INDEX idx_thread (thread_id), " +
-            "INDEX idx_time (write_time)" +
+            "INDEX idx_time (write_time), " +
+            "INDEX idx_stream_seq (stream_id, thread_id, seq)" +
             ") ENGINE=InnoDB";
         
         try (Statement stmt = conn.createStatement()) {
@@ -509,6 +1506,14 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         } catch (SQLException e) {
             log.warn("⚠️  Failed to create table (may already exist): {}", e.getMessage());
         }
+        WriteVerifier verifier = writeVerifier;
+        if (verifier != null) {
+            try {
+                verifier.prepareTable(conn);
+            } catch (SQLException e) {
+                log.error("❌ Failed to add write verification columns to {}: {}", tableName, e.getMessage());
+            }
+        }
     }
     
     /**
@@ -516,16 +1521,17 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
      */
     private void runSimpleMonitoringThread() {
         log.info("📊 [{}] Monitoring thread started", now());
+        long disruptionsVerified = 0;
         
         while (testRunning.get()) {
             try {
                 Thread.sleep(30000); // Report every 30 seconds
                 
-                long total = totalWrites.get();
-                long success = successfulWrites.get();
-                long failed = failedWrites.get();
-                long readOnly = readOnlyErrors.get();
-                long failovers = failoverCount.get();
+                long total = writeStats.getTotal();
+                long success = writeStats.getSuccessful();
+                long failed = writeStats.getFailed();
+                long readOnly = readOnlyErrors.sum();
+                long failovers = failoverCount.sum();
                 double successRate = total > 0 ? (success * 100.0 / total) : 0;
                 
                 log.info("╔════════════════════════════════════════════════════════════════╗");
@@ -534,8 +1540,38 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
                 log.info("║  Total Writes: {:,}  Success: {:,}  Failed: {:,}", total, success, failed);
                 log.info("║  Success Rate: {:.2f}%", successRate);
                 log.info("║  Read-Only Errors: {}  Failover Count: {}", readOnly, failovers);
+                log.info("║  Write Latency (last {}s): {}", LATENCY_WINDOW_MS / 1000,
+                    writeStats.getLatency().windowSnapshot().toSummary());
+                if (writeBatchSize > 1) {
+                    log.info("║  Batches: {}  Rows OK: {}  Rows Failed: {}", batchStats.getTotal(),
+                        String.format("%,d", batchRowsSucceeded.sum()), String.format("%,d", batchRowsFailed.sum()));
+                    log.info("║  Batch Latency (last {}s): {}", LATENCY_WINDOW_MS / 1000,
+                        batchStats.getLatency().windowSnapshot().toSummary());
+                }
+                GroupCommitQueue<WriteIntent> queue = writeQueue;
+                if (queue != null) {
+                    long commits = commitStats.getTotal();
+                    log.info("║  Queue Depth: {}/{} (max {})  Rejected: {}", queue.size(), queue.getCapacity(),
+                        queue.getMaxDepth(), pipelineRejected.sum());
+                    log.info("║  Commits: {}  Rows/Commit: {}  Rows Failed: {}", commits,
+                        String.format("%.1f", commits > 0 ? pipelineRowsCommitted.sum() / (double) commits : 0),
+                        String.format("%,d", pipelineRowsFailed.sum()));
+                    log.info("║  Commit Latency (last {}s): {}", LATENCY_WINDOW_MS / 1000,
+                        commitStats.getLatency().windowSnapshot().toSummary());
+                } else {
+                    log.info("║  Statements Prepared: {}  Cache Rebuilds: {}", statementsPrepared.sum(),
+                        statementCacheRebuilds.sum());
+                }
                 log.info("║  Last Connection: {}", lastEndpoint);
                 log.info("╚════════════════════════════════════════════════════════════════╝");
+                reportPinning();
+                
+                // Verify the writes once a switchover is over (every thread that lost its connection is back)
+                long disruptions = failovers + readOnly;
+                if (disruptions > disruptionsVerified && recovery.snapshot().getReconnecting() == 0) {
+                    disruptionsVerified = disruptions;
+                    scheduleWriteVerification("after switchover", false);
+                }
                 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -545,41 +1581,318 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
     }
     
     /**
-     * Get current test status
+     * Get current test status
+     */
+    public TestStatus getStatus() {
+        long totalReads = readStats.getTotal();
+        long totalWs = writeStats.getTotal();
+        long runningTime = testRunning.get() && testStartTime > 0 
+            ? (System.currentTimeMillis() - testStartTime) / 1000 
+            : 0;
+        
+        return new TestStatus(
+            testRunning.get(),
+            continuousMode.get(),
+            enableWrites,
+            totalReads,
+            readStats.getSuccessful(),
+            readStats.getFailed(),
+            totalWs,
+            writeStats.getSuccessful(),
+            writeStats.getFailed(),
+            readOnlyErrors.sum(),
+            (int) failoverCount.sum(),
+            lastEndpoint,
+            readStats.getLatency().snapshot(),
+            readStats.getLatency().windowSnapshot(),
+            writeStats.getLatency().snapshot(),
+            writeStats.getLatency().windowSnapshot(),
+            readStats.getAvgScheduleLagMs(),
+            readStats.getMaxScheduleLagMs(),
+            writeStats.getAvgScheduleLagMs(),
+            writeStats.getMaxScheduleLagMs(),
+            executorMode.name(),
+            pinningMonitor != null ? pinningMonitor.getSnapshot() : null,
+            writeBatchSize,
+            batchStats.getTotal(),
+            batchStats.getFailed(),
+            batchRowsSucceeded.sum(),
+            batchRowsFailed.sum(),
+            batchStats.getLatency().snapshot(),
+            batchStats.getLatency().windowSnapshot(),
+            reuseStatements,
+            serverPreparedStatements,
+            statementsPrepared.sum(),
+            statementCacheRebuilds.sum(),
+            getPipelineStatus(),
+            getWorkloadStatus(),
+            getSaturationStatus(),
+            getConnectionHoldingStatus(),
+            getReconnectStatus(),
+            getWriteVerificationStatus(),
+            outages.report(),
+            errorClassifier.getCounts(),
+            endpointTracker.getStats(),
+            payloadSize,
+            payloadContent.name().toLowerCase(),
+            readAllocation.snapshot(),
+            writeAllocation.snapshot(),
+            runningTime
+        );
+    }
+    
+    /**
+     * Group-commit pipeline status (null unless a pipeline test was started)
+     */
+    private PipelineStatus getPipelineStatus() {
+        GroupCommitQueue<WriteIntent> queue = writeQueue;
+        if (queue == null) {
+            return null;
+        }
+        return new PipelineStatus(
+            pipelineCommitters,
+            pipelineMaxRowsPerCommit,
+            queue.getCapacity(),
+            queue.size(),
+            queue.getMaxDepth(),
+            pipelineRejected.sum(),
+            commitStats.getTotal(),
+            commitStats.getFailed(),
+            pipelineRowsCommitted.sum(),
+            pipelineRowsFailed.sum(),
+            commitStats.getLatency().snapshot(),
+            commitStats.getLatency().windowSnapshot()
+        );
+    }
+
+    /**
+     * Saturation search thread - offers each step's load, measures it and ends the test at the knee
+     * 
+     * Each step sets the load scale picked up by the workload threads, waits settleSeconds, then
+     * measures completed/failed operations and the p99 of reads and writes over stepSeconds.
+     */
+    private void runSaturationSearch(int numThreads, WorkloadSpec spec, SaturationSearch search) {
+        try {
+            while (testRunning.get() && !search.isDone()) {
+                double offeredRate = search.getOfferedRate();
+                loadScale = offeredRate / (numThreads * spec.getOperationsPerSecond());
+                log.info("📈 [{}] Saturation step {}: offering {} ops/sec ({}/sec per thread)", now(),
+                    search.getSteps().size() + 1, String.format("%.1f", offeredRate),
+                    String.format("%.2f", offeredRate / numThreads));
+                Thread.sleep(search.getSettleSeconds() * 1000L);
+                
+                // Discard what was recorded while the load settled
+                saturationReadLatency.snapshot();
+                saturationWriteLatency.snapshot();
+                long completedBefore = readStats.getSuccessful() + writeStats.getSuccessful();
+                long failedBefore = readStats.getFailed() + writeStats.getFailed();
+                long stepStart = System.nanoTime();
+                Thread.sleep(search.getStepSeconds() * 1000L);
+                double seconds = (System.nanoTime() - stepStart) / 1_000_000_000.0;
+                LatencySnapshot reads = saturationReadLatency.snapshot();
+                LatencySnapshot writes = saturationWriteLatency.snapshot();
+                long completed = readStats.getSuccessful() + writeStats.getSuccessful() - completedBefore;
+                long failed = readStats.getFailed() + writeStats.getFailed() - failedBefore;
+                double p99Ms = Math.max(reads.getCount() > 0 ? reads.getP99Ms() : 0,
+                    writes.getCount() > 0 ? writes.getP99Ms() : 0);
+                
+                SaturationSearch.Step step = search.record(completed, failed, seconds, p99Ms);
+                log.info("{} [{}] Saturation step {} ({}): offered {} ops/sec, achieved {} ops/sec, p99 {}ms, errors {}{}",
+                    step.isPassed() ? "✅" : "❌", now(), step.getIndex(), step.getPhase(),
+                    String.format("%.1f", step.getOfferedRate()), String.format("%.1f", step.getAchievedRate()),
+                    String.format("%.2f", step.getP99Ms()), String.format("%.2f%%", step.getErrorRate() * 100),
+                    step.isPassed() ? "" : " - missed " + step.getFailure());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!search.isDone()) {
+            // Stopped manually - stopTest prints the report
+            search.abort("test stopped");
+            return;
+        }
+        
+        // Knee found: end the test
+        testRunning.set(false);
+        executor.shutdown();
+        if (pinningMonitor != null) {
+            pinningMonitor.close();
+        }
+        stopTimeSeriesSampler();
+        updateEndpointGauges();
+        log.info("🏁 [{}] Saturation search finished: {}", now(), search.getStopReason());
+        printFinalReport();
+    }
+    
+    private void logSaturationResult(SaturationSearch search) {
+        log.info("📈 Saturation Search ({}):", search.getStopReason() != null ? search.getStopReason() : "running");
+        for (SaturationSearch.Step step : search.getSteps()) {
+            log.info("   {} step {} ({}): offered {} ops/sec, achieved {} ops/sec, p99 {}ms, errors {}",
+                step.isPassed() ? "✅" : "❌", step.getIndex(), step.getPhase(),
+                String.format("%.1f", step.getOfferedRate()), String.format("%.1f", step.getAchievedRate()),
+                String.format("%.2f", step.getP99Ms()), String.format("%.2f%%", step.getErrorRate() * 100));
+        }
+        log.info("   SLO: p99 <= {}ms, errors <= {}%", search.getSloP99Ms(), search.getMaxErrorRate() * 100);
+        log.info("   Maximum Sustainable Throughput: {} ops/sec", String.format("%.1f", search.getMaxSustainableRate()));
+        if (!Double.isNaN(search.getKneeRate())) {
+            log.info("   Knee (first failing offered rate): {} ops/sec", String.format("%.1f", search.getKneeRate()));
+        }
+        log.info("   Configuration: {} threads, pool size {}, executor {}, plugins {}, endpoint {}", configuredThreads,
+            maximumPoolSize, executorMode.name().toLowerCase(), wrapperPlugins(), lastEndpoint);
+        log.info("");
+    }
+    
+    /**
+     * Write-loss detection status (null unless a write test was started)
+     */
+    private WriteVerificationStatus getWriteVerificationStatus() {
+        WriteVerifier verifier = writeVerifier;
+        if (verifier == null) {
+            return null;
+        }
+        long[] totals = verifier.ledgerTotals();
+        return new WriteVerificationStatus(
+            verifier.getStreamId(),
+            verifier.getTableName(),
+            totals[0],
+            totals[1],
+            totals[2],
+            totals[3],
+            verifier.isRunning(),
+            verifier.getPasses(),
+            verifier.getLastResult()
+        );
+    }
+    
+    /**
+     * Run a write verification pass on the verifier thread
+     * 
+     * @param testEnd Always queue a pass; otherwise skipped while one is queued and not yet started
+     */
+    private void scheduleWriteVerification(String trigger, boolean testEnd) {
+        WriteVerifier verifier = writeVerifier;
+        if (verifier == null || (!verificationQueued.compareAndSet(false, true) && !testEnd)) {
+            return;
+        }
+        log.info("🔎 [{}] Write verification queued ({})", now(), trigger);
+        verificationExecutor().execute(() -> {
+            verificationQueued.set(false);
+            printWriteVerificationResult(verifier.verify(trigger));
+        });
+    }
+    
+    private synchronized ExecutorService verificationExecutor() {
+        if (verificationExecutor == null) {
+            verificationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName("verifier"));
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return verificationExecutor;
+    }
+    
+    private ReconnectStatus getReconnectStatus() {
+        ReconnectController controller = reconnectController;
+        return new ReconnectStatus(
+            controller.getMode().name().toLowerCase(),
+            controller.getInitialDelayMs(),
+            controller.getMaxDelayMs(),
+            controller.getAttemptsPerSecond(),
+            controller.getBurst(),
+            reconnectAttempts.sum(),
+            reconnectAttemptsFailed.sum(),
+            controller.getThrottled() - reconnectThrottledAtStart,
+            controller.getThrottledMillis() - reconnectThrottledMillisAtStart,
+            recovery.snapshot()
+        );
+    }
+    
+    /**
+     * Borrow/return overhead of the load threads under the current connection strategy
+     */
+    private ConnectionHoldingStatus getConnectionHoldingStatus() {
+        ConnectionHolding holding = connectionHolding;
+        return new ConnectionHoldingStatus(
+            holding.label(),
+            holding.getOperationsPerBorrow(),
+            leaseStats.getBorrows(),
+            leaseStats.getFailedBorrows(),
+            leaseStats.getAcquireFirst().getLatency().snapshot(),
+            leaseStats.getAcquireReconnect().getLatency().snapshot(),
+            leaseStats.getAcquireSteady().getLatency().snapshot(),
+            leaseStats.getRelease().getLatency().snapshot(),
+            leaseStats.getReconnects()
+        );
+    }
+    
+    /**
+     * Saturation search status (null unless a saturation search was started)
+     */
+    private SaturationStatus getSaturationStatus() {
+        SaturationSearch search = saturation;
+        if (search == null) {
+            return null;
+        }
+        double kneeRate = search.getKneeRate();
+        return new SaturationStatus(
+            search.getStopReason() != null ? search.getStopReason() : "searching",
+            search.isDone() ? 0 : search.getOfferedRate(),
+            search.getMaxSustainableRate(),
+            Double.isNaN(kneeRate) ? null : kneeRate,
+            search.getSloP99Ms(),
+            search.getMaxErrorRate(),
+            search.getSteps(),
+            configuredThreads,
+            maximumPoolSize,
+            wrapperPlugins()
+        );
+    }
+    
+    /**
+     * wrapperPlugins of the JDBC URL ("default" when the URL does not set them)
      */
-    public TestStatus getStatus() {
-        long totalReads = totalMetadataReads.get();
-        long avgLatency = totalReads > 0 ? totalReadLatency.get() / totalReads : 0;
-        long totalWs = totalWrites.get();
-        long avgWriteLatency = totalWs > 0 ? totalWriteLatency.get() / totalWs : 0;
-        long runningTime = testRunning.get() && testStartTime > 0 
-            ? (System.currentTimeMillis() - testStartTime) / 1000 
-            : 0;
-        
-        return new TestStatus(
-            testRunning.get(),
-            continuousMode.get(),
-            enableWrites,
-            totalReads,
-            successfulMetadataReads.get(),
-            failedMetadataReads.get(),
-            totalWs,
-            successfulWrites.get(),
-            failedWrites.get(),
-            readOnlyErrors.get(),
-            failoverCount.get(),
-            lastEndpoint,
-            avgLatency,
-            avgWriteLatency,
-            runningTime
-        );
+    private String wrapperPlugins() {
+        int start = datasourceUrl.indexOf("wrapperPlugins=");
+        if (start < 0) {
+            return "default";
+        }
+        start += "wrapperPlugins=".length();
+        int end = datasourceUrl.indexOf('&', start);
+        return end < 0 ? datasourceUrl.substring(start) : datasourceUrl.substring(start, end);
     }
-
+    
+    /**
+     * Declarative workload status (null unless a workload test was started)
+     */
+    private WorkloadStatus getWorkloadStatus() {
+        WorkloadSpec spec = workload;
+        OperationStats[] stats = workloadStats;
+        if (spec == null || stats == null) {
+            return null;
+        }
+        List<WorkloadStatus.Operation> operations = new ArrayList<>(stats.length);
+        for (int i = 0; i < stats.length; i++) {
+            WorkloadSpec.Operation operation = spec.getOperations().get(i);
+            operations.add(new WorkloadStatus.Operation(
+                operation.getType().name().toLowerCase(),
+                operation.getType() == OperationType.METADATA_READ ? null : operation.getTable(),
+                operation.getRatePerSecond() * loadScale,
+                stats[i].getSuccessful(),
+                stats[i].getFailed(),
+                stats[i].getLatency().snapshot(),
+                stats[i].getLatency().windowSnapshot()
+            ));
+        }
+        return new WorkloadStatus(spec.getName(), configuredThreads, spec.getOperationsPerSecond() * loadScale,
+            operations);
+    }
+    
     /**
      * Metadata read thread - continuously reads database metadata
+     * Reads are paced open-loop: latency is measured from the intended start time
      */
-    private void runMetadataReadThread(int threadId, int readsPerSecond, int durationSeconds) {
-        int readIntervalMs = 1000 / readsPerSecond;
+    private void runMetadataReadThread(int threadId, double readsPerSecond, int durationSeconds) {
         boolean isContinuous = continuousMode.get();
         
         if (isContinuous) {
@@ -591,11 +1904,15 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         }
         
         Connection conn = null;
+        OutageTracker outage = outages.tracker("Read-" + threadId);
+        EndpointTracker.Session endpoints = endpointTracker.session();
+        AllocationMeter.Probe allocation = readAllocation.probe();
+        ConnectionLease lease = newLease();
         
         try {
             // Get connection from pool
-            conn = dataSource.getConnection();
-            String endpoint = getEndpointInfo(conn);
+            conn = lease.borrow();
+            String endpoint = endpoints.endpoint(conn);
             lastEndpoint = endpoint;
             
             log.info("✅ [{}] Metadata-Thread-{} got connection from {}",
@@ -611,21 +1928,32 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             long readCount = 0;
             long lastReportTime = startTime;
             long lastReportCount = 0;
+            OpenLoopPacer pacer = new OpenLoopPacer(readsPerSecond);
             
             // Continuous metadata reads until test completes or manually stopped
             while (testRunning.get() && System.currentTimeMillis() < endTime) {
-                long readStart = System.nanoTime();
-                
-                boolean success = readDatabaseMetadata(conn, threadId, readCount, currentIP);
-                
-                long readLatency = (System.nanoTime() - readStart) / 1_000_000;
-                totalReadLatency.addAndGet(readLatency);
+                // Wait for the next scheduled slot (returns immediately when behind schedule)
+                try {
+                    pacer.awaitNext();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("⚠️  [{}] Metadata-Thread-{}: Interrupted", now(), threadId);
+                    break;
+                }
                 
-                if (success) {
-                    successfulMetadataReads.incrementAndGet();
-                } else {
-                    failedMetadataReads.incrementAndGet();
+                boolean success = false;
+                try {
+                    conn = lease.borrow();
+                    success = readDatabaseMetadata(conn, threadId, readCount, currentIP, endpoints);
+                } catch (SQLException e) {
+                    recordBorrowFailure(e, "Metadata", threadId, readCount);
                 }
+                lease.operationDone();
+                
+                long scheduleLag = pacer.scheduleLagNanos();
+                readStats.record(success, System.nanoTime() - pacer.intendedStartNanos(), scheduleLag);
+                outage.record(success, endpoints.lastEndpoint());
+                allocation.operation();
                 
                 readCount++;
                 
@@ -634,22 +1962,12 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
                 if (currentTime - lastReportTime >= 10000) {
                     long readsInPeriod = readCount - lastReportCount;
                     double actualRate = readsInPeriod / ((currentTime - lastReportTime) / 1000.0);
-                    log.info("📊 [{}] Metadata-Thread-{}: {} reads, actual rate: {}/sec",
-                        now(), threadId, readCount, String.format("%.1f", actualRate));
+                    log.info("📊 [{}] Metadata-Thread-{}: {} reads, actual rate: {}/sec, schedule lag: {}ms",
+                        now(), threadId, readCount, String.format("%.1f", actualRate),
+                        String.format("%.1f", scheduleLag / 1_000_000.0));
                     lastReportTime = currentTime;
                     lastReportCount = readCount;
                 }
-                
-                // Control read frequency
-                if (readIntervalMs > 0) {
-                    try {
-                        Thread.sleep(readIntervalMs);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        log.warn("⚠️  [{}] Metadata-Thread-{}: Interrupted", now(), threadId);
-                        break;
-                    }
-                }
             }
             
             long totalTime = System.currentTimeMillis() - startTime;
@@ -674,23 +1992,22 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             // Try to get a new connection to query wrapper status
             tryGetWrapperStatusAfterFailure(threadId);
         } finally {
-            if (conn != null) {
-                try {
-                    conn.close();
-                    log.info("🔌 [{}] Metadata-Thread-{} connection returned to pool",
-                        now(), threadId);
-                } catch (SQLException e) {
-                    // Ignore
-                }
+            outage.finish();
+            allocation.flush();
+            endpoints.close();
+            if (lease.current() != null) {
+                lease.close();
+                log.info("🔌 [{}] Metadata-Thread-{} connection returned to pool",
+                    now(), threadId);
             }
         }
     }
     
     /**
      * Write thread - continuously writes to database
+     * Writes are paced open-loop: latency is measured from the intended start time
      */
-    private void runWriteThread(int threadId, int writesPerSecond, int durationSeconds) {
-        int writeIntervalMs = 1000 / writesPerSecond;
+    private void runWriteThread(int threadId, double writesPerSecond, int durationSeconds) {
         boolean isContinuous = continuousMode.get();
         
         if (isContinuous) {
@@ -703,11 +2020,18 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         
         Connection conn = null;
         String tableName = tablePrefix + "_bg_test_thread_" + threadId;
+        OutageTracker outage = outages.tracker("Write-" + threadId);
+        EndpointTracker.Session endpoints = endpointTracker.session();
+        String sql = "INSERT INTO " + tableName + " (thread_id, endpoint, phase, test_data) VALUES (?, ?, ?, ?)";
+        PayloadGenerator payloads = payloadGenerator(1, threadId);
+        AllocationMeter.Probe allocation = writeAllocation.probe();
+        ConnectionLease lease = newLease();
+        StatementCache statements = null;
         
         try {
             // Get connection from pool
-            conn = dataSource.getConnection();
-            String endpoint = getEndpointInfo(conn);
+            conn = lease.borrow();
+            String endpoint = endpoints.endpoint(conn);
             
             log.info("✅ [{}] Write-Thread-{} got connection from {}",
                 now(), threadId, endpoint);
@@ -720,21 +2044,38 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             long writeCount = 0;
             long lastReportTime = startTime;
             long lastReportCount = 0;
+            OpenLoopPacer pacer = new OpenLoopPacer(writesPerSecond);
             
             // Continuous writes until test completes or manually stopped
             while (testRunning.get() && System.currentTimeMillis() < endTime) {
-                long writeStart = System.nanoTime();
-                
-                boolean success = executeWrite(conn, threadId, writeCount, tableName, endpoint);
-                
-                long writeLatency = (System.nanoTime() - writeStart) / 1_000_000;
-                totalWriteLatency.addAndGet(writeLatency);
+                // Wait for the next scheduled slot (returns immediately when behind schedule)
+                try {
+                    pacer.awaitNext();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("⚠️  [{}] Write-Thread-{}: Interrupted", now(), threadId);
+                    break;
+                }
                 
-                if (success) {
-                    successfulWrites.incrementAndGet();
-                } else {
-                    failedWrites.incrementAndGet();
+                boolean success = false;
+                try {
+                    conn = lease.borrow();
+                    statements = statementCache(statements, conn);
+                    success = executeWrite(conn, statements, threadId, writeCount, sql, payloads, endpoints);
+                    if (!success) {
+                        // The statement may belong to a connection the wrapper replaced - prepare again
+                        statements.close();
+                        statements = null;
+                    }
+                } catch (SQLException e) {
+                    recordBorrowFailure(e, "Write", threadId, writeCount);
                 }
+                lease.operationDone();
+                
+                long scheduleLag = pacer.scheduleLagNanos();
+                writeStats.record(success, System.nanoTime() - pacer.intendedStartNanos(), scheduleLag);
+                outage.record(success, endpoints.lastEndpoint());
+                allocation.operation();
                 
                 writeCount++;
                 
@@ -743,22 +2084,12 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
                 if (currentTime - lastReportTime >= 10000) {
                     long writesInPeriod = writeCount - lastReportCount;
                     double actualRate = writesInPeriod / ((currentTime - lastReportTime) / 1000.0);
-                    log.info("📊 [{}] Write-Thread-{}: {} writes, actual rate: {}/sec",
-                        now(), threadId, writeCount, String.format("%.1f", actualRate));
+                    log.info("📊 [{}] Write-Thread-{}: {} writes, actual rate: {}/sec, schedule lag: {}ms",
+                        now(), threadId, writeCount, String.format("%.1f", actualRate),
+                        String.format("%.1f", scheduleLag / 1_000_000.0));
                     lastReportTime = currentTime;
                     lastReportCount = writeCount;
                 }
-                
-                // Control write frequency
-                if (writeIntervalMs > 0) {
-                    try {
-                        Thread.sleep(writeIntervalMs);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        log.warn("⚠️  [{}] Write-Thread-{}: Interrupted", now(), threadId);
-                        break;
-                    }
-                }
             }
             
             long totalTime = System.currentTimeMillis() - startTime;
@@ -779,14 +2110,16 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             extractWrapperStatusFromException(e, threadId);
             tryGetWrapperStatusAfterFailure(threadId);
         } finally {
-            if (conn != null) {
-                try {
-                    conn.close();
-                    log.info("🔌 [{}] Write-Thread-{} connection returned to pool",
-                        now(), threadId);
-                } catch (SQLException e) {
-                    // Ignore
-                }
+            outage.finish();
+            allocation.flush();
+            endpoints.close();
+            if (statements != null) {
+                statements.close();
+            }
+            if (lease.current() != null) {
+                lease.close();
+                log.info("🔌 [{}] Write-Thread-{} connection returned to pool",
+                    now(), threadId);
             }
         }
     }
@@ -820,34 +2153,48 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
     }
     
     /**
-     * Execute single write operation
+     * Statement cache for the connection: the given one if it belongs to it, else a new one
+     * (the old cache is closed - its statements belong to a replaced or returned connection)
      */
-    private boolean executeWrite(Connection conn, int threadId, long writeNumber, 
-                                 String tableName, String endpoint) {
-        totalWrites.incrementAndGet();
-        
-        String sql = String.format(
-            "INSERT INTO %s (thread_id, endpoint, phase, test_data) VALUES (?, ?, ?, ?)",
-            tableName
-        );
+    private StatementCache statementCache(StatementCache statements, Connection conn) {
+        if (statements != null && statements.isFor(conn)) {
+            return statements;
+        }
+        if (statements != null) {
+            statements.close();
+            statementCacheRebuilds.increment();
+        }
+        return new StatementCache(conn);
+    }
+    
+    /**
+     * Execute single write operation on the connection's cached statement
+     */
+    private boolean executeWrite(Connection conn, StatementCache statements, int threadId, long writeNumber,
+                                 String sql, PayloadGenerator payloads, EndpointTracker.Session endpoints) {
+        String endpoint = endpoints.endpoint(conn);
         
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try {
+            int prepared = statements.getPrepared();
+            PreparedStatement pstmt = statements.prepare(sql);
+            statementsPrepared.add(statements.getPrepared() - prepared);
             pstmt.setInt(1, threadId);
             pstmt.setString(2, endpoint);
             pstmt.setString(3, "CONTINUOUS_TEST");
-            pstmt.setString(4, "Thread-" + threadId + " Write #" + writeNumber + " at " + now());
+            pstmt.setBytes(4, payloads.next(threadId, writeNumber));
             pstmt.executeUpdate();
             
             return true;
             
         } catch (SQLException e) {
             String errorMsg = e.getMessage();
+            SqlErrorOutcome outcome = errorClassifier.record(e);
             
             // Check for read-only error
-            if (errorMsg.contains("read-only") || errorMsg.contains("READ_ONLY") || 
-                errorMsg.contains("read only") || e.getErrorCode() == 1290) {
+            if (outcome == SqlErrorOutcome.READ_ONLY) {
                 
-                readOnlyErrors.incrementAndGet();
+                readOnlyErrors.increment();
+                endpoints.invalidate();
                 
                 log.error("╔════════════════════════════════════════════════════════════════╗");
                 log.error("║  🎯 READ-ONLY ERROR DETECTED! 🎯                              ║");
@@ -860,6 +2207,9 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
                 log.error("");
                 
             } else {
+                if (outcome.isConnectionEvent()) {
+                    endpoints.invalidate();
+                }
                 // Log errors every 100 failures to avoid log spam
                 if (writeNumber % 100 == 0) {
                     log.error("❌ [{}] Write-Thread-{} Write #{} failed: {}",
@@ -874,9 +2224,8 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
     /**
      * Read database metadata - tables containing current IP address
      */
-    private boolean readDatabaseMetadata(Connection conn, int threadId, long readNumber, String currentIP) {
-        totalMetadataReads.incrementAndGet();
-        
+    private boolean readDatabaseMetadata(Connection conn, int threadId, long readNumber, String currentIP,
+                                         EndpointTracker.Session endpoints) {
         try {
             DatabaseMetaData metaData = conn.getMetaData();
             
@@ -885,8 +2234,8 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             String dbProductVersion = metaData.getDatabaseProductVersion();
             boolean isReadOnly = metaData.isReadOnly();
             
-            // Get current endpoint info
-            String endpoint = getEndpointInfo(conn);
+            // Current endpoint - no round trip unless the connection changed or was invalidated
+            String endpoint = endpoints.endpoint(conn);
             lastEndpoint = endpoint;
             
             // Read tables containing current IP address
@@ -932,8 +2281,9 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             }
             
             // Check for failover-related exceptions
-            if (isFailoverException(e)) {
-                failoverCount.incrementAndGet();
+            if (errorClassifier.record(e).isConnectionEvent()) {
+                endpoints.invalidate();
+                failoverCount.increment();
                 log.error("🔄 [{}] Metadata-Thread-{}: FAILOVER DETECTED at read #{}!",
                     now(), threadId, readNumber);
                 
@@ -968,10 +2318,10 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
                 Thread.sleep(30000); // Report every 30 seconds
                 
                 long currentTime = System.currentTimeMillis();
-                long totalReads = totalMetadataReads.get();
-                long successReads = successfulMetadataReads.get();
-                long failedReads = failedMetadataReads.get();
-                long failovers = failoverCount.get();
+                long totalReads = readStats.getTotal();
+                long successReads = readStats.getSuccessful();
+                long failedReads = readStats.getFailed();
+                long failovers = failoverCount.sum();
                 
                 // Calculate rates
                 long timeDiff = currentTime - lastReportTime;
@@ -996,8 +2346,10 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
                 log.info("║  Failed: {}                                                   ", String.format("%,d", failedReads));
                 log.info("║  Current Rate: {} reads/sec                                   ", String.format("%.1f", currentRate));
                 log.info("║  Failovers: {}                                                ", failovers);
+                log.info("║  Read Latency (last {}s): {}", LATENCY_WINDOW_MS / 1000, readStats.getLatency().windowSnapshot().toSummary());
                 log.info("║  Last Endpoint: {}                                            ", lastEndpoint);
                 log.info("╚════════════════════════════════════════════════════════════════╝");
+                reportPinning();
                 
                 lastReportTime = currentTime;
                 lastTotalReads = totalReads;
@@ -1030,16 +2382,7 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
      * Get current connection endpoint info
      */
     private String getEndpointInfo(Connection conn) {
-        try (Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(
-                 "SELECT CONCAT(@@hostname, ':', @@port, ' [', IF(@@read_only=0, 'WRITER', 'READER'), ']') as info")) {
-            if (rs.next()) {
-                return rs.getString("info");
-            }
-        } catch (SQLException e) {
-            return "unknown (error: " + e.getMessage() + ")";
-        }
-        return "unknown";
+        return EndpointTracker.queryEndpoint(conn);
     }
     
     /**
@@ -1152,37 +2495,29 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         }
     }
     
-    /**
-     * Check if exception is failover-related
-     */
-    private boolean isFailoverException(SQLException e) {
-        String msg = e.getMessage().toLowerCase();
-        return msg.contains("failover") || 
-               msg.contains("connection") ||
-               msg.contains("communications link failure") ||
-               msg.contains("lost connection") ||
-               e.getErrorCode() == 1047 ||
-               e.getErrorCode() == 1053;
-    }
-    
     /**
      * Print final report
      */
     private void printFinalReport() {
-        long totalReads = totalMetadataReads.get();
-        long successReads = successfulMetadataReads.get();
-        long failedReads = failedMetadataReads.get();
+        long totalReads = readStats.getTotal();
+        long successReads = readStats.getSuccessful();
+        long failedReads = readStats.getFailed();
         double successRate = totalReads > 0 ? (successReads * 100.0 / totalReads) : 0;
-        long avgReadLatency = totalReads > 0 ? totalReadLatency.get() / totalReads : 0;
+        LatencySnapshot readLatencies = readStats.getLatency().snapshot();
         
-        long totalWs = totalWrites.get();
-        long successWs = successfulWrites.get();
-        long failedWs = failedWrites.get();
+        long totalWs = writeStats.getTotal();
+        long successWs = writeStats.getSuccessful();
+        long failedWs = writeStats.getFailed();
         double writeSuccessRate = totalWs > 0 ? (successWs * 100.0 / totalWs) : 0;
-        long avgWriteLatency = totalWs > 0 ? totalWriteLatency.get() / totalWs : 0;
-        long readOnlyErrs = readOnlyErrors.get();
+        if (writeBatchSize > 1) {
+            // Batched mode: success rate is per row, not per batch
+            long totalRows = batchRowsSucceeded.sum() + batchRowsFailed.sum();
+            writeSuccessRate = totalRows > 0 ? (batchRowsSucceeded.sum() * 100.0 / totalRows) : 0;
+        }
+        LatencySnapshot writeLatencies = writeStats.getLatency().snapshot();
+        long readOnlyErrs = readOnlyErrors.sum();
         
-        int failovers = failoverCount.get();
+        int failovers = (int) failoverCount.sum();
         long testDuration = (System.currentTimeMillis() - testStartTime) / 1000;
         
         log.info("");
@@ -1195,20 +2530,95 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         log.info("   Successful: {}", String.format("%,d", successReads));
         log.info("   Failed: {}", String.format("%,d", failedReads));
         log.info("   Success Rate: {}%", String.format("%.2f", successRate));
-        log.info("   Average Read Latency: {}ms", avgReadLatency);
+        log.info("   Read Latency (from intended start): avg {}ms", String.format("%.3f", readLatencies.getMeanMs()));
+        log.info("      {}", readLatencies.toSummary());
+        if (totalReads > 0) {
+            log.info("   Schedule Lag: avg {}ms, max {}ms",
+                String.format("%.2f", readStats.getAvgScheduleLagMs()),
+                String.format("%.2f", readStats.getMaxScheduleLagMs()));
+        }
         log.info("");
         
-        if (enableWrites) {
+        if (enableWrites && writeBatchSize == 1) {
             log.info("✍️  Write Statistics:");
             log.info("   Total Writes: {}", String.format("%,d", totalWs));
             log.info("   Successful: {}", String.format("%,d", successWs));
             log.info("   Failed: {}", String.format("%,d", failedWs));
             log.info("   Success Rate: {}%", String.format("%.2f", writeSuccessRate));
-            log.info("   Average Write Latency: {}ms", avgWriteLatency);
+            log.info("   Write Latency: avg {}ms", String.format("%.3f", writeLatencies.getMeanMs()));
+            log.info("      {}", writeLatencies.toSummary());
+            if (totalWs > 0) {
+                log.info("   Schedule Lag: avg {}ms, max {}ms",
+                    String.format("%.2f", writeStats.getAvgScheduleLagMs()),
+                    String.format("%.2f", writeStats.getMaxScheduleLagMs()));
+            }
+            log.info("   Read-Only Errors: {}", String.format("%,d", readOnlyErrs));
+            log.info("");
+        }
+        
+        if (writeBatchSize > 1) {
+            long rowsOk = batchRowsSucceeded.sum();
+            log.info("📦 Batched Write Statistics ({} rows per batch):", writeBatchSize);
+            log.info("   Batches: {} (failed: {})", String.format("%,d", batchStats.getTotal()),
+                String.format("%,d", batchStats.getFailed()));
+            log.info("   Rows Succeeded: {}", String.format("%,d", rowsOk));
+            log.info("   Rows Failed: {}", String.format("%,d", batchRowsFailed.sum()));
+            if (testDuration > 0) {
+                log.info("   Row Rate: {} rows/sec", String.format("%.1f", rowsOk / (testDuration * 1.0)));
+            }
+            log.info("   Batch Latency: {}", batchStats.getLatency().snapshot().toSummary());
             log.info("   Read-Only Errors: {}", String.format("%,d", readOnlyErrs));
             log.info("");
         }
         
+        GroupCommitQueue<WriteIntent> queue = writeQueue;
+        if (queue != null) {
+            long commits = commitStats.getTotal();
+            long rowsCommitted = pipelineRowsCommitted.sum();
+            log.info("🚚 Group-Commit Pipeline ({} committers, up to {} rows per INSERT):",
+                pipelineCommitters, pipelineMaxRowsPerCommit);
+            log.info("   Commits: {} (failed: {})", String.format("%,d", commits),
+                String.format("%,d", commitStats.getFailed()));
+            log.info("   Rows Committed: {}", String.format("%,d", rowsCommitted));
+            log.info("   Rows Failed: {}", String.format("%,d", pipelineRowsFailed.sum()));
+            log.info("   Avg Rows Per Commit: {}",
+                String.format("%.1f", commits > 0 ? rowsCommitted / (double) commits : 0));
+            if (testDuration > 0) {
+                log.info("   Row Rate: {} rows/sec", String.format("%.1f", rowsCommitted / (testDuration * 1.0)));
+            }
+            log.info("   Commit Latency: {}", commitStats.getLatency().snapshot().toSummary());
+            log.info("   Max Queue Depth: {} of {}", queue.getMaxDepth(), queue.getCapacity());
+            log.info("   Rejected (queue full): {}", String.format("%,d", pipelineRejected.sum()));
+            log.info("");
+        }
+        
+        WorkloadStatus workloadStatus = getWorkloadStatus();
+        if (workloadStatus != null) {
+            log.info("🎛️  Workload '{}' ({} threads, {}/sec per thread):", workloadStatus.getName(),
+                workloadStatus.getThreads(), String.format("%.1f", workloadStatus.getOperationsPerSecond()));
+            for (WorkloadStatus.Operation operation : workloadStatus.getOperations()) {
+                log.info("   {}{} - target {}/sec per thread, {} ok, {} failed",
+                    operation.getType(), operation.getTable() != null ? "(" + operation.getTable() + ")" : "",
+                    String.format("%.2f", operation.getRatePerSecond()),
+                    String.format("%,d", operation.getSuccessful()), String.format("%,d", operation.getFailed()));
+                log.info("      {}", operation.getLatency().toSummary());
+            }
+            log.info("");
+        }
+        
+        SaturationSearch search = saturation;
+        if (search != null) {
+            logSaturationResult(search);
+        }
+        
+        if (statementsPrepared.sum() > 0) {
+            log.info("🧾 Prepared Statements ({}, {}):", serverPreparedStatements ? "server-side" : "client-side",
+                reuseStatements ? "reused per connection" : "prepared per write");
+            log.info("   Statements Prepared: {}", String.format("%,d", statementsPrepared.sum()));
+            log.info("   Cache Rebuilds (connection replaced): {}", statementCacheRebuilds.sum());
+            log.info("");
+        }
+        
         log.info("⚡ Performance:");
         log.info("   Test Duration: {} seconds", testDuration);
         if (totalReads > 0 && testDuration > 0) {
@@ -1220,8 +2630,53 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             log.info("   Actual Total Write Rate: {} writes/sec", String.format("%.1f", actualWriteRate));
         }
         log.info("");
+        if (pinningMonitor != null) {
+            VirtualThreadPinningMonitor.Snapshot pinning = pinningMonitor.getSnapshot();
+            log.info("🧵 Virtual Threads:");
+            log.info("   Carrier Pinning Events: {} (total {}ms, max {}ms)", pinning.getPinnedEvents(),
+                String.format("%.1f", pinning.getTotalPinnedMs()), String.format("%.1f", pinning.getMaxPinnedMs()));
+            pinning.getTopPinningFrames().forEach((frame, count) ->
+                log.info("   {} x {}", count, frame));
+            log.info("");
+        }
+        printConnectionStrategyReport();
+        printPoolReport();
         log.info("🔄 Failover Detection:");
         log.info("   Failovers Detected: {}", failovers);
+        StringBuilder outcomes = new StringBuilder();
+        for (SqlErrorOutcome outcome : SqlErrorOutcome.values()) {
+            long count = errorClassifier.getCount(outcome);
+            if (count > 0) {
+                outcomes.append(outcomes.length() > 0 ? ", " : "").append(outcome).append('=').append(count);
+            }
+        }
+        log.info("   Error Outcomes: {}", outcomes.length() > 0 ? outcomes : "none");
+        log.info("");
+        
+        printOutageReport(outages.report());
+        printReconnectReport();
+        printWriteVerificationReport();
+        
+        EndpointTracker.Stats endpointStats = endpointTracker.getStats();
+        log.info("🏷️  Endpoint Tracking (sampling every {}ms):", endpointStats.getSampleIntervalMs());
+        log.info("   Lookups: {}  Resolved: {} (connection changed: {}, after error: {}, sampled: {}, failed: {})",
+            String.format("%,d", endpointStats.getLookups()), endpointStats.getResolutions(),
+            endpointStats.getResolvedOnChange(), endpointStats.getResolvedOnInvalidate(),
+            endpointStats.getResolvedOnSample(), endpointStats.getResolveFailures());
+        log.info("");
+        
+        AllocationMeter.Snapshot readAlloc = readAllocation.snapshot();
+        AllocationMeter.Snapshot writeAlloc = writeAllocation.snapshot();
+        log.info("🧮 Allocation per Operation (payload: {} bytes, {}):", payloadSize,
+            payloadContent.name().toLowerCase());
+        if (!AllocationMeter.isSupported()) {
+            log.info("   Not available (JVM does not report per-thread allocation)");
+        } else {
+            log.info("   Reads: {} bytes/op ({} ops measured)",
+                String.format("%.0f", readAlloc.getBytesPerOperation()), readAlloc.getMeasuredOperations());
+            log.info("   Writes: {} bytes/op ({} ops measured)",
+                String.format("%.0f", writeAlloc.getBytesPerOperation()), writeAlloc.getMeasuredOperations());
+        }
         log.info("");
         
         if (failovers > 0) {
@@ -1247,26 +2702,302 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         log.info("");
     }
     
+    /**
+     * Borrow/return overhead of the connection strategy
+     * 
+     * Acquisitions after the connection sat idle past Hikari's alive-bypass window include the
+     * validation query; the gap to the reused acquisitions is the validation cost. Physical
+     * connections opened during the test (pool growth and replacements) pay the wrapper's plugin
+     * pipeline setup and the TCP/TLS/auth handshake.
+     */
+    private void printConnectionStrategyReport() {
+        ConnectionHolding holding = connectionHolding;
+        LatencySnapshot created = poolReportCreation.snapshot();
+        log.info("🔗 Connection Strategy: {}", holding.label());
+        log.info("   Borrows: {} (failed: {})  Reconnects after errors: {}",
+            String.format("%,d", leaseStats.getBorrows()), leaseStats.getFailedBorrows(),
+            leaseStats.getReconnects());
+        log.info("   Acquire, first borrow: {}", leaseStats.getAcquireFirst().getLatency().snapshot().toSummary());
+        log.info("   Acquire, reconnect: {}", leaseStats.getAcquireReconnect().getLatency().snapshot().toSummary());
+        if (!holding.isHoldForTest()) {
+            log.info("   Acquire, steady state: {}",
+                leaseStats.getAcquireSteady().getLatency().snapshot().toSummary());
+            log.info("   Return to pool: {}", leaseStats.getRelease().getLatency().snapshot().toSummary());
+        }
+        log.info("   Physical Connections Opened (plugin pipeline setup): {}",
+            created.getCount() > 0 ? created.toSummary() : "none");
+        log.info("");
+    }
+    
+    /**
+     * Connection pool during the test: acquisition waits, usage, exhaustion and timeouts
+     * 
+     * Seconds with callers waiting but no connection handed out mean the pool was drained by
+     * connections that did not come back; waits with connections still turning over point at
+     * a slow database (longer usage) rather than at the pool.
+     */
+    private void printPoolReport() {
+        PoolMonitor.Snapshot pool = poolMonitor.snapshot();
+        log.info("🏊 Connection Pool ({}, max {} connections, timeout {}ms, shared by all runs):",
+            pool.getPoolName() != null ? pool.getPoolName() : "not started", pool.getMaximumPoolSize(),
+            pool.getConnectionTimeoutMs());
+        if (!poolMonitor.isAttached()) {
+            log.info("   Not instrumented (not a HikariDataSource, or another metrics tracker is configured)");
+            log.info("");
+            return;
+        }
+        log.info("   Acquisition: {}", poolReportLatency.snapshot().toSummary());
+        log.info("   Usage (borrow to return): {}", poolReportUsage.snapshot().toSummary());
+        log.info("   Acquisition Timeouts: {}", String.format("%,d", pool.getTimeouts() - poolTimeoutsAtStart));
+        log.info("   Exhausted: {} episodes, {}ms (peak waiting callers since start: {})",
+            pool.getExhaustionEpisodes() - poolEpisodesAtStart, pool.getExhaustedMillis() - poolExhaustedMillisAtStart,
+            pool.getPeakPending());
+        TimeSeriesBuffer buffer = timeSeries;
+        if (buffer != null && testStartTime > 0) {
+            int waitingSeconds = 0;
+            int drainedSeconds = 0;
+            for (TimeSeriesPoint point : buffer.query(testStartTime / 1000, Long.MAX_VALUE, 1, buffer.getCapacity())) {
+                if (point.getPoolPending() > 0) {
+                    waitingSeconds++;
+                    if (point.getPoolAcquired() == 0) {
+                        drainedSeconds++;
+                    }
+                }
+            }
+            log.info("   Seconds with callers waiting: {} (no connection handed out - drained: {})",
+                waitingSeconds, drainedSeconds);
+        }
+        log.info("");
+    }
+    
+    /**
+     * Client outage windows: blackout distribution, cluster-wide timeline, longest windows
+     */
+    private void printOutageReport(OutageReport report) {
+        log.info("🕳️  Client Outage Windows (last success -> first success after errors):");
+        log.info("   Recovered Windows: {}  Unrecovered at stop: {}", report.getRecoveredWindows(),
+            report.getUnrecoveredWindows());
+        if (report.getRecoveredWindows() == 0 && report.getUnrecoveredWindows() == 0) {
+            log.info("   No client saw an error run");
+            log.info("");
+            return;
+        }
+        log.info("   Blackout: {}", report.getBlackout().toSummary());
+        log.info("   Timeline (cluster-wide, overlapping windows merged):");
+        for (OutageReport.TimelineEntry entry : report.getTimeline()) {
+            log.info("     {} -> {}  {}ms  threads={} windows={}  {} -> {}{}",
+                formatMillis(entry.getStartMillis()), formatMillis(entry.getEndMillis()),
+                entry.getDurationMillis(), entry.getThreads(), entry.getWindows(),
+                entry.getEndpointsBefore(), entry.getEndpointsAfter(), entry.isOngoing() ? " (ongoing)" : "");
+        }
+        log.info("   Longest Windows:");
+        for (OutageWindow window : report.getLongestWindows()) {
+            log.info("     {}  {}ms  failed ops={}  {} -> {}{}", window.getThread(), window.getBlackoutMillis(),
+                window.getFailedOperations(), window.getEndpointBefore(),
+                window.isRecovered() ? window.getEndpointAfter() : "(not recovered)",
+                window.isEndpointChanged() ? "  [endpoint changed]" : "");
+        }
+        log.info("");
+    }
+    
+    /**
+     * Reconnect pacing and time to full recovery (all reconnecting threads have a connection again)
+     */
+    private void printReconnectReport() {
+        ReconnectStatus status = getReconnectStatus();
+        RecoveryTracker.Snapshot recoverySnapshot = status.getRecovery();
+        if (reconnectController.getMode() == ReconnectController.Mode.FIXED) {
+            log.info("🔁 Reconnects (fixed backoff):");
+        } else {
+            log.info("🔁 Reconnects (jittered backoff {}-{}ms, admission {}/sec, burst {}):",
+                status.getInitialDelayMs(), status.getMaxDelayMs(), status.getAttemptsPerSecond(), status.getBurst());
+        }
+        log.info("   Attempts: {} (failed: {})  Waited for admission: {} ({}ms, all runs)",
+            status.getAttempts(), status.getFailedAttempts(), status.getThrottled(), status.getThrottledMs());
+        if (recoverySnapshot.getEpisodes() == 0) {
+            log.info("   Time to Full Recovery: no reconnects{}", recoverySnapshot.getReconnecting() > 0
+                ? " completed (" + recoverySnapshot.getReconnecting() + " threads still reconnecting)" : "");
+            log.info("");
+            return;
+        }
+        log.info("   Time to Full Recovery: {} episodes, mean {}ms, max {}ms", recoverySnapshot.getEpisodes(),
+            String.format("%.0f", recoverySnapshot.getMeanMillis()), recoverySnapshot.getMaxMillis());
+        for (RecoveryTracker.Episode episode : recoverySnapshot.getRecent()) {
+            log.info("     {}  {}ms  reconnects={} peak concurrent={}{}", formatMillis(episode.getStartMillis()),
+                episode.getDurationMillis(), episode.getThreads(), episode.getPeakThreads(),
+                episode.isFullRecovery() ? "" : "  (" + episode.getGaveUp() + " threads gave up)");
+        }
+        log.info("");
+    }
+    
+    /**
+     * Client-side write outcomes; the verification result follows when the end-of-test pass is done
+     */
+    private void printWriteVerificationReport() {
+        WriteVerificationStatus status = getWriteVerificationStatus();
+        if (status == null) {
+            return;
+        }
+        log.info("🔎 Write Verification (stream {}):", status.getStreamId());
+        log.info("   Acknowledged: {}  In Doubt: {}  Failed: {}  Ledger: {} KB",
+            String.format("%,d", status.getAcknowledged()), status.getInDoubt(),
+            String.format("%,d", status.getFailed()), status.getLedgerBytes() / 1024);
+        log.info("   Checking the table in the background - result follows as \"Write Verification Result\"");
+        log.info("");
+    }
+    
+    /**
+     * Result of one verification pass (logged by the verifier thread)
+     */
+    private void printWriteVerificationResult(WriteVerifier.Result result) {
+        log.info("╔════════════════════════════════════════════════════════════════╗");
+        log.info("║  [{}] Write Verification Result ({})", now(), result.getTrigger());
+        log.info("╠════════════════════════════════════════════════════════════════╣");
+        if (result.getError() != null) {
+            log.info("║  ⚠️  Aborted: {}", result.getError());
+        }
+        log.info("║  Checked: {} writes of {} threads ({} queries, {}ms), {} verified by earlier passes",
+            String.format("%,d", result.getChecked()), result.getWriters(), result.getQueries(),
+            result.getDurationMillis(), String.format("%,d", result.getVerifiedEarlier()));
+        log.info("║  {} Lost: {}  Duplicated: {} ({} extra rows)", result.isClean() ? "✅" : "❌",
+            result.getLost(), result.getDuplicatedSequences(), result.getDuplicateRows());
+        log.info("║  In Doubt: {} (committed: {})  Failed But Committed: {}", result.getInDoubt(),
+            result.getInDoubtCommitted(), result.getUnacknowledgedCommitted());
+        for (String example : result.getExamples()) {
+            log.info("║    {}", example);
+        }
+        log.info("╚════════════════════════════════════════════════════════════════╝");
+    }
+    
+    private String formatMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).format(formatter);
+    }
+    
     /**
      * Reset statistics
      */
     private void resetStatistics() {
-        totalMetadataReads.set(0);
-        successfulMetadataReads.set(0);
-        failedMetadataReads.set(0);
-        totalWrites.set(0);
-        successfulWrites.set(0);
-        failedWrites.set(0);
-        readOnlyErrors.set(0);
-        totalReadLatency.set(0);
-        totalWriteLatency.set(0);
-        failoverCount.set(0);
+        readStats.reset();
+        writeStats.reset();
+        batchStats.reset();
+        batchRowsSucceeded.reset();
+        batchRowsFailed.reset();
+        statementsPrepared.reset();
+        statementCacheRebuilds.reset();
+        commitStats.reset();
+        pipelineRowsCommitted.reset();
+        pipelineRowsFailed.reset();
+        pipelineRejected.reset();
+        writeQueue = null;
+        workload = null;
+        workloadStats = null;
+        loadScale = 1;
+        saturation = null;
+        writeVerifier = null;
+        outages.reset();
+        endpointTracker = new EndpointTracker(endpointSampleIntervalMs);
+        errorClassifier.reset();
+        readAllocation.reset();
+        writeAllocation.reset();
+        readOnlyErrors.reset();
+        failoverCount.reset();
+        poolReportLatency.snapshot();
+        poolReportUsage.snapshot();
+        poolReportCreation.snapshot();
+        leaseStats.reset();
+        recovery.reset();
+        reconnectAttempts.reset();
+        reconnectAttemptsFailed.reset();
+        reconnectThrottledAtStart = reconnectController.getThrottled();
+        reconnectThrottledMillisAtStart = reconnectController.getThrottledMillis();
+        PoolMonitor.Snapshot pool = poolMonitor.snapshot();
+        poolTimeoutsAtStart = pool.getTimeouts();
+        poolEpisodesAtStart = pool.getExhaustionEpisodes();
+        poolExhaustedMillisAtStart = pool.getExhaustedMillis();
         lastEndpoint = "unknown";
         testStartTime = 0;
     }
     
     private String now() {
-        return LocalDateTime.now().format(formatter);
+        return clock.now();
+    }
+    
+    /**
+     * Export statistics to Micrometer (Prometheus scrape endpoint) when actuator provides a registry
+     */
+    @Autowired(required = false)
+    void setMeterRegistry(MeterRegistry registry) {
+        LoadTestMeters loadMeters = new LoadTestMeters(registry, runId);
+        loadMeters.bindOperations("reads", "read", readStats);
+        loadMeters.bindOperations("writes", "write", writeStats);
+        loadMeters.bindOperations("batches", "batch", batchStats);
+        loadMeters.bindOperations("commits", "commit", commitStats);
+        loadMeters.bindCounter("batch.rows", "Rows written in JDBC batches", batchRowsSucceeded, "result", "success");
+        loadMeters.bindCounter("batch.rows", "Rows written in JDBC batches", batchRowsFailed, "result", "failure");
+        loadMeters.bindCounter("pipeline.rows", "Rows written by group commits", pipelineRowsCommitted, "result", "success");
+        loadMeters.bindCounter("pipeline.rows", "Rows written by group commits", pipelineRowsFailed, "result", "failure");
+        loadMeters.bindCounter("failovers", "Failovers detected by load threads", failoverCount);
+        loadMeters.bindCounter("readonly.errors", "Writes rejected by a read-only instance", readOnlyErrors);
+        loadMeters.bindErrors(errorClassifier);
+        loadMeters.bindOutages(outages);
+        loadMeters.bindRunning(testRunning);
+        this.meters = loadMeters;
+    }
+    
+    @Autowired
+    void setReconnectController(ReconnectController controller) {
+        this.reconnectController = controller;
+        this.loadThreads = new LoadThreadConnection.Context(controller, recovery, reconnectAttempts,
+            reconnectAttemptsFailed, errorClassifier, readOnlyErrors, failoverCount, statementCacheRebuilds,
+            testRunning, endpoint -> lastEndpoint = endpoint);
+    }
+    
+    @Autowired
+    void setPoolMonitor(PoolMonitor monitor) {
+        this.poolMonitor = monitor;
+        this.poolSampledLatency = monitor.getAcquisition().newInterval();
+        this.poolReportLatency = monitor.getAcquisition().newInterval();
+        this.poolReportUsage = monitor.getUsage().newInterval();
+        this.poolReportCreation = monitor.getCreation().newInterval();
+    }
+    
+    /**
+     * Release a discarded run: stop sampling and unregister its meters (the run must be stopped)
+     */
+    void close() {
+        stopTimeSeriesSampler();
+        poolMonitor.getAcquisition().removeInterval(poolSampledLatency);
+        poolMonitor.getAcquisition().removeInterval(poolReportLatency);
+        poolMonitor.getUsage().removeInterval(poolReportUsage);
+        poolMonitor.getCreation().removeInterval(poolReportCreation);
+        LoadTestMeters loadMeters = meters;
+        if (loadMeters != null) {
+            loadMeters.remove();
+            meters = null;
+        }
+    }
+    
+    // Validated at startup - a bad value fails the context instead of every load thread
+    @Value("${app.payload.size:64}")
+    void setPayloadSize(int payloadSize) {
+        if (payloadSize < 1) {
+            throw new IllegalArgumentException("app.payload.size must be >= 1: " + payloadSize);
+        }
+        this.payloadSize = payloadSize;
+    }
+    
+    @Value("${app.payload.content:label}")
+    void setPayloadContent(String payloadContent) {
+        this.payloadContent = PayloadGenerator.Content.parse(payloadContent);
+    }
+    
+    /**
+     * Payload generator of one load thread
+     * 
+     * @param rowsPerStatement Rows bound per statement (the driver may keep each bound buffer until execute)
+     */
+    private PayloadGenerator payloadGenerator(int rowsPerStatement, int threadId) {
+        return new PayloadGenerator(payloadSize, payloadContent, rowsPerStatement, threadId);
     }
     
     /**
@@ -1302,15 +3033,62 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         private final long readOnlyErrors;
         private final int failoverCount;
         private final String lastEndpoint;
-        private final long avgReadLatency;
-        private final long avgWriteLatency;
+        private final LatencySnapshot readLatency;
+        private final LatencySnapshot readLatencyWindow;
+        private final LatencySnapshot writeLatency;
+        private final LatencySnapshot writeLatencyWindow;
+        private final double avgReadScheduleLagMs;
+        private final double maxReadScheduleLagMs;
+        private final double avgWriteScheduleLagMs;
+        private final double maxWriteScheduleLagMs;
+        private final String executorMode;
+        private final VirtualThreadPinningMonitor.Snapshot pinning;
+        private final int writeBatchSize;
+        private final long totalBatches;
+        private final long failedBatches;
+        private final long batchRowsSucceeded;
+        private final long batchRowsFailed;
+        private final LatencySnapshot batchLatency;
+        private final LatencySnapshot batchLatencyWindow;
+        private final boolean reuseStatements;
+        private final boolean serverPreparedStatements;
+        private final long statementsPrepared;
+        private final long statementCacheRebuilds;
+        private final PipelineStatus pipeline;
+        private final WorkloadStatus workload;
+        private final SaturationStatus saturation;
+        private final ConnectionHoldingStatus connectionHolding;
+        private final ReconnectStatus reconnects;
+        private final WriteVerificationStatus writeVerification;
+        private final OutageReport outages;
+        private final Map<String, Long> errorOutcomes;
+        private final EndpointTracker.Stats endpointTracking;
+        private final int payloadSize;
+        private final String payloadContent;
+        private final AllocationMeter.Snapshot readAllocation;
+        private final AllocationMeter.Snapshot writeAllocation;
         private final long runningTimeSeconds;
         
         public TestStatus(boolean running, boolean continuous, boolean writesEnabled,
                          long totalReads, long successfulReads, long failedReads,
                          long totalWrites, long successfulWrites, long failedWrites,
                          long readOnlyErrors, int failoverCount, String lastEndpoint, 
-                         long avgReadLatency, long avgWriteLatency, long runningTimeSeconds) {
+                         LatencySnapshot readLatency, LatencySnapshot readLatencyWindow,
+                         LatencySnapshot writeLatency, LatencySnapshot writeLatencyWindow,
+                         double avgReadScheduleLagMs, double maxReadScheduleLagMs,
+                         double avgWriteScheduleLagMs, double maxWriteScheduleLagMs,
+                         String executorMode, VirtualThreadPinningMonitor.Snapshot pinning,
+                         int writeBatchSize, long totalBatches, long failedBatches,
+                         long batchRowsSucceeded, long batchRowsFailed,
+                         LatencySnapshot batchLatency, LatencySnapshot batchLatencyWindow,
+                         boolean reuseStatements, boolean serverPreparedStatements,
+                         long statementsPrepared, long statementCacheRebuilds,
+                         PipelineStatus pipeline, WorkloadStatus workload, SaturationStatus saturation,
+                         ConnectionHoldingStatus connectionHolding, ReconnectStatus reconnects,
+                         WriteVerificationStatus writeVerification, OutageReport outages, Map<String, Long> errorOutcomes,
+                         EndpointTracker.Stats endpointTracking, int payloadSize, String payloadContent,
+                         AllocationMeter.Snapshot readAllocation, AllocationMeter.Snapshot writeAllocation,
+                         long runningTimeSeconds) {
             this.running = running;
             this.continuous = continuous;
             this.writesEnabled = writesEnabled;
@@ -1323,8 +3101,40 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             this.readOnlyErrors = readOnlyErrors;
             this.failoverCount = failoverCount;
             this.lastEndpoint = lastEndpoint;
-            this.avgReadLatency = avgReadLatency;
-            this.avgWriteLatency = avgWriteLatency;
+            this.readLatency = readLatency;
+            this.readLatencyWindow = readLatencyWindow;
+            this.writeLatency = writeLatency;
+            this.writeLatencyWindow = writeLatencyWindow;
+            this.avgReadScheduleLagMs = avgReadScheduleLagMs;
+            this.maxReadScheduleLagMs = maxReadScheduleLagMs;
+            this.avgWriteScheduleLagMs = avgWriteScheduleLagMs;
+            this.maxWriteScheduleLagMs = maxWriteScheduleLagMs;
+            this.executorMode = executorMode;
+            this.pinning = pinning;
+            this.writeBatchSize = writeBatchSize;
+            this.totalBatches = totalBatches;
+            this.failedBatches = failedBatches;
+            this.batchRowsSucceeded = batchRowsSucceeded;
+            this.batchRowsFailed = batchRowsFailed;
+            this.batchLatency = batchLatency;
+            this.batchLatencyWindow = batchLatencyWindow;
+            this.reuseStatements = reuseStatements;
+            this.serverPreparedStatements = serverPreparedStatements;
+            this.statementsPrepared = statementsPrepared;
+            this.statementCacheRebuilds = statementCacheRebuilds;
+            this.pipeline = pipeline;
+            this.workload = workload;
+            this.saturation = saturation;
+            this.connectionHolding = connectionHolding;
+            this.reconnects = reconnects;
+            this.writeVerification = writeVerification;
+            this.outages = outages;
+            this.errorOutcomes = errorOutcomes;
+            this.endpointTracking = endpointTracking;
+            this.payloadSize = payloadSize;
+            this.payloadContent = payloadContent;
+            this.readAllocation = readAllocation;
+            this.writeAllocation = writeAllocation;
             this.runningTimeSeconds = runningTimeSeconds;
         }
         
@@ -1340,8 +3150,47 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
         public long getReadOnlyErrors() { return readOnlyErrors; }
         public int getFailoverCount() { return failoverCount; }
         public String getLastEndpoint() { return lastEndpoint; }
-        public long getAvgReadLatency() { return avgReadLatency; }
-        public long getAvgWriteLatency() { return avgWriteLatency; }
+        public LatencySnapshot getReadLatency() { return readLatency; }
+        public LatencySnapshot getReadLatencyWindow() { return readLatencyWindow; }
+        public LatencySnapshot getWriteLatency() { return writeLatency; }
+        public LatencySnapshot getWriteLatencyWindow() { return writeLatencyWindow; }
+        public double getAvgReadLatency() { return readLatency.getMeanMs(); }
+        public double getAvgWriteLatency() { return writeLatency.getMeanMs(); }
+        public double getAvgReadScheduleLagMs() { return avgReadScheduleLagMs; }
+        public double getMaxReadScheduleLagMs() { return maxReadScheduleLagMs; }
+        public double getAvgWriteScheduleLagMs() { return avgWriteScheduleLagMs; }
+        public double getMaxWriteScheduleLagMs() { return maxWriteScheduleLagMs; }
+        public String getExecutorMode() { return executorMode; }
+        public VirtualThreadPinningMonitor.Snapshot getPinning() { return pinning; }
+        public int getWriteBatchSize() { return writeBatchSize; }
+        public long getTotalBatches() { return totalBatches; }
+        public long getFailedBatches() { return failedBatches; }
+        public long getBatchRowsSucceeded() { return batchRowsSucceeded; }
+        public long getBatchRowsFailed() { return batchRowsFailed; }
+        public LatencySnapshot getBatchLatency() { return batchLatency; }
+        public LatencySnapshot getBatchLatencyWindow() { return batchLatencyWindow; }
+        public double getBatchRowsPerSecond() {
+            return runningTimeSeconds > 0 ? batchRowsSucceeded / (double) runningTimeSeconds : 0;
+        }
+        public boolean isReuseStatements() { return reuseStatements; }
+        public boolean isServerPreparedStatements() { return serverPreparedStatements; }
+        public long getStatementsPrepared() { return statementsPrepared; }
+        public long getStatementCacheRebuilds() { return statementCacheRebuilds; }
+        public PipelineStatus getPipeline() { return pipeline; }
+        public WorkloadStatus getWorkload() { return workload; }
+        public SaturationStatus getSaturation() { return saturation; }
+        public ConnectionHoldingStatus getConnectionHolding() { return connectionHolding; }
+        public ReconnectStatus getReconnects() { return reconnects; }
+        /** Null unless a write test was started */
+        public WriteVerificationStatus getWriteVerification() { return writeVerification; }
+        public OutageReport getOutages() { return outages; }
+        /** Failed operations per {@link SqlErrorOutcome} */
+        public Map<String, Long> getErrorOutcomes() { return errorOutcomes; }
+        public EndpointTracker.Stats getEndpointTracking() { return endpointTracking; }
+        public int getPayloadSize() { return payloadSize; }
+        public String getPayloadContent() { return payloadContent; }
+        public AllocationMeter.Snapshot getReadAllocation() { return readAllocation; }
+        public AllocationMeter.Snapshot getWriteAllocation() { return writeAllocation; }
         public long getRunningTimeSeconds() { return runningTimeSeconds; }
         public double getReadSuccessRate() {
             return totalReads > 0 ? (successfulReads * 100.0 / totalReads) : 0;
@@ -1350,4 +3199,292 @@ public String startWriteOnlyTest(int numConnections, int writeIntervalMs) {
             return totalWrites > 0 ? (successfulWrites * 100.0 / totalWrites) : 0;
         }
     }
+    
+    /**
+     * Group-commit pipeline status DTO
+     */
+    public static class PipelineStatus {
+        private final int committers;
+        private final int maxRowsPerCommit;
+        private final int queueCapacity;
+        private final int queueDepth;
+        private final long maxQueueDepth;
+        private final long rejectedWrites;
+        private final long totalCommits;
+        private final long failedCommits;
+        private final long rowsCommitted;
+        private final long rowsFailed;
+        private final LatencySnapshot commitLatency;
+        private final LatencySnapshot commitLatencyWindow;
+        
+        public PipelineStatus(int committers, int maxRowsPerCommit, int queueCapacity,
+                              int queueDepth, long maxQueueDepth, long rejectedWrites,
+                              long totalCommits, long failedCommits, long rowsCommitted, long rowsFailed,
+                              LatencySnapshot commitLatency, LatencySnapshot commitLatencyWindow) {
+            this.committers = committers;
+            this.maxRowsPerCommit = maxRowsPerCommit;
+            this.queueCapacity = queueCapacity;
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.rejectedWrites = rejectedWrites;
+            this.totalCommits = totalCommits;
+            this.failedCommits = failedCommits;
+            this.rowsCommitted = rowsCommitted;
+            this.rowsFailed = rowsFailed;
+            this.commitLatency = commitLatency;
+            this.commitLatencyWindow = commitLatencyWindow;
+        }
+        
+        public int getCommitters() { return committers; }
+        public int getMaxRowsPerCommit() { return maxRowsPerCommit; }
+        public int getQueueCapacity() { return queueCapacity; }
+        public int getQueueDepth() { return queueDepth; }
+        public long getMaxQueueDepth() { return maxQueueDepth; }
+        public long getRejectedWrites() { return rejectedWrites; }
+        public long getTotalCommits() { return totalCommits; }
+        public long getFailedCommits() { return failedCommits; }
+        public long getRowsCommitted() { return rowsCommitted; }
+        public long getRowsFailed() { return rowsFailed; }
+        public LatencySnapshot getCommitLatency() { return commitLatency; }
+        public LatencySnapshot getCommitLatencyWindow() { return commitLatencyWindow; }
+        public double getAvgRowsPerCommit() {
+            return totalCommits > 0 ? rowsCommitted / (double) totalCommits : 0;
+        }
+    }
+    
+    /**
+     * Connection strategy status DTO: borrow/return overhead of the load threads
+     */
+    public static class ConnectionHoldingStatus {
+        private final String strategy;
+        private final int operationsPerBorrow;
+        private final long borrows;
+        private final long failedBorrows;
+        private final LatencySnapshot acquireFirst;
+        private final LatencySnapshot acquireReconnect;
+        private final LatencySnapshot acquireSteady;
+        private final LatencySnapshot release;
+        private final long reconnects;
+        
+        public ConnectionHoldingStatus(String strategy, int operationsPerBorrow, long borrows, long failedBorrows,
+                                       LatencySnapshot acquireFirst, LatencySnapshot acquireReconnect,
+                                       LatencySnapshot acquireSteady, LatencySnapshot release, long reconnects) {
+            this.strategy = strategy;
+            this.operationsPerBorrow = operationsPerBorrow;
+            this.borrows = borrows;
+            this.failedBorrows = failedBorrows;
+            this.acquireFirst = acquireFirst;
+            this.acquireReconnect = acquireReconnect;
+            this.acquireSteady = acquireSteady;
+            this.release = release;
+            this.reconnects = reconnects;
+        }
+        
+        /** e.g. "hold_for_test", "borrow_per_n_operations(50)" */
+        public String getStrategy() { return strategy; }
+        /** 0 = whole test */
+        public int getOperationsPerBorrow() { return operationsPerBorrow; }
+        public long getBorrows() { return borrows; }
+        public long getFailedBorrows() { return failedBorrows; }
+        /** getConnection() of each thread's first borrow */
+        public LatencySnapshot getAcquireFirst() { return acquireFirst; }
+        /** getConnection() replacing a connection dropped after an error */
+        public LatencySnapshot getAcquireReconnect() { return acquireReconnect; }
+        /** getConnection() after a normal return (borrowing strategies) */
+        public LatencySnapshot getAcquireSteady() { return acquireSteady; }
+        /** close() - return to the pool including Hikari's state reset */
+        public LatencySnapshot getRelease() { return release; }
+        public long getReconnects() { return reconnects; }
+    }
+    
+    /**
+     * Reconnect status DTO: backoff settings, attempts and time to full recovery
+     */
+    public static class ReconnectStatus {
+        private final String backoff;
+        private final long initialDelayMs;
+        private final long maxDelayMs;
+        private final double attemptsPerSecond;
+        private final int burst;
+        private final long attempts;
+        private final long failedAttempts;
+        private final long throttled;
+        private final long throttledMs;
+        private final RecoveryTracker.Snapshot recovery;
+        
+        public ReconnectStatus(String backoff, long initialDelayMs, long maxDelayMs, double attemptsPerSecond,
+                               int burst, long attempts, long failedAttempts, long throttled, long throttledMs,
+                               RecoveryTracker.Snapshot recovery) {
+            this.backoff = backoff;
+            this.initialDelayMs = initialDelayMs;
+            this.maxDelayMs = maxDelayMs;
+            this.attemptsPerSecond = attemptsPerSecond;
+            this.burst = burst;
+            this.attempts = attempts;
+            this.failedAttempts = failedAttempts;
+            this.throttled = throttled;
+            this.throttledMs = throttledMs;
+            this.recovery = recovery;
+        }
+        
+        /** "jittered" or "fixed" */
+        public String getBackoff() { return backoff; }
+        public long getInitialDelayMs() { return initialDelayMs; }
+        public long getMaxDelayMs() { return maxDelayMs; }
+        public double getAttemptsPerSecond() { return attemptsPerSecond; }
+        public int getBurst() { return burst; }
+        /** Connection attempts of reconnecting load threads */
+        public long getAttempts() { return attempts; }
+        public long getFailedAttempts() { return failedAttempts; }
+        /** Attempts that waited for admission - all runs share the token bucket */
+        public long getThrottled() { return throttled; }
+        public long getThrottledMs() { return throttledMs; }
+        public RecoveryTracker.Snapshot getRecovery() { return recovery; }
+    }
+    
+    /**
+     * Write-loss detection status DTO
+     */
+    public static class WriteVerificationStatus {
+        private final long streamId;
+        private final String table;
+        private final long acknowledged;
+        private final long inDoubt;
+        private final long failed;
+        private final long ledgerBytes;
+        private final boolean verifying;
+        private final long passes;
+        private final WriteVerifier.Result lastResult;
+        
+        public WriteVerificationStatus(long streamId, String table, long acknowledged, long inDoubt, long failed,
+                                       long ledgerBytes, boolean verifying, long passes,
+                                       WriteVerifier.Result lastResult) {
+            this.streamId = streamId;
+            this.table = table;
+            this.acknowledged = acknowledged;
+            this.inDoubt = inDoubt;
+            this.failed = failed;
+            this.ledgerBytes = ledgerBytes;
+            this.verifying = verifying;
+            this.passes = passes;
+            this.lastResult = lastResult;
+        }
+        
+        /** Value of the stream_id column of this test's rows */
+        public long getStreamId() { return streamId; }
+        public String getTable() { return table; }
+        /** Writes the client saw succeed */
+        public long getAcknowledged() { return acknowledged; }
+        /** Writes interrupted by a connection failure or timeout - may or may not be committed */
+        public long getInDoubt() { return inDoubt; }
+        public long getFailed() { return failed; }
+        /** Memory held by the per-thread ledgers */
+        public long getLedgerBytes() { return ledgerBytes; }
+        public boolean isVerifying() { return verifying; }
+        public long getPasses() { return passes; }
+        /** Null until the first pass completed */
+        public WriteVerifier.Result getLastResult() { return lastResult; }
+    }
+    
+    /**
+     * Saturation search status DTO
+     */
+    public static class SaturationStatus {
+        private final String state;
+        private final double offeredRate;
+        private final double maxSustainableRate;
+        private final Double kneeRate;
+        private final double sloP99Ms;
+        private final double maxErrorRate;
+        private final List<SaturationSearch.Step> steps;
+        private final int threads;
+        private final int poolSize;
+        private final String wrapperPlugins;
+        
+        public SaturationStatus(String state, double offeredRate, double maxSustainableRate, Double kneeRate,
+                                double sloP99Ms, double maxErrorRate, List<SaturationSearch.Step> steps,
+                                int threads, int poolSize, String wrapperPlugins) {
+            this.state = state;
+            this.offeredRate = offeredRate;
+            this.maxSustainableRate = maxSustainableRate;
+            this.kneeRate = kneeRate;
+            this.sloP99Ms = sloP99Ms;
+            this.maxErrorRate = maxErrorRate;
+            this.steps = steps;
+            this.threads = threads;
+            this.poolSize = poolSize;
+            this.wrapperPlugins = wrapperPlugins;
+        }
+        
+        /** "searching" or why the search ended */
+        public String getState() { return state; }
+        /** Offered rate of the current step (0 when done) */
+        public double getOfferedRate() { return offeredRate; }
+        public double getMaxSustainableRate() { return maxSustainableRate; }
+        /** Lowest offered rate that missed the SLO (null if none did) */
+        public Double getKneeRate() { return kneeRate; }
+        public double getSloP99Ms() { return sloP99Ms; }
+        public double getMaxErrorRate() { return maxErrorRate; }
+        public List<SaturationSearch.Step> getSteps() { return steps; }
+        public int getThreads() { return threads; }
+        public int getPoolSize() { return poolSize; }
+        public String getWrapperPlugins() { return wrapperPlugins; }
+    }
+    
+    /**
+     * Declarative workload status DTO
+     */
+    public static class WorkloadStatus {
+        private final String name;
+        private final int threads;
+        private final double operationsPerSecond;
+        private final List<Operation> operations;
+        
+        public WorkloadStatus(String name, int threads, double operationsPerSecond, List<Operation> operations) {
+            this.name = name;
+            this.threads = threads;
+            this.operationsPerSecond = operationsPerSecond;
+            this.operations = operations;
+        }
+        
+        public String getName() { return name; }
+        public int getThreads() { return threads; }
+        /** Target rate of one thread */
+        public double getOperationsPerSecond() { return operationsPerSecond; }
+        public List<Operation> getOperations() { return operations; }
+        
+        /**
+         * Statistics of one operation of the mix
+         */
+        public static class Operation {
+            private final String type;
+            private final String table;
+            private final double ratePerSecond;
+            private final long successful;
+            private final long failed;
+            private final LatencySnapshot latency;
+            private final LatencySnapshot latencyWindow;
+            
+            public Operation(String type, String table, double ratePerSecond, long successful, long failed,
+                             LatencySnapshot latency, LatencySnapshot latencyWindow) {
+                this.type = type;
+                this.table = table;
+                this.ratePerSecond = ratePerSecond;
+                this.successful = successful;
+                this.failed = failed;
+                this.latency = latency;
+                this.latencyWindow = latencyWindow;
+            }
+            
+            public String getType() { return type; }
+            /** Null for metadata reads */
+            public String getTable() { return table; }
+            /** Target rate of one thread */
+            public double getRatePerSecond() { return ratePerSecond; }
+            public long getSuccessful() { return successful; }
+            public long getFailed() { return failed; }
+            public LatencySnapshot getLatency() { return latency; }
+            public LatencySnapshot getLatencyWindow() { return latencyWindow; }
+        }
+    }
 }
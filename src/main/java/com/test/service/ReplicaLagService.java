@@ -0,0 +1,161 @@
+package com.test.service;
+
+import com.test.jdbc.ReaderUrls;
+import com.test.jdbc.ReplicaLagProbe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replica lag probe of this application instance (one at a time, independent of test runs)
+ * 
+ * The heartbeat writer uses the application's DataSource; the reader pollers connect to each
+ * reader host with the datasource URL, host replaced and wrapper plugins disabled. Without
+ * configured readers, the Aurora reader endpoint is derived from the cluster endpoint
+ * (name.cluster-id.region... -> name.cluster-ro-id.region...).
+ */
+@Service
+public class ReplicaLagService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagService.class);
+    
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+    
+    private final DataSource dataSource;
+    private ReplicaLagProbe probe;  // Running or most recently stopped
+    
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+    
+    @Value("${spring.datasource.username:}")
+    private String username;
+    
+    @Value("${spring.datasource.password:}")
+    private String password;
+    
+    @Value("${app.table-prefix:default}")
+    private String tablePrefix;
+    
+    @Value("${app.replica-lag.readers:}")
+    private String configuredReaders;
+    
+    @Value("${app.replica-lag.heartbeat-interval-ms:10}")
+    private long heartbeatIntervalMs;
+    
+    @Value("${app.replica-lag.poll-interval-ms:20}")
+    private long pollIntervalMs;
+    
+    @Value("${app.replica-lag.reconnect-interval-ms:10000}")
+    private long reconnectIntervalMs;
+    
+    public ReplicaLagService(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    /**
+     * Start the probe
+     * 
+     * @param readers Reader hosts (host or host:port), null for the configured/derived ones
+     * @param heartbeatMs Heartbeat interval, null for the configured one
+     * @param pollMs Poll interval per reader, null for the configured one
+     */
+    public synchronized ReplicaLagProbe.Snapshot start(List<String> readers, Long heartbeatMs, Long pollMs) {
+        if (probe != null && probe.isRunning()) {
+            throw new IllegalStateException("Replica lag probe is already running");
+        }
+        List<String> hosts = readers != null && !readers.isEmpty() ? readers : defaultReaders();
+        if (hosts.isEmpty()) {
+            throw new IllegalArgumentException("No reader hosts: pass readers or set REPLICA_LAG_READERS "
+                + "(the reader endpoint is only derived from an Aurora cluster endpoint)");
+        }
+        long heartbeat = heartbeatMs != null ? heartbeatMs : heartbeatIntervalMs;
+        long poll = pollMs != null ? pollMs : pollIntervalMs;
+        if (heartbeat < 1 || poll < 1) {
+            throw new IllegalArgumentException("heartbeatIntervalMs and pollIntervalMs must be at least 1");
+        }
+        List<String> urls = new ArrayList<>();
+        for (String host : hosts) {
+            urls.add(ReaderUrls.readerUrl(datasourceUrl, host));
+        }
+        probe = new ReplicaLagProbe(dataSource, tablePrefix + "_bg_heartbeat", hosts, urls, username, password,
+            heartbeat, poll, reconnectIntervalMs);
+        probe.start("bg-lag-");
+        return probe.snapshot();
+    }
+    
+    /**
+     * Stop the probe and log its report
+     * 
+     * @return Final snapshot, or null if no probe was running
+     */
+    public synchronized ReplicaLagProbe.Snapshot stop() {
+        if (probe == null || !probe.isRunning()) {
+            return null;
+        }
+        probe.stop();
+        ReplicaLagProbe.Snapshot snapshot = probe.snapshot();
+        printReport(snapshot);
+        return snapshot;
+    }
+    
+    /**
+     * Running or most recently stopped probe (null if none was started)
+     */
+    public synchronized ReplicaLagProbe.Snapshot snapshot() {
+        return probe != null ? probe.snapshot() : null;
+    }
+    
+    /**
+     * Configured reader hosts, or the reader endpoint of the cluster endpoint in the datasource URL
+     */
+    public List<String> defaultReaders() {
+        List<String> hosts = new ArrayList<>();
+        for (String host : configuredReaders.split(",")) {
+            if (!host.isBlank()) {
+                hosts.add(host.trim());
+            }
+        }
+        if (hosts.isEmpty()) {
+            String endpoint = ReaderUrls.readerEndpoint(datasourceUrl);
+            if (endpoint != null) {
+                hosts.add(endpoint);
+            }
+        }
+        return hosts;
+    }
+    
+    private void printReport(ReplicaLagProbe.Snapshot snapshot) {
+        log.info("╔════════════════════════════════════════════════════════════════╗");
+        log.info("║  Replica Lag Report (probe {})", snapshot.getProbeId());
+        log.info("╠════════════════════════════════════════════════════════════════╣");
+        log.info("║  Heartbeats: {} every {}ms (failed: {}), writer: {}", String.format("%,d", snapshot.getHeartbeats()),
+            snapshot.getHeartbeatIntervalMs(), snapshot.getHeartbeatFailures(), snapshot.getWriterInstance());
+        log.info("║  Heartbeat Latency: {}", snapshot.getHeartbeatLatency().toSummary());
+        for (ReplicaLagProbe.ReaderSnapshot reader : snapshot.getReaders()) {
+            log.info("║  Reader {}: {} polls, {} connects, {} errors", reader.getHost(),
+                String.format("%,d", reader.getPolls()), reader.getConnects(), reader.getErrors());
+        }
+        if (snapshot.getInstances().isEmpty()) {
+            log.info("║  No lag samples (no reader saw the heartbeat table)");
+        }
+        for (ReplicaLagProbe.InstanceSnapshot instance : snapshot.getInstances()) {
+            log.info("║  {}: {}", instance.getInstance(), instance.getLag().toSummary());
+            log.info("║    max {}ms at {}", String.format("%.1f", instance.getMaxLagMs()),
+                instance.getMaxAtMillis() > 0 ? formatMillis(instance.getMaxAtMillis()) : "-");
+        }
+        log.info("╚════════════════════════════════════════════════════════════════╝");
+    }
+    
+    private static String formatMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).format(TIME);
+    }
+}
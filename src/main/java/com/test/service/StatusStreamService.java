@@ -0,0 +1,171 @@
+package com.test.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.metrics.StatusDelta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes status deltas to Server-Sent Events subscribers
+ *  
+ * Each test run with subscribers has one ticker thread that builds a single {@link StatusDelta}
+ * per interval and serializes it once; every subscriber of that run receives the same JSON text,
+ * so the cost per tick does not grow with the number of dashboards. A run's ticker runs only
+ * while the run has subscribers. The subscriber limit applies across all runs.
+ */
+@Service
+public class StatusStreamService {
+    
+    private static final Logger log = LoggerFactory.getLogger(StatusStreamService.class);
+    
+    private static final long MIN_INTERVAL_MS = 50;
+    
+    private final ObjectMapper objectMapper;
+    private final Map<String, RunStream> streams = new ConcurrentHashMap<>();
+    
+    @Value("${app.status-stream.interval-ms:250}")
+    private long intervalMs;
+    
+    @Value("${app.status-stream.max-subscribers:50}")
+    private int maxSubscribers;
+    
+    public StatusStreamService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Register a subscriber to one run (no timeout; removed when the client disconnects)
+     * 
+     * @return The emitter, or null when the subscriber limit is reached
+     */
+    public SseEmitter subscribe(BlueGreenTestService run) {
+        if (getSubscriberCount() >= maxSubscribers) {
+            return null;
+        }
+        RunStream stream = streams.compute(run.getRunId(),
+            (runId, existing) -> existing != null && existing.run == run ? existing : new RunStream(run));
+        SseEmitter emitter = stream.add();
+        log.info("📡 Status stream subscriber added to run '{}' ({} active, every {}ms)", run.getRunId(),
+            getSubscriberCount(), getIntervalMs());
+        return emitter;
+    }
+    
+    /**
+     * End the stream of a discarded run (its subscribers are completed)
+     */
+    public void close(String runId) {
+        RunStream stream = streams.remove(runId);
+        if (stream != null) {
+            stream.close();
+        }
+    }
+    
+    public long getIntervalMs() {
+        return Math.max(MIN_INTERVAL_MS, intervalMs);
+    }
+    
+    public int getSubscriberCount() {
+        int count = 0;
+        for (RunStream stream : streams.values()) {
+            count += stream.subscribers.size();
+        }
+        return count;
+    }
+    
+    /**
+     * Subscribers and ticker of one run
+     */
+    private final class RunStream {
+        
+        private final BlueGreenTestService run;
+        private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+        private volatile boolean subscriberJoined;
+        private ScheduledExecutorService ticker;
+        
+        RunStream(BlueGreenTestService run) {
+            this.run = run;
+        }
+        
+        SseEmitter add() {
+            SseEmitter emitter = new SseEmitter(0L);
+            emitter.onCompletion(() -> subscribers.remove(emitter));
+            emitter.onTimeout(() -> subscribers.remove(emitter));
+            emitter.onError(e -> subscribers.remove(emitter));
+            subscribers.add(emitter);
+            subscriberJoined = true;
+            startTicker();
+            return emitter;
+        }
+        
+        private synchronized void startTicker() {
+            if (ticker != null) {
+                return;
+            }
+            ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "bg-status-stream-" + run.getRunId());
+                thread.setDaemon(true);
+                return thread;
+            });
+            // First call only sets the baseline, so the first event covers one interval
+            run.nextStatusDelta(false);
+            ticker.scheduleAtFixedRate(this::tick, getIntervalMs(), getIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+        
+        private synchronized void stopTickerIfIdle() {
+            if (ticker != null && subscribers.isEmpty()) {
+                ticker.shutdown();
+                ticker = null;
+            }
+        }
+        
+        synchronized void close() {
+            for (SseEmitter emitter : subscribers) {
+                emitter.complete();
+            }
+            subscribers.clear();
+            stopTickerIfIdle();
+        }
+        
+        /**
+         * Build, serialize and send one event to all subscribers of the run
+         */
+        private void tick() {
+            if (subscribers.isEmpty()) {
+                stopTickerIfIdle();
+                return;
+            }
+            try {
+                boolean includeSessions = subscriberJoined;
+                subscriberJoined = false;
+                StatusDelta delta = run.nextStatusDelta(includeSessions);
+                String json = objectMapper.writeValueAsString(delta);
+                String id = Long.toString(delta.getSequence());
+                for (SseEmitter emitter : subscribers) {
+                    try {
+                        emitter.send(SseEmitter.event().id(id).name("status").data(json, MediaType.APPLICATION_JSON));
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away - the container completes the emitter
+                        subscribers.remove(emitter);
+                    }
+                }
+            } catch (JsonProcessingException | RuntimeException e) {
+                // Must not escape: a scheduled task that throws is never run again
+                log.warn("⚠️  Status stream tick of run '{}' failed: {}", run.getRunId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.test.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Named test runs of this JVM
+ * 
+ * Each run is its own {@link BlueGreenTestService} instance with its own executor, counters,
+ * histograms and time series, so e.g. a read-heavy and a write-heavy client population can run
+ * side by side against the same cluster and their latencies be compared under contention. All
+ * runs share the DataSource (the Hikari pool bounds their combined connections).
+ * 
+ * The "default" run always exists and serves the endpoints that take no run id. Finished runs
+ * stay registered (their status and report remain readable) until removed or restarted.
+ */
+@Service
+public class TestRunRegistry {
+    
+    private static final Logger log = LoggerFactory.getLogger(TestRunRegistry.class);
+    
+    public static final String DEFAULT_RUN_ID = "default";
+    
+    private static final Pattern RUN_ID = Pattern.compile("[A-Za-z0-9_.-]{1,64}");
+    // Path segments under /status that are endpoints, not run ids
+    private static final String RESERVED_RUN_ID = "stream";
+    
+    private final ObjectProvider<BlueGreenTestService> runFactory;
+    private final Map<String, BlueGreenTestService> runs = new LinkedHashMap<>();
+    private final BlueGreenTestService defaultRun;
+    
+    @Value("${app.runs.max:8}")
+    private int maxRuns;
+    
+    public TestRunRegistry(ObjectProvider<BlueGreenTestService> runFactory) {
+        this.runFactory = runFactory;
+        // Created eagerly: invalid service configuration still fails at startup
+        this.defaultRun = runFactory.getObject(DEFAULT_RUN_ID);
+        runs.put(DEFAULT_RUN_ID, defaultRun);
+    }
+    
+    /**
+     * The run used by endpoints without a run id
+     */
+    public BlueGreenTestService getDefault() {
+        return defaultRun;
+    }
+    
+    /**
+     * Run by id, or null if unknown
+     */
+    public synchronized BlueGreenTestService get(String runId) {
+        return runs.get(runId);
+    }
+    
+    /**
+     * Run by id, registering a new one on first use
+     * 
+     * @throws IllegalArgumentException If the id is invalid or the run limit is reached
+     */
+    public synchronized BlueGreenTestService getOrCreate(String runId) {
+        if (runId == null || runId.isEmpty()) {
+            return defaultRun;
+        }
+        BlueGreenTestService run = runs.get(runId);
+        if (run != null) {
+            return run;
+        }
+        if (!RUN_ID.matcher(runId).matches() || RESERVED_RUN_ID.equals(runId)) {
+            throw new IllegalArgumentException("runId must be 1-64 characters of [A-Za-z0-9_.-] (and not '"
+                + RESERVED_RUN_ID + "')");
+        }
+        if (runs.size() >= maxRuns) {
+            throw new IllegalArgumentException("At most " + maxRuns + " test runs are registered - "
+                + "remove a finished run first (DELETE /api/bluegreen/runs/{runId})");
+        }
+        run = runFactory.getObject(runId);
+        runs.put(runId, run);
+        log.info("🗂️  Registered test run '{}' ({} of {})", runId, runs.size(), maxRuns);
+        return run;
+    }
+    
+    /**
+     * All runs in registration order
+     */
+    public synchronized List<BlueGreenTestService> list() {
+        return new ArrayList<>(runs.values());
+    }
+    
+    /**
+     * Discard a stopped run and its statistics
+     * 
+     * @return false if the run is unknown
+     * @throws IllegalArgumentException For the default run
+     * @throws IllegalStateException    If the run is still running
+     */
+    public synchronized boolean remove(String runId) {
+        if (DEFAULT_RUN_ID.equals(runId)) {
+            throw new IllegalArgumentException("The default run cannot be removed");
+        }
+        BlueGreenTestService run = runs.get(runId);
+        if (run == null) {
+            return false;
+        }
+        if (run.isRunning()) {
+            throw new IllegalStateException("Run '" + runId + "' is still running - stop it first");
+        }
+        runs.remove(runId);
+        run.close();
+        log.info("🗑️  Removed test run '{}'", runId);
+        return true;
+    }
+    
+    public int getMaxRuns() {
+        return maxRuns;
+    }
+}
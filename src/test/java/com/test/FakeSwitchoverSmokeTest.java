@@ -0,0 +1,97 @@
+package com.test;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end run against the fake cluster: a write workload through a scripted switchover,
+ * connection drop and writer failover, then the failover, error class, outage, reconnect and
+ * write verification counters of its status
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"spring.profiles.active=fake", "FAKE_SEED=7"})
+class FakeSwitchoverSmokeTest {
+    
+    private static final String RUN_ID = "smoke";
+    
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON =
+        new ParameterizedTypeReference<Map<String, Object>>() { };
+    
+    @Autowired
+    private TestRestTemplate rest;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesSurviveScriptedClusterEvents() throws InterruptedException {
+        ResponseEntity<Map<String, Object>> started = call(HttpMethod.POST,
+            "/api/bluegreen/start-write?numConnections=2&writeIntervalMs=5&batchSize=10&runId={runId}", RUN_ID);
+        assertEquals(HttpStatus.OK, started.getStatusCode(), String.valueOf(started.getBody()));
+        
+        ResponseEntity<Map<String, Object>> armed = call(HttpMethod.POST, "/api/fake/script?cluster=fake&script={script}",
+            "1s:switchover(2s),4s:drop(1s),6s:failover(1s)");
+        assertEquals(HttpStatus.OK, armed.getStatusCode(), String.valueOf(armed.getBody()));
+        
+        Thread.sleep(9_000);
+        assertEquals(HttpStatus.OK, call(HttpMethod.POST, "/api/bluegreen/stop/{runId}", RUN_ID).getStatusCode());
+        
+        // Verification of the ledger runs once more after the stop
+        Map<String, Object> statistics = null;
+        Map<String, Object> verification = null;
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            Map<String, Object> status = call(HttpMethod.GET, "/api/bluegreen/status/{runId}", RUN_ID).getBody();
+            statistics = (Map<String, Object>) status.get("statistics");
+            verification = (Map<String, Object>) statistics.get("writeVerification");
+            if (number(verification, "passes") >= 1 && !Boolean.TRUE.equals(verification.get("verifying"))) {
+                break;
+            }
+            Thread.sleep(250);
+        }
+        
+        Map<String, Object> errors = (Map<String, Object>) statistics.get("errorOutcomes");
+        Map<String, Object> outages = (Map<String, Object>) statistics.get("outages");
+        Map<String, Object> reconnects = (Map<String, Object>) statistics.get("reconnects");
+        Map<String, Object> recovery = (Map<String, Object>) reconnects.get("timeToFullRecovery");
+        Map<String, Object> batches = (Map<String, Object>) statistics.get("batchWrites");
+        Map<String, Object> lastPass = (Map<String, Object>) verification.get("lastPass");
+        
+        // Switchover: read-only while blue drains; drop: lost connections; failover: switched connections
+        assertTrue(number(errors, "READ_ONLY") > 0, "errors: " + errors);
+        assertTrue(number(errors, "CONNECTION_LOST") > 0, "errors: " + errors);
+        assertTrue(number(errors, "FAILOVER_SUCCESS") > 0, "errors: " + errors);
+        assertTrue(number(statistics, "failoverCount") > 0, "statistics: " + statistics);
+        assertEquals(0, number(errors, "POOL_TIMEOUT"), "errors: " + errors);
+        
+        assertTrue(number(outages, "recoveredWindows") > 0, "outages: " + outages);
+        assertEquals(0, number(outages, "openOutages"), "outages: " + outages);
+        assertTrue(number(reconnects, "attempts") > 0, "reconnects: " + reconnects);
+        assertTrue(number(recovery, "episodes") > 0, "reconnects: " + reconnects);
+        assertTrue(number(batches, "rowsSucceeded") > 0, "batch writes: " + batches);
+        
+        assertTrue(number(verification, "passes") >= 1, "verification: " + verification);
+        assertTrue(number(lastPass, "checked") > 0, "last pass: " + lastPass);
+        assertEquals(0, number(lastPass, "lost"), "last pass: " + lastPass);
+        assertEquals(0, number(lastPass, "duplicated"), "last pass: " + lastPass);
+        assertEquals(Boolean.TRUE, lastPass.get("clean"), "last pass: " + lastPass);
+    }
+    
+    private ResponseEntity<Map<String, Object>> call(HttpMethod method, String path, Object... uriVariables) {
+        return rest.exchange(path, method, null, JSON, uriVariables);
+    }
+    
+    private static long number(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
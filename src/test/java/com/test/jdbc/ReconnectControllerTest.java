@@ -0,0 +1,77 @@
+package com.test.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Backoff delays and admission control of {@link ReconnectController}
+ */
+class ReconnectControllerTest {
+    
+    @Test
+    void fixedModeKeepsThePreviousDelays() throws InterruptedException {
+        ReconnectController controller = new ReconnectController("fixed", 100, 5000, 1, 1);
+        ReconnectController.Backoff backoff = controller.newBackoff();
+        
+        assertEquals(ReconnectController.Mode.FIXED, controller.getMode());
+        assertEquals(ReconnectController.FIXED_SETTLE_MS, backoff.settleMillis());
+        assertEquals(ReconnectController.FIXED_RETRY_DELAY_MS, backoff.nextDelayMillis());
+        assertEquals(ReconnectController.FIXED_RETRY_DELAY_MS, backoff.nextDelayMillis());
+        // No admission control, even beyond the configured rate
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, controller.admit());
+        }
+        assertEquals(0, controller.getThrottled());
+    }
+    
+    @Test
+    void jitteredDelaysStayBelowTheGrowingCap() {
+        ReconnectController controller = new ReconnectController("Jittered", 100, 1000, 50, 20);
+        
+        for (int run = 0; run < 200; run++) {
+            ReconnectController.Backoff backoff = controller.newBackoff();
+            assertTrue(backoff.settleMillis() <= 100);
+            assertTrue(backoff.nextDelayMillis() <= 200);   // 100 * 2^1
+            assertTrue(backoff.nextDelayMillis() <= 400);
+            assertTrue(backoff.nextDelayMillis() <= 800);
+            for (int attempt = 0; attempt < 40; attempt++) {
+                long delay = backoff.nextDelayMillis();
+                assertTrue(delay >= 0 && delay <= 1000);
+            }
+        }
+    }
+    
+    @Test
+    void admitsTheBurstThenPacesAttempts() throws InterruptedException {
+        ReconnectController controller = new ReconnectController("jittered", 100, 5000, 20, 5);
+        
+        long waited = 0;
+        for (int i = 0; i < 5; i++) {
+            waited += controller.admit();
+        }
+        assertEquals(0, waited);
+        assertEquals(0, controller.getThrottled());
+        
+        long start = System.nanoTime();
+        controller.admit();
+        controller.admit();
+        
+        // Two tokens at 20/sec: about 100ms
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(80));
+        assertEquals(2, controller.getThrottled());
+    }
+    
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ReconnectController("random", 100, 5000, 50, 20));
+        assertThrows(IllegalArgumentException.class, () -> new ReconnectController("fixed", 0, 5000, 50, 20));
+        assertThrows(IllegalArgumentException.class, () -> new ReconnectController("fixed", 100, 50, 50, 20));
+        assertThrows(IllegalArgumentException.class, () -> new ReconnectController("fixed", 100, 5000, 0, 20));
+        assertThrows(IllegalArgumentException.class, () -> new ReconnectController("fixed", 100, 5000, 50, 0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.test.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Classification order and counting of {@link SqlErrorClassifier}
+ */
+class SqlErrorClassifierTest {
+    
+    @Test
+    void classifiesByTypeVendorCodeAndSqlState() {
+        assertEquals(SqlErrorOutcome.CONNECTION_LOST, SqlErrorClassifier.classify(new SQLRecoverableException("gone")));
+        assertEquals(SqlErrorOutcome.TIMEOUT, SqlErrorClassifier.classify(new SQLTimeoutException("slow")));
+        assertEquals(SqlErrorOutcome.LOCK_CONFLICT,
+            SqlErrorClassifier.classify(new SQLTransactionRollbackException("deadlock")));
+        assertEquals(SqlErrorOutcome.READ_ONLY,
+            SqlErrorClassifier.classify(new SQLException("read only", "HY000", 1290)));
+        assertEquals(SqlErrorOutcome.LOCK_CONFLICT, SqlErrorClassifier.classify(new SQLException("lock", "HY000", 1213)));
+        assertEquals(SqlErrorOutcome.FAILOVER_SUCCESS, SqlErrorClassifier.classify(new SQLException("switched", "08S02")));
+        assertEquals(SqlErrorOutcome.READ_ONLY, SqlErrorClassifier.classify(new SQLException("ro", "25006")));
+        assertEquals(SqlErrorOutcome.CONNECTION_LOST, SqlErrorClassifier.classify(new SQLException("link", "08001")));
+        assertEquals(SqlErrorOutcome.OTHER, SqlErrorClassifier.classify(new SQLException("syntax", "42000", 1064)));
+        assertEquals(SqlErrorOutcome.OTHER, SqlErrorClassifier.classify(new SQLException("no state")));
+    }
+    
+    @Test
+    void vendorCodeWinsOverSqlStateClass() {
+        // 1290 (read-only) reported with a connection SQLState class
+        assertEquals(SqlErrorOutcome.READ_ONLY, SqlErrorClassifier.classify(new SQLException("ro", "08000", 1290)));
+    }
+    
+    @Test
+    void looksAtTheCauseChain() {
+        SQLException wrapped = new SQLException("wrapper", null, 0, new SQLException("lost", "HY000", 2013));
+        
+        assertEquals(SqlErrorOutcome.CONNECTION_LOST, SqlErrorClassifier.classify(wrapped));
+    }
+    
+    @Test
+    void hikariAcquisitionTimeoutIsNotAConnectionEvent() {
+        // HikariPool.createTimeoutException while the database is healthy: no SQLState, no cause
+        SQLException drained = new SQLTransientConnectionException(
+            "HikariPool-1 - Connection is not available, request timed out after 10000ms.", null, null);
+        
+        SqlErrorOutcome outcome = SqlErrorClassifier.classify(drained);
+        
+        assertEquals(SqlErrorOutcome.POOL_TIMEOUT, outcome);
+        assertFalse(outcome.isConnectionEvent());
+    }
+    
+    @Test
+    void hikariTimeoutAfterFailedConnectsFollowsTheLastFailure() {
+        SQLException lastFailure = new SQLException("Communications link failure", "08S01", 0);
+        SQLException timeout = new SQLTransientConnectionException(
+            "HikariPool-1 - Connection is not available, request timed out after 10000ms.", "08S01", lastFailure);
+        
+        assertEquals(SqlErrorOutcome.CONNECTION_LOST, SqlErrorClassifier.classify(timeout));
+    }
+    
+    @Test
+    void countsFailedOperationsPerOutcome() {
+        SqlErrorClassifier classifier = new SqlErrorClassifier();
+        
+        classifier.record(new SQLRecoverableException("gone"));
+        classifier.record(new SQLRecoverableException("gone"), 9);    // A batch with 9 unapplied rows
+        classifier.record(new SQLException("ro", "HY000", 1836), 3);
+        
+        assertEquals(10, classifier.getCount(SqlErrorOutcome.CONNECTION_LOST));
+        assertEquals(3, classifier.getCount(SqlErrorOutcome.READ_ONLY));
+        assertEquals(10L, classifier.getCounts().get("CONNECTION_LOST"));
+        assertEquals(SqlErrorOutcome.values().length, classifier.getCounts().size());
+        
+        classifier.reset();
+        assertEquals(0, classifier.getCount(SqlErrorOutcome.CONNECTION_LOST));
+    }
+}
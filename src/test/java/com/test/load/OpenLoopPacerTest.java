@@ -0,0 +1,77 @@
+package com.test.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Schedule arithmetic of {@link OpenLoopPacer}
+ */
+class OpenLoopPacerTest {
+    
+    @Test
+    void deadlinesFollowTheScheduleOrigin() throws InterruptedException {
+        long origin = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+        OpenLoopPacer pacer = new OpenLoopPacer(1000, origin);
+        
+        assertEquals(origin, pacer.awaitNext());
+        assertEquals(origin + 1_000_000, pacer.awaitNext());
+        assertEquals(origin + 2_000_000, pacer.awaitNext());
+        assertEquals(3, pacer.scheduled());
+        assertEquals(1_000_000, pacer.intervalNanos(), 0.001);
+    }
+    
+    @Test
+    void lateOperationsReportScheduleLag() throws InterruptedException {
+        long origin = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(500);
+        OpenLoopPacer pacer = new OpenLoopPacer(10, origin);
+        
+        pacer.awaitNext();
+        
+        // Due 500ms ago: starts at once, the delay is lag rather than a pushed-back schedule
+        assertEquals(origin, pacer.intendedStartNanos());
+        assertTrue(pacer.scheduleLagNanos() >= TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(pacer.actualStartNanos() - pacer.intendedStartNanos(), pacer.scheduleLagNanos());
+    }
+    
+    @Test
+    void waitsForTheNextDeadline() throws InterruptedException {
+        OpenLoopPacer pacer = new OpenLoopPacer(20);
+        long start = System.nanoTime();
+        
+        pacer.awaitNext();
+        pacer.awaitNext();
+        
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(pacer.scheduleLagNanos() >= 0);
+    }
+    
+    @Test
+    void restartDropsTheBacklog() throws InterruptedException {
+        long origin = System.nanoTime() - TimeUnit.SECONDS.toNanos(10);
+        OpenLoopPacer pacer = new OpenLoopPacer(1, origin);
+        pacer.awaitNext();
+        
+        long restarted = System.nanoTime();
+        pacer.restart(1000);
+        long intended = pacer.awaitNext();
+        
+        assertTrue(intended >= restarted);
+        assertTrue(pacer.scheduleLagNanos() < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(intended + 1_000_000, pacer.awaitNext());
+        assertEquals(3, pacer.scheduled());
+    }
+    
+    @Test
+    void rejectsRatesThatAreNotPositiveAndFinite() {
+        assertThrows(IllegalArgumentException.class, () -> new OpenLoopPacer(0));
+        assertThrows(IllegalArgumentException.class, () -> new OpenLoopPacer(-1));
+        assertThrows(IllegalArgumentException.class, () -> new OpenLoopPacer(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new OpenLoopPacer(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> new OpenLoopPacer(1).restart(0));
+    }
+}
@@ -0,0 +1,120 @@
+package com.test.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ramp, bracketing and bisection of {@link SaturationSearch}
+ */
+class SaturationSearchTest {
+    
+    private static final double SECONDS = 10;
+    
+    @Test
+    void rampsUntilTheSloIsMissedThenBisects() {
+        SaturationSearch search = new SaturationSearch(100, 10_000, 2, 10, 2, 50, 0.01, 2);
+        
+        assertEquals(100, passing(search), 0.001);   // -> 200
+        assertEquals(200, passing(search), 0.001);   // -> 400
+        assertEquals(400, search.getOfferedRate(), 0.001);
+        SaturationSearch.Step knee = search.record(4_000, 0, SECONDS, 80);
+        assertFalse(knee.isPassed());
+        assertEquals("p99", knee.getFailure());
+        assertEquals("ramp", knee.getPhase());
+        assertEquals(400, search.getKneeRate(), 0.001);
+        
+        assertEquals(300, search.getOfferedRate(), 0.001);
+        assertEquals(300, passing(search), 0.001);   // -> (300 + 400) / 2
+        assertEquals(350, search.getOfferedRate(), 0.001);
+        SaturationSearch.Step refined = search.record(3_500, 0, SECONDS, 70);
+        assertEquals("refine", refined.getPhase());
+        
+        assertTrue(search.isDone());
+        assertEquals("knee found", search.getStopReason());
+        assertEquals(300, search.getMaxSustainableRate(), 0.001);
+        assertEquals(5, search.getSteps().size());
+    }
+    
+    @Test
+    void failsOnErrorsAndMissingThroughput() {
+        SaturationSearch search = new SaturationSearch(100, 1_000, 2, 10, 2, 50, 0.01, 1);
+        
+        SaturationSearch.Step errors = search.record(980, 20, SECONDS, 5);
+        assertEquals("errors", errors.getFailure());
+        assertEquals(0.02, errors.getErrorRate(), 1e-9);
+        
+        SaturationSearch search2 = new SaturationSearch(100, 1_000, 2, 10, 2, 50, 0.01, 1);
+        SaturationSearch.Step slow = search2.record(900, 0, SECONDS, 5);  // 90/sec < 95% of 100
+        assertEquals("throughput", slow.getFailure());
+        
+        SaturationSearch search3 = new SaturationSearch(100, 1_000, 2, 10, 2, 50, 0.01, 1);
+        assertEquals("throughput", search3.record(0, 0, SECONDS, 0).getFailure());
+    }
+    
+    @Test
+    void stopsWhenTheStartRateFails() {
+        SaturationSearch search = new SaturationSearch(100, 1_000, 2, 10, 2, 50, 0.01, 3);
+        
+        search.record(1_000, 0, SECONDS, 200);
+        
+        assertTrue(search.isDone());
+        assertEquals("SLO missed at the start rate", search.getStopReason());
+        assertEquals(0, search.getMaxSustainableRate(), 0.001);
+    }
+    
+    @Test
+    void stopsAtTheMaximumRate() {
+        SaturationSearch search = new SaturationSearch(100, 300, 2, 10, 2, 50, 0.01, 3);
+        
+        passing(search);  // 100 -> 200
+        passing(search);  // 200 -> 300 (capped)
+        assertEquals(300, search.getOfferedRate(), 0.001);
+        passing(search);
+        
+        assertTrue(search.isDone());
+        assertEquals("maxRate reached without missing the SLO", search.getStopReason());
+        assertTrue(Double.isNaN(search.getKneeRate()));
+        assertEquals(300, search.getMaxSustainableRate(), 0.001);
+    }
+    
+    @Test
+    void abortKeepsTheFirstReason() {
+        SaturationSearch search = new SaturationSearch(100, 1_000, 2, 10, 2, 50, 0.01, 3);
+        assertNull(search.getStopReason());
+        
+        search.abort("test stopped");
+        search.abort("later");
+        
+        assertEquals("test stopped", search.getStopReason());
+        List<SaturationSearch.Step> steps = search.getSteps();
+        assertTrue(steps.isEmpty());
+    }
+    
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new SaturationSearch(0, 100, 2, 10, 2, 50, 0.01, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SaturationSearch(200, 100, 2, 10, 2, 50, 0.01, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SaturationSearch(100, 200, 1, 10, 2, 50, 0.01, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SaturationSearch(100, 200, 2, 10, 2, 0, 0.01, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SaturationSearch(100, 200, 2, 10, 2, 50, 1, 1));
+    }
+    
+    /**
+     * Complete the current step at exactly its offered rate, within the SLO
+     * 
+     * @return The rate of the recorded step
+     */
+    private static double passing(SaturationSearch search) {
+        double rate = search.getOfferedRate();
+        SaturationSearch.Step step = search.record(Math.round(rate * SECONDS), 0, SECONDS, 10);
+        assertTrue(step.isPassed());
+        return step.getOfferedRate();
+    }
+}
@@ -0,0 +1,91 @@
+package com.test.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ring retention and downsampling of {@link TimeSeriesBuffer}
+ */
+class TimeSeriesBufferTest {
+    
+    private static final String[] ERROR_CLASSES = {"CONNECTION_LOST", "READ_ONLY"};
+    
+    @Test
+    void keepsTheMostRecentSeconds() {
+        TimeSeriesBuffer buffer = new TimeSeriesBuffer(3, ERROR_CLASSES);
+        for (long second = 100; second < 105; second++) {
+            append(buffer, second, 10, 0, 1, 5, "writer-a");
+        }
+        
+        assertEquals(3, buffer.getSize());
+        assertEquals(102, buffer.getOldestSecond());
+        List<TimeSeriesPoint> points = buffer.query(0, Long.MAX_VALUE, 1, 100);
+        assertEquals(3, points.size());
+        assertEquals(102, points.get(0).getStartEpochSecond());
+        assertEquals(104, points.get(2).getStartEpochSecond());
+    }
+    
+    @Test
+    void mergedPointsReportWeightedMediansAndHighestP99() {
+        TimeSeriesBuffer buffer = new TimeSeriesBuffer(60, ERROR_CLASSES);
+        append(buffer, 100, 30, 0, 1, 10, "writer-a");   // p50 1ms on 30 reads
+        append(buffer, 101, 10, 2, 3, 40, "writer-b");   // p50 3ms on 10 reads
+        
+        List<TimeSeriesPoint> points = buffer.query(100, 101, 2, 100);
+        
+        assertEquals(1, points.size());
+        TimeSeriesPoint point = points.get(0);
+        assertEquals(2, point.getSeconds());
+        assertEquals(40, point.getReadsSucceeded());
+        assertEquals(2, point.getReadsFailed());
+        assertEquals((1.0 * 30 + 3.0 * 12) / 42, point.getReadP50MeanMs(), 0.001);
+        assertEquals(40, point.getReadP99MaxMs(), 0.001);
+        assertEquals(2L, point.getErrors().get("CONNECTION_LOST"));
+        assertFalse(point.getErrors().containsKey("READ_ONLY"));
+        assertEquals("writer-b", point.getEndpoint());
+    }
+    
+    @Test
+    void maxPointsRaisesTheStep() {
+        TimeSeriesBuffer buffer = new TimeSeriesBuffer(100, ERROR_CLASSES);
+        for (long second = 0; second < 100; second++) {
+            append(buffer, 1_000 + second, 1, 0, 1, 1, "writer-a");
+        }
+        
+        List<TimeSeriesPoint> points = buffer.query(1_000, 1_099, 1, 10);
+        
+        assertEquals(10, points.size());
+        assertEquals(10, points.get(0).getSeconds());
+        assertEquals(10, points.get(0).getReadsSucceeded());
+        assertEquals(1_010, points.get(1).getStartEpochSecond());
+    }
+    
+    @Test
+    void queryOutsideTheRangeIsEmptyAndClearDropsEverything() {
+        TimeSeriesBuffer buffer = new TimeSeriesBuffer(10, ERROR_CLASSES);
+        append(buffer, 100, 1, 0, 1, 1, "writer-a");
+        
+        assertTrue(buffer.query(200, 300, 1, 10).isEmpty());
+        buffer.clear();
+        assertEquals(0, buffer.getSize());
+        assertEquals(0, buffer.getOldestSecond());
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeriesBuffer(0, ERROR_CLASSES));
+    }
+    
+    /**
+     * One second with reads only; failed reads are all CONNECTION_LOST
+     */
+    private static void append(TimeSeriesBuffer buffer, long second, long reads, long failedReads,
+                               double p50Ms, double p99Ms, String endpoint) {
+        LatencySnapshot latency = new LatencySnapshot(reads + failedReads, p50Ms, 0, p50Ms, p99Ms, p99Ms, p99Ms, p99Ms,
+            second * 1000, second * 1000 + 1000);
+        buffer.append(second, reads, failedReads, 0, 0, new long[] {failedReads, 0}, latency, LatencySnapshot.EMPTY,
+            endpoint, TimeSeriesBuffer.PoolSecond.EMPTY, 0, 0);
+    }
+}
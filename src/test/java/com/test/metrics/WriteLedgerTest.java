@@ -0,0 +1,106 @@
+package com.test.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Outcome bookkeeping and range checksums of {@link WriteLedger}
+ */
+class WriteLedgerTest {
+    
+    private static final int PAGE = 1 << 16;
+    
+    @Test
+    void tracksOutcomesBySequence() {
+        WriteLedger ledger = new WriteLedger();
+        
+        ledger.acknowledged(ledger.reserve(10), 10);    // 0..9
+        ledger.inDoubt(ledger.reserve(2), 2);           // 10..11
+        ledger.failed(ledger.reserve(3), 3);            // 12..14
+        long inFlight = ledger.reserve(1);              // 15, no outcome yet
+        
+        assertEquals(15, inFlight);
+        assertEquals(15, ledger.getResolved());
+        assertEquals(10, ledger.getAcknowledged());
+        assertEquals(2, ledger.getInDoubt());
+        assertEquals(3, ledger.getFailed());
+        assertTrue(ledger.isAcknowledged(9));
+        assertFalse(ledger.isAcknowledged(10));
+        assertTrue(ledger.isInDoubt(11));
+        assertFalse(ledger.isInDoubt(12));
+        assertFalse(ledger.isAcknowledged(13));
+    }
+    
+    @Test
+    void expectedMatchesTheAcknowledgedSequences() {
+        WriteLedger ledger = new WriteLedger();
+        ledger.acknowledged(ledger.reserve(100), 100);
+        ledger.failed(ledger.reserve(1), 1);      // 100
+        ledger.inDoubt(ledger.reserve(1), 1);     // 101
+        ledger.acknowledged(ledger.reserve(98), 98);
+        
+        assertArrayEquals(bruteForce(ledger, 0, 200), ledger.expected(0, 200));
+        assertArrayEquals(bruteForce(ledger, 50, 150), ledger.expected(50, 150));
+        long[] expected = ledger.expected(100, 102);
+        assertEquals(0, expected[0]);
+        assertEquals(1, expected[3]);
+    }
+    
+    @Test
+    void fullPagesUseTheSameChecksumsAsBitmaps() {
+        WriteLedger ledger = new WriteLedger();
+        ledger.acknowledged(ledger.reserve(PAGE), PAGE);            // Page 0 collapses to the marker
+        ledger.acknowledged(ledger.reserve(PAGE / 2), PAGE / 2);
+        ledger.failed(ledger.reserve(1), 1);
+        ledger.acknowledged(ledger.reserve(PAGE / 2 - 1), PAGE / 2 - 1);  // Page 1 keeps its bitmap
+        
+        long end = 2L * PAGE;
+        assertEquals(end, ledger.getResolved());
+        assertArrayEquals(bruteForce(ledger, 0, end), ledger.expected(0, end));
+        assertArrayEquals(bruteForce(ledger, 1_000, PAGE + 1_000), ledger.expected(1_000, PAGE + 1_000));
+        assertTrue(ledger.getBitmapBytes() < 2 * PAGE / 8 + 1_024);
+    }
+    
+    @Test
+    void sumOfSquaresTellsApartRangesWithTheSameSum() {
+        // {1, 4} and {2, 3}: same count and sum, different squares
+        WriteLedger a = new WriteLedger();
+        a.failed(a.reserve(1), 1);
+        a.acknowledged(a.reserve(1), 1);
+        a.failed(a.reserve(2), 2);
+        a.acknowledged(a.reserve(1), 1);
+        WriteLedger b = new WriteLedger();
+        b.failed(b.reserve(2), 2);
+        b.acknowledged(b.reserve(2), 2);
+        b.failed(b.reserve(1), 1);
+        
+        long[] expectedA = a.expected(0, 5);
+        long[] expectedB = b.expected(0, 5);
+        
+        assertEquals(expectedA[0], expectedB[0]);
+        assertEquals(expectedA[1], expectedB[1]);
+        assertEquals(17, expectedA[2]);
+        assertEquals(13, expectedB[2]);
+    }
+    
+    /**
+     * {count, sum, sum of squares, in doubt} from the per-sequence lookups
+     */
+    private static long[] bruteForce(WriteLedger ledger, long from, long to) {
+        long[] result = new long[4];
+        for (long seq = from; seq < to; seq++) {
+            if (ledger.isAcknowledged(seq)) {
+                result[0]++;
+                result[1] += seq;
+                result[2] += seq * seq;
+            } else if (ledger.isInDoubt(seq)) {
+                result[3]++;
+            }
+        }
+        return result;
+    }
+}